@@ -86,7 +86,7 @@ dependencies {
 
 /* ******************** optional dependencies ******************** */
 
-for (feature in listOf("websocket", "proxy", "epoll")) {
+for (feature in listOf("websocket", "proxy", "epoll", "io_uring")) {
     java.registerFeature(feature) {
         usingSourceSet(sourceSets["main"])
     }
@@ -96,6 +96,8 @@ dependencies {
     "websocketImplementation"("io.netty:netty-codec-http:${property("netty.version")}")
     "proxyImplementation"("io.netty:netty-handler-proxy:${property("netty.version")}")
     "epollImplementation"("io.netty:netty-transport-native-epoll:${property("netty.version")}:linux-x86_64")
+    "io_uringImplementation"("io.netty.incubator:netty-incubator-transport-native-io_uring:" +
+            "${property("netty-io_uring.version")}:linux-x86_64")
 }
 
 
@@ -17,4 +17,5 @@ metadata {
 
 dependencies {
     implementation(rootProject)
+    implementation(project(":${rootProject.name}-reactor"))
 }
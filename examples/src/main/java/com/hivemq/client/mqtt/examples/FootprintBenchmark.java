@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.MqttClientExecutorConfig;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the retained heap per connected idle client against a local broker stub.
+ * <p>
+ * The budget for a connected idle MQTT 5 client without subscriptions and in-flight messages is {@value
+ * #BUDGET_BYTES_PER_CLIENT} bytes of heap, including its Netty channel and pipeline. Per-session structures (publish
+ * queue, packet identifier indexes, ...) are only allocated on first use, so they do not count against this budget.
+ * <p>
+ * The stub keeps its per-connection buffers off-heap, but its server side socket channels are still included in the
+ * measurement. Run with a fixed heap size (for example <code>-Xms4g -Xmx4g</code>) for stable results; the amount of
+ * clients can be passed as first argument.
+ *
+ * @author Silvio Giebl
+ */
+public class FootprintBenchmark {
+
+    private static final int BUDGET_BYTES_PER_CLIENT = 16 * 1024;
+    private static final int DEFAULT_CLIENT_COUNT = 10_000;
+
+    public static void main(final String[] args) throws Exception {
+        final int clientCount = (args.length > 0) ? Integer.parseInt(args[0]) : DEFAULT_CLIENT_COUNT;
+
+        try (final ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+            serverChannel.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), clientCount);
+            final Thread broker = new Thread(() -> NioBrokerStub.run(serverChannel), "broker-stub");
+            broker.setDaemon(true);
+            broker.start();
+            final int port = ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+
+            final MqttClientExecutorConfig executorConfig = MqttClientExecutorConfig.builder().build();
+            // warm up so that class loading and the shared event loops are not attributed to the clients
+            connect(port, executorConfig, 100);
+
+            final long before = usedHeap();
+            final Mqtt5AsyncClient[] clients = connect(port, executorConfig, clientCount);
+            final long after = usedHeap();
+
+            final long bytesPerClient = (after - before) / clientCount;
+            System.out.printf("clients: %d, retained heap per client: %d bytes (budget: %d bytes) %s%n", clientCount,
+                    bytesPerClient, BUDGET_BYTES_PER_CLIENT,
+                    (bytesPerClient <= BUDGET_BYTES_PER_CLIENT) ? "OK" : "EXCEEDED");
+
+            final CompletableFuture<?>[] futures = new CompletableFuture[clients.length];
+            for (int i = 0; i < clients.length; i++) {
+                futures[i] = clients[i].disconnect();
+            }
+            CompletableFuture.allOf(futures).get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static Mqtt5AsyncClient[] connect(
+            final int port, final MqttClientExecutorConfig executorConfig, final int count) throws Exception {
+
+        final Mqtt5AsyncClient[] clients = new Mqtt5AsyncClient[count];
+        final CompletableFuture<?>[] futures = new CompletableFuture[count];
+        for (int i = 0; i < count; i++) {
+            clients[i] = Mqtt5Client.builder()
+                    .identifier("footprint-" + i)
+                    .serverHost(InetAddress.getLoopbackAddress())
+                    .serverPort(port)
+                    .executorConfig(executorConfig)
+                    .buildAsync();
+            futures[i] = clients[i].connect();
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.MINUTES);
+        return clients;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        final Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(200);
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
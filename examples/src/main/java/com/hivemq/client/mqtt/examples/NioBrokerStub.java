@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.examples;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+
+/**
+ * Broker stub for the benchmarks that accepts any amount of MQTT 5 connections on a single thread, acknowledges
+ * CONNECT and PINGREQ and ignores everything else. Per-connection buffers are off-heap.
+ *
+ * @author Silvio Giebl
+ */
+final class NioBrokerStub {
+
+    /**
+     * Runs the stub on the calling thread.
+     *
+     * @param serverChannel the bound server channel.
+     */
+    static void run(final ServerSocketChannel serverChannel) {
+        try (final Selector selector = Selector.open()) {
+            serverChannel.configureBlocking(false);
+            serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+            final ByteBuffer connAck = ByteBuffer.wrap(new byte[]{0x20, 0x03, 0x00, 0x00, 0x00});
+            final ByteBuffer pingResp = ByteBuffer.wrap(new byte[]{(byte) 0xD0, 0x00});
+            while (true) {
+                selector.select();
+                final Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+                while (iterator.hasNext()) {
+                    final SelectionKey key = iterator.next();
+                    iterator.remove();
+                    if (key.isAcceptable()) {
+                        final SocketChannel channel = serverChannel.accept();
+                        if (channel != null) {
+                            channel.configureBlocking(false);
+                            channel.register(selector, SelectionKey.OP_READ, ByteBuffer.allocateDirect(512));
+                        }
+                    } else if (key.isReadable()) {
+                        final SocketChannel channel = (SocketChannel) key.channel();
+                        final ByteBuffer buffer = (ByteBuffer) key.attachment();
+                        if (channel.read(buffer) == -1) {
+                            key.cancel();
+                            channel.close();
+                            continue;
+                        }
+                        buffer.flip();
+                        while (buffer.remaining() >= 2) {
+                            final int header = buffer.get(buffer.position()) & 0xFF;
+                            final int remainingLength = buffer.get(buffer.position() + 1) & 0xFF;
+                            // the stub only receives small packets, so the remaining length fits in one byte
+                            if (buffer.remaining() < 2 + remainingLength) {
+                                break;
+                            }
+                            buffer.position(buffer.position() + 2 + remainingLength);
+                            if ((header >> 4) == 1) { // CONNECT
+                                channel.write(connAck.duplicate());
+                            } else if ((header >> 4) == 12) { // PINGREQ
+                                channel.write(pingResp.duplicate());
+                            }
+                        }
+                        buffer.compact();
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private NioBrokerStub() {}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the heap bytes allocated per {@link Mqtt5AsyncClient#publish(Mqtt5Publish) async QoS 1 publish} against
+ * a local broker stub.
+ * <p>
+ * The allocations of all threads (application, event loop and application scheduler) are summed up, so the result
+ * covers the whole path from the call to the completion of the returned future. The publish message is built once,
+ * so only the allocations of the client are measured. The budget is {@value #BUDGET_BYTES_PER_PUBLISH} bytes per
+ * publish, which is exceeded if per-publish wrappers are added back to this path.
+ * <p>
+ * Requires a JVM that supports thread allocation measurement (for example HotSpot).
+ *
+ * @author Silvio Giebl
+ */
+public class PublishAllocationBenchmark {
+
+    private static final int BUDGET_BYTES_PER_PUBLISH = 1024;
+    private static final int WARMUP_COUNT = 200_000;
+    private static final int COUNT = 1_000_000;
+    private static final int WINDOW = 10_000;
+
+    public static void main(final String[] args) throws Exception {
+        final com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+
+        try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final Thread broker = new Thread(() -> TransportBenchmark.runBrokerStub(serverSocket), "broker-stub");
+            broker.setDaemon(true);
+            broker.start();
+
+            final Mqtt5AsyncClient client = Mqtt5Client.builder()
+                    .serverHost(InetAddress.getLoopbackAddress())
+                    .serverPort(serverSocket.getLocalPort())
+                    .buildAsync();
+            client.connect().get(10, TimeUnit.SECONDS);
+
+            final Mqtt5Publish publish = Mqtt5Publish.builder()
+                    .topic("benchmark")
+                    .qos(MqttQos.AT_LEAST_ONCE)
+                    .payload(new byte[64])
+                    .build();
+
+            run(client, publish, WARMUP_COUNT);
+            final long before = allocatedBytes(threadMXBean, broker.getId());
+            run(client, publish, COUNT);
+            final long after = allocatedBytes(threadMXBean, broker.getId());
+
+            final long bytesPerPublish = (after - before) / COUNT;
+            System.out.printf("publishes: %d, allocated per publish: %d bytes (budget: %d bytes) %s%n", COUNT,
+                    bytesPerPublish, BUDGET_BYTES_PER_PUBLISH,
+                    (bytesPerPublish <= BUDGET_BYTES_PER_PUBLISH) ? "OK" : "EXCEEDED");
+
+            client.disconnect().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static void run(final Mqtt5AsyncClient client, final Mqtt5Publish publish, final int count)
+            throws Exception {
+
+        final CompletableFuture<?>[] futures = new CompletableFuture[WINDOW];
+        for (int i = 0; i < count; i += WINDOW) {
+            for (int j = 0; j < WINDOW; j++) {
+                futures[j] = client.publish(publish);
+            }
+            CompletableFuture.allOf(futures).get(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static long allocatedBytes(
+            final com.sun.management.ThreadMXBean threadMXBean, final long excludedThreadId) {
+
+        long sum = 0;
+        for (final long threadId : threadMXBean.getAllThreadIds()) {
+            if (threadId != excludedThreadId) {
+                final long allocatedBytes = threadMXBean.getThreadAllocatedBytes(threadId);
+                if (allocatedBytes > 0) {
+                    sum += allocatedBytes;
+                }
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.reactor.Mqtt5ReactorClient;
+import io.reactivex.Flowable;
+import reactor.core.publisher.Flux;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the native reactor API with reactor operators applied on top of the RxJava API (which is how the reactor
+ * API used to be implemented) against a local broker stub.
+ * <p>
+ * The outgoing scenario publishes a stream of QoS 1 messages and consumes the publish results, the incoming scenario
+ * consumes QoS 0 messages that the stub sends back to the client. Each scenario is run in a few rounds, so the first
+ * rounds serve as warmup.
+ *
+ * @author Silvio Giebl
+ */
+public class ReactorBenchmark {
+
+    private static final int ROUNDS = 5;
+    private static final int COUNT = 500_000;
+    private static final int PAYLOAD_SIZE = 64;
+    private static final Duration TIMEOUT = Duration.ofMinutes(1);
+
+    public static void main(final String[] args) throws Exception {
+        try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final Thread broker = new Thread(() -> TransportBenchmark.runBrokerStub(serverSocket), "broker-stub");
+            broker.setDaemon(true);
+            broker.start();
+
+            final Mqtt5ReactorClient client = Mqtt5ReactorClient.from(Mqtt5Client.builder()
+                    .serverHost(InetAddress.getLoopbackAddress())
+                    .serverPort(serverSocket.getLocalPort())
+                    .build());
+            final Mqtt5RxClient rxClient = client.toRx();
+            client.connect().block(TIMEOUT);
+
+            final byte[] payload = new byte[PAYLOAD_SIZE];
+            for (int round = 1; round <= ROUNDS; round++) {
+                System.out.printf("round %d%n", round);
+                final long nativeOutgoing = outgoing(client::publish, payload);
+                final long adaptedOutgoing =
+                        outgoing(publishes -> Flux.from(rxClient.publish(Flowable.fromPublisher(publishes))), payload);
+                System.out.printf("  outgoing: native %.0f/s, adapted %.0f/s%n", rate(nativeOutgoing),
+                        rate(adaptedOutgoing));
+
+                final long nativeIncoming = incoming(client, client.publishes(MqttGlobalPublishFilter.ALL), payload);
+                final long adaptedIncoming =
+                        incoming(client, Flux.from(rxClient.publishes(MqttGlobalPublishFilter.ALL)), payload);
+                System.out.printf("  incoming: native %.0f/s, adapted %.0f/s%n", rate(nativeIncoming),
+                        rate(adaptedIncoming));
+            }
+
+            client.disconnect().block(TIMEOUT);
+        }
+    }
+
+    private static long outgoing(
+            final Function<Flux<Mqtt5Publish>, Flux<Mqtt5PublishResult>> publish, final byte[] payload) {
+
+        final Flux<Mqtt5Publish> publishes = Flux.range(0, COUNT)
+                .map(i -> Mqtt5Publish.builder()
+                        .topic("benchmark/outgoing")
+                        .qos(MqttQos.AT_LEAST_ONCE)
+                        .payload(payload)
+                        .build());
+        final long start = System.nanoTime();
+        publish.apply(publishes).blockLast(TIMEOUT);
+        return System.nanoTime() - start;
+    }
+
+    private static long incoming(
+            final Mqtt5ReactorClient client, final Flux<Mqtt5Publish> incoming, final byte[] payload)
+            throws Exception {
+
+        final long start = System.nanoTime();
+        // the stub sends back every QoS 0 message, so the incoming stream completes once all messages were received
+        final CompletableFuture<Void> received = incoming.take(COUNT).then().toFuture();
+        client.publish(Flux.range(0, COUNT)
+                .map(i -> Mqtt5Publish.builder()
+                        .topic("benchmark/incoming")
+                        .qos(MqttQos.AT_MOST_ONCE)
+                        .payload(payload)
+                        .build())).blockLast(TIMEOUT);
+        received.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        return System.nanoTime() - start;
+    }
+
+    private static double rate(final long durationNanos) {
+        return COUNT / (durationNanos / 1e9);
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Requester;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Measures the throughput and the latency distribution of a {@link Mqtt5Requester} with many concurrent requests.
+ * <p>
+ * A responder client answers every request on the response topic with the same correlation data. Arguments:
+ * <code>[host] [port] [concurrency]</code>, defaults to <code>localhost 1883 20000</code>.
+ *
+ * @author Silvio Giebl
+ */
+public class RequestResponseBenchmark {
+
+    private static final int WARMUP_COUNT = 100_000;
+    private static final int COUNT = 1_000_000;
+    private static final int HISTOGRAM_BUCKETS = 24; // powers of two microseconds, up to ~8 s
+
+    public static void main(final String[] args) throws Exception {
+        final String host = (args.length > 0) ? args[0] : "localhost";
+        final int port = (args.length > 1) ? Integer.parseInt(args[1]) : 1883;
+        final int concurrency = (args.length > 2) ? Integer.parseInt(args[2]) : 20_000;
+
+        final Mqtt5AsyncClient requesterClient = Mqtt5Client.builder().serverHost(host).serverPort(port).buildAsync();
+        final Mqtt5AsyncClient responderClient = Mqtt5Client.builder().serverHost(host).serverPort(port).buildAsync();
+        requesterClient.connect().get(10, TimeUnit.SECONDS);
+        responderClient.connect().get(10, TimeUnit.SECONDS);
+
+        responderClient.subscribeWith()
+                .topicFilter("requests")
+                .qos(MqttQos.AT_LEAST_ONCE)
+                .callback(request -> responderClient.publish(Mqtt5Publish.builder()
+                        .topic(request.getResponseTopic().get())
+                        .qos(MqttQos.AT_LEAST_ONCE)
+                        .payload(request.getPayloadAsBytes())
+                        .correlationData(request.getCorrelationData().orElse(null))
+                        .build(), (result, throwable) -> {}))
+                .send()
+                .get(10, TimeUnit.SECONDS);
+
+        final Mqtt5Requester requester =
+                Mqtt5Requester.builder(requesterClient).timeout(30, TimeUnit.SECONDS).build();
+        final Mqtt5Publish request =
+                Mqtt5Publish.builder().topic("requests").qos(MqttQos.AT_LEAST_ONCE).payload(new byte[64]).build();
+
+        run(requester, request, concurrency, WARMUP_COUNT);
+        final long[] latencies = run(requester, request, concurrency, COUNT);
+        final long durationNanos = latencies[COUNT];
+        Arrays.sort(latencies, 0, COUNT);
+
+        System.out.printf("concurrency: %d%n", concurrency);
+        System.out.printf("throughput: %.0f requests/s%n", COUNT / (durationNanos / 1e9));
+        System.out.printf("latency p50: %d us, p99: %d us, p99.9: %d us, max: %d us%n", percentile(latencies, 0.5),
+                percentile(latencies, 0.99), percentile(latencies, 0.999),
+                TimeUnit.NANOSECONDS.toMicros(latencies[COUNT - 1]));
+        printHistogram(latencies);
+
+        requester.close();
+        requesterClient.disconnect().get(10, TimeUnit.SECONDS);
+        responderClient.disconnect().get(10, TimeUnit.SECONDS);
+    }
+
+    private static long[] run(
+            final Mqtt5Requester requester, final Mqtt5Publish request, final int concurrency, final int count)
+            throws Exception {
+
+        final long[] latencies = new long[count + 1]; // last element holds the overall duration
+        final AtomicInteger sent = new AtomicInteger();
+        final AtomicInteger failed = new AtomicInteger();
+        final CompletableFuture<Void> done = new CompletableFuture<>();
+        final AtomicInteger remaining = new AtomicInteger(count);
+        final long start = System.nanoTime();
+        for (int i = 0; i < Math.min(concurrency, count); i++) {
+            sendNext(requester, request, latencies, sent, failed, remaining, done);
+        }
+        done.get(5, TimeUnit.MINUTES);
+        latencies[count] = System.nanoTime() - start;
+        if (failed.get() > 0) {
+            System.out.printf("failed requests: %d%n", failed.get());
+        }
+        return latencies;
+    }
+
+    private static void sendNext(
+            final Mqtt5Requester requester,
+            final Mqtt5Publish request,
+            final long[] latencies,
+            final AtomicInteger sent,
+            final AtomicInteger failed,
+            final AtomicInteger remaining,
+            final CompletableFuture<Void> done) {
+
+        final int index = sent.getAndIncrement();
+        if (index >= latencies.length - 1) {
+            return;
+        }
+        final long sendNanos = System.nanoTime();
+        requester.request(request).whenComplete((response, throwable) -> {
+            latencies[index] = System.nanoTime() - sendNanos;
+            if (throwable != null) {
+                failed.incrementAndGet();
+            }
+            if (remaining.decrementAndGet() == 0) {
+                done.complete(null);
+            } else {
+                sendNext(requester, request, latencies, sent, failed, remaining, done);
+            }
+        });
+    }
+
+    private static long percentile(final long[] sortedLatencies, final double percentile) {
+        return TimeUnit.NANOSECONDS.toMicros(sortedLatencies[(int) ((sortedLatencies.length - 2) * percentile)]);
+    }
+
+    private static void printHistogram(final long[] sortedLatencies) {
+        final int count = sortedLatencies.length - 1;
+        final int[] buckets = new int[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < count; i++) {
+            final long micros = Math.max(TimeUnit.NANOSECONDS.toMicros(sortedLatencies[i]), 1);
+            buckets[Math.min(63 - Long.numberOfLeadingZeros(micros), HISTOGRAM_BUCKETS - 1)]++;
+        }
+        System.out.println("latency histogram:");
+        for (int i = 0; i < HISTOGRAM_BUCKETS; i++) {
+            if (buckets[i] > 0) {
+                System.out.printf("  < %8d us: %7d (%5.2f%%)%n", 1L << (i + 1), buckets[i], buckets[i] * 100.0 / count);
+            }
+        }
+    }
+}
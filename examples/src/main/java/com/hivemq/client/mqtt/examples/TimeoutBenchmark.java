@@ -0,0 +1,112 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.MqttClientExecutorConfig;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the overhead of scheduling keep alive timeouts on the scheduler of the event loops with the shared timing
+ * wheel ({@link com.hivemq.client.mqtt.MqttClientExecutorConfigBuilder#nettyTimingWheel(boolean)}).
+ * <p>
+ * Idle clients with a short keep alive are connected to a local broker stub and the CPU time of the client threads is
+ * measured for a fixed period, once for 10 000 and once for 100 000 clients. As a single loopback address only provides
+ * a limited amount of ephemeral ports, the clients connect to different addresses of <code>127.0.0.0/8</code> (Linux
+ * routes this whole range to the loopback interface). The limit of open files has to be raised accordingly.
+ *
+ * @author Silvio Giebl
+ */
+public class TimeoutBenchmark {
+
+    private static final int[] CLIENT_COUNTS = {10_000, 100_000};
+    private static final int CLIENTS_PER_ADDRESS = 20_000;
+    private static final int KEEP_ALIVE = 2;
+    private static final long MEASURE_NANOS = TimeUnit.SECONDS.toNanos(20);
+
+    public static void main(final String[] args) throws Exception {
+        try (final ServerSocketChannel serverChannel = ServerSocketChannel.open()) {
+            serverChannel.bind(new InetSocketAddress(0), 1024);
+            final Thread broker = new Thread(() -> NioBrokerStub.run(serverChannel), "broker-stub");
+            broker.setDaemon(true);
+            broker.start();
+            final int port = ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+
+            for (final int clientCount : CLIENT_COUNTS) {
+                for (final boolean timingWheel : new boolean[]{false, true}) {
+                    final long cpuNanos = run(port, clientCount, timingWheel);
+                    System.out.printf("clients: %d, %s: %.1f ms client CPU time per second, %d ns per keep alive%n",
+                            clientCount, timingWheel ? "timing wheel" : "scheduler",
+                            cpuNanos / 1e6 / TimeUnit.NANOSECONDS.toSeconds(MEASURE_NANOS),
+                            cpuNanos / (clientCount * TimeUnit.NANOSECONDS.toSeconds(MEASURE_NANOS) / KEEP_ALIVE));
+                }
+            }
+        }
+    }
+
+    private static long run(final int port, final int clientCount, final boolean timingWheel) throws Exception {
+        final MqttClientExecutorConfig executorConfig =
+                MqttClientExecutorConfig.builder().nettyTimingWheel(timingWheel).build();
+
+        final Mqtt5AsyncClient[] clients = new Mqtt5AsyncClient[clientCount];
+        final CompletableFuture<?>[] futures = new CompletableFuture[clientCount];
+        for (int i = 0; i < clientCount; i++) {
+            clients[i] = Mqtt5Client.builder()
+                    .identifier("timeout-" + i)
+                    .serverHost("127.0.0." + (1 + i / CLIENTS_PER_ADDRESS))
+                    .serverPort(port)
+                    .executorConfig(executorConfig)
+                    .buildAsync();
+            futures[i] = clients[i].connectWith().keepAlive(KEEP_ALIVE).send();
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.MINUTES);
+
+        // let the keep alive timeouts spread out before measuring
+        Thread.sleep(TimeUnit.SECONDS.toMillis(2 * KEEP_ALIVE));
+        final long startCpuNanos = clientCpuNanos();
+        Thread.sleep(TimeUnit.NANOSECONDS.toMillis(MEASURE_NANOS));
+        final long cpuNanos = clientCpuNanos() - startCpuNanos;
+
+        for (int i = 0; i < clientCount; i++) {
+            futures[i] = clients[i].disconnect();
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.MINUTES);
+        return cpuNanos;
+    }
+
+    private static long clientCpuNanos() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        long cpuNanos = 0;
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("com.hivemq.client.mqtt")) {
+                final long threadCpuNanos = threadMXBean.getThreadCpuTime(thread.getId());
+                if (threadCpuNanos > 0) {
+                    cpuNanos += threadCpuNanos;
+                }
+            }
+        }
+        return cpuNanos;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.MqttClientSslConfig;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long it takes to connect 1k and 10k TLS clients with the same secure transport configuration.
+ * <p>
+ * Arguments: <code>[host] [port] [preferOpenSsl]</code>, defaults to <code>localhost 8883 false</code>. The broker must
+ * present a certificate that is trusted by the default trust store. Set <code>preferOpenSsl</code> to
+ * <code>true</code> and add netty-tcnative to the class path to compare the OpenSSL provider with the JDK provider.
+ *
+ * @author Silvio Giebl
+ */
+public class TlsStartupBenchmark {
+
+    public static void main(final String[] args) throws Exception {
+        final String host = (args.length > 0) ? args[0] : "localhost";
+        final int port = (args.length > 1) ? Integer.parseInt(args[1]) : 8883;
+        final boolean preferOpenSsl = (args.length > 2) && Boolean.parseBoolean(args[2]);
+
+        for (final int count : new int[]{1_000, 10_000}) {
+            run(host, port, preferOpenSsl, count);
+        }
+    }
+
+    private static void run(final String host, final int port, final boolean preferOpenSsl, final int count)
+            throws Exception {
+
+        final List<Mqtt5AsyncClient> clients = new ArrayList<>(count);
+        final CompletableFuture<?>[] futures = new CompletableFuture[count];
+        final long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            // every client builds its own but equal config, the clients still share one SSL context
+            final MqttClientSslConfig sslConfig = MqttClientSslConfig.builder().preferOpenSsl(preferOpenSsl).build();
+            final Mqtt5AsyncClient client =
+                    Mqtt5Client.builder().serverHost(host).serverPort(port).sslConfig(sslConfig).buildAsync();
+            clients.add(client);
+            futures[i] = client.connect();
+        }
+        CompletableFuture.allOf(futures).get(5, TimeUnit.MINUTES);
+        final long durationNanos = System.nanoTime() - start;
+
+        System.out.printf("%d TLS clients connected in %d ms (%.0f connects/s)%n", count,
+                TimeUnit.NANOSECONDS.toMillis(durationNanos), count / (durationNanos / 1e9));
+
+        final CompletableFuture<?>[] disconnectFutures = new CompletableFuture[count];
+        for (int i = 0; i < count; i++) {
+            disconnectFutures[i] = clients.get(i).disconnect();
+        }
+        CompletableFuture.allOf(disconnectFutures).get(1, TimeUnit.MINUTES);
+    }
+}
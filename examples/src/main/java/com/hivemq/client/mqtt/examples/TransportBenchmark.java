@@ -0,0 +1,184 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.examples;
+
+import com.hivemq.client.mqtt.MqttApplicationDispatch;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures publish throughput and latency against a local broker stub.
+ * <p>
+ * The transport is selected automatically, so run this example once with only the core library, once with the epoll
+ * module and once with the io_uring module on the class path to compare the transports. The stub acknowledges every
+ * QoS 1 publish immediately, so the results mostly reflect the client and the transport.
+ * <p>
+ * The optional first argument selects the {@link MqttApplicationDispatch} (default {@code SCHEDULER}), so the hand-off
+ * of the publish results to the application can be compared as well, for example {@code BATCHED} or
+ * {@code EVENT_LOOP}.
+ *
+ * @author Silvio Giebl
+ */
+public class TransportBenchmark {
+
+    private static final int WARMUP_COUNT = 100_000;
+    private static final int COUNT = 1_000_000;
+    private static final int PAYLOAD_SIZE = 64;
+
+    public static void main(final String[] args) throws Exception {
+        final MqttApplicationDispatch dispatch =
+                (args.length > 0) ? MqttApplicationDispatch.valueOf(args[0]) : MqttApplicationDispatch.SCHEDULER;
+        try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final Thread broker = new Thread(() -> runBrokerStub(serverSocket), "broker-stub");
+            broker.setDaemon(true);
+            broker.start();
+
+            final Mqtt5AsyncClient client = Mqtt5Client.builder()
+                    .serverHost(InetAddress.getLoopbackAddress())
+                    .serverPort(serverSocket.getLocalPort())
+                    .executorConfig()
+                    .applicationDispatch(dispatch)
+                    .applyExecutorConfig()
+                    .buildAsync();
+            client.connect().get(10, TimeUnit.SECONDS);
+
+            run(client, WARMUP_COUNT);
+            final long[] latencies = run(client, COUNT);
+            final long durationNanos = latencies[latencies.length - 1];
+            Arrays.sort(latencies, 0, COUNT);
+
+            System.out.printf("application dispatch: %s%n", dispatch);
+            System.out.printf("throughput: %.0f publishes/s%n", COUNT / (durationNanos / 1e9));
+            System.out.printf("latency p50: %d us, p99: %d us, p99.9: %d us%n", percentile(latencies, 0.5),
+                    percentile(latencies, 0.99), percentile(latencies, 0.999));
+
+            client.disconnect().get(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static long[] run(final Mqtt5AsyncClient client, final int count) throws Exception {
+        final long[] latencies = new long[count + 1]; // last element holds the overall duration
+        final CompletableFuture<?>[] futures = new CompletableFuture[count];
+        final byte[] payload = new byte[PAYLOAD_SIZE];
+        final long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            final int index = i;
+            final long sendNanos = System.nanoTime();
+            futures[i] = client.publishWith()
+                    .topic("benchmark")
+                    .qos(MqttQos.AT_LEAST_ONCE)
+                    .payload(payload)
+                    .send()
+                    .whenComplete((result, throwable) -> latencies[index] = System.nanoTime() - sendNanos);
+        }
+        CompletableFuture.allOf(futures).get(1, TimeUnit.MINUTES);
+        latencies[count] = System.nanoTime() - start;
+        return latencies;
+    }
+
+    private static long percentile(final long[] sortedLatencies, final double percentile) {
+        return TimeUnit.NANOSECONDS.toMicros(sortedLatencies[(int) ((sortedLatencies.length - 2) * percentile)]);
+    }
+
+    /**
+     * Accepts one MQTT 5 connection, acknowledges CONNECT, QoS 1 PUBLISH and PINGREQ, sends QoS 0 PUBLISH back to the
+     * client and ignores everything else.
+     */
+    static void runBrokerStub(final ServerSocket serverSocket) {
+        try (final Socket socket = serverSocket.accept()) {
+            socket.setTcpNoDelay(true);
+            final DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            final OutputStream out = new BufferedOutputStream(socket.getOutputStream());
+            final byte[] body = new byte[1 << 16];
+            while (true) {
+                if (in.available() == 0) {
+                    out.flush();
+                }
+                final int header = in.read();
+                if (header == -1) {
+                    return;
+                }
+                final int remainingLength = readVariableByteInteger(in);
+                final byte[] buffer = (remainingLength <= body.length) ? body : new byte[remainingLength];
+                in.readFully(buffer, 0, remainingLength);
+                switch (header >> 4) {
+                    case 1: // CONNECT
+                        out.write(new byte[]{0x20, 0x03, 0x00, 0x00, 0x00});
+                        break;
+                    case 3: // PUBLISH
+                        if ((header & 0x06) == 0x02) {
+                            final int topicLength = ((buffer[0] & 0xFF) << 8) | (buffer[1] & 0xFF);
+                            out.write(new byte[]{0x40, 0x02, buffer[2 + topicLength], buffer[3 + topicLength]});
+                        } else if ((header & 0x06) == 0) {
+                            out.write(header);
+                            writeVariableByteInteger(out, remainingLength);
+                            out.write(buffer, 0, remainingLength);
+                        }
+                        break;
+                    case 12: // PINGREQ
+                        out.write(new byte[]{(byte) 0xD0, 0x00});
+                        break;
+                    case 14: // DISCONNECT
+                        return;
+                }
+            }
+        } catch (final IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static int readVariableByteInteger(final InputStream in) throws IOException {
+        int value = 0;
+        int shift = 0;
+        int encodedByte;
+        do {
+            encodedByte = in.read();
+            if (encodedByte == -1) {
+                throw new IOException("Unexpected end of stream");
+            }
+            value |= (encodedByte & 0x7F) << shift;
+            shift += 7;
+        } while ((encodedByte & 0x80) != 0);
+        return value;
+    }
+
+    private static void writeVariableByteInteger(final OutputStream out, final int length) throws IOException {
+        int value = length;
+        do {
+            int encodedByte = value & 0x7F;
+            value >>>= 7;
+            if (value > 0) {
+                encodedByte |= 0x80;
+            }
+            out.write(encodedByte);
+        } while (value > 0);
+    }
+}
@@ -0,0 +1,39 @@
+plugins {
+    id("java-library")
+}
+
+
+/* ******************** metadata ******************** */
+
+description = "java.util.concurrent.Flow API for the HiveMQ MQTT Client"
+
+metadata {
+    moduleName.set("com.hivemq.client.mqtt.flow")
+    readableName.set("HiveMQ MQTT Client flow module")
+}
+
+
+/* ******************** java ******************** */
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_9
+    targetCompatibility = JavaVersion.VERSION_1_9
+}
+
+
+/* ******************** dependencies ******************** */
+
+dependencies {
+    api(rootProject)
+
+    implementation("org.jetbrains:annotations:${property("annotations.version")}")
+}
+
+
+/* ******************** jars ******************** */
+
+tasks.jar {
+    withConvention(aQute.bnd.gradle.BundleTaskConvention::class) {
+        bnd("Export-Package: com.hivemq.client.mqtt.mqtt5.flow")
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.flow;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reactive Streams subscriber that delivers all signals serially to a {@link Flow.Subscriber} on an {@link Executor}.
+ * <p>
+ * Requests are passed through to the upstream subscription unchanged, so the queue only holds elements that were
+ * requested but not yet delivered and no additional prefetch is introduced.
+ *
+ * @param <T> the type of the elements.
+ * @author Silvio Giebl
+ */
+public class FlowPublishOnSubscriber<T> implements Subscriber<T>, Flow.Subscription, Runnable {
+
+    private final @NotNull Flow.Subscriber<? super T> subscriber;
+    private final @NotNull Executor executor;
+
+    private @Nullable Subscription subscription;
+    private final @NotNull Queue<T> queue = new ConcurrentLinkedQueue<>();
+    private final @NotNull AtomicInteger wip = new AtomicInteger();
+    private volatile boolean done;
+    private @Nullable Throwable error;
+    private volatile boolean cancelled;
+    private boolean subscribed;
+
+    public FlowPublishOnSubscriber(
+            final @NotNull Flow.Subscriber<? super T> subscriber, final @NotNull Executor executor) {
+
+        this.subscriber = subscriber;
+        this.executor = executor;
+    }
+
+    @Override
+    public void onSubscribe(final @NotNull Subscription subscription) {
+        this.subscription = subscription;
+        schedule();
+    }
+
+    @Override
+    public void onNext(final @NotNull T t) {
+        queue.offer(t);
+        schedule();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void onError(final @NotNull Throwable error) {
+        this.error = error;
+        done = true;
+        schedule();
+    }
+
+    @Override
+    public void request(final long n) {
+        assert subscription != null;
+        subscription.request(n);
+    }
+
+    @Override
+    public void cancel() {
+        if (!cancelled) {
+            cancelled = true;
+            assert subscription != null;
+            subscription.cancel();
+            schedule();
+        }
+    }
+
+    private void schedule() {
+        if (wip.getAndIncrement() == 0) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        do {
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            while (true) {
+                if (cancelled) {
+                    queue.clear();
+                    break;
+                }
+                final boolean done = this.done;
+                final T t = queue.poll();
+                if (t == null) {
+                    if (done) {
+                        cancelled = true;
+                        final Throwable error = this.error;
+                        if (error == null) {
+                            subscriber.onComplete();
+                        } else {
+                            subscriber.onError(error);
+                        }
+                    }
+                    break;
+                }
+                subscriber.onNext(t);
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+}
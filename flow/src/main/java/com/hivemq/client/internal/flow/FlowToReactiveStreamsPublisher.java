@@ -0,0 +1,89 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.flow;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.concurrent.Flow;
+
+/**
+ * Exposes a {@link Flow.Publisher} as a Reactive Streams {@link Publisher} by forwarding all signals directly.
+ *
+ * @param <T> the type of the elements.
+ * @author Silvio Giebl
+ */
+public class FlowToReactiveStreamsPublisher<T> implements Publisher<T> {
+
+    private final @NotNull Flow.Publisher<? extends T> publisher;
+
+    public FlowToReactiveStreamsPublisher(final @NotNull Flow.Publisher<? extends T> publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void subscribe(final @NotNull Subscriber<? super T> subscriber) {
+        publisher.subscribe(new ForwardingSubscriber<>(subscriber));
+    }
+
+    private static class ForwardingSubscriber<T> implements Flow.Subscriber<T>, Subscription {
+
+        private final @NotNull Subscriber<? super T> subscriber;
+        private @Nullable Flow.Subscription subscription;
+
+        ForwardingSubscriber(final @NotNull Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void onSubscribe(final @NotNull Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscriber.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(final @NotNull T t) {
+            subscriber.onNext(t);
+        }
+
+        @Override
+        public void onError(final @NotNull Throwable throwable) {
+            subscriber.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            subscriber.onComplete();
+        }
+
+        @Override
+        public void request(final long n) {
+            assert subscription != null;
+            subscription.request(n);
+        }
+
+        @Override
+        public void cancel() {
+            assert subscription != null;
+            subscription.cancel();
+        }
+    }
+}
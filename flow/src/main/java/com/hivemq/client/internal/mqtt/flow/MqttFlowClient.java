@@ -0,0 +1,141 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.flow;
+
+import com.hivemq.client.internal.flow.FlowPublishOnSubscriber;
+import com.hivemq.client.internal.flow.FlowToReactiveStreamsPublisher;
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttGlobalIncomingPublishFlowable;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttSubscribedPublishFlowable;
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttAckFlowable;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribe;
+import com.hivemq.client.internal.mqtt.util.MqttChecks;
+import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5BlockingClient;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5ClientConfig;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
+import com.hivemq.client.mqtt.mqtt5.flow.Mqtt5FlowClient;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscribe;
+import io.reactivex.Flowable;
+import io.reactivex.Scheduler;
+import io.reactivex.functions.Function;
+import io.reactivex.schedulers.Schedulers;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttFlowClient implements Mqtt5FlowClient {
+
+    private static final @NotNull Function<Mqtt5Publish, MqttPublish> PUBLISH_MAPPER = MqttChecks::publish;
+
+    private final @NotNull Mqtt5RxClient delegate;
+    private final @NotNull MqttClientConfig clientConfig;
+    private final @NotNull Executor executor;
+    private final @NotNull Scheduler scheduler;
+
+    public MqttFlowClient(final @NotNull Mqtt5RxClient delegate, final @Nullable Executor executor) {
+        this.delegate = delegate;
+        clientConfig = (MqttClientConfig) delegate.getConfig();
+        if (executor == null) {
+            final Scheduler dispatchScheduler = clientConfig.getDispatchScheduler();
+            this.executor = dispatchScheduler::scheduleDirect;
+            scheduler = dispatchScheduler;
+        } else {
+            this.executor = executor;
+            scheduler = Schedulers.from(executor);
+        }
+    }
+
+    @Override
+    public @NotNull Flow.Publisher<@NotNull Mqtt5Publish> publishes(final @NotNull MqttGlobalPublishFilter filter) {
+        return publishes(filter, false);
+    }
+
+    @Override
+    public @NotNull Flow.Publisher<@NotNull Mqtt5Publish> publishes(
+            final @NotNull MqttGlobalPublishFilter filter, final boolean manualAcknowledgement) {
+
+        Checks.notNull(filter, "Global publish filter");
+
+        return subscriber -> MqttGlobalIncomingPublishFlowable.subscribeFlow(
+                new FlowPublishOnSubscriber<>(Checks.notNull(subscriber, "Subscriber"), executor), filter,
+                clientConfig, manualAcknowledgement);
+    }
+
+    @Override
+    public @NotNull Flow.Publisher<@NotNull Mqtt5Publish> subscribePublishes(final @NotNull Mqtt5Subscribe subscribe) {
+        return subscribePublishes(subscribe, false);
+    }
+
+    @Override
+    public @NotNull Flow.Publisher<@NotNull Mqtt5Publish> subscribePublishes(
+            final @NotNull Mqtt5Subscribe subscribe, final boolean manualAcknowledgement) {
+
+        final MqttSubscribe mqttSubscribe = MqttChecks.subscribe(subscribe);
+
+        return subscriber -> MqttSubscribedPublishFlowable.subscribeFlow(
+                new FlowPublishOnSubscriber<>(Checks.notNull(subscriber, "Subscriber"), executor), mqttSubscribe,
+                clientConfig, manualAcknowledgement);
+    }
+
+    @Override
+    public @NotNull Flow.Publisher<@NotNull Mqtt5PublishResult> publish(
+            final @NotNull Flow.Publisher<@NotNull Mqtt5Publish> publisher) {
+
+        Checks.notNull(publisher, "Publisher");
+
+        // the user publisher is subscribed and requested on the executor, as it must not run on the event loop
+        final Flowable<MqttPublish> publishFlowable =
+                Flowable.fromPublisher(new FlowToReactiveStreamsPublisher<>(publisher))
+                        .subscribeOn(scheduler)
+                        .map(PUBLISH_MAPPER);
+        return subscriber -> MqttAckFlowable.subscribeFlow(
+                new FlowPublishOnSubscriber<>(Checks.notNull(subscriber, "Subscriber"), executor), clientConfig,
+                publishFlowable);
+    }
+
+    @Override
+    public @NotNull Mqtt5ClientConfig getConfig() {
+        return clientConfig;
+    }
+
+    @Override
+    public @NotNull Mqtt5RxClient toRx() {
+        return delegate;
+    }
+
+    @Override
+    public @NotNull Mqtt5AsyncClient toAsync() {
+        return delegate.toAsync();
+    }
+
+    @Override
+    public @NotNull Mqtt5BlockingClient toBlocking() {
+        return delegate.toBlocking();
+    }
+}
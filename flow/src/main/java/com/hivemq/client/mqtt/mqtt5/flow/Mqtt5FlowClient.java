@@ -0,0 +1,173 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.mqtt5.flow;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.internal.mqtt.flow.MqttFlowClient;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscribe;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+
+/**
+ * {@link Flow java.util.concurrent.Flow} API of an {@link Mqtt5Client}.
+ * <p>
+ * The publishers returned by this API are connected directly to the client's internal streams, so no RxJava operators
+ * are involved when delivering incoming messages or publish results. Signals are delivered serially on the executor
+ * this API was created with (by default as configured by the {@link
+ * com.hivemq.client.mqtt.MqttClientExecutorConfig#getApplicationDispatch() application dispatch} of the client).
+ * Connecting, subscribing without consuming messages, unsubscribing and disconnecting are available via the other
+ * APIs.
+ * <p>
+ * This API requires Java 9 or higher.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5FlowClient extends Mqtt5Client {
+
+    /**
+     * Turns the API of the given client into a {@link Flow} API that delivers signals as configured by the {@link
+     * com.hivemq.client.mqtt.MqttClientExecutorConfig#getApplicationDispatch() application dispatch} of the client.
+     * <p>
+     * The {@link Flow} API can be used simultaneously with the other APIs.
+     *
+     * @param client the client with any API (blocking, async, reactive, reactor, flow).
+     * @return a {@link Flow} API for the given client.
+     */
+    @CheckReturnValue
+    static @NotNull Mqtt5FlowClient from(final @NotNull Mqtt5Client client) {
+        return new MqttFlowClient(client.toRx(), null);
+    }
+
+    /**
+     * Turns the API of the given client into a {@link Flow} API that delivers signals on the given executor, for
+     * example an executor that starts a new virtual thread for each task.
+     * <p>
+     * The {@link Flow} API can be used simultaneously with the other APIs.
+     *
+     * @param client   the client with any API (blocking, async, reactive, reactor, flow).
+     * @param executor the executor the signals of the returned publishers are delivered on.
+     * @return a {@link Flow} API for the given client.
+     */
+    @CheckReturnValue
+    static @NotNull Mqtt5FlowClient from(final @NotNull Mqtt5Client client, final @NotNull Executor executor) {
+        return new MqttFlowClient(client.toRx(), executor);
+    }
+
+    /**
+     * Creates a {@link Flow.Publisher} for globally consuming all incoming Publish messages matching the given filter.
+     * <p>
+     * See {@link com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient#publishes(MqttGlobalPublishFilter)
+     * Mqtt5RxClient#publishes(MqttGlobalPublishFilter)} for the semantics of the filter and of backpressure.
+     *
+     * @param filter the filter with which all incoming Publish messages are filtered.
+     * @return the {@link Flow.Publisher} which
+     *         <ul>
+     *           <li>emits the incoming Publish messages matching the given filter,</li>
+     *           <li>never completes but</li>
+     *           <li>errors with a {@link com.hivemq.client.mqtt.exceptions.MqttSessionExpiredException
+     *             MqttSessionExpiredException} when the MQTT session expires.</li>
+     *         </ul>
+     */
+    @CheckReturnValue
+    @NotNull Flow.Publisher<@NotNull Mqtt5Publish> publishes(@NotNull MqttGlobalPublishFilter filter);
+
+    /**
+     * Creates a {@link Flow.Publisher} for globally consuming all incoming Publish messages matching the given filter.
+     * <p>
+     * See {@link com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient#publishes(MqttGlobalPublishFilter, boolean)
+     * Mqtt5RxClient#publishes(MqttGlobalPublishFilter, boolean)} for the semantics of the filter, of backpressure and
+     * of manual acknowledgement.
+     *
+     * @param filter                the filter with which all incoming Publish messages are filtered.
+     * @param manualAcknowledgement whether the Publish messages are acknowledged manually.
+     * @return the {@link Flow.Publisher} which
+     *         <ul>
+     *           <li>emits the incoming Publish messages matching the given filter,</li>
+     *           <li>never completes but</li>
+     *           <li>errors with a {@link com.hivemq.client.mqtt.exceptions.MqttSessionExpiredException
+     *             MqttSessionExpiredException} when the MQTT session expires.</li>
+     *         </ul>
+     */
+    @CheckReturnValue
+    @NotNull Flow.Publisher<@NotNull Mqtt5Publish> publishes(
+            @NotNull MqttGlobalPublishFilter filter, boolean manualAcknowledgement);
+
+    /**
+     * Creates a {@link Flow.Publisher} for subscribing this client with the given Subscribe message and consuming the
+     * incoming Publish messages matching the subscriptions of the Subscribe message.
+     * <p>
+     * Unlike the other APIs, the returned publisher does not emit the SubAck message. If the subscription fails, the
+     * publisher errors with the same exception as the other APIs.
+     *
+     * @param subscribe the Subscribe message sent to the broker during subscribe.
+     * @return the {@link Flow.Publisher} which
+     *         <ul>
+     *           <li>emits the incoming Publish messages matching the subscriptions of the Subscribe message,</li>
+     *           <li>completes when all subscriptions of the Subscribe message were unsubscribed or</li>
+     *           <li>errors if the subscription failed or the MQTT session expires.</li>
+     *         </ul>
+     */
+    @CheckReturnValue
+    @NotNull Flow.Publisher<@NotNull Mqtt5Publish> subscribePublishes(@NotNull Mqtt5Subscribe subscribe);
+
+    /**
+     * Creates a {@link Flow.Publisher} for subscribing this client with the given Subscribe message and consuming the
+     * incoming Publish messages matching the subscriptions of the Subscribe message.
+     * <p>
+     * Unlike the other APIs, the returned publisher does not emit the SubAck message. If the subscription fails, the
+     * publisher errors with the same exception as the other APIs.
+     *
+     * @param subscribe             the Subscribe message sent to the broker during subscribe.
+     * @param manualAcknowledgement whether the Publish messages are acknowledged manually.
+     * @return the {@link Flow.Publisher} which
+     *         <ul>
+     *           <li>emits the incoming Publish messages matching the subscriptions of the Subscribe message,</li>
+     *           <li>completes when all subscriptions of the Subscribe message were unsubscribed or</li>
+     *           <li>errors if the subscription failed or the MQTT session expires.</li>
+     *         </ul>
+     */
+    @CheckReturnValue
+    @NotNull Flow.Publisher<@NotNull Mqtt5Publish> subscribePublishes(
+            @NotNull Mqtt5Subscribe subscribe, boolean manualAcknowledgement);
+
+    /**
+     * Creates a {@link Flow.Publisher} for publishing the Publish messages emitted by the given {@link Flow.Publisher}.
+     * <p>
+     * The given publisher is subscribed and requested from on the executor of this API.
+     *
+     * @param publisher the source of the Publish messages to publish.
+     * @return the {@link Flow.Publisher} which
+     *         <ul>
+     *           <li>emits {@link Mqtt5PublishResult}s each corresponding to a Publish message,</li>
+     *           <li>completes if the given source completed and all {@link Mqtt5PublishResult}s were emitted or</li>
+     *           <li>errors if the given source errored or the client is not connected.</li>
+     *         </ul>
+     */
+    @CheckReturnValue
+    @NotNull Flow.Publisher<@NotNull Mqtt5PublishResult> publish(
+            @NotNull Flow.Publisher<@NotNull Mqtt5Publish> publisher);
+}
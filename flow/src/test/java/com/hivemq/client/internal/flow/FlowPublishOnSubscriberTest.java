@@ -0,0 +1,148 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.flow;
+
+import io.reactivex.Flowable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class FlowPublishOnSubscriberTest {
+
+    private final @NotNull ExecutorService executor =
+            Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "flow-test"));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void onNext_onComplete_deliveredInOrderOnExecutor() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        Flowable.range(0, 1000).subscribe(new FlowPublishOnSubscriber<>(subscriber, executor));
+
+        assertNull(subscriber.terminated.get(10, TimeUnit.SECONDS));
+        assertEquals(1000, subscriber.values.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, subscriber.values.get(i));
+        }
+        assertEquals(List.of("flow-test"), subscriber.threads);
+    }
+
+    @Test
+    void onError_deliveredAfterElements() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(Long.MAX_VALUE);
+        final Exception error = new Exception("test");
+        Flowable.range(0, 10)
+                .concatWith(Flowable.error(error))
+                .subscribe(new FlowPublishOnSubscriber<>(subscriber, executor));
+
+        assertSame(error, subscriber.terminated.get(10, TimeUnit.SECONDS));
+        assertEquals(10, subscriber.values.size());
+    }
+
+    @Test
+    void request_passedThrough() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(3);
+        Flowable.range(0, 10).subscribe(new FlowPublishOnSubscriber<>(subscriber, executor));
+
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(0, 1, 2), subscriber.values);
+        assertFalse(subscriber.terminated.isDone());
+
+        assertNotNull(subscriber.subscription);
+        subscriber.subscription.request(7);
+        assertNull(subscriber.terminated.get(10, TimeUnit.SECONDS));
+        assertEquals(10, subscriber.values.size());
+    }
+
+    @Test
+    void cancel_stopsDelivery() throws Exception {
+        final TestSubscriber subscriber = new TestSubscriber(3);
+        Flowable.range(0, 10).subscribe(new FlowPublishOnSubscriber<>(subscriber, executor));
+
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+        assertNotNull(subscriber.subscription);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(7);
+
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of(0, 1, 2), subscriber.values);
+        assertFalse(subscriber.terminated.isDone());
+    }
+
+    private static class TestSubscriber implements Flow.Subscriber<Integer> {
+
+        final long initialRequest;
+        volatile @Nullable Flow.Subscription subscription;
+        final @NotNull List<Integer> values = new CopyOnWriteArrayList<>();
+        final @NotNull List<String> threads = new CopyOnWriteArrayList<>();
+        final @NotNull CompletableFuture<Throwable> terminated = new CompletableFuture<>();
+
+        TestSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        @Override
+        public void onSubscribe(final @NotNull Flow.Subscription subscription) {
+            this.subscription = subscription;
+            recordThread();
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(final @NotNull Integer value) {
+            recordThread();
+            values.add(value);
+        }
+
+        @Override
+        public void onError(final @NotNull Throwable throwable) {
+            recordThread();
+            terminated.complete(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            recordThread();
+            terminated.complete(null);
+        }
+
+        private void recordThread() {
+            final String name = Thread.currentThread().getName();
+            if (!threads.contains(name)) {
+                threads.add(name);
+            }
+        }
+    }
+}
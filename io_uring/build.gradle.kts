@@ -0,0 +1,28 @@
+plugins {
+    id("java-platform")
+}
+
+
+/* ******************** metadata ******************** */
+
+description = "Adds dependencies for the HiveMQ MQTT Client io_uring module"
+
+metadata {
+    moduleName.set("com.hivemq.client.mqtt.io_uring")
+    readableName.set("HiveMQ MQTT Client io_uring module")
+}
+
+
+/* ******************** dependencies ******************** */
+
+javaPlatform {
+    allowDependencies()
+}
+
+dependencies {
+    api(rootProject)
+}
+
+configurations.runtime {
+    extendsFrom(rootProject.configurations["io_uringImplementation"])
+}
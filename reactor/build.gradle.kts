@@ -28,6 +28,8 @@ dependencies {
 
 dependencies {
     testImplementation("io.projectreactor:reactor-test:${property("reactor.version")}")
+    testImplementation("io.netty:netty-transport:${property("netty.version")}")
+    testImplementation("org.mockito:mockito-core:${property("mockito.version")}")
     testImplementation("com.google.guava:guava:${property("guava.version")}")
 }
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.reactor;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttAckFlowable;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.reactivex.Flowable;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactor counterpart of {@link MqttAckFlowable} that subscribes directly to the publish result flow instead of going
+ * through the RxJava adapter.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttAckFlux extends Flux<Mqtt5PublishResult> {
+
+    private final @NotNull MqttClientConfig clientConfig;
+    private final @NotNull Flowable<MqttPublish> publishFlowable;
+
+    public MqttAckFlux(final @NotNull MqttClientConfig clientConfig, final @NotNull Flux<MqttPublish> publishFlux) {
+        this.clientConfig = clientConfig;
+        // the outgoing publish pipeline is RxJava based, wrapping once here keeps the result path free of adapters
+        publishFlowable = Flowable.fromPublisher(publishFlux);
+    }
+
+    @Override
+    public void subscribe(final @NotNull CoreSubscriber<? super Mqtt5PublishResult> subscriber) {
+        MqttAckFlowable.subscribeFlow(subscriber, clientConfig, publishFlowable);
+    }
+}
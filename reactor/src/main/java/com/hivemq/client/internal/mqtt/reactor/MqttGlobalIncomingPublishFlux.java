@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.reactor;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttGlobalIncomingPublishFlowable;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import org.jetbrains.annotations.NotNull;
+import reactor.core.CoreSubscriber;
+import reactor.core.publisher.Flux;
+
+/**
+ * Reactor counterpart of {@link MqttGlobalIncomingPublishFlowable} that subscribes directly to the incoming publish
+ * flow instead of going through the RxJava adapter.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttGlobalIncomingPublishFlux extends Flux<Mqtt5Publish> {
+
+    private final @NotNull MqttGlobalPublishFilter filter;
+    private final @NotNull MqttClientConfig clientConfig;
+    private final boolean manualAcknowledgement;
+
+    public MqttGlobalIncomingPublishFlux(
+            final @NotNull MqttGlobalPublishFilter filter,
+            final @NotNull MqttClientConfig clientConfig,
+            final boolean manualAcknowledgement) {
+
+        this.filter = filter;
+        this.clientConfig = clientConfig;
+        this.manualAcknowledgement = manualAcknowledgement;
+    }
+
+    @Override
+    public void subscribe(final @NotNull CoreSubscriber<? super Mqtt5Publish> subscriber) {
+        MqttGlobalIncomingPublishFlowable.subscribeFlow(subscriber, filter, clientConfig, manualAcknowledgement);
+    }
+}
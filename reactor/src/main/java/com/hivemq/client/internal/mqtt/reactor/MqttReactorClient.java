@@ -16,12 +16,16 @@
 
 package com.hivemq.client.internal.mqtt.reactor;
 
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnectBuilder;
 import com.hivemq.client.internal.mqtt.message.disconnect.MqttDisconnect;
 import com.hivemq.client.internal.mqtt.message.disconnect.MqttDisconnectBuilder;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
 import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribeBuilder;
 import com.hivemq.client.internal.mqtt.message.unsubscribe.MqttUnsubscribeBuilder;
+import com.hivemq.client.internal.mqtt.util.MqttChecks;
+import com.hivemq.client.internal.util.Checks;
 import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5AsyncClient;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5BlockingClient;
@@ -38,12 +42,14 @@ import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
 import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.unsuback.Mqtt5UnsubAck;
 import com.hivemq.client.mqtt.mqtt5.reactor.Mqtt5ReactorClient;
 import com.hivemq.client.rx.reactor.FluxWithSingle;
-import io.reactivex.Flowable;
 import org.jetbrains.annotations.NotNull;
 import org.reactivestreams.Publisher;
 import reactor.adapter.rxjava.RxJava2Adapter;
+import reactor.core.Fuseable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * @author Silvio Giebl
@@ -51,9 +57,14 @@ import reactor.core.publisher.Mono;
 public class MqttReactorClient implements Mqtt5ReactorClient {
 
     private final @NotNull Mqtt5RxClient delegate;
+    private final @NotNull MqttClientConfig clientConfig;
+    private final @NotNull Scheduler applicationScheduler;
 
     public MqttReactorClient(final @NotNull Mqtt5RxClient delegate) {
         this.delegate = delegate;
+        clientConfig = (MqttClientConfig) delegate.getConfig();
+        final io.reactivex.Scheduler dispatchScheduler = clientConfig.getDispatchScheduler();
+        applicationScheduler = Schedulers.fromExecutor(dispatchScheduler::scheduleDirect, true);
     }
 
     @Override
@@ -92,7 +103,8 @@ public class MqttReactorClient implements Mqtt5ReactorClient {
     public @NotNull FluxWithSingle<Mqtt5Publish, Mqtt5SubAck> subscribePublishes(
             final @NotNull Mqtt5Subscribe subscribe, final boolean manualAcknowledgement) {
 
-        return FluxWithSingle.from(delegate.subscribePublishes(subscribe, manualAcknowledgement));
+        return new MqttSubscribedPublishFlux(MqttChecks.subscribe(subscribe), clientConfig,
+                manualAcknowledgement).publishBothOn(applicationScheduler);
     }
 
     @Override
@@ -109,7 +121,10 @@ public class MqttReactorClient implements Mqtt5ReactorClient {
     public @NotNull Flux<Mqtt5Publish> publishes(
             final @NotNull MqttGlobalPublishFilter filter, final boolean manualAcknowledgement) {
 
-        return RxJava2Adapter.flowableToFlux(delegate.publishes(filter, manualAcknowledgement));
+        Checks.notNull(filter, "Global publish filter");
+
+        return new MqttGlobalIncomingPublishFlux(filter, clientConfig, manualAcknowledgement).publishOn(
+                applicationScheduler);
     }
 
     @Override
@@ -124,7 +139,25 @@ public class MqttReactorClient implements Mqtt5ReactorClient {
 
     @Override
     public @NotNull Flux<Mqtt5PublishResult> publish(final @NotNull Publisher<Mqtt5Publish> publisher) {
-        return RxJava2Adapter.flowableToFlux(delegate.publish(Flowable.fromPublisher(publisher)));
+        Checks.notNull(publisher, "Publisher");
+
+        if (publisher instanceof Fuseable.ScalarCallable) {
+            final MqttPublish mqttPublish;
+            try {
+                //noinspection unchecked
+                final Mqtt5Publish publish = ((Fuseable.ScalarCallable<Mqtt5Publish>) publisher).call();
+                if (publish == null) {
+                    return Flux.empty();
+                }
+                mqttPublish = MqttChecks.publish(publish);
+            } catch (final Throwable t) {
+                return Flux.error(t);
+            }
+            return new MqttAckSingleFlux(clientConfig, mqttPublish).publishOn(applicationScheduler);
+        }
+        return new MqttAckFlux(clientConfig,
+                Flux.from(publisher).subscribeOn(applicationScheduler).map(MqttChecks::publish)).publishOn(
+                applicationScheduler);
     }
 
     @Override
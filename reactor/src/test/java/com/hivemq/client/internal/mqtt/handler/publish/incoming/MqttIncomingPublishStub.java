@@ -0,0 +1,129 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.incoming;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
+import com.hivemq.client.internal.mqtt.datatypes.MqttUserPropertiesImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
+import com.hivemq.client.internal.mqtt.handler.subscribe.MqttSubscriptionHandler;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribe;
+import com.hivemq.client.internal.mqtt.message.subscribe.suback.MqttSubAck;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttVersion;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.suback.Mqtt5SubAckReasonCode;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs a real incoming QoS handler on an embedded channel for tests outside of this package, as its constructor is
+ * package-private.
+ * <p>
+ * Subscriptions are registered directly and acknowledged with a SubAck without sending a Subscribe message. Tasks that
+ * the flows execute on the event loop only run on {@link #runPendingTasks()} or when a publish is received.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttIncomingPublishStub {
+
+    private final @NotNull MqttClientConfig clientConfig = mock(MqttClientConfig.class);
+    private final @NotNull EmbeddedChannel channel = new EmbeddedChannel();
+    private final @NotNull MqttIncomingPublishFlows incomingPublishFlows = new MqttIncomingPublishFlows();
+    private int nextSubscriptionIdentifier = 1;
+    private int nextPacketIdentifier = 1;
+
+    public MqttIncomingPublishStub() {
+        when(clientConfig.getAdvancedConfig()).thenReturn(MqttClientAdvancedConfig.DEFAULT);
+        when(clientConfig.getMqttVersion()).thenReturn(MqttVersion.MQTT_5_0);
+        when(clientConfig.acquireEventLoop()).thenReturn(channel.eventLoop());
+
+        final MqttIncomingQosHandler incomingQosHandler =
+                new MqttIncomingQosHandler(clientConfig, incomingPublishFlows);
+        channel.pipeline().addLast(incomingQosHandler);
+        incomingQosHandler.onSessionStartOrResume(createConnectionConfig(), channel.eventLoop());
+
+        final MqttSubscriptionHandler subscriptionHandler = mock(MqttSubscriptionHandler.class);
+        doAnswer(invocation -> {
+            subscribe(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(subscriptionHandler).subscribe(any(), any());
+        doAnswer(invocation -> {
+            final MqttGlobalIncomingPublishFlow flow = invocation.getArgument(0);
+            if (flow.init()) {
+                incomingPublishFlows.subscribeGlobal(flow);
+            }
+            return null;
+        }).when(subscriptionHandler).subscribeGlobal(any());
+
+        final ClientComponent clientComponent = mock(ClientComponent.class);
+        when(clientComponent.incomingQosHandler()).thenReturn(incomingQosHandler);
+        when(clientComponent.subscriptionHandler()).thenReturn(subscriptionHandler);
+        when(clientConfig.getClientComponent()).thenReturn(clientComponent);
+    }
+
+    private void subscribe(final @NotNull MqttSubscribe subscribe, final @NotNull MqttSubscribedPublishFlow flow) {
+        if (flow.init()) {
+            final int subscriptionIdentifier = nextSubscriptionIdentifier++;
+            final ImmutableList.Builder<Mqtt5SubAckReasonCode> reasonCodes = ImmutableList.builder();
+            for (int i = 0; i < subscribe.getSubscriptions().size(); i++) {
+                reasonCodes.add(Mqtt5SubAckReasonCode.GRANTED_QOS_2);
+            }
+            final MqttSubAck subAck =
+                    new MqttSubAck(1, reasonCodes.build(), null, MqttUserPropertiesImpl.NO_USER_PROPERTIES);
+            incomingPublishFlows.subscribe(subscribe, subscriptionIdentifier, flow);
+            incomingPublishFlows.subAck(subscribe, subscriptionIdentifier, subAck.getReasonCodes());
+            flow.onSuccess(subAck);
+        }
+    }
+
+    public @NotNull MqttClientConfig getClientConfig() {
+        return clientConfig;
+    }
+
+    public void publish(final @NotNull String topic, final @NotNull MqttQos qos) {
+        final MqttPublish publish = (MqttPublish) Mqtt5Publish.builder().topic(topic).qos(qos).build();
+        final int packetIdentifier =
+                (qos == MqttQos.AT_MOST_ONCE) ? MqttStatefulPublish.NO_PACKET_IDENTIFIER_QOS_0 : nextPacketIdentifier++;
+        channel.writeInbound(publish.createStateful(packetIdentifier, false, null));
+    }
+
+    public void runPendingTasks() {
+        channel.runPendingTasks();
+    }
+
+    public void close() {
+        channel.finishAndReleaseAll();
+    }
+
+    private @NotNull MqttClientConnectionConfig createConnectionConfig() {
+        return new MqttClientConnectionConfig(MqttClientTransportConfigImpl.DEFAULT, 10, true, true, 0, false, false,
+                null, 10, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, true, false, 10,
+                MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, MqttQos.EXACTLY_ONCE, true, true, true, true,
+                channel);
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import com.hivemq.client.mqtt.MqttClientState;
+import io.netty.channel.EventLoop;
+import io.reactivex.Flowable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Stands in for the outgoing QoS handler in tests outside of this package, as its methods are package-private.
+ * <p>
+ * Publishes added to the publish flowables are captured and can then be completed with a result. Tasks that the flows
+ * execute on the event loop are run directly on the calling thread.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttOutgoingPublishStub {
+
+    private final @NotNull MqttClientConfig clientConfig = mock(MqttClientConfig.class);
+    private final @NotNull List<MqttPublishWithFlow> publishes = new ArrayList<>();
+    private long releasedCredit;
+
+    public MqttOutgoingPublishStub() {
+        final MqttOutgoingQosHandler outgoingQosHandler = mock(MqttOutgoingQosHandler.class);
+        final MqttPublishFlowables publishFlowables = mock(MqttPublishFlowables.class);
+        when(outgoingQosHandler.getPublishFlowables()).thenReturn(publishFlowables);
+        doAnswer(invocation -> {
+            final Flowable<MqttPublishWithFlow> publishFlowable = invocation.getArgument(0);
+            publishFlowable.subscribe(publishes::add);
+            return null;
+        }).when(publishFlowables).add(any());
+        doAnswer(invocation -> {
+            releasedCredit += invocation.<Long>getArgument(0);
+            return null;
+        }).when(outgoingQosHandler).request(anyLong());
+
+        final ClientComponent clientComponent = mock(ClientComponent.class);
+        when(clientComponent.outgoingQosHandler()).thenReturn(outgoingQosHandler);
+
+        final EventLoop eventLoop = mock(EventLoop.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(eventLoop).execute(any());
+
+        when(clientConfig.getClientComponent()).thenReturn(clientComponent);
+        when(clientConfig.acquireEventLoop()).thenReturn(eventLoop);
+        when(clientConfig.getState()).thenReturn(MqttClientState.CONNECTED);
+    }
+
+    public @NotNull MqttClientConfig getClientConfig() {
+        return clientConfig;
+    }
+
+    public int getPublishCount() {
+        return publishes.size();
+    }
+
+    public @NotNull MqttPublish getPublish(final int index) {
+        return publishes.get(index).getPublish();
+    }
+
+    public @NotNull MqttPublishResult complete(final int index, final @Nullable Throwable error) {
+        final MqttPublishWithFlow publishWithFlow = publishes.get(index);
+        final MqttPublishResult result = new MqttPublishResult(publishWithFlow.getPublish(), error);
+        publishWithFlow.getAckFlow().onNext(result);
+        return result;
+    }
+
+    public long getReleasedCredit() {
+        return releasedCredit;
+    }
+}
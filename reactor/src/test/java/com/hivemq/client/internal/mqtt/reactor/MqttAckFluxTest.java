@@ -0,0 +1,122 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.reactor;
+
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttOutgoingPublishStub;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.exceptions.MqttClientStateException;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+import reactor.test.publisher.TestPublisher;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttAckFluxTest {
+
+    private final MqttOutgoingPublishStub outgoing = new MqttOutgoingPublishStub();
+    private final MqttPublish publish1 = createPublish("test/1");
+    private final MqttPublish publish2 = createPublish("test/2");
+
+    @Test
+    void subscribe_emitsResultsAndCompletes() {
+        final Exception exception = new Exception("test");
+
+        StepVerifier.create(new MqttAckFlux(outgoing.getClientConfig(), Flux.just(publish1, publish2)))
+                .then(() -> {
+                    assertEquals(2, outgoing.getPublishCount());
+                    assertSame(publish1, outgoing.getPublish(0));
+                    assertSame(publish2, outgoing.getPublish(1));
+                    outgoing.complete(0, null);
+                    outgoing.complete(1, exception);
+                })
+                .assertNext(result -> {
+                    assertSame(publish1, result.getPublish());
+                    assertFalse(result.getError().isPresent());
+                })
+                .assertNext(result -> {
+                    assertSame(publish2, result.getPublish());
+                    assertSame(exception, result.getError().orElse(null));
+                })
+                .expectComplete()
+                .verify();
+
+        assertEquals(2, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_limitedDemand_emitsOnlyRequestedResults() {
+        StepVerifier.create(new MqttAckFlux(outgoing.getClientConfig(), Flux.just(publish1, publish2)), 1)
+                .then(() -> {
+                    outgoing.complete(0, null);
+                    outgoing.complete(1, null);
+                })
+                .assertNext(result -> assertSame(publish1, result.getPublish()))
+                .expectNoEvent(Duration.ofMillis(10))
+                // the credit of a result is only released after the result was emitted
+                .then(() -> assertEquals(1, outgoing.getReleasedCredit()))
+                .thenRequest(1)
+                .assertNext(result -> assertSame(publish2, result.getPublish()))
+                .expectComplete()
+                .verify();
+
+        assertEquals(2, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_cancel_cancelsPublishes() {
+        final TestPublisher<MqttPublish> publisher = TestPublisher.create();
+
+        StepVerifier.create(new MqttAckFlux(outgoing.getClientConfig(), publisher.flux()))
+                .then(() -> {
+                    publisher.next(publish1);
+                    outgoing.complete(0, null);
+                })
+                .assertNext(result -> assertSame(publish1, result.getPublish()))
+                .thenCancel()
+                .verify();
+
+        publisher.assertCancelled();
+        assertEquals(1, outgoing.getPublishCount());
+        assertEquals(1, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_notConnected_emitsError() {
+        when(outgoing.getClientConfig().getState()).thenReturn(MqttClientState.DISCONNECTED);
+
+        StepVerifier.create(new MqttAckFlux(outgoing.getClientConfig(), Flux.just(publish1)))
+                .expectError(MqttClientStateException.class)
+                .verify();
+
+        assertEquals(0, outgoing.getPublishCount());
+    }
+
+    private static @NotNull MqttPublish createPublish(final @NotNull String topic) {
+        return (MqttPublish) Mqtt5Publish.builder().topic(topic).build();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.reactor;
+
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttOutgoingPublishStub;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.exceptions.MqttClientStateException;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttAckSingleFluxTest {
+
+    private final MqttOutgoingPublishStub outgoing = new MqttOutgoingPublishStub();
+    private final MqttPublish publish = (MqttPublish) Mqtt5Publish.builder().topic("test").build();
+
+    @Test
+    void subscribe_emitsResultAndCompletes() {
+        StepVerifier.create(new MqttAckSingleFlux(outgoing.getClientConfig(), publish))
+                .then(() -> {
+                    assertEquals(1, outgoing.getPublishCount());
+                    assertSame(publish, outgoing.getPublish(0));
+                    outgoing.complete(0, null);
+                })
+                .assertNext(result -> {
+                    assertSame(publish, result.getPublish());
+                    assertFalse(result.getError().isPresent());
+                })
+                .expectComplete()
+                .verify();
+
+        assertEquals(1, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_error_emitsResultWithError() {
+        final Exception exception = new Exception("test");
+
+        StepVerifier.create(new MqttAckSingleFlux(outgoing.getClientConfig(), publish))
+                .then(() -> outgoing.complete(0, exception))
+                .assertNext(result -> assertSame(exception, result.getError().orElse(null)))
+                .expectComplete()
+                .verify();
+
+        assertEquals(1, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_withoutDemand_emitsResultWhenRequested() {
+        StepVerifier.create(new MqttAckSingleFlux(outgoing.getClientConfig(), publish), 0)
+                .expectSubscription()
+                .then(() -> outgoing.complete(0, null))
+                .expectNoEvent(Duration.ofMillis(10))
+                .then(() -> assertEquals(0, outgoing.getReleasedCredit()))
+                .thenRequest(1)
+                .assertNext(result -> assertSame(publish, result.getPublish()))
+                .expectComplete()
+                .verify();
+
+        assertEquals(1, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_cancelBeforeResult_releasesCredit() {
+        StepVerifier.create(new MqttAckSingleFlux(outgoing.getClientConfig(), publish))
+                .expectSubscription()
+                .thenCancel()
+                .verify();
+
+        outgoing.complete(0, null);
+        assertEquals(1, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_cancelWithPendingResult_releasesCredit() {
+        StepVerifier.create(new MqttAckSingleFlux(outgoing.getClientConfig(), publish), 0)
+                .expectSubscription()
+                .then(() -> outgoing.complete(0, null))
+                .thenCancel()
+                .verify();
+
+        assertEquals(1, outgoing.getReleasedCredit());
+    }
+
+    @Test
+    void subscribe_notConnected_emitsError() {
+        when(outgoing.getClientConfig().getState()).thenReturn(MqttClientState.DISCONNECTED);
+
+        StepVerifier.create(new MqttAckSingleFlux(outgoing.getClientConfig(), publish))
+                .expectError(MqttClientStateException.class)
+                .verify();
+
+        assertEquals(0, outgoing.getPublishCount());
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.reactor;
+
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttIncomingPublishStub;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttGlobalIncomingPublishFluxTest {
+
+    private final MqttIncomingPublishStub incoming = new MqttIncomingPublishStub();
+
+    @AfterEach
+    void tearDown() {
+        incoming.close();
+    }
+
+    @Test
+    void subscribe_emitsPublishes() {
+        StepVerifier.create(new MqttGlobalIncomingPublishFlux(MqttGlobalPublishFilter.ALL,
+                incoming.getClientConfig(), false))
+                .then(() -> {
+                    incoming.publish("test/1", MqttQos.AT_MOST_ONCE);
+                    incoming.publish("test/2", MqttQos.AT_LEAST_ONCE);
+                    incoming.publish("test/3", MqttQos.EXACTLY_ONCE);
+                })
+                .assertNext(publish -> assertEquals("test/1", publish.getTopic().toString()))
+                .assertNext(publish -> assertEquals("test/2", publish.getTopic().toString()))
+                .assertNext(publish -> assertEquals("test/3", publish.getTopic().toString()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_limitedDemand_emitsOnlyRequestedPublishes() {
+        StepVerifier.create(new MqttGlobalIncomingPublishFlux(MqttGlobalPublishFilter.ALL,
+                incoming.getClientConfig(), false), 1)
+                .then(() -> {
+                    incoming.publish("test/1", MqttQos.AT_LEAST_ONCE);
+                    incoming.publish("test/2", MqttQos.AT_LEAST_ONCE);
+                })
+                .assertNext(publish -> assertEquals("test/1", publish.getTopic().toString()))
+                .expectNoEvent(Duration.ofMillis(10))
+                .thenRequest(1)
+                .then(incoming::runPendingTasks)
+                .assertNext(publish -> assertEquals("test/2", publish.getTopic().toString()))
+                .thenCancel()
+                .verify();
+    }
+
+    @Test
+    void subscribe_cancel_doesNotBlockOtherFlows() {
+        StepVerifier.create(new MqttGlobalIncomingPublishFlux(MqttGlobalPublishFilter.ALL,
+                incoming.getClientConfig(), false), 0)
+                .expectSubscription()
+                .then(() -> incoming.publish("test/1", MqttQos.AT_LEAST_ONCE))
+                .thenCancel()
+                .verify();
+        incoming.runPendingTasks();
+
+        // the publish queued for the cancelled flow must not hold back the publishes for another flow
+        StepVerifier.create(new MqttGlobalIncomingPublishFlux(MqttGlobalPublishFilter.ALL,
+                incoming.getClientConfig(), false))
+                .then(() -> incoming.publish("test/2", MqttQos.AT_LEAST_ONCE))
+                .assertNext(publish -> assertEquals("test/2", publish.getTopic().toString()))
+                .thenCancel()
+                .verify(Duration.ofSeconds(1));
+    }
+}
@@ -22,7 +22,7 @@ dependencyResolutionManagement {
     }
 }
 
-for (module in listOf("websocket", "proxy", "epoll", "reactor", "examples")) {
+for (module in listOf("websocket", "proxy", "epoll", "io_uring", "reactor", "flow", "examples")) {
     include("${rootProject.name}-$module")
     project(":${rootProject.name}-$module").projectDir = file(module)
 }
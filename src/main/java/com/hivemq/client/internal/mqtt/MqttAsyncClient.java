@@ -16,6 +16,8 @@
 
 package com.hivemq.client.internal.mqtt;
 
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttAckCallback;
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttAckFuture;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnectBuilder;
 import com.hivemq.client.internal.mqtt.message.disconnect.MqttDisconnect;
@@ -48,6 +50,7 @@ import org.reactivestreams.Subscription;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -240,7 +243,31 @@ public class MqttAsyncClient implements Mqtt5AsyncClient {
     public @NotNull CompletableFuture<@NotNull Mqtt5PublishResult> publish(final @Nullable Mqtt5Publish publish) {
         final MqttPublish mqttPublish = MqttChecks.publish(publish);
 
-        return RxFutureConverter.toFuture(delegate.publish(mqttPublish));
+        return MqttAckFuture.publish(delegate.getConfig(), mqttPublish);
+    }
+
+    @Override
+    public void publish(
+            final @Nullable Mqtt5Publish publish,
+            final @Nullable BiConsumer<? super Mqtt5PublishResult, ? super Throwable> callback) {
+
+        final MqttPublish mqttPublish = MqttChecks.publish(publish);
+        Checks.notNull(callback, "Callback");
+
+        MqttAckCallback.publish(delegate.getConfig(), mqttPublish, callback, null);
+    }
+
+    @Override
+    public void publish(
+            final @Nullable Mqtt5Publish publish,
+            final @Nullable BiConsumer<? super Mqtt5PublishResult, ? super Throwable> callback,
+            final @Nullable Executor executor) {
+
+        final MqttPublish mqttPublish = MqttChecks.publish(publish);
+        Checks.notNull(callback, "Callback");
+        Checks.notNull(executor, "Executor");
+
+        MqttAckCallback.publish(delegate.getConfig(), mqttPublish, callback, executor);
     }
 
     @Override
@@ -18,13 +18,19 @@ package com.hivemq.client.internal.mqtt;
 
 import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
 import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
+import com.hivemq.client.internal.mqtt.handler.connect.MqttEndpointHealth;
+import com.hivemq.client.internal.mqtt.handler.connect.MqttStandbyConnection;
 import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
 import com.hivemq.client.internal.mqtt.ioc.SingletonComponent;
 import com.hivemq.client.internal.mqtt.message.auth.MqttSimpleAuth;
 import com.hivemq.client.internal.mqtt.message.publish.MqttWillPublish;
+import com.hivemq.client.internal.netty.NettyBufferMetrics;
+import com.hivemq.client.internal.netty.NettyByteBufAllocatorProvider;
 import com.hivemq.client.internal.netty.NettyEventLoopProvider;
+import com.hivemq.client.internal.rx.BatchingScheduler;
 import com.hivemq.client.internal.util.ExecutorUtil;
 import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttClientEventLoopMetrics;
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.MqttVersion;
 import com.hivemq.client.mqtt.datatypes.MqttClientIdentifier;
@@ -33,14 +39,19 @@ import com.hivemq.client.mqtt.lifecycle.MqttClientConnectedListener;
 import com.hivemq.client.mqtt.lifecycle.MqttClientDisconnectedListener;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5ClientConfig;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5ClientConnectionConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5SendWindowMetrics;
 import com.hivemq.client.mqtt.mqtt5.auth.Mqtt5EnhancedAuthMechanism;
 import com.hivemq.client.mqtt.mqtt5.message.auth.Mqtt5SimpleAuth;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5WillPublish;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.EventLoop;
 import io.netty.handler.ssl.SslContext;
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.InetSocketAddress;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -59,6 +70,10 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
     private final @NotNull ImmutableList<MqttClientDisconnectedListener> disconnectedListeners;
 
     private final @NotNull ClientComponent clientComponent;
+    private volatile @NotNull NettyEventLoopProvider eventLoopProvider;
+    private final @NotNull ByteBufAllocator byteBufAllocator;
+    private final @NotNull NettyBufferMetrics bufferMetrics;
+    private final @NotNull Scheduler dispatchScheduler;
 
     private volatile @Nullable EventLoop eventLoop;
     private int eventLoopAcquires;
@@ -66,7 +81,10 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
 
     private final @NotNull AtomicReference<@NotNull MqttClientState> state;
     private volatile @Nullable MqttClientConnectionConfig connectionConfig;
-    private @NotNull MqttClientTransportConfigImpl currentTransportConfig;
+    private volatile @NotNull MqttClientTransportConfigImpl currentTransportConfig;
+    private @NotNull InetSocketAddress currentServerAddress;
+    private @Nullable MqttEndpointHealth endpointHealth;
+    private @Nullable MqttStandbyConnection standbyConnection;
     private @Nullable SslContext currentSslContext;
     private boolean resubscribeIfSessionExpired;
     private boolean republishIfSessionExpired;
@@ -90,10 +108,25 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
         this.connectedListeners = connectedListeners;
         this.disconnectedListeners = disconnectedListeners;
 
+        eventLoopProvider = NettyEventLoopProvider.of(transportConfig);
         clientComponent = SingletonComponent.INSTANCE.clientComponentBuilder().clientConfig(this).build();
+        byteBufAllocator = NettyByteBufAllocatorProvider.INSTANCE.getAllocator(
+                executorConfig.getRawNettyBufferArenas(), executorConfig.isNettyDirectBuffers());
+        bufferMetrics = new NettyBufferMetrics(byteBufAllocator);
+        switch (executorConfig.getApplicationDispatch()) {
+            case BATCHED:
+                dispatchScheduler = new BatchingScheduler(executorConfig.getApplicationScheduler());
+                break;
+            case EVENT_LOOP:
+                dispatchScheduler = Schedulers.trampoline();
+                break;
+            default:
+                dispatchScheduler = executorConfig.getApplicationScheduler();
+        }
 
         state = new AtomicReference<>(MqttClientState.DISCONNECTED);
         currentTransportConfig = transportConfig;
+        currentServerAddress = transportConfig.getServerAddress();
     }
 
     @Override
@@ -125,11 +158,38 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
         return executorConfig;
     }
 
+    @Override
+    public @NotNull NettyBufferMetrics getBufferMetrics() {
+        return bufferMetrics;
+    }
+
+    @Override
+    public @NotNull ImmutableList<MqttClientEventLoopMetrics> getEventLoopMetrics() {
+        return eventLoopProvider.getEventLoopMetrics(executorConfig.getRawNettyExecutor());
+    }
+
+    public @NotNull ByteBufAllocator getByteBufAllocator() {
+        return byteBufAllocator;
+    }
+
+    /**
+     * @return the scheduler that hands off results and messages to application specific code according to the
+     *         application dispatch strategy of the executor configuration.
+     */
+    public @NotNull Scheduler getDispatchScheduler() {
+        return dispatchScheduler;
+    }
+
     @Override
     public @NotNull MqttClientAdvancedConfig getAdvancedConfig() {
         return advancedConfig;
     }
 
+    @Override
+    public @NotNull Optional<Mqtt5SendWindowMetrics> getSendWindowMetrics() {
+        return Optional.ofNullable(clientComponent.outgoingQosHandler().getSendWindow());
+    }
+
     @Override
     public @NotNull Optional<Mqtt5SimpleAuth> getSimpleAuth() {
         return Optional.ofNullable(connectDefaults.simpleAuth);
@@ -173,15 +233,25 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
         return clientComponent;
     }
 
+    /**
+     * @return the event loop provider of the current event loop of this client. It is chosen for the current transport
+     *         configuration whenever the event loop is acquired while not held, as the event loop and the channels of a
+     *         client must match.
+     */
+    public @NotNull NettyEventLoopProvider getEventLoopProvider() {
+        return eventLoopProvider;
+    }
+
     public @NotNull EventLoop acquireEventLoop() {
         synchronized (state) {
             eventLoopAcquires++;
             eventLoopAcquireCount++;
             EventLoop eventLoop = this.eventLoop;
             if (eventLoop == null) {
-                this.eventLoop = eventLoop =
-                        NettyEventLoopProvider.INSTANCE.acquireEventLoop(executorConfig.getRawNettyExecutor(),
-                                executorConfig.getRawNettyThreads());
+                final NettyEventLoopProvider eventLoopProvider = NettyEventLoopProvider.of(currentTransportConfig);
+                this.eventLoopProvider = eventLoopProvider;
+                this.eventLoop = eventLoop = eventLoopProvider.acquireEventLoop(executorConfig.getRawNettyExecutor(),
+                        executorConfig.getRawNettyThreads(), executorConfig.getNettyEventLoopAssignment());
             }
             return eventLoop;
         }
@@ -192,13 +262,14 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
             if (--eventLoopAcquires == 0) {
                 final EventLoop eventLoop = this.eventLoop;
                 final long eventLoopAcquireCount = this.eventLoopAcquireCount;
+                final NettyEventLoopProvider eventLoopProvider = this.eventLoopProvider;
                 assert eventLoop != null : "eventLoopAcquires was > 0 -> eventLoop != null";
                 eventLoop.execute(() -> { // release eventLoop after all tasks are finished
                     synchronized (state) {
                         if (eventLoopAcquireCount == this.eventLoopAcquireCount) { // eventLoop has not been reacquired
                             this.eventLoop = null;
                             // releaseEventLoop must be the last statement so everything is cleaned up even if it throws
-                            NettyEventLoopProvider.INSTANCE.releaseEventLoop(executorConfig.getRawNettyExecutor());
+                            eventLoopProvider.releaseEventLoop(executorConfig.getRawNettyExecutor(), eventLoop);
                         }
                     }
                 });
@@ -247,6 +318,32 @@ public class MqttClientConfig implements Mqtt5ClientConfig {
         }
     }
 
+    public @NotNull InetSocketAddress getCurrentServerAddress() {
+        return currentServerAddress;
+    }
+
+    public void setCurrentServerAddress(final @NotNull InetSocketAddress currentServerAddress) {
+        this.currentServerAddress = currentServerAddress;
+    }
+
+    public @NotNull MqttEndpointHealth getEndpointHealth() {
+        if (endpointHealth == null) {
+            endpointHealth = new MqttEndpointHealth();
+        }
+        return endpointHealth;
+    }
+
+    public @NotNull MqttStandbyConnection getStandbyConnection() {
+        if (standbyConnection == null) {
+            standbyConnection = new MqttStandbyConnection(this);
+        }
+        return standbyConnection;
+    }
+
+    public @Nullable MqttStandbyConnection getRawStandbyConnection() {
+        return standbyConnection;
+    }
+
     public @Nullable SslContext getCurrentSslContext() {
         return currentSslContext;
     }
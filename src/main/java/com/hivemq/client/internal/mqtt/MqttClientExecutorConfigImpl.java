@@ -16,7 +16,9 @@
 
 package com.hivemq.client.internal.mqtt;
 
+import com.hivemq.client.mqtt.MqttApplicationDispatch;
 import com.hivemq.client.mqtt.MqttClientExecutorConfig;
+import com.hivemq.client.mqtt.MqttEventLoopAssignment;
 import io.reactivex.Scheduler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -32,21 +34,41 @@ import java.util.concurrent.Executor;
 public class MqttClientExecutorConfigImpl implements MqttClientExecutorConfig {
 
     public static final int DEFAULT_NETTY_THREADS = 0;
+    public static final int DEFAULT_NETTY_BUFFER_ARENAS = 0;
+    public static final boolean DEFAULT_NETTY_DIRECT_BUFFERS = true;
+    public static final boolean DEFAULT_NETTY_TIMING_WHEEL = false;
     public static final @NotNull MqttClientExecutorConfigImpl DEFAULT =
-            new MqttClientExecutorConfigImpl(null, DEFAULT_NETTY_THREADS, DEFAULT_APPLICATION_SCHEDULER);
+            new MqttClientExecutorConfigImpl(null, DEFAULT_NETTY_THREADS, DEFAULT_APPLICATION_SCHEDULER,
+                    DEFAULT_NETTY_BUFFER_ARENAS, DEFAULT_NETTY_DIRECT_BUFFERS, DEFAULT_NETTY_EVENT_LOOP_ASSIGNMENT,
+                    DEFAULT_NETTY_TIMING_WHEEL, DEFAULT_APPLICATION_DISPATCH);
 
     private final @Nullable Executor nettyExecutor;
     private final int nettyThreads;
     private final @NotNull Scheduler applicationScheduler;
+    private final int nettyBufferArenas;
+    private final boolean nettyDirectBuffers;
+    private final @NotNull MqttEventLoopAssignment nettyEventLoopAssignment;
+    private final boolean nettyTimingWheel;
+    private final @NotNull MqttApplicationDispatch applicationDispatch;
 
     MqttClientExecutorConfigImpl(
             final @Nullable Executor nettyExecutor,
             final int nettyThreads,
-            final @NotNull Scheduler applicationScheduler) {
+            final @NotNull Scheduler applicationScheduler,
+            final int nettyBufferArenas,
+            final boolean nettyDirectBuffers,
+            final @NotNull MqttEventLoopAssignment nettyEventLoopAssignment,
+            final boolean nettyTimingWheel,
+            final @NotNull MqttApplicationDispatch applicationDispatch) {
 
         this.nettyExecutor = nettyExecutor;
         this.nettyThreads = nettyThreads;
         this.applicationScheduler = applicationScheduler;
+        this.nettyBufferArenas = nettyBufferArenas;
+        this.nettyDirectBuffers = nettyDirectBuffers;
+        this.nettyEventLoopAssignment = nettyEventLoopAssignment;
+        this.nettyTimingWheel = nettyTimingWheel;
+        this.applicationDispatch = applicationDispatch;
     }
 
     @Override
@@ -72,6 +94,36 @@ public class MqttClientExecutorConfigImpl implements MqttClientExecutorConfig {
         return applicationScheduler;
     }
 
+    @Override
+    public @NotNull OptionalInt getNettyBufferArenas() {
+        return (nettyBufferArenas == DEFAULT_NETTY_BUFFER_ARENAS) ? OptionalInt.empty() :
+                OptionalInt.of(nettyBufferArenas);
+    }
+
+    public int getRawNettyBufferArenas() {
+        return nettyBufferArenas;
+    }
+
+    @Override
+    public boolean isNettyDirectBuffers() {
+        return nettyDirectBuffers;
+    }
+
+    @Override
+    public @NotNull MqttEventLoopAssignment getNettyEventLoopAssignment() {
+        return nettyEventLoopAssignment;
+    }
+
+    @Override
+    public boolean isNettyTimingWheel() {
+        return nettyTimingWheel;
+    }
+
+    @Override
+    public @NotNull MqttApplicationDispatch getApplicationDispatch() {
+        return applicationDispatch;
+    }
+
     @Override
     public MqttClientExecutorConfigImplBuilder.@NotNull Default extend() {
         return new MqttClientExecutorConfigImplBuilder.Default(this);
@@ -88,7 +140,10 @@ public class MqttClientExecutorConfigImpl implements MqttClientExecutorConfig {
         final MqttClientExecutorConfigImpl that = (MqttClientExecutorConfigImpl) o;
 
         return Objects.equals(nettyExecutor, that.nettyExecutor) && (nettyThreads == that.nettyThreads) &&
-                applicationScheduler.equals(that.applicationScheduler);
+                applicationScheduler.equals(that.applicationScheduler) &&
+                (nettyBufferArenas == that.nettyBufferArenas) && (nettyDirectBuffers == that.nettyDirectBuffers) &&
+                (nettyEventLoopAssignment == that.nettyEventLoopAssignment) &&
+                (nettyTimingWheel == that.nettyTimingWheel) && (applicationDispatch == that.applicationDispatch);
     }
 
     @Override
@@ -96,6 +151,11 @@ public class MqttClientExecutorConfigImpl implements MqttClientExecutorConfig {
         int result = Objects.hashCode(nettyExecutor);
         result = 31 * result + nettyThreads;
         result = 31 * result + applicationScheduler.hashCode();
+        result = 31 * result + nettyBufferArenas;
+        result = 31 * result + Boolean.hashCode(nettyDirectBuffers);
+        result = 31 * result + nettyEventLoopAssignment.hashCode();
+        result = 31 * result + Boolean.hashCode(nettyTimingWheel);
+        result = 31 * result + applicationDispatch.hashCode();
         return result;
     }
 }
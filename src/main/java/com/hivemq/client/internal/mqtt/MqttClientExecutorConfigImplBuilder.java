@@ -17,7 +17,9 @@
 package com.hivemq.client.internal.mqtt;
 
 import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.mqtt.MqttApplicationDispatch;
 import com.hivemq.client.mqtt.MqttClientExecutorConfigBuilder;
+import com.hivemq.client.mqtt.MqttEventLoopAssignment;
 import io.reactivex.Scheduler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -33,6 +35,13 @@ public abstract class MqttClientExecutorConfigImplBuilder<B extends MqttClientEx
     private @Nullable Executor nettyExecutor;
     private int nettyThreads = MqttClientExecutorConfigImpl.DEFAULT_NETTY_THREADS;
     private @NotNull Scheduler applicationScheduler = MqttClientExecutorConfigImpl.DEFAULT_APPLICATION_SCHEDULER;
+    private int nettyBufferArenas = MqttClientExecutorConfigImpl.DEFAULT_NETTY_BUFFER_ARENAS;
+    private boolean nettyDirectBuffers = MqttClientExecutorConfigImpl.DEFAULT_NETTY_DIRECT_BUFFERS;
+    private @NotNull MqttEventLoopAssignment nettyEventLoopAssignment =
+            MqttClientExecutorConfigImpl.DEFAULT_NETTY_EVENT_LOOP_ASSIGNMENT;
+    private boolean nettyTimingWheel = MqttClientExecutorConfigImpl.DEFAULT_NETTY_TIMING_WHEEL;
+    private @NotNull MqttApplicationDispatch applicationDispatch =
+            MqttClientExecutorConfigImpl.DEFAULT_APPLICATION_DISPATCH;
 
     MqttClientExecutorConfigImplBuilder() {}
 
@@ -40,6 +49,11 @@ public abstract class MqttClientExecutorConfigImplBuilder<B extends MqttClientEx
         nettyExecutor = executorConfig.getRawNettyExecutor();
         nettyThreads = executorConfig.getRawNettyThreads();
         applicationScheduler = executorConfig.getApplicationScheduler();
+        nettyBufferArenas = executorConfig.getRawNettyBufferArenas();
+        nettyDirectBuffers = executorConfig.isNettyDirectBuffers();
+        nettyEventLoopAssignment = executorConfig.getNettyEventLoopAssignment();
+        nettyTimingWheel = executorConfig.isNettyTimingWheel();
+        applicationDispatch = executorConfig.getApplicationDispatch();
     }
 
     abstract @NotNull B self();
@@ -63,8 +77,38 @@ public abstract class MqttClientExecutorConfigImplBuilder<B extends MqttClientEx
         return self();
     }
 
+    public @NotNull B nettyBufferArenas(final int nettyBufferArenas) {
+        if (nettyBufferArenas <= 0) {
+            throw new IllegalArgumentException(
+                    "Number of Netty buffer arenas must be greater than 0. Found: " + nettyBufferArenas);
+        }
+        this.nettyBufferArenas = nettyBufferArenas;
+        return self();
+    }
+
+    public @NotNull B nettyDirectBuffers(final boolean nettyDirectBuffers) {
+        this.nettyDirectBuffers = nettyDirectBuffers;
+        return self();
+    }
+
+    public @NotNull B nettyEventLoopAssignment(final @Nullable MqttEventLoopAssignment nettyEventLoopAssignment) {
+        this.nettyEventLoopAssignment = Checks.notNull(nettyEventLoopAssignment, "Netty event loop assignment");
+        return self();
+    }
+
+    public @NotNull B nettyTimingWheel(final boolean nettyTimingWheel) {
+        this.nettyTimingWheel = nettyTimingWheel;
+        return self();
+    }
+
+    public @NotNull B applicationDispatch(final @Nullable MqttApplicationDispatch applicationDispatch) {
+        this.applicationDispatch = Checks.notNull(applicationDispatch, "Application dispatch");
+        return self();
+    }
+
     public @NotNull MqttClientExecutorConfigImpl build() {
-        return new MqttClientExecutorConfigImpl(nettyExecutor, nettyThreads, applicationScheduler);
+        return new MqttClientExecutorConfigImpl(nettyExecutor, nettyThreads, applicationScheduler, nettyBufferArenas,
+                nettyDirectBuffers, nettyEventLoopAssignment, nettyTimingWheel, applicationDispatch);
     }
 
     public static class Default extends MqttClientExecutorConfigImplBuilder<Default>
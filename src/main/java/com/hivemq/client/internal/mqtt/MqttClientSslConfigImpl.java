@@ -46,7 +46,7 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
 
     static final @NotNull MqttClientSslConfigImpl DEFAULT =
             new MqttClientSslConfigImpl(null, null, null, null, (int) DEFAULT_HANDSHAKE_TIMEOUT_MS,
-                    DEFAULT_HOSTNAME_VERIFIER);
+                    DEFAULT_HOSTNAME_VERIFIER, false);
 
     private final @Nullable KeyManagerFactory keyManagerFactory;
     private final @Nullable TrustManagerFactory trustManagerFactory;
@@ -54,6 +54,7 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
     private final @Nullable ImmutableList<String> protocols;
     private final int handshakeTimeoutMs;
     private final @Nullable HostnameVerifier hostnameVerifier;
+    private final boolean openSslPreferred;
 
     MqttClientSslConfigImpl(
             final @Nullable KeyManagerFactory keyManagerFactory,
@@ -61,7 +62,8 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
             final @Nullable ImmutableList<String> cipherSuites,
             final @Nullable ImmutableList<String> protocols,
             final int handshakeTimeoutMs,
-            final @Nullable HostnameVerifier hostnameVerifier) {
+            final @Nullable HostnameVerifier hostnameVerifier,
+            final boolean openSslPreferred) {
 
         this.keyManagerFactory = keyManagerFactory;
         this.trustManagerFactory = trustManagerFactory;
@@ -69,6 +71,7 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
         this.protocols = protocols;
         this.handshakeTimeoutMs = handshakeTimeoutMs;
         this.hostnameVerifier = hostnameVerifier;
+        this.openSslPreferred = openSslPreferred;
     }
 
     @Override
@@ -121,6 +124,11 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
         return hostnameVerifier;
     }
 
+    @Override
+    public boolean isOpenSslPreferred() {
+        return openSslPreferred;
+    }
+
     @Override
     public MqttClientSslConfigImplBuilder.@NotNull Default extend() {
         return new MqttClientSslConfigImplBuilder.Default(this);
@@ -140,7 +148,7 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
                 Objects.equals(trustManagerFactory, that.trustManagerFactory) &&
                 Objects.equals(cipherSuites, that.cipherSuites) && Objects.equals(protocols, that.protocols) &&
                 (handshakeTimeoutMs == that.handshakeTimeoutMs) &&
-                Objects.equals(hostnameVerifier, that.hostnameVerifier);
+                Objects.equals(hostnameVerifier, that.hostnameVerifier) && (openSslPreferred == that.openSslPreferred);
     }
 
     @Override
@@ -151,6 +159,7 @@ public class MqttClientSslConfigImpl implements MqttClientSslConfig {
         result = 31 * result + Objects.hashCode(protocols);
         result = 31 * result + Integer.hashCode(handshakeTimeoutMs);
         result = 31 * result + Objects.hashCode(hostnameVerifier);
+        result = 31 * result + Boolean.hashCode(openSslPreferred);
         return result;
     }
 }
@@ -17,6 +17,7 @@
 package com.hivemq.client.internal.mqtt;
 
 import com.hivemq.client.internal.util.InetSocketAddressUtil;
+import com.hivemq.client.internal.util.collections.ImmutableList;
 import com.hivemq.client.mqtt.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -31,33 +32,53 @@ import java.util.Optional;
 public class MqttClientTransportConfigImpl implements MqttClientTransportConfig {
 
     public static final @NotNull MqttClientTransportConfigImpl DEFAULT = new MqttClientTransportConfigImpl(
-            InetSocketAddressUtil.create(MqttClient.DEFAULT_SERVER_HOST, MqttClient.DEFAULT_SERVER_PORT), null, null,
-            null, null, DEFAULT_SOCKET_CONNECT_TIMEOUT_MS, DEFAULT_MQTT_CONNECT_TIMEOUT_MS);
+            InetSocketAddressUtil.create(MqttClient.DEFAULT_SERVER_HOST, MqttClient.DEFAULT_SERVER_PORT),
+            ImmutableList.of(), null, null, null, null, null, null, MqttSocketConfigImpl.DEFAULT,
+            DEFAULT_SOCKET_CONNECT_TIMEOUT_MS, DEFAULT_CONNECT_ATTEMPT_DELAY_MS, DEFAULT_MQTT_CONNECT_TIMEOUT_MS,
+            DEFAULT_CONNECT_PIPELINING);
 
     private final @NotNull InetSocketAddress serverAddress;
+    private final @NotNull ImmutableList<InetSocketAddress> additionalServerAddresses;
+    private final @Nullable InetSocketAddress standbyServerAddress;
     private final @Nullable InetSocketAddress localAddress;
+    private final @Nullable String unixDomainSocketPath;
     private final @Nullable MqttClientSslConfigImpl sslConfig;
     private final @Nullable MqttWebSocketConfigImpl webSocketConfig;
     private final @Nullable MqttProxyConfigImpl proxyConfig;
+    private final @NotNull MqttSocketConfigImpl socketConfig;
     private final int socketConnectTimeoutMs;
+    private final int connectAttemptDelayMs;
     private final int mqttConnectTimeoutMs;
+    private final boolean connectPipelining;
 
     MqttClientTransportConfigImpl(
             final @NotNull InetSocketAddress serverAddress,
+            final @NotNull ImmutableList<InetSocketAddress> additionalServerAddresses,
+            final @Nullable InetSocketAddress standbyServerAddress,
             final @Nullable InetSocketAddress localAddress,
+            final @Nullable String unixDomainSocketPath,
             final @Nullable MqttClientSslConfigImpl sslConfig,
             final @Nullable MqttWebSocketConfigImpl webSocketConfig,
             final @Nullable MqttProxyConfigImpl proxyConfig,
+            final @NotNull MqttSocketConfigImpl socketConfig,
             final int socketConnectTimeoutMs,
-            final int mqttConnectTimeoutMs) {
+            final int connectAttemptDelayMs,
+            final int mqttConnectTimeoutMs,
+            final boolean connectPipelining) {
 
         this.serverAddress = serverAddress;
+        this.additionalServerAddresses = additionalServerAddresses;
+        this.standbyServerAddress = standbyServerAddress;
         this.localAddress = localAddress;
+        this.unixDomainSocketPath = unixDomainSocketPath;
         this.sslConfig = sslConfig;
         this.webSocketConfig = webSocketConfig;
         this.proxyConfig = proxyConfig;
+        this.socketConfig = socketConfig;
         this.socketConnectTimeoutMs = socketConnectTimeoutMs;
+        this.connectAttemptDelayMs = connectAttemptDelayMs;
         this.mqttConnectTimeoutMs = mqttConnectTimeoutMs;
+        this.connectPipelining = connectPipelining;
     }
 
     @Override
@@ -65,6 +86,20 @@ public class MqttClientTransportConfigImpl implements MqttClientTransportConfig
         return serverAddress;
     }
 
+    @Override
+    public @NotNull ImmutableList<InetSocketAddress> getAdditionalServerAddresses() {
+        return additionalServerAddresses;
+    }
+
+    @Override
+    public @NotNull Optional<InetSocketAddress> getStandbyServerAddress() {
+        return Optional.ofNullable(standbyServerAddress);
+    }
+
+    public @Nullable InetSocketAddress getRawStandbyServerAddress() {
+        return standbyServerAddress;
+    }
+
     public @NotNull InetSocketAddress getRemoteAddress() {
         return (proxyConfig == null) ? serverAddress : proxyConfig.getAddress();
     }
@@ -78,6 +113,15 @@ public class MqttClientTransportConfigImpl implements MqttClientTransportConfig
         return localAddress;
     }
 
+    @Override
+    public @NotNull Optional<String> getUnixDomainSocketPath() {
+        return Optional.ofNullable(unixDomainSocketPath);
+    }
+
+    public @Nullable String getRawUnixDomainSocketPath() {
+        return unixDomainSocketPath;
+    }
+
     @Override
     public @NotNull Optional<MqttClientSslConfig> getSslConfig() {
         return Optional.ofNullable(sslConfig);
@@ -105,16 +149,31 @@ public class MqttClientTransportConfigImpl implements MqttClientTransportConfig
         return proxyConfig;
     }
 
+    @Override
+    public @NotNull MqttSocketConfigImpl getSocketConfig() {
+        return socketConfig;
+    }
+
     @Override
     public int getSocketConnectTimeoutMs() {
         return socketConnectTimeoutMs;
     }
 
+    @Override
+    public int getConnectAttemptDelayMs() {
+        return connectAttemptDelayMs;
+    }
+
     @Override
     public int getMqttConnectTimeoutMs() {
         return mqttConnectTimeoutMs;
     }
 
+    @Override
+    public boolean isConnectPipelining() {
+        return connectPipelining;
+    }
+
     @Override
     public MqttClientTransportConfigImplBuilder.@NotNull Default extend() {
         return new MqttClientTransportConfigImplBuilder.Default(this);
@@ -130,22 +189,33 @@ public class MqttClientTransportConfigImpl implements MqttClientTransportConfig
         }
         final MqttClientTransportConfigImpl that = (MqttClientTransportConfigImpl) o;
 
-        return serverAddress.equals(that.serverAddress) && Objects.equals(localAddress, that.localAddress) &&
+        return serverAddress.equals(that.serverAddress) &&
+                additionalServerAddresses.equals(that.additionalServerAddresses) &&
+                Objects.equals(standbyServerAddress, that.standbyServerAddress) &&
+                Objects.equals(localAddress, that.localAddress) &&
+                Objects.equals(unixDomainSocketPath, that.unixDomainSocketPath) &&
                 Objects.equals(sslConfig, that.sslConfig) && Objects.equals(webSocketConfig, that.webSocketConfig) &&
-                Objects.equals(proxyConfig, that.proxyConfig) &&
+                Objects.equals(proxyConfig, that.proxyConfig) && socketConfig.equals(that.socketConfig) &&
                 (socketConnectTimeoutMs == that.socketConnectTimeoutMs) &&
-                (mqttConnectTimeoutMs == that.mqttConnectTimeoutMs);
+                (connectAttemptDelayMs == that.connectAttemptDelayMs) &&
+                (mqttConnectTimeoutMs == that.mqttConnectTimeoutMs) && (connectPipelining == that.connectPipelining);
     }
 
     @Override
     public int hashCode() {
         int result = serverAddress.hashCode();
+        result = 31 * result + additionalServerAddresses.hashCode();
+        result = 31 * result + Objects.hashCode(standbyServerAddress);
         result = 31 * result + Objects.hashCode(localAddress);
+        result = 31 * result + Objects.hashCode(unixDomainSocketPath);
         result = 31 * result + Objects.hashCode(sslConfig);
         result = 31 * result + Objects.hashCode(webSocketConfig);
         result = 31 * result + Objects.hashCode(proxyConfig);
+        result = 31 * result + socketConfig.hashCode();
         result = 31 * result + Integer.hashCode(socketConnectTimeoutMs);
+        result = 31 * result + Integer.hashCode(connectAttemptDelayMs);
         result = 31 * result + Integer.hashCode(mqttConnectTimeoutMs);
+        result = 31 * result + Boolean.hashCode(connectPipelining);
         return result;
     }
 }
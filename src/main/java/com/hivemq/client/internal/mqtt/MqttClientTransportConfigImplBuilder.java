@@ -18,15 +18,18 @@ package com.hivemq.client.internal.mqtt;
 
 import com.hivemq.client.internal.util.Checks;
 import com.hivemq.client.internal.util.InetSocketAddressUtil;
+import com.hivemq.client.internal.util.collections.ImmutableList;
 import com.hivemq.client.mqtt.MqttClientSslConfig;
 import com.hivemq.client.mqtt.MqttClientTransportConfigBuilder;
 import com.hivemq.client.mqtt.MqttProxyConfig;
+import com.hivemq.client.mqtt.MqttSocketConfig;
 import com.hivemq.client.mqtt.MqttWebSocketConfig;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
@@ -40,12 +43,18 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
     private @Nullable InetSocketAddress serverAddress;
     private @NotNull Object serverHost = DEFAULT_SERVER_HOST; // String or InetAddress
     private int serverPort = -1;
+    private @NotNull ImmutableList<InetSocketAddress> additionalServerAddresses = ImmutableList.of();
+    private @Nullable InetSocketAddress standbyServerAddress;
     private @Nullable InetSocketAddress localAddress;
+    private @Nullable String unixDomainSocketPath;
     private @Nullable MqttClientSslConfigImpl sslConfig;
     private @Nullable MqttWebSocketConfigImpl webSocketConfig;
     private @Nullable MqttProxyConfigImpl proxyConfig;
+    private @NotNull MqttSocketConfigImpl socketConfig = MqttSocketConfigImpl.DEFAULT;
     private int socketConnectTimeoutMs = MqttClientTransportConfigImpl.DEFAULT_SOCKET_CONNECT_TIMEOUT_MS;
+    private int connectAttemptDelayMs = MqttClientTransportConfigImpl.DEFAULT_CONNECT_ATTEMPT_DELAY_MS;
     private int mqttConnectTimeoutMs = MqttClientTransportConfigImpl.DEFAULT_MQTT_CONNECT_TIMEOUT_MS;
+    private boolean connectPipelining = MqttClientTransportConfigImpl.DEFAULT_CONNECT_PIPELINING;
 
     MqttClientTransportConfigImplBuilder() {}
 
@@ -57,22 +66,34 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
         serverAddress = builder.serverAddress;
         serverHost = builder.serverHost;
         serverPort = builder.serverPort;
+        additionalServerAddresses = builder.additionalServerAddresses;
+        standbyServerAddress = builder.standbyServerAddress;
         localAddress = builder.localAddress;
+        unixDomainSocketPath = builder.unixDomainSocketPath;
         sslConfig = builder.sslConfig;
         webSocketConfig = builder.webSocketConfig;
         proxyConfig = builder.proxyConfig;
+        socketConfig = builder.socketConfig;
         socketConnectTimeoutMs = builder.socketConnectTimeoutMs;
+        connectAttemptDelayMs = builder.connectAttemptDelayMs;
         mqttConnectTimeoutMs = builder.mqttConnectTimeoutMs;
+        connectPipelining = builder.connectPipelining;
     }
 
     void set(final @NotNull MqttClientTransportConfigImpl transportConfig) {
         serverAddress = transportConfig.getServerAddress();
+        additionalServerAddresses = transportConfig.getAdditionalServerAddresses();
+        standbyServerAddress = transportConfig.getRawStandbyServerAddress();
         localAddress = transportConfig.getRawLocalAddress();
+        unixDomainSocketPath = transportConfig.getRawUnixDomainSocketPath();
         sslConfig = transportConfig.getRawSslConfig();
         webSocketConfig = transportConfig.getRawWebSocketConfig();
         proxyConfig = transportConfig.getRawProxyConfig();
+        socketConfig = transportConfig.getSocketConfig();
         socketConnectTimeoutMs = transportConfig.getSocketConnectTimeoutMs();
+        connectAttemptDelayMs = transportConfig.getConnectAttemptDelayMs();
         mqttConnectTimeoutMs = transportConfig.getMqttConnectTimeoutMs();
+        connectPipelining = transportConfig.isConnectPipelining();
     }
 
     abstract @NotNull B self();
@@ -114,6 +135,17 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
         return self();
     }
 
+    public @NotNull B additionalServerAddresses(final @Nullable Collection<@Nullable InetSocketAddress> addresses) {
+        additionalServerAddresses =
+                (addresses == null) ? ImmutableList.of() : ImmutableList.copyOf(addresses, "Server addresses");
+        return self();
+    }
+
+    public @NotNull B standbyServerAddress(final @Nullable InetSocketAddress address) {
+        standbyServerAddress = address;
+        return self();
+    }
+
     public @NotNull B localAddress(final @Nullable InetSocketAddress address) {
         if (address == null) {
             localAddress = null;
@@ -177,6 +209,11 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
         return self();
     }
 
+    public @NotNull B unixDomainSocketPath(final @Nullable String path) {
+        this.unixDomainSocketPath = (path == null) ? null : Checks.notEmpty(path, "Unix domain socket path");
+        return self();
+    }
+
     public @NotNull B sslWithDefaultConfig() {
         this.sslConfig = MqttClientSslConfigImpl.DEFAULT;
         return self();
@@ -215,6 +252,15 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
         return new MqttProxyConfigImplBuilder.Nested<>(proxyConfig, this::proxyConfig);
     }
 
+    public @NotNull B socketConfig(final @Nullable MqttSocketConfig socketConfig) {
+        this.socketConfig = Checks.notImplemented(socketConfig, MqttSocketConfigImpl.class, "Socket config");
+        return self();
+    }
+
+    public MqttSocketConfigImplBuilder.@NotNull Nested<B> socketConfig() {
+        return new MqttSocketConfigImplBuilder.Nested<>(socketConfig, this::socketConfig);
+    }
+
     public @NotNull B socketConnectTimeout(final long timeout, final @Nullable TimeUnit timeUnit) {
         Checks.notNull(timeUnit, "Time unit");
         this.socketConnectTimeoutMs = (int) Checks.range(timeUnit.toMillis(timeout), 0, Integer.MAX_VALUE,
@@ -222,6 +268,13 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
         return self();
     }
 
+    public @NotNull B connectAttemptDelay(final long delay, final @Nullable TimeUnit timeUnit) {
+        Checks.notNull(timeUnit, "Time unit");
+        this.connectAttemptDelayMs = (int) Checks.range(timeUnit.toMillis(delay), 0, Integer.MAX_VALUE,
+                "Connect attempt delay in milliseconds");
+        return self();
+    }
+
     public @NotNull B mqttConnectTimeout(final long timeout, final @Nullable TimeUnit timeUnit) {
         Checks.notNull(timeUnit, "Time unit");
         this.mqttConnectTimeoutMs = (int) Checks.range(timeUnit.toMillis(timeout), 0, Integer.MAX_VALUE,
@@ -229,6 +282,11 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
         return self();
     }
 
+    public @NotNull B connectPipelining(final boolean connectPipelining) {
+        this.connectPipelining = connectPipelining;
+        return self();
+    }
+
     private @NotNull InetSocketAddress getServerAddress() {
         if (serverAddress != null) {
             return serverAddress;
@@ -256,8 +314,9 @@ public abstract class MqttClientTransportConfigImplBuilder<B extends MqttClientT
     }
 
     @NotNull MqttClientTransportConfigImpl buildTransportConfig() {
-        return new MqttClientTransportConfigImpl(getServerAddress(), localAddress, sslConfig, webSocketConfig,
-                proxyConfig, socketConnectTimeoutMs, mqttConnectTimeoutMs);
+        return new MqttClientTransportConfigImpl(getServerAddress(), additionalServerAddresses, standbyServerAddress,
+                localAddress, unixDomainSocketPath, sslConfig, webSocketConfig, proxyConfig, socketConfig,
+                socketConnectTimeoutMs, connectAttemptDelayMs, mqttConnectTimeoutMs, connectPipelining);
     }
 
     public static class Default extends MqttClientTransportConfigImplBuilder<Default>
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicImpl;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttSubscribedPublishFlowable;
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttAckCallback;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribe;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribeBuilder;
+import com.hivemq.client.internal.mqtt.util.MqttChecks;
+import com.hivemq.client.internal.netty.NettyTimeout;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Requester;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.suback.Mqtt5SubAck;
+import com.hivemq.client.rx.reactivestreams.WithSingleSubscriber;
+import io.netty.channel.EventLoop;
+import org.jctools.maps.NonBlockingHashMapLong;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.Subscription;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+/**
+ * Request/response engine on top of response topic and correlation data.
+ * <p>
+ * Pending requests are kept in a lock-free map keyed by their correlation data, which is an 8 byte sequence number.
+ * The sequence starts at a random value per requester, as the wildcard subscriptions of requesters with nested
+ * response topics overlap, so responses to another requester must not match any of its pending requests.
+ * Responses are received with a single wildcard subscription that delivers directly on the event loop of the client,
+ * where the timeouts of the requests are tracked on the shared timing wheel of the event loop. Only completing the
+ * futures is handed off to the application.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttRequester implements Mqtt5Requester {
+
+    static final int DEFAULT_TIMEOUT_MS = 10_000;
+
+    private static final @NotNull Executor DIRECT_EXECUTOR = Runnable::run;
+
+    private final @NotNull MqttClientConfig clientConfig;
+    private final @NotNull MqttTopicImpl responseTopic;
+    private final @NotNull MqttSubscribe subscribe;
+    private final long timeoutNanos;
+    private final @NotNull NonBlockingHashMapLong<Request> pendingRequests = new NonBlockingHashMapLong<>();
+    private final @NotNull AtomicLong nextCorrelationId;
+    private final @NotNull AtomicReference<@Nullable ResponseSubscriber> responseSubscriber =
+            new AtomicReference<>();
+    private volatile boolean closed;
+
+    MqttRequester(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttTopicImpl responseTopic,
+            final int timeoutMs) {
+
+        this(clientConfig, responseTopic, timeoutMs, ThreadLocalRandom.current().nextLong());
+    }
+
+    MqttRequester(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttTopicImpl responseTopic,
+            final int timeoutMs,
+            final long initialCorrelationId) {
+
+        this.clientConfig = clientConfig;
+        this.responseTopic = responseTopic;
+        subscribe = new MqttSubscribeBuilder.Default().topicFilter(responseTopic + "/#")
+                .qos(MqttQos.EXACTLY_ONCE)
+                .build();
+        timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        nextCorrelationId = new AtomicLong(initialCorrelationId);
+    }
+
+    @Override
+    public @NotNull CompletableFuture<@NotNull Mqtt5Publish> request(final @Nullable Mqtt5Publish request) {
+        final MqttPublish publish = MqttChecks.publish(request);
+
+        final long correlationId = nextCorrelationId.getAndIncrement();
+        final ByteBuffer correlationData = ByteBuffer.allocate(Long.BYTES);
+        correlationData.putLong(0, correlationId);
+        final Request pendingRequest = new Request(correlationId,
+                publish.extend().responseTopic(responseTopic).correlationData(correlationData).build());
+
+        final ResponseSubscriber subscriber = responseSubscriber();
+        if (subscriber == null) {
+            pendingRequest.completeExceptionally(new CancellationException("Requester is closed."));
+        } else {
+            pendingRequest.eventLoop = subscriber.eventLoop;
+            pendingRequests.put(correlationId, pendingRequest);
+            subscriber.send(pendingRequest);
+        }
+        return pendingRequest;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        final ResponseSubscriber subscriber = responseSubscriber.getAndSet(null);
+        if (subscriber != null) {
+            subscriber.cancel();
+        }
+    }
+
+    private @Nullable ResponseSubscriber responseSubscriber() {
+        while (!closed) {
+            final ResponseSubscriber subscriber = responseSubscriber.get();
+            if (subscriber != null) {
+                return subscriber;
+            }
+            final ResponseSubscriber newSubscriber = new ResponseSubscriber(clientConfig.acquireEventLoop());
+            if (responseSubscriber.compareAndSet(null, newSubscriber)) {
+                MqttSubscribedPublishFlowable.subscribeFlow(newSubscriber, subscribe, clientConfig, false);
+                if (closed) {
+                    close();
+                }
+                return newSubscriber;
+            }
+            clientConfig.releaseEventLoop();
+        }
+        return null;
+    }
+
+    int getPendingRequestCount() {
+        return pendingRequests.size();
+    }
+
+    private void fail(final @NotNull Request request, final @NotNull Throwable error) {
+        if (pendingRequests.remove(request.correlationId, request)) {
+            request.error = error;
+            clientConfig.getDispatchScheduler().scheduleDirect(request);
+        }
+    }
+
+    private class ResponseSubscriber implements WithSingleSubscriber<Mqtt5Publish, Mqtt5SubAck> {
+
+        private static final int STATE_SUBSCRIBING = 0;
+        private static final int STATE_SUBSCRIBED = 1;
+        private static final int STATE_TERMINATED = 2;
+
+        private final @NotNull EventLoop eventLoop;
+        private final @NotNull MpscUnboundedArrayQueue<Request> queue = new MpscUnboundedArrayQueue<>(64);
+        private final @NotNull AtomicInteger wip = new AtomicInteger();
+        private final @NotNull AtomicReference<@Nullable Subscription> subscription = new AtomicReference<>();
+        private volatile int state = STATE_SUBSCRIBING;
+        private @Nullable Throwable error;
+
+        ResponseSubscriber(final @NotNull EventLoop eventLoop) {
+            this.eventLoop = eventLoop;
+        }
+
+        void send(final @NotNull Request request) {
+            if (state == STATE_SUBSCRIBED) {
+                publish(request);
+            } else {
+                queue.offer(request);
+                if (state != STATE_SUBSCRIBING) {
+                    drain();
+                }
+            }
+        }
+
+        private void publish(final @NotNull Request request) {
+            if (request.isCancelled()) {
+                return;
+            }
+            if (timeoutNanos > 0) {
+                eventLoop.execute(request::scheduleTimeout);
+            }
+            MqttAckCallback.publish(clientConfig, request.publish, request, DIRECT_EXECUTOR);
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                Request request;
+                while ((request = queue.poll()) != null) {
+                    if (state == STATE_SUBSCRIBED) {
+                        publish(request);
+                    } else {
+                        final Throwable error = this.error;
+                        assert error != null;
+                        fail(request, error);
+                    }
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        @Override
+        public void onSubscribe(final @NotNull Subscription subscription) {
+            if (this.subscription.compareAndSet(null, subscription)) {
+                subscription.request(Long.MAX_VALUE);
+            } else {
+                subscription.cancel(); // cancelled before subscribed
+            }
+        }
+
+        @CallByThread("Netty EventLoop")
+        @Override
+        public void onSingle(final @NotNull Mqtt5SubAck subAck) {
+            state = STATE_SUBSCRIBED;
+            drain();
+        }
+
+        @CallByThread("Netty EventLoop")
+        @Override
+        public void onNext(final @NotNull Mqtt5Publish publish) {
+            final ByteBuffer correlationData = ((MqttPublish) publish).getRawCorrelationData();
+            if ((correlationData != null) && (correlationData.remaining() == Long.BYTES)) {
+                final Request request = pendingRequests.remove(correlationData.getLong(correlationData.position()));
+                if (request != null) {
+                    request.timeout.cancel();
+                    request.response = publish;
+                    clientConfig.getDispatchScheduler().scheduleDirect(request);
+                }
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            terminate(new CancellationException("Response subscription completed."));
+        }
+
+        @Override
+        public void onError(final @NotNull Throwable error) {
+            terminate(error);
+        }
+
+        void cancel() {
+            final Subscription subscription = this.subscription.getAndSet(CancelledSubscription.INSTANCE);
+            if (subscription != null) {
+                subscription.cancel();
+            }
+            terminate(new CancellationException("Requester is closed."));
+        }
+
+        private void terminate(final @NotNull Throwable error) {
+            synchronized (this) {
+                if (state == STATE_TERMINATED) {
+                    return;
+                }
+                this.error = error;
+                state = STATE_TERMINATED;
+            }
+            drain();
+            for (final Request request : pendingRequests.values()) {
+                fail(request, error);
+            }
+            responseSubscriber.compareAndSet(this, null);
+            clientConfig.releaseEventLoop();
+        }
+    }
+
+    private enum CancelledSubscription implements Subscription {
+
+        INSTANCE;
+
+        @Override
+        public void request(final long n) {}
+
+        @Override
+        public void cancel() {}
+    }
+
+    private class Request extends CompletableFuture<Mqtt5Publish>
+            implements BiConsumer<Mqtt5PublishResult, Throwable>, Runnable {
+
+        final long correlationId;
+        final @NotNull MqttPublish publish;
+        final @NotNull NettyTimeout timeout = new NettyTimeout(this::timeout, true);
+        @Nullable EventLoop eventLoop;
+        @Nullable Mqtt5Publish response;
+        @Nullable Throwable error;
+
+        Request(final long correlationId, final @NotNull MqttPublish publish) {
+            this.correlationId = correlationId;
+            this.publish = publish;
+        }
+
+        @CallByThread("Netty EventLoop")
+        void scheduleTimeout() {
+            final EventLoop eventLoop = this.eventLoop;
+            if ((eventLoop != null) && (pendingRequests.get(correlationId) == this)) {
+                timeout.schedule(eventLoop, timeoutNanos);
+            }
+        }
+
+        @CallByThread("Netty EventLoop")
+        private void timeout() {
+            fail(this, new TimeoutException(
+                    "No response received within " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms."));
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            final boolean cancelled = super.cancel(mayInterruptIfRunning);
+            if (cancelled && pendingRequests.remove(correlationId, this)) {
+                final EventLoop eventLoop = this.eventLoop;
+                assert eventLoop != null;
+                // the timeout is only accessed on the event loop, it is not scheduled if it runs after the removal
+                eventLoop.execute(timeout::cancel);
+            }
+            return cancelled;
+        }
+
+        @Override
+        public void accept(final @Nullable Mqtt5PublishResult result, final @Nullable Throwable error) {
+            if (error != null) {
+                fail(this, error);
+            }
+        }
+
+        @Override
+        public void run() {
+            final Throwable error = this.error;
+            if (error == null) {
+                complete(response);
+            } else {
+                completeExceptionally(error);
+            }
+        }
+    }
+}
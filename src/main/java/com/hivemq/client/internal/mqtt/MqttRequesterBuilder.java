@@ -0,0 +1,70 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt;
+
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicImpl;
+import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.mqtt.datatypes.MqttTopic;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5Client;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5RequesterBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttRequesterBuilder implements Mqtt5RequesterBuilder {
+
+    private final @NotNull MqttClientConfig clientConfig;
+    private @Nullable MqttTopicImpl responseTopic;
+    private int timeoutMs = MqttRequester.DEFAULT_TIMEOUT_MS;
+
+    public MqttRequesterBuilder(final @Nullable Mqtt5Client client) {
+        clientConfig = Checks.notImplemented(Checks.notNull(client, "Client").getConfig(), MqttClientConfig.class,
+                "Client config");
+    }
+
+    @Override
+    public @NotNull MqttRequesterBuilder responseTopic(final @Nullable String responseTopic) {
+        this.responseTopic = MqttTopicImpl.of(responseTopic, "Response topic");
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttRequesterBuilder responseTopic(final @Nullable MqttTopic responseTopic) {
+        this.responseTopic = Checks.notImplemented(responseTopic, MqttTopicImpl.class, "Response topic");
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttRequesterBuilder timeout(final long timeout, final @Nullable TimeUnit timeUnit) {
+        Checks.notNull(timeUnit, "Time unit");
+        timeoutMs = (int) Checks.range(timeUnit.toMillis(timeout), 0, Integer.MAX_VALUE, "Timeout in milliseconds");
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttRequester build() {
+        final MqttTopicImpl responseTopic = (this.responseTopic == null) ?
+                MqttTopicImpl.of("responses/" + UUID.randomUUID()) : this.responseTopic;
+        return new MqttRequester(clientConfig, responseTopic, timeoutMs);
+    }
+}
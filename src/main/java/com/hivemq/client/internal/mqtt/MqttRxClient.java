@@ -37,6 +37,7 @@ import com.hivemq.client.internal.mqtt.message.unsubscribe.MqttUnsubscribe;
 import com.hivemq.client.internal.mqtt.message.unsubscribe.MqttUnsubscribeBuilder;
 import com.hivemq.client.internal.mqtt.util.MqttChecks;
 import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.mqtt.MqttApplicationDispatch;
 import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
 import com.hivemq.client.mqtt.mqtt5.message.connect.Mqtt5Connect;
@@ -51,7 +52,6 @@ import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.unsuback.Mqtt5UnsubAck;
 import com.hivemq.client.rx.FlowableWithSingle;
 import io.reactivex.Completable;
 import io.reactivex.Flowable;
-import io.reactivex.Scheduler;
 import io.reactivex.Single;
 import io.reactivex.functions.Function;
 import io.reactivex.internal.fuseable.ScalarCallable;
@@ -82,7 +82,7 @@ public class MqttRxClient implements Mqtt5RxClient {
     }
 
     @NotNull Single<Mqtt5ConnAck> connect(final @NotNull MqttConnect connect) {
-        return connectUnsafe(connect).observeOn(clientConfig.getExecutorConfig().getApplicationScheduler());
+        return dispatch(connectUnsafe(connect));
     }
 
     @NotNull Single<Mqtt5ConnAck> connectUnsafe(final @NotNull MqttConnect connect) {
@@ -100,7 +100,7 @@ public class MqttRxClient implements Mqtt5RxClient {
     }
 
     @NotNull Single<Mqtt5SubAck> subscribe(final @NotNull MqttSubscribe subscribe) {
-        return subscribeUnsafe(subscribe).observeOn(clientConfig.getExecutorConfig().getApplicationScheduler());
+        return dispatch(subscribeUnsafe(subscribe));
     }
 
     @NotNull Single<Mqtt5SubAck> subscribeUnsafe(final @NotNull MqttSubscribe subscribe) {
@@ -141,8 +141,7 @@ public class MqttRxClient implements Mqtt5RxClient {
     @NotNull FlowableWithSingle<Mqtt5Publish, Mqtt5SubAck> subscribePublishes(
             final @NotNull MqttSubscribe subscribe, final boolean manualAcknowledgement) {
 
-        return subscribePublishesUnsafe(subscribe, manualAcknowledgement).observeOnBoth(
-                clientConfig.getExecutorConfig().getApplicationScheduler(), true);
+        return dispatch(subscribePublishesUnsafe(subscribe, manualAcknowledgement));
     }
 
     @NotNull FlowableWithSingle<Mqtt5Publish, Mqtt5SubAck> subscribePublishesUnsafe(
@@ -167,8 +166,7 @@ public class MqttRxClient implements Mqtt5RxClient {
 
         Checks.notNull(filter, "Global publish filter");
 
-        return publishesUnsafe(filter, manualAcknowledgement).observeOn(
-                clientConfig.getExecutorConfig().getApplicationScheduler(), true);
+        return dispatch(publishesUnsafe(filter, manualAcknowledgement));
     }
 
     @NotNull Flowable<Mqtt5Publish> publishesUnsafe(
@@ -183,7 +181,7 @@ public class MqttRxClient implements Mqtt5RxClient {
     }
 
     @NotNull Single<Mqtt5UnsubAck> unsubscribe(final @NotNull MqttUnsubscribe unsubscribe) {
-        return unsubscribeUnsafe(unsubscribe).observeOn(clientConfig.getExecutorConfig().getApplicationScheduler());
+        return dispatch(unsubscribeUnsafe(unsubscribe));
     }
 
     @NotNull Single<Mqtt5UnsubAck> unsubscribeUnsafe(final @NotNull MqttUnsubscribe unsubscribe) {
@@ -196,7 +194,7 @@ public class MqttRxClient implements Mqtt5RxClient {
     }
 
     @NotNull Single<Mqtt5PublishResult> publish(final @NotNull MqttPublish publish) {
-        return publishUnsafe(publish).observeOn(clientConfig.getExecutorConfig().getApplicationScheduler());
+        return dispatch(publishUnsafe(publish));
     }
 
     @NotNull Single<Mqtt5PublishResult> publishUnsafe(final @NotNull MqttPublish publish) {
@@ -213,7 +211,6 @@ public class MqttRxClient implements Mqtt5RxClient {
     public <P> @NotNull Flowable<Mqtt5PublishResult> publish(
             final @NotNull Flowable<P> publishFlowable, final @NotNull Function<P, MqttPublish> publishMapper) {
 
-        final Scheduler applicationScheduler = clientConfig.getExecutorConfig().getApplicationScheduler();
         if (publishFlowable instanceof ScalarCallable) {
             //noinspection unchecked
             final P publish = ((ScalarCallable<P>) publishFlowable).call();
@@ -226,16 +223,15 @@ public class MqttRxClient implements Mqtt5RxClient {
             } catch (final Throwable t) {
                 return Flowable.error(t);
             }
-            return new MqttAckSingleFlowable(clientConfig, mqttPublish).observeOn(applicationScheduler, true);
+            return dispatch(new MqttAckSingleFlowable(clientConfig, mqttPublish));
         }
-        return new MqttAckFlowable(
-                clientConfig, publishFlowable.subscribeOn(applicationScheduler).map(publishMapper)).observeOn(
-                applicationScheduler, true);
+        return dispatch(new MqttAckFlowable(clientConfig,
+                publishFlowable.subscribeOn(clientConfig.getDispatchScheduler()).map(publishMapper)));
     }
 
     @Override
     public @NotNull Completable reauth() {
-        return reauthUnsafe().observeOn(clientConfig.getExecutorConfig().getApplicationScheduler());
+        return dispatch(reauthUnsafe());
     }
 
     @NotNull Completable reauthUnsafe() {
@@ -253,7 +249,7 @@ public class MqttRxClient implements Mqtt5RxClient {
     }
 
     @NotNull Completable disconnect(final @NotNull MqttDisconnect disconnect) {
-        return disconnectUnsafe(disconnect).observeOn(clientConfig.getExecutorConfig().getApplicationScheduler());
+        return dispatch(disconnectUnsafe(disconnect));
     }
 
     @NotNull Completable disconnectUnsafe(final @NotNull MqttDisconnect disconnect) {
@@ -280,6 +276,26 @@ public class MqttRxClient implements Mqtt5RxClient {
         return new MqttBlockingClient(this);
     }
 
+    private boolean isDispatchOnEventLoop() {
+        return clientConfig.getExecutorConfig().getApplicationDispatch() == MqttApplicationDispatch.EVENT_LOOP;
+    }
+
+    private <T> @NotNull Single<T> dispatch(final @NotNull Single<T> single) {
+        return isDispatchOnEventLoop() ? single : single.observeOn(clientConfig.getDispatchScheduler());
+    }
+
+    private @NotNull Completable dispatch(final @NotNull Completable completable) {
+        return isDispatchOnEventLoop() ? completable : completable.observeOn(clientConfig.getDispatchScheduler());
+    }
+
+    private <T> @NotNull Flowable<T> dispatch(final @NotNull Flowable<T> flowable) {
+        return isDispatchOnEventLoop() ? flowable : flowable.observeOn(clientConfig.getDispatchScheduler(), true);
+    }
+
+    private <F, S> @NotNull FlowableWithSingle<F, S> dispatch(final @NotNull FlowableWithSingle<F, S> flowable) {
+        return isDispatchOnEventLoop() ? flowable : flowable.observeOnBoth(clientConfig.getDispatchScheduler(), true);
+    }
+
     private class MqttSubscribePublishesBuilder
             extends MqttSubscribeBuilder.Publishes<FlowableWithSingle<Mqtt5Publish, Mqtt5SubAck>> {
 
@@ -23,6 +23,7 @@ import com.hivemq.client.internal.mqtt.message.auth.MqttSimpleAuthBuilder;
 import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
 import com.hivemq.client.internal.mqtt.message.publish.MqttPublishBuilder;
 import com.hivemq.client.internal.mqtt.message.publish.MqttWillPublish;
+import com.hivemq.client.internal.mqtt.pool.MqttClientPoolBuilder;
 import com.hivemq.client.internal.util.Checks;
 import com.hivemq.client.mqtt.MqttVersion;
 import com.hivemq.client.mqtt.mqtt5.Mqtt5ClientBuilder;
@@ -114,6 +115,18 @@ public class MqttRxClientBuilder extends MqttRxClientBuilderBase<MqttRxClientBui
         return buildRx().toBlocking();
     }
 
+    @Override
+    public @NotNull MqttClientPoolBuilder pool() {
+        return new MqttClientPoolBuilder(this::buildRx);
+    }
+
+    private @NotNull MqttRxClient buildRx(final int poolIndex) {
+        // only the first client of a pool sends the will, otherwise it would be published once per lost connection
+        return new MqttRxClient(buildPooledClientConfig(MqttVersion.MQTT_5_0, poolIndex, advancedConfig,
+                MqttClientConfig.ConnectDefaults.of(
+                        simpleAuth, enhancedAuthMechanism, (poolIndex == 0) ? willPublish : null)));
+    }
+
     private @NotNull MqttClientConfig buildClientConfig() {
         return buildClientConfig(MqttVersion.MQTT_5_0, advancedConfig,
                 MqttClientConfig.ConnectDefaults.of(simpleAuth, enhancedAuthMechanism, willPublish));
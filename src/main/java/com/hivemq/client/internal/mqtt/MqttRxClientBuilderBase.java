@@ -209,6 +209,27 @@ public abstract class MqttRxClientBuilderBase<B extends MqttRxClientBuilderBase<
             final @NotNull MqttClientAdvancedConfig advancedConfig,
             final @NotNull MqttClientConfig.ConnectDefaults connectDefaults) {
 
+        return buildClientConfig(mqttVersion, identifier, advancedConfig, connectDefaults);
+    }
+
+    protected @NotNull MqttClientConfig buildPooledClientConfig(
+            final @NotNull MqttVersion mqttVersion,
+            final int poolIndex,
+            final @NotNull MqttClientAdvancedConfig advancedConfig,
+            final @NotNull MqttClientConfig.ConnectDefaults connectDefaults) {
+
+        final MqttClientIdentifierImpl pooledIdentifier =
+                (identifier == MqttClientIdentifierImpl.REQUEST_CLIENT_IDENTIFIER_FROM_SERVER) ? identifier :
+                        MqttClientIdentifierImpl.of(identifier + "-" + poolIndex);
+        return buildClientConfig(mqttVersion, pooledIdentifier, advancedConfig, connectDefaults);
+    }
+
+    private @NotNull MqttClientConfig buildClientConfig(
+            final @NotNull MqttVersion mqttVersion,
+            final @NotNull MqttClientIdentifierImpl identifier,
+            final @NotNull MqttClientAdvancedConfig advancedConfig,
+            final @NotNull MqttClientConfig.ConnectDefaults connectDefaults) {
+
         return new MqttClientConfig(mqttVersion, identifier, buildTransportConfig(), executorConfig, advancedConfig,
                 connectDefaults, buildConnectedListeners(), buildDisconnectedListeners());
     }
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt;
+
+import com.hivemq.client.mqtt.MqttSocketConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttSocketConfigImpl implements MqttSocketConfig {
+
+    public static final @NotNull MqttSocketConfigImpl DEFAULT =
+            new MqttSocketConfigImpl(DEFAULT_TCP_NO_DELAY, DEFAULT_KEEP_ALIVE, 0, 0, 0, 0, 0, false, false, 0);
+
+    private final boolean tcpNoDelay;
+    private final boolean keepAlive;
+    private final int sendBufferSize;
+    private final int receiveBufferSize;
+    private final int writeBufferLowWaterMark;
+    private final int writeBufferHighWaterMark;
+    private final int busyPollMicros;
+    private final boolean tcpQuickAck;
+    private final boolean tcpCork;
+    private final int tcpNotSentLowAt;
+
+    MqttSocketConfigImpl(
+            final boolean tcpNoDelay,
+            final boolean keepAlive,
+            final int sendBufferSize,
+            final int receiveBufferSize,
+            final int writeBufferLowWaterMark,
+            final int writeBufferHighWaterMark,
+            final int busyPollMicros,
+            final boolean tcpQuickAck,
+            final boolean tcpCork,
+            final int tcpNotSentLowAt) {
+
+        this.tcpNoDelay = tcpNoDelay;
+        this.keepAlive = keepAlive;
+        this.sendBufferSize = sendBufferSize;
+        this.receiveBufferSize = receiveBufferSize;
+        this.writeBufferLowWaterMark = writeBufferLowWaterMark;
+        this.writeBufferHighWaterMark = writeBufferHighWaterMark;
+        this.busyPollMicros = busyPollMicros;
+        this.tcpQuickAck = tcpQuickAck;
+        this.tcpCork = tcpCork;
+        this.tcpNotSentLowAt = tcpNotSentLowAt;
+    }
+
+    @Override
+    public boolean isTcpNoDelay() {
+        return tcpNoDelay;
+    }
+
+    @Override
+    public boolean isKeepAlive() {
+        return keepAlive;
+    }
+
+    @Override
+    public int getSendBufferSize() {
+        return sendBufferSize;
+    }
+
+    @Override
+    public int getReceiveBufferSize() {
+        return receiveBufferSize;
+    }
+
+    @Override
+    public int getWriteBufferLowWaterMark() {
+        return writeBufferLowWaterMark;
+    }
+
+    @Override
+    public int getWriteBufferHighWaterMark() {
+        return writeBufferHighWaterMark;
+    }
+
+    @Override
+    public int getBusyPollMicros() {
+        return busyPollMicros;
+    }
+
+    @Override
+    public boolean isTcpQuickAck() {
+        return tcpQuickAck;
+    }
+
+    @Override
+    public boolean isTcpCork() {
+        return tcpCork;
+    }
+
+    @Override
+    public int getTcpNotSentLowAt() {
+        return tcpNotSentLowAt;
+    }
+
+    public boolean hasNativeOptions() {
+        return (busyPollMicros != 0) || tcpQuickAck || tcpCork || (tcpNotSentLowAt != 0);
+    }
+
+    @Override
+    public MqttSocketConfigImplBuilder.@NotNull Default extend() {
+        return new MqttSocketConfigImplBuilder.Default(this);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MqttSocketConfigImpl)) {
+            return false;
+        }
+        final MqttSocketConfigImpl that = (MqttSocketConfigImpl) o;
+
+        return (tcpNoDelay == that.tcpNoDelay) && (keepAlive == that.keepAlive) &&
+                (sendBufferSize == that.sendBufferSize) && (receiveBufferSize == that.receiveBufferSize) &&
+                (writeBufferLowWaterMark == that.writeBufferLowWaterMark) &&
+                (writeBufferHighWaterMark == that.writeBufferHighWaterMark) &&
+                (busyPollMicros == that.busyPollMicros) && (tcpQuickAck == that.tcpQuickAck) &&
+                (tcpCork == that.tcpCork) && (tcpNotSentLowAt == that.tcpNotSentLowAt);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = Boolean.hashCode(tcpNoDelay);
+        result = 31 * result + Boolean.hashCode(keepAlive);
+        result = 31 * result + sendBufferSize;
+        result = 31 * result + receiveBufferSize;
+        result = 31 * result + writeBufferLowWaterMark;
+        result = 31 * result + writeBufferHighWaterMark;
+        result = 31 * result + busyPollMicros;
+        result = 31 * result + Boolean.hashCode(tcpQuickAck);
+        result = 31 * result + Boolean.hashCode(tcpCork);
+        result = 31 * result + tcpNotSentLowAt;
+        return result;
+    }
+}
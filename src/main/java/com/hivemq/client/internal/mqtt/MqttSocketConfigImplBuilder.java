@@ -0,0 +1,151 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt;
+
+import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.mqtt.MqttSocketConfigBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.function.Function;
+
+/**
+ * @author Silvio Giebl
+ */
+public abstract class MqttSocketConfigImplBuilder<B extends MqttSocketConfigImplBuilder<B>> {
+
+    private boolean tcpNoDelay = MqttSocketConfigImpl.DEFAULT_TCP_NO_DELAY;
+    private boolean keepAlive = MqttSocketConfigImpl.DEFAULT_KEEP_ALIVE;
+    private int sendBufferSize;
+    private int receiveBufferSize;
+    private int writeBufferLowWaterMark;
+    private int writeBufferHighWaterMark;
+    private int busyPollMicros;
+    private boolean tcpQuickAck;
+    private boolean tcpCork;
+    private int tcpNotSentLowAt;
+
+    MqttSocketConfigImplBuilder() {}
+
+    MqttSocketConfigImplBuilder(final @NotNull MqttSocketConfigImpl socketConfig) {
+        tcpNoDelay = socketConfig.isTcpNoDelay();
+        keepAlive = socketConfig.isKeepAlive();
+        sendBufferSize = socketConfig.getSendBufferSize();
+        receiveBufferSize = socketConfig.getReceiveBufferSize();
+        writeBufferLowWaterMark = socketConfig.getWriteBufferLowWaterMark();
+        writeBufferHighWaterMark = socketConfig.getWriteBufferHighWaterMark();
+        busyPollMicros = socketConfig.getBusyPollMicros();
+        tcpQuickAck = socketConfig.isTcpQuickAck();
+        tcpCork = socketConfig.isTcpCork();
+        tcpNotSentLowAt = socketConfig.getTcpNotSentLowAt();
+    }
+
+    abstract @NotNull B self();
+
+    public @NotNull B tcpNoDelay(final boolean tcpNoDelay) {
+        this.tcpNoDelay = tcpNoDelay;
+        return self();
+    }
+
+    public @NotNull B keepAlive(final boolean keepAlive) {
+        this.keepAlive = keepAlive;
+        return self();
+    }
+
+    public @NotNull B sendBufferSize(final int sendBufferSize) {
+        this.sendBufferSize = (int) Checks.range(sendBufferSize, 0, Integer.MAX_VALUE, "Send buffer size");
+        return self();
+    }
+
+    public @NotNull B receiveBufferSize(final int receiveBufferSize) {
+        this.receiveBufferSize = (int) Checks.range(receiveBufferSize, 0, Integer.MAX_VALUE, "Receive buffer size");
+        return self();
+    }
+
+    public @NotNull B writeBufferWaterMark(final int low, final int high) {
+        if ((low != 0) || (high != 0)) {
+            Checks.range(low, 1, Integer.MAX_VALUE, "Write buffer low water mark");
+            Checks.range(high, low, Integer.MAX_VALUE, "Write buffer high water mark");
+        }
+        writeBufferLowWaterMark = low;
+        writeBufferHighWaterMark = high;
+        return self();
+    }
+
+    public @NotNull B busyPollMicros(final int busyPollMicros) {
+        this.busyPollMicros = (int) Checks.range(busyPollMicros, 0, Integer.MAX_VALUE, "Busy poll microseconds");
+        return self();
+    }
+
+    public @NotNull B tcpQuickAck(final boolean tcpQuickAck) {
+        this.tcpQuickAck = tcpQuickAck;
+        return self();
+    }
+
+    public @NotNull B tcpCork(final boolean tcpCork) {
+        this.tcpCork = tcpCork;
+        return self();
+    }
+
+    public @NotNull B tcpNotSentLowAt(final int tcpNotSentLowAt) {
+        this.tcpNotSentLowAt = (int) Checks.range(tcpNotSentLowAt, 0, Integer.MAX_VALUE, "TCP not sent low at");
+        return self();
+    }
+
+    public @NotNull MqttSocketConfigImpl build() {
+        return new MqttSocketConfigImpl(tcpNoDelay, keepAlive, sendBufferSize, receiveBufferSize,
+                writeBufferLowWaterMark, writeBufferHighWaterMark, busyPollMicros, tcpQuickAck, tcpCork,
+                tcpNotSentLowAt);
+    }
+
+    public static class Default extends MqttSocketConfigImplBuilder<Default> implements MqttSocketConfigBuilder {
+
+        public Default() {}
+
+        Default(final @NotNull MqttSocketConfigImpl socketConfig) {
+            super(socketConfig);
+        }
+
+        @Override
+        @NotNull Default self() {
+            return this;
+        }
+    }
+
+    public static class Nested<P> extends MqttSocketConfigImplBuilder<Nested<P>>
+            implements MqttSocketConfigBuilder.Nested<P> {
+
+        private final @NotNull Function<? super MqttSocketConfigImpl, P> parentConsumer;
+
+        Nested(
+                final @NotNull MqttSocketConfigImpl socketConfig,
+                final @NotNull Function<? super MqttSocketConfigImpl, P> parentConsumer) {
+
+            super(socketConfig);
+            this.parentConsumer = parentConsumer;
+        }
+
+        @Override
+        @NotNull Nested<P> self() {
+            return this;
+        }
+
+        @Override
+        public @NotNull P applySocketConfig() {
+            return parentConsumer.apply(build());
+        }
+    }
+}
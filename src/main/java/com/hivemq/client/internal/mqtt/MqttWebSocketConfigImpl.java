@@ -28,23 +28,29 @@ public class MqttWebSocketConfigImpl implements MqttWebSocketConfig {
 
     static final @NotNull MqttWebSocketConfigImpl DEFAULT =
             new MqttWebSocketConfigImpl(DEFAULT_SERVER_PATH, DEFAULT_QUERY_STRING, DEFAULT_MQTT_SUBPROTOCOL,
-                    DEFAULT_HANDSHAKE_TIMEOUT_MS);
+                    DEFAULT_HANDSHAKE_TIMEOUT_MS, DEFAULT_COALESCING_MAX_FRAME_SIZE, false);
 
     private final @NotNull String serverPath;
     private final @NotNull String queryString;
     private final @NotNull String subprotocol;
     private final int handshakeTimeoutMs;
+    private final int coalescingMaxFrameSize;
+    private final boolean perMessageDeflate;
 
     MqttWebSocketConfigImpl(
             final @NotNull String serverPath,
             final @NotNull String queryString,
             final @NotNull String subprotocol,
-            final int handshakeTimeoutMs) {
+            final int handshakeTimeoutMs,
+            final int coalescingMaxFrameSize,
+            final boolean perMessageDeflate) {
 
         this.serverPath = serverPath;
         this.queryString = queryString;
         this.subprotocol = subprotocol;
         this.handshakeTimeoutMs = handshakeTimeoutMs;
+        this.coalescingMaxFrameSize = coalescingMaxFrameSize;
+        this.perMessageDeflate = perMessageDeflate;
     }
 
     @Override
@@ -67,6 +73,16 @@ public class MqttWebSocketConfigImpl implements MqttWebSocketConfig {
         return handshakeTimeoutMs;
     }
 
+    @Override
+    public int getCoalescingMaxFrameSize() {
+        return coalescingMaxFrameSize;
+    }
+
+    @Override
+    public boolean isPerMessageDeflate() {
+        return perMessageDeflate;
+    }
+
     @Override
     public MqttWebSocketConfigImplBuilder.@NotNull Default extend() {
         return new MqttWebSocketConfigImplBuilder.Default(this);
@@ -83,7 +99,9 @@ public class MqttWebSocketConfigImpl implements MqttWebSocketConfig {
         final MqttWebSocketConfigImpl that = (MqttWebSocketConfigImpl) o;
 
         return serverPath.equals(that.serverPath) && queryString.equals(that.queryString) &&
-                subprotocol.equals(that.subprotocol) && (handshakeTimeoutMs == that.handshakeTimeoutMs);
+                subprotocol.equals(that.subprotocol) && (handshakeTimeoutMs == that.handshakeTimeoutMs) &&
+                (coalescingMaxFrameSize == that.coalescingMaxFrameSize) &&
+                (perMessageDeflate == that.perMessageDeflate);
     }
 
     @Override
@@ -92,6 +110,8 @@ public class MqttWebSocketConfigImpl implements MqttWebSocketConfig {
         result = 31 * result + queryString.hashCode();
         result = 31 * result + subprotocol.hashCode();
         result = 31 * result + Integer.hashCode(handshakeTimeoutMs);
+        result = 31 * result + Integer.hashCode(coalescingMaxFrameSize);
+        result = 31 * result + Boolean.hashCode(perMessageDeflate);
         return result;
     }
 }
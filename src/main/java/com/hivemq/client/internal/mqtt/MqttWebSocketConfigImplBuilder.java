@@ -33,6 +33,8 @@ public abstract class MqttWebSocketConfigImplBuilder<B extends MqttWebSocketConf
     private @NotNull String queryString = MqttWebSocketConfigImpl.DEFAULT_QUERY_STRING;
     private @NotNull String subprotocol = MqttWebSocketConfigImpl.DEFAULT_MQTT_SUBPROTOCOL;
     private int handshakeTimeoutMs = MqttWebSocketConfigImpl.DEFAULT_HANDSHAKE_TIMEOUT_MS;
+    private int coalescingMaxFrameSize = MqttWebSocketConfigImpl.DEFAULT_COALESCING_MAX_FRAME_SIZE;
+    private boolean perMessageDeflate;
 
     MqttWebSocketConfigImplBuilder() {}
 
@@ -42,6 +44,8 @@ public abstract class MqttWebSocketConfigImplBuilder<B extends MqttWebSocketConf
             queryString = webSocketConfig.getQueryString();
             subprotocol = webSocketConfig.getSubprotocol();
             handshakeTimeoutMs = webSocketConfig.getHandshakeTimeoutMs();
+            coalescingMaxFrameSize = webSocketConfig.getCoalescingMaxFrameSize();
+            perMessageDeflate = webSocketConfig.isPerMessageDeflate();
         }
     }
 
@@ -70,8 +74,20 @@ public abstract class MqttWebSocketConfigImplBuilder<B extends MqttWebSocketConf
         return self();
     }
 
+    public @NotNull B coalescingMaxFrameSize(final int maxFrameSize) {
+        this.coalescingMaxFrameSize =
+                (int) Checks.range(maxFrameSize, 0, Integer.MAX_VALUE, "Coalescing maximum frame size");
+        return self();
+    }
+
+    public @NotNull B perMessageDeflate(final boolean perMessageDeflate) {
+        this.perMessageDeflate = perMessageDeflate;
+        return self();
+    }
+
     public @NotNull MqttWebSocketConfigImpl build() {
-        return new MqttWebSocketConfigImpl(serverPath, queryString, subprotocol, handshakeTimeoutMs);
+        return new MqttWebSocketConfigImpl(serverPath, queryString, subprotocol, handshakeTimeoutMs,
+                coalescingMaxFrameSize, perMessageDeflate);
     }
 
     public static class Default extends MqttWebSocketConfigImplBuilder<Default> implements MqttWebSocketConfigBuilder {
@@ -16,8 +16,11 @@
 
 package com.hivemq.client.internal.mqtt.advanced;
 
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfig;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfig;
 import com.hivemq.client.internal.mqtt.advanced.interceptor.MqttClientInterceptors;
 import com.hivemq.client.mqtt.mqtt5.advanced.Mqtt5ClientAdvancedConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -28,20 +31,36 @@ import java.util.Objects;
  */
 public class MqttClientAdvancedConfig implements Mqtt5ClientAdvancedConfig {
 
-    public static final @NotNull MqttClientAdvancedConfig DEFAULT = new MqttClientAdvancedConfig(false, false, null);
+    public static final @NotNull MqttClientAdvancedConfig DEFAULT =
+            new MqttClientAdvancedConfig(false, false, false, false, null, null, null, null);
 
     private final boolean allowServerReAuth;
     private final boolean validatePayloadFormat;
+    private final boolean directBufferPayload;
+    private final boolean directBufferCorrelationData;
     private final @Nullable MqttClientInterceptors interceptors;
+    private final @Nullable MqttPayloadCompressionConfig payloadCompressionConfig;
+    private final @Nullable MqttAdaptiveSendWindowConfig adaptiveSendWindowConfig;
+    private final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder;
 
     MqttClientAdvancedConfig(
             final boolean allowServerReAuth,
             final boolean validatePayloadFormat,
-            final @Nullable MqttClientInterceptors interceptors) {
+            final boolean directBufferPayload,
+            final boolean directBufferCorrelationData,
+            final @Nullable MqttClientInterceptors interceptors,
+            final @Nullable MqttPayloadCompressionConfig payloadCompressionConfig,
+            final @Nullable MqttAdaptiveSendWindowConfig adaptiveSendWindowConfig,
+            final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder) {
 
         this.allowServerReAuth = allowServerReAuth;
         this.validatePayloadFormat = validatePayloadFormat;
+        this.directBufferPayload = directBufferPayload;
+        this.directBufferCorrelationData = directBufferCorrelationData;
         this.interceptors = interceptors;
+        this.payloadCompressionConfig = payloadCompressionConfig;
+        this.adaptiveSendWindowConfig = adaptiveSendWindowConfig;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @Override
@@ -54,11 +73,36 @@ public class MqttClientAdvancedConfig implements Mqtt5ClientAdvancedConfig {
         return validatePayloadFormat;
     }
 
+    @Override
+    public boolean isDirectBufferPayload() {
+        return directBufferPayload;
+    }
+
+    @Override
+    public boolean isDirectBufferCorrelationData() {
+        return directBufferCorrelationData;
+    }
+
     @Override
     public @Nullable MqttClientInterceptors getInterceptors() {
         return interceptors;
     }
 
+    @Override
+    public @Nullable MqttPayloadCompressionConfig getPayloadCompressionConfig() {
+        return payloadCompressionConfig;
+    }
+
+    @Override
+    public @Nullable MqttAdaptiveSendWindowConfig getAdaptiveSendWindowConfig() {
+        return adaptiveSendWindowConfig;
+    }
+
+    @Override
+    public @Nullable Mqtt5ClientMetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
     @Override
     public MqttClientAdvancedConfigBuilder.@NotNull Default extend() {
         return new MqttClientAdvancedConfigBuilder.Default(this);
@@ -75,14 +119,24 @@ public class MqttClientAdvancedConfig implements Mqtt5ClientAdvancedConfig {
         final MqttClientAdvancedConfig that = (MqttClientAdvancedConfig) o;
 
         return (allowServerReAuth == that.allowServerReAuth) && (validatePayloadFormat == that.validatePayloadFormat) &&
-                Objects.equals(interceptors, that.interceptors);
+                (directBufferPayload == that.directBufferPayload) &&
+                (directBufferCorrelationData == that.directBufferCorrelationData) &&
+                Objects.equals(interceptors, that.interceptors) &&
+                Objects.equals(payloadCompressionConfig, that.payloadCompressionConfig) &&
+                Objects.equals(adaptiveSendWindowConfig, that.adaptiveSendWindowConfig) &&
+                Objects.equals(metricsRecorder, that.metricsRecorder);
     }
 
     @Override
     public int hashCode() {
         int result = Boolean.hashCode(allowServerReAuth);
         result = 31 * result + Boolean.hashCode(validatePayloadFormat);
+        result = 31 * result + Boolean.hashCode(directBufferPayload);
+        result = 31 * result + Boolean.hashCode(directBufferCorrelationData);
         result = 31 * result + Objects.hashCode(interceptors);
+        result = 31 * result + Objects.hashCode(payloadCompressionConfig);
+        result = 31 * result + Objects.hashCode(adaptiveSendWindowConfig);
+        result = 31 * result + Objects.hashCode(metricsRecorder);
         return result;
     }
 }
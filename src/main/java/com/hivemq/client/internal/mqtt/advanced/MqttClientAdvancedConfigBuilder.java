@@ -16,11 +16,16 @@
 
 package com.hivemq.client.internal.mqtt.advanced;
 
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfig;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfig;
 import com.hivemq.client.internal.mqtt.advanced.interceptor.MqttClientInterceptors;
 import com.hivemq.client.internal.mqtt.advanced.interceptor.MqttClientInterceptorsBuilder;
 import com.hivemq.client.internal.util.Checks;
 import com.hivemq.client.mqtt.mqtt5.advanced.Mqtt5ClientAdvancedConfigBuilder;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5AdaptiveSendWindowConfig;
 import com.hivemq.client.mqtt.mqtt5.advanced.interceptor.Mqtt5ClientInterceptors;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -33,14 +38,24 @@ public abstract class MqttClientAdvancedConfigBuilder<B extends MqttClientAdvanc
 
     private boolean allowServerReAuth;
     private boolean validatePayloadFormat;
+    private boolean directBufferPayload;
+    private boolean directBufferCorrelationData;
     private @Nullable MqttClientInterceptors interceptors;
+    private @Nullable MqttPayloadCompressionConfig payloadCompressionConfig;
+    private @Nullable MqttAdaptiveSendWindowConfig adaptiveSendWindowConfig;
+    private @Nullable Mqtt5ClientMetricsRecorder metricsRecorder;
 
     MqttClientAdvancedConfigBuilder() {}
 
     MqttClientAdvancedConfigBuilder(final @NotNull MqttClientAdvancedConfig advancedConfig) {
         allowServerReAuth = advancedConfig.isAllowServerReAuth();
         validatePayloadFormat = advancedConfig.isValidatePayloadFormat();
+        directBufferPayload = advancedConfig.isDirectBufferPayload();
+        directBufferCorrelationData = advancedConfig.isDirectBufferCorrelationData();
         interceptors = advancedConfig.getInterceptors();
+        payloadCompressionConfig = advancedConfig.getPayloadCompressionConfig();
+        adaptiveSendWindowConfig = advancedConfig.getAdaptiveSendWindowConfig();
+        metricsRecorder = advancedConfig.getMetricsRecorder();
     }
 
     abstract @NotNull B self();
@@ -55,6 +70,16 @@ public abstract class MqttClientAdvancedConfigBuilder<B extends MqttClientAdvanc
         return self();
     }
 
+    public @NotNull B directBufferPayload(final boolean directBufferPayload) {
+        this.directBufferPayload = directBufferPayload;
+        return self();
+    }
+
+    public @NotNull B directBufferCorrelationData(final boolean directBufferCorrelationData) {
+        this.directBufferCorrelationData = directBufferCorrelationData;
+        return self();
+    }
+
     public @NotNull B interceptors(final @Nullable Mqtt5ClientInterceptors interceptors) {
         this.interceptors = Checks.notImplementedOrNull(interceptors, MqttClientInterceptors.class, "Interceptors");
         return self();
@@ -64,8 +89,31 @@ public abstract class MqttClientAdvancedConfigBuilder<B extends MqttClientAdvanc
         return new MqttClientInterceptorsBuilder.Nested<>(interceptors, this::interceptors);
     }
 
+    public @NotNull B payloadCompressionConfig(
+            final @Nullable Mqtt5PayloadCompressionConfig payloadCompressionConfig) {
+
+        this.payloadCompressionConfig = Checks.notImplementedOrNull(payloadCompressionConfig,
+                MqttPayloadCompressionConfig.class, "Payload compression config");
+        return self();
+    }
+
+    public @NotNull B adaptiveSendWindowConfig(
+            final @Nullable Mqtt5AdaptiveSendWindowConfig adaptiveSendWindowConfig) {
+
+        this.adaptiveSendWindowConfig = Checks.notImplementedOrNull(adaptiveSendWindowConfig,
+                MqttAdaptiveSendWindowConfig.class, "Adaptive send window config");
+        return self();
+    }
+
+    public @NotNull B metricsRecorder(final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+        return self();
+    }
+
     public @NotNull MqttClientAdvancedConfig build() {
-        return new MqttClientAdvancedConfig(allowServerReAuth, validatePayloadFormat, interceptors);
+        return new MqttClientAdvancedConfig(allowServerReAuth, validatePayloadFormat, directBufferPayload,
+                directBufferCorrelationData, interceptors, payloadCompressionConfig, adaptiveSendWindowConfig,
+                metricsRecorder);
     }
 
     public static class Default extends MqttClientAdvancedConfigBuilder<Default>
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.advanced.compression;
+
+import com.hivemq.client.internal.util.ByteBufferUtil;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCodec;
+import io.netty.util.concurrent.FastThreadLocal;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Payload codec using the JDK {@link Deflater} and {@link Inflater}.
+ * <p>
+ * Deflater and Inflater instances hold native memory and are expensive to create, so one instance of each is kept per
+ * thread, which means per Netty event loop for the calls from the client.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttDeflatePayloadCodec implements Mqtt5PayloadCodec {
+
+    public static final @NotNull MqttDeflatePayloadCodec INSTANCE = new MqttDeflatePayloadCodec();
+
+    private static final @NotNull String NAME = "deflate";
+    private static final int MIN_OUTPUT_SIZE = 64;
+
+    private static final @NotNull FastThreadLocal<Deflater> DEFLATER = new FastThreadLocal<Deflater>() {
+        @Override
+        protected @NotNull Deflater initialValue() {
+            return new Deflater();
+        }
+
+        @Override
+        protected void onRemoval(final @NotNull Deflater deflater) {
+            deflater.end();
+        }
+    };
+
+    private static final @NotNull FastThreadLocal<Inflater> INFLATER = new FastThreadLocal<Inflater>() {
+        @Override
+        protected @NotNull Inflater initialValue() {
+            return new Inflater();
+        }
+
+        @Override
+        protected void onRemoval(final @NotNull Inflater inflater) {
+            inflater.end();
+        }
+    };
+
+    private MqttDeflatePayloadCodec() {}
+
+    @Override
+    public @NotNull String getName() {
+        return NAME;
+    }
+
+    @Override
+    public @NotNull ByteBuffer compress(final @NotNull ByteBuffer payload) {
+        final Deflater deflater = DEFLATER.get();
+        try {
+            setInput(payload, deflater::setInput);
+            deflater.finish();
+            byte[] output = new byte[Math.max(MIN_OUTPUT_SIZE, payload.remaining() >> 1)];
+            int length = 0;
+            while (!deflater.finished()) {
+                if (length == output.length) {
+                    output = Arrays.copyOf(output, output.length << 1);
+                }
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            return ByteBuffer.wrap(output, 0, length);
+        } finally {
+            deflater.reset();
+        }
+    }
+
+    @Override
+    public @NotNull ByteBuffer decompress(final @NotNull ByteBuffer payload, final int maxSize) {
+        final Inflater inflater = INFLATER.get();
+        try {
+            setInput(payload, inflater::setInput);
+            // one byte more than the maximum is allowed to detect an exceeding payload without inflating it completely
+            final int limit = (maxSize == Integer.MAX_VALUE) ? maxSize : maxSize + 1;
+            byte[] output = new byte[Math.min(Math.max(MIN_OUTPUT_SIZE, payload.remaining() << 2), limit)];
+            int length = 0;
+            while (!inflater.finished()) {
+                if (length == output.length) {
+                    if (length == limit) {
+                        throw exceedsMaxSize(maxSize);
+                    }
+                    output = Arrays.copyOf(output, (int) Math.min((long) output.length << 1, limit));
+                }
+                final int inflated = inflater.inflate(output, length, output.length - length);
+                if ((inflated == 0) && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalArgumentException("Compressed payload is truncated.");
+                }
+                length += inflated;
+            }
+            if (length > maxSize) {
+                throw exceedsMaxSize(maxSize);
+            }
+            return ByteBuffer.wrap(output, 0, length);
+        } catch (final DataFormatException e) {
+            throw new IllegalArgumentException("Compressed payload is malformed.", e);
+        } finally {
+            inflater.reset();
+        }
+    }
+
+    private static @NotNull IllegalArgumentException exceedsMaxSize(final int maxSize) {
+        return new IllegalArgumentException("Decompressed payload exceeds the maximum size of " + maxSize + " bytes.");
+    }
+
+    private static void setInput(final @NotNull ByteBuffer payload, final @NotNull InputConsumer consumer) {
+        if (payload.hasArray()) {
+            consumer.setInput(payload.array(), payload.arrayOffset() + payload.position(), payload.remaining());
+        } else {
+            final byte[] input = ByteBufferUtil.copyBytes(payload);
+            consumer.setInput(input, 0, input.length);
+        }
+    }
+
+    @FunctionalInterface
+    private interface InputConsumer {
+
+        void setInput(byte @NotNull [] input, int offset, int length);
+    }
+}
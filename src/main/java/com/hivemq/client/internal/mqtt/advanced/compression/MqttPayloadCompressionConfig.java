@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.advanced.compression;
+
+import com.hivemq.client.annotations.Immutable;
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicFilterImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicImpl;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCodec;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @author Silvio Giebl
+ */
+@Immutable
+public class MqttPayloadCompressionConfig implements Mqtt5PayloadCompressionConfig {
+
+    private final @NotNull Mqtt5PayloadCodec codec;
+    private final int minPayloadSize;
+    private final int maxDecompressedPayloadSize;
+    private final @NotNull ImmutableList<MqttTopicFilterImpl> topicFilters;
+
+    MqttPayloadCompressionConfig(
+            final @NotNull Mqtt5PayloadCodec codec,
+            final int minPayloadSize,
+            final int maxDecompressedPayloadSize,
+            final @NotNull ImmutableList<MqttTopicFilterImpl> topicFilters) {
+
+        this.codec = codec;
+        this.minPayloadSize = minPayloadSize;
+        this.maxDecompressedPayloadSize = maxDecompressedPayloadSize;
+        this.topicFilters = topicFilters;
+    }
+
+    @Override
+    public @NotNull Mqtt5PayloadCodec getCodec() {
+        return codec;
+    }
+
+    @Override
+    public int getMinPayloadSize() {
+        return minPayloadSize;
+    }
+
+    @Override
+    public int getMaxDecompressedPayloadSize() {
+        return maxDecompressedPayloadSize;
+    }
+
+    @Override
+    public @NotNull ImmutableList<MqttTopicFilterImpl> getTopicFilters() {
+        return topicFilters;
+    }
+
+    public boolean matches(final @NotNull MqttTopicImpl topic) {
+        if (topicFilters.isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < topicFilters.size(); i++) {
+            if (topicFilters.get(i).matches(topic)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfigBuilder extend() {
+        return new MqttPayloadCompressionConfigBuilder(this);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MqttPayloadCompressionConfig)) {
+            return false;
+        }
+        final MqttPayloadCompressionConfig that = (MqttPayloadCompressionConfig) o;
+
+        return codec.equals(that.codec) && (minPayloadSize == that.minPayloadSize) &&
+                (maxDecompressedPayloadSize == that.maxDecompressedPayloadSize) &&
+                topicFilters.equals(that.topicFilters);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = codec.hashCode();
+        result = 31 * result + minPayloadSize;
+        result = 31 * result + maxDecompressedPayloadSize;
+        result = 31 * result + topicFilters.hashCode();
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.advanced.compression;
+
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicFilterImpl;
+import com.hivemq.client.internal.mqtt.util.MqttChecks;
+import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.datatypes.MqttTopicFilter;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCodec;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfigBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttPayloadCompressionConfigBuilder implements Mqtt5PayloadCompressionConfigBuilder {
+
+    private @NotNull Mqtt5PayloadCodec codec = MqttDeflatePayloadCodec.INSTANCE;
+    private int minPayloadSize = Mqtt5PayloadCompressionConfig.DEFAULT_MIN_PAYLOAD_SIZE;
+    private int maxDecompressedPayloadSize = Mqtt5PayloadCompressionConfig.DEFAULT_MAX_DECOMPRESSED_PAYLOAD_SIZE;
+    private final @NotNull ImmutableList.Builder<MqttTopicFilterImpl> topicFiltersBuilder = ImmutableList.builder();
+
+    public MqttPayloadCompressionConfigBuilder() {}
+
+    MqttPayloadCompressionConfigBuilder(final @NotNull MqttPayloadCompressionConfig compressionConfig) {
+        codec = compressionConfig.getCodec();
+        minPayloadSize = compressionConfig.getMinPayloadSize();
+        maxDecompressedPayloadSize = compressionConfig.getMaxDecompressedPayloadSize();
+        topicFiltersBuilder.addAll(compressionConfig.getTopicFilters());
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfigBuilder codec(final @Nullable Mqtt5PayloadCodec codec) {
+        this.codec = Checks.notNull(codec, "Codec");
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfigBuilder minPayloadSize(final int minPayloadSize) {
+        if (minPayloadSize < 0) {
+            throw new IllegalArgumentException(
+                    "Minimum payload size must not be negative. Found: " + minPayloadSize);
+        }
+        this.minPayloadSize = minPayloadSize;
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfigBuilder maxDecompressedPayloadSize(
+            final int maxDecompressedPayloadSize) {
+
+        if (maxDecompressedPayloadSize <= 0) {
+            throw new IllegalArgumentException(
+                    "Maximum decompressed payload size must be positive. Found: " + maxDecompressedPayloadSize);
+        }
+        this.maxDecompressedPayloadSize = maxDecompressedPayloadSize;
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfigBuilder addTopicFilter(final @Nullable String topicFilter) {
+        topicFiltersBuilder.add(MqttTopicFilterImpl.of(topicFilter));
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfigBuilder addTopicFilter(final @Nullable MqttTopicFilter topicFilter) {
+        topicFiltersBuilder.add(MqttChecks.topicFilter(topicFilter));
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttPayloadCompressionConfig build() {
+        return new MqttPayloadCompressionConfig(codec, minPayloadSize, maxDecompressedPayloadSize,
+                topicFiltersBuilder.build());
+    }
+}
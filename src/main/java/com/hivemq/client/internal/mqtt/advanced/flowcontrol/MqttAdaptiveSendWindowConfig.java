@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.advanced.flowcontrol;
+
+import com.hivemq.client.annotations.Immutable;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5AdaptiveSendWindowConfig;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Silvio Giebl
+ */
+@Immutable
+public class MqttAdaptiveSendWindowConfig implements Mqtt5AdaptiveSendWindowConfig {
+
+    static final long DEFAULT_TARGET_LATENCY_NANOS =
+            TimeUnit.MILLISECONDS.toNanos(Mqtt5AdaptiveSendWindowConfig.DEFAULT_TARGET_LATENCY_MS);
+
+    private final int minWindow;
+    private final long targetLatencyNanos;
+
+    MqttAdaptiveSendWindowConfig(final int minWindow, final long targetLatencyNanos) {
+        this.minWindow = minWindow;
+        this.targetLatencyNanos = targetLatencyNanos;
+    }
+
+    @Override
+    public int getMinWindow() {
+        return minWindow;
+    }
+
+    @Override
+    public long getTargetLatency(final @NotNull TimeUnit timeUnit) {
+        return timeUnit.convert(targetLatencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getTargetLatencyNanos() {
+        return targetLatencyNanos;
+    }
+
+    @Override
+    public @NotNull MqttAdaptiveSendWindowConfigBuilder extend() {
+        return new MqttAdaptiveSendWindowConfigBuilder(this);
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MqttAdaptiveSendWindowConfig)) {
+            return false;
+        }
+        final MqttAdaptiveSendWindowConfig that = (MqttAdaptiveSendWindowConfig) o;
+
+        return (minWindow == that.minWindow) && (targetLatencyNanos == that.targetLatencyNanos);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * minWindow + Long.hashCode(targetLatencyNanos);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.advanced.flowcontrol;
+
+import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5AdaptiveSendWindowConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5AdaptiveSendWindowConfigBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttAdaptiveSendWindowConfigBuilder implements Mqtt5AdaptiveSendWindowConfigBuilder {
+
+    private int minWindow = Mqtt5AdaptiveSendWindowConfig.DEFAULT_MIN_WINDOW;
+    private long targetLatencyNanos = MqttAdaptiveSendWindowConfig.DEFAULT_TARGET_LATENCY_NANOS;
+
+    public MqttAdaptiveSendWindowConfigBuilder() {}
+
+    MqttAdaptiveSendWindowConfigBuilder(final @NotNull MqttAdaptiveSendWindowConfig sendWindowConfig) {
+        minWindow = sendWindowConfig.getMinWindow();
+        targetLatencyNanos = sendWindowConfig.getTargetLatencyNanos();
+    }
+
+    @Override
+    public @NotNull MqttAdaptiveSendWindowConfigBuilder minWindow(final int minWindow) {
+        if (minWindow <= 0) {
+            throw new IllegalArgumentException("Minimum window must be positive. Found: " + minWindow);
+        }
+        this.minWindow = minWindow;
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttAdaptiveSendWindowConfigBuilder targetLatency(
+            final long targetLatency, final @Nullable TimeUnit timeUnit) {
+
+        if (targetLatency <= 0) {
+            throw new IllegalArgumentException("Target latency must be positive. Found: " + targetLatency);
+        }
+        Checks.notNull(timeUnit, "Time unit");
+        targetLatencyNanos = timeUnit.toNanos(targetLatency);
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttAdaptiveSendWindowConfig build() {
+        return new MqttAdaptiveSendWindowConfig(minWindow, targetLatencyNanos);
+    }
+}
@@ -17,18 +17,23 @@
 package com.hivemq.client.internal.mqtt.codec.decoder;
 
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
 import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
 import com.hivemq.client.internal.mqtt.handler.disconnect.MqttDisconnectUtil;
 import com.hivemq.client.internal.mqtt.ioc.ConnectionScope;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnectRestrictions;
+import com.hivemq.client.internal.netty.NettyEventLoopMetrics;
+import com.hivemq.client.internal.netty.NettyEventLoopProvider;
 import com.hivemq.client.mqtt.exceptions.MqttDecodeException;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import com.hivemq.client.mqtt.mqtt5.message.Mqtt5MessageType;
 import com.hivemq.client.mqtt.mqtt5.message.disconnect.Mqtt5DisconnectReasonCode;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.inject.Inject;
 import java.util.List;
@@ -47,6 +52,9 @@ public class MqttDecoder extends ByteToMessageDecoder {
 
     private final @NotNull MqttMessageDecoders decoders;
     private final @NotNull MqttDecoderContext context;
+    private final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder;
+    private final @NotNull NettyEventLoopProvider eventLoopProvider;
+    private @Nullable NettyEventLoopMetrics eventLoopMetrics;
 
     @Inject
     MqttDecoder(
@@ -56,9 +64,18 @@ public class MqttDecoder extends ByteToMessageDecoder {
 
         this.decoders = decoders;
         final MqttConnectRestrictions restrictions = connect.getRestrictions();
+        final MqttClientAdvancedConfig advancedConfig = clientConfig.getAdvancedConfig();
         context = new MqttDecoderContext(restrictions.getMaximumPacketSize(), restrictions.getTopicAliasMaximum(),
                 restrictions.isRequestProblemInformation(), restrictions.isRequestResponseInformation(),
-                clientConfig.getAdvancedConfig().isValidatePayloadFormat(), false, false, false);
+                advancedConfig.isValidatePayloadFormat(), advancedConfig.isDirectBufferPayload(), false,
+                advancedConfig.isDirectBufferCorrelationData());
+        metricsRecorder = advancedConfig.getMetricsRecorder();
+        eventLoopProvider = clientConfig.getEventLoopProvider();
+    }
+
+    @Override
+    public void handlerAdded(final @NotNull ChannelHandlerContext ctx) {
+        eventLoopMetrics = eventLoopProvider.getEventLoopMetrics(ctx.channel().eventLoop());
     }
 
     @Override
@@ -108,6 +125,12 @@ public class MqttDecoder extends ByteToMessageDecoder {
             in.writerIndex(readerIndexAfterFixedHeader + remainingLength);
             out.add(decoder.decode(flags, in, context));
             in.writerIndex(writerIndex);
+            if (eventLoopMetrics != null) {
+                eventLoopMetrics.onMessage();
+            }
+            if (metricsRecorder != null) {
+                metricsRecorder.onPacketReceived(packetSize);
+            }
 
         } catch (final MqttDecoderException e) {
             in.clear();
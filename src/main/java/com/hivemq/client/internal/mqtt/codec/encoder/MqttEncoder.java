@@ -16,15 +16,20 @@
 
 package com.hivemq.client.internal.mqtt.codec.encoder;
 
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
 import com.hivemq.client.internal.mqtt.ioc.ConnectionScope;
 import com.hivemq.client.internal.mqtt.message.MqttMessage;
+import com.hivemq.client.internal.netty.NettyEventLoopMetrics;
+import com.hivemq.client.internal.netty.NettyEventLoopProvider;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.ChannelDuplexHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPromise;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import javax.inject.Inject;
 
@@ -40,14 +45,25 @@ public class MqttEncoder extends ChannelDuplexHandler {
 
     private final @NotNull MqttMessageEncoders encoders;
     private final @NotNull MqttEncoderContext context;
+    private final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder;
+    private final @NotNull NettyEventLoopProvider eventLoopProvider;
 
+    private @Nullable NettyEventLoopMetrics eventLoopMetrics;
     private boolean inRead = false;
     private boolean pendingFlush = false;
 
     @Inject
-    MqttEncoder(final @NotNull MqttMessageEncoders encoders) {
+    MqttEncoder(final @NotNull MqttMessageEncoders encoders, final @NotNull MqttClientConfig clientConfig) {
         this.encoders = encoders;
         context = new MqttEncoderContext(ByteBufAllocator.DEFAULT);
+        metricsRecorder = clientConfig.getAdvancedConfig().getMetricsRecorder();
+        eventLoopProvider = clientConfig.getEventLoopProvider();
+    }
+
+    @Override
+    public void handlerAdded(final @NotNull ChannelHandlerContext ctx) {
+        context.setAllocator(ctx.alloc());
+        eventLoopMetrics = eventLoopProvider.getEventLoopMetrics(ctx.channel().eventLoop());
     }
 
     public void onConnected(final @NotNull MqttClientConnectionConfig connectionConfig) {
@@ -67,6 +83,12 @@ public class MqttEncoder extends ChannelDuplexHandler {
                 throw new UnsupportedOperationException();
             }
             final ByteBuf out = messageEncoder.castAndEncode(message, context);
+            if (eventLoopMetrics != null) {
+                eventLoopMetrics.onMessage();
+            }
+            if (metricsRecorder != null) {
+                metricsRecorder.onPacketSent(out.readableBytes());
+            }
             ctx.write(out, promise);
         } else {
             ctx.write(msg, promise);
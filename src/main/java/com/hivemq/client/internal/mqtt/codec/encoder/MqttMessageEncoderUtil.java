@@ -22,6 +22,7 @@ import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
 import com.hivemq.client.internal.mqtt.message.MqttMessage;
 import com.hivemq.client.mqtt.exceptions.MqttEncodeException;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -86,6 +87,24 @@ public final class MqttMessageEncoderUtil {
         }
     }
 
+    /**
+     * Appends the given payload buffers to the encoded header of a message without copying them.
+     *
+     * @param header         the encoded header of the message.
+     * @param payloadBuffers the payload buffers of the message.
+     * @return the composite buffer containing the header and the payload buffers in order.
+     */
+    public static @NotNull ByteBuf wrapPayloadBuffers(
+            final @NotNull ByteBuf header, final @NotNull ByteBuffer @NotNull [] payloadBuffers) {
+
+        final ByteBuf[] components = new ByteBuf[payloadBuffers.length + 1];
+        components[0] = header;
+        for (int i = 0; i < payloadBuffers.length; i++) {
+            components[i + 1] = Unpooled.wrappedBuffer(payloadBuffers[i]);
+        }
+        return Unpooled.wrappedUnmodifiableBuffer(components);
+    }
+
     public static @NotNull MqttEncodeException maximumPacketSizeExceeded(
             final @NotNull MqttMessage message, final int encodedLength, final int maxPacketSize) {
 
@@ -17,6 +17,7 @@
 package com.hivemq.client.internal.mqtt.codec.encoder.mqtt3;
 
 import com.hivemq.client.internal.mqtt.codec.encoder.MqttEncoderContext;
+import com.hivemq.client.internal.mqtt.codec.encoder.MqttMessageEncoderUtil;
 import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
 import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
 import com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish;
@@ -53,10 +54,7 @@ public class Mqtt3PublishEncoder extends Mqtt3MessageEncoder<MqttStatefulPublish
             remainingLength += 2;
         }
 
-        final ByteBuffer payload = stateless.getRawPayload();
-        if (payload != null) {
-            remainingLength += payload.remaining();
-        }
+        remainingLength += stateless.getPayloadLength();
 
         return remainingLength;
     }
@@ -68,7 +66,16 @@ public class Mqtt3PublishEncoder extends Mqtt3MessageEncoder<MqttStatefulPublish
             final int encodedLength,
             final int remainingLength) {
 
-        final ByteBuffer payload = message.stateless().getRawPayload();
+        final MqttPublish stateless = message.stateless();
+        final ByteBuffer[] payloadBuffers = stateless.getRawPayloadBuffers();
+        if (payloadBuffers != null) {
+            final int encodedLengthWithoutPayload = encodedLength - stateless.getPayloadLength();
+            final ByteBuf out =
+                    context.getAllocator().ioBuffer(encodedLengthWithoutPayload, encodedLengthWithoutPayload);
+            encode(message, out, remainingLength);
+            return MqttMessageEncoderUtil.wrapPayloadBuffers(out, payloadBuffers);
+        }
+        final ByteBuffer payload = stateless.getRawPayload();
         if ((payload != null) && payload.isDirect()) {
             final int encodedLengthWithoutPayload = encodedLength - payload.remaining();
             final ByteBuf out =
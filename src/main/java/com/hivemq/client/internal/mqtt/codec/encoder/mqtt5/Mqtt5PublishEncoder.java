@@ -17,6 +17,7 @@
 package com.hivemq.client.internal.mqtt.codec.encoder.mqtt5;
 
 import com.hivemq.client.internal.mqtt.codec.encoder.MqttEncoderContext;
+import com.hivemq.client.internal.mqtt.codec.encoder.MqttMessageEncoderUtil;
 import com.hivemq.client.internal.mqtt.datatypes.MqttBinaryData;
 import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
 import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
@@ -64,10 +65,7 @@ public class Mqtt5PublishEncoder extends Mqtt5MessageWithUserPropertiesEncoder<M
             remainingLength += 2;
         }
 
-        final ByteBuffer payload = stateless.getRawPayload();
-        if (payload != null) {
-            remainingLength += payload.remaining();
-        }
+        remainingLength += stateless.getPayloadLength();
 
         return remainingLength;
     }
@@ -110,7 +108,16 @@ public class Mqtt5PublishEncoder extends Mqtt5MessageWithUserPropertiesEncoder<M
             final int propertyLength,
             final int omittedProperties) {
 
-        final ByteBuffer payload = message.stateless().getRawPayload();
+        final MqttPublish stateless = message.stateless();
+        final ByteBuffer[] payloadBuffers = stateless.getRawPayloadBuffers();
+        if (payloadBuffers != null) {
+            final int encodedLengthWithoutPayload = encodedLength - stateless.getPayloadLength();
+            final ByteBuf out =
+                    context.getAllocator().ioBuffer(encodedLengthWithoutPayload, encodedLengthWithoutPayload);
+            encode(message, out, remainingLength, propertyLength, omittedProperties);
+            return MqttMessageEncoderUtil.wrapPayloadBuffers(out, payloadBuffers);
+        }
+        final ByteBuffer payload = stateless.getRawPayload();
         if ((payload != null) && payload.isDirect()) {
             final int encodedLengthWithoutPayload = encodedLength - payload.remaining();
             final ByteBuf out =
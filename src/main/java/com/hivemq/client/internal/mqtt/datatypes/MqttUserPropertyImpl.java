@@ -99,7 +99,7 @@ public class MqttUserPropertyImpl implements Mqtt5UserProperty {
         value.encode(out);
     }
 
-    int encodedLength() {
+    public int encodedLength() {
         return 1 + name.encodedLength() + value.encodedLength();
     }
 
@@ -18,7 +18,9 @@ package com.hivemq.client.internal.mqtt.handler;
 
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.MqttClientSslConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
 import com.hivemq.client.internal.mqtt.MqttProxyConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttSocketConfigImpl;
 import com.hivemq.client.internal.mqtt.MqttWebSocketConfigImpl;
 import com.hivemq.client.internal.mqtt.codec.encoder.MqttEncoder;
 import com.hivemq.client.internal.mqtt.handler.auth.MqttAuthHandler;
@@ -35,9 +37,12 @@ import com.hivemq.client.mqtt.exceptions.ConnectionFailedException;
 import com.hivemq.client.mqtt.lifecycle.MqttDisconnectSource;
 import dagger.Lazy;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInboundHandlerAdapter;
-import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.socket.SocketChannelConfig;
+import io.netty.handler.ssl.SslHandler;
 import org.jetbrains.annotations.NotNull;
 
 import javax.inject.Inject;
@@ -93,20 +98,40 @@ public class MqttChannelInitializer extends ChannelInboundHandlerAdapter {
     public void handlerAdded(final @NotNull ChannelHandlerContext ctx) {
         ctx.pipeline().remove(this);
 
-        ((SocketChannel) ctx.channel()).config()
-                // close not on write error (concurrent write while remote closes the connection), only on read
-                // this ensures that always all bytes are read, e.g. of the DISCONNECT sent before the close
-                .setAutoClose(false)
-                .setKeepAlive(true)
-                .setTcpNoDelay(true)
-                .setConnectTimeoutMillis(clientConfig.getCurrentTransportConfig().getSocketConnectTimeoutMs());
-
+        initSocket(ctx.channel());
         initProxy(ctx.channel());
     }
 
+    private void initSocket(final @NotNull Channel channel) {
+        final MqttClientTransportConfigImpl transportConfig = clientConfig.getCurrentTransportConfig();
+        final MqttSocketConfigImpl socketConfig = transportConfig.getSocketConfig();
+        final ChannelConfig config = channel.config();
+        // close not on write error (concurrent write while remote closes the connection), only on read
+        // this ensures that always all bytes are read, e.g. of the DISCONNECT sent before the close
+        config.setAutoClose(false).setConnectTimeoutMillis(transportConfig.getSocketConnectTimeoutMs());
+        if (socketConfig.getWriteBufferHighWaterMark() != 0) {
+            config.setWriteBufferWaterMark(new WriteBufferWaterMark(socketConfig.getWriteBufferLowWaterMark(),
+                    socketConfig.getWriteBufferHighWaterMark()));
+        }
+        if (config instanceof SocketChannelConfig) { // TCP options do not apply to Unix domain sockets
+            final SocketChannelConfig socketChannelConfig = (SocketChannelConfig) config;
+            socketChannelConfig.setKeepAlive(socketConfig.isKeepAlive()).setTcpNoDelay(socketConfig.isTcpNoDelay());
+            if (socketConfig.getSendBufferSize() != 0) {
+                socketChannelConfig.setSendBufferSize(socketConfig.getSendBufferSize());
+            }
+            if (socketConfig.getReceiveBufferSize() != 0) {
+                socketChannelConfig.setReceiveBufferSize(socketConfig.getReceiveBufferSize());
+            }
+            if (socketConfig.hasNativeOptions()) {
+                clientConfig.getEventLoopProvider().initNativeSocket(channel, socketConfig);
+            }
+        }
+    }
+
     private void initProxy(final @NotNull Channel channel) {
-        final MqttProxyConfigImpl proxyConfig = clientConfig.getCurrentTransportConfig().getRawProxyConfig();
-        if (proxyConfig == null) {
+        final MqttClientTransportConfigImpl transportConfig = clientConfig.getCurrentTransportConfig();
+        final MqttProxyConfigImpl proxyConfig = transportConfig.getRawProxyConfig();
+        if ((proxyConfig == null) || (transportConfig.getRawUnixDomainSocketPath() != null)) {
             initSsl(channel);
         } else {
             MqttProxyInitializer.initChannel(channel, clientConfig, proxyConfig, this::initSsl, this::onError);
@@ -115,7 +140,8 @@ public class MqttChannelInitializer extends ChannelInboundHandlerAdapter {
 
     private void initSsl(final @NotNull Channel channel) {
         final MqttClientSslConfigImpl sslConfig = clientConfig.getCurrentTransportConfig().getRawSslConfig();
-        if (sslConfig == null) {
+        // a promoted standby connection is already TLS handshaked
+        if ((sslConfig == null) || (channel.pipeline().get(SslHandler.class) != null)) {
             initWebsocket(channel);
         } else {
             MqttSslInitializer.initChannel(channel, clientConfig, sslConfig, this::initWebsocket, this::onError);
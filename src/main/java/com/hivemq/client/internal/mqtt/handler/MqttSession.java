@@ -25,6 +25,7 @@ import com.hivemq.client.internal.mqtt.handler.subscribe.MqttSubscriptionHandler
 import com.hivemq.client.internal.mqtt.ioc.ClientScope;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
 import com.hivemq.client.internal.mqtt.message.connect.connack.MqttConnAck;
+import com.hivemq.client.internal.mqtt.message.connect.connack.MqttConnAckRestrictions;
 import com.hivemq.client.mqtt.exceptions.MqttSessionExpiredException;
 import com.hivemq.client.mqtt.mqtt5.exceptions.Mqtt5ConnAckException;
 import io.netty.channel.ChannelPipeline;
@@ -46,7 +47,9 @@ public class MqttSession {
     private final @NotNull MqttIncomingQosHandler incomingQosHandler;
     private final @NotNull MqttOutgoingQosHandler outgoingQosHandler;
     private boolean hasSession;
+    private boolean pipelined;
     private @Nullable ScheduledFuture<?> expireFuture;
+    private @NotNull MqttConnAckRestrictions serverRestrictions = MqttConnAckRestrictions.DEFAULT;
 
     @Inject
     MqttSession(
@@ -66,6 +69,7 @@ public class MqttSession {
             final @NotNull ChannelPipeline pipeline,
             final @NotNull EventLoop eventLoop) {
 
+        serverRestrictions = connAck.getRestrictions();
         if (hasSession && !connAck.isSessionPresent()) {
             final String message = "Session expired as CONNACK did not contain the session present flag.";
             end(new MqttSessionExpiredException(message, new Mqtt5ConnAckException(connAck, message)));
@@ -77,6 +81,51 @@ public class MqttSession {
             expireFuture = null;
         }
 
+        start(connectionConfig, pipeline, eventLoop);
+    }
+
+    /**
+     * Returns whether the session handlers can be started before the CONNACK is received. This is only the case if
+     * there is no session state, as then the handlers do not depend on the session present flag of the CONNACK.
+     *
+     * @return whether the session handlers can be started before the CONNACK is received.
+     */
+    @CallByThread("Netty EventLoop")
+    public boolean canStartPipelined() {
+        return !hasSession;
+    }
+
+    /**
+     * @return the restrictions of the server of the last connection, or the defaults if the client was not connected
+     *         yet.
+     */
+    @CallByThread("Netty EventLoop")
+    public @NotNull MqttConnAckRestrictions getServerRestrictions() {
+        return serverRestrictions;
+    }
+
+    /**
+     * Starts the session handlers before the CONNACK is received with a provisional connection configuration, so that
+     * pending (re)subscriptions and publishes are written directly after the CONNECT.
+     * <p>
+     * {@link #confirmPipelined(MqttConnAck, MqttClientConnectionConfig)} must be called when the CONNACK is received,
+     * {@link #abortPipelined()} if the connection is closed before.
+     */
+    @CallByThread("Netty EventLoop")
+    public void startPipelined(
+            final @NotNull MqttClientConnectionConfig provisionalConnectionConfig,
+            final @NotNull ChannelPipeline pipeline,
+            final @NotNull EventLoop eventLoop) {
+
+        pipelined = true;
+        start(provisionalConnectionConfig, pipeline, eventLoop);
+    }
+
+    private void start(
+            final @NotNull MqttClientConnectionConfig connectionConfig,
+            final @NotNull ChannelPipeline pipeline,
+            final @NotNull EventLoop eventLoop) {
+
         pipeline.addAfter(MqttDecoder.NAME, MqttSubscriptionHandler.NAME, subscriptionHandler);
         pipeline.addAfter(MqttDecoder.NAME, MqttIncomingQosHandler.NAME, incomingQosHandler);
         pipeline.addAfter(MqttDecoder.NAME, MqttOutgoingQosHandler.NAME, outgoingQosHandler);
@@ -85,6 +134,36 @@ public class MqttSession {
         outgoingQosHandler.onSessionStartOrResume(connectionConfig, eventLoop);
     }
 
+    /**
+     * Confirms a session that was started with {@link #startPipelined} when the CONNACK is received.
+     */
+    @CallByThread("Netty EventLoop")
+    public void confirmPipelined(
+            final @NotNull MqttConnAck connAck, final @NotNull MqttClientConnectionConfig connectionConfig) {
+
+        pipelined = false;
+        serverRestrictions = connAck.getRestrictions();
+        hasSession = true;
+        subscriptionHandler.onSessionConfirmed(connectionConfig);
+        incomingQosHandler.onSessionConfirmed(connectionConfig);
+        outgoingQosHandler.onSessionConfirmed(connectionConfig);
+    }
+
+    /**
+     * Rolls back a session that was started with {@link #startPipelined} if the connection is closed or the CONNACK is
+     * refused before the session was confirmed. Pending (re)subscriptions and publishes are kept for the next
+     * connection.
+     */
+    @CallByThread("Netty EventLoop")
+    public void abortPipelined() {
+        if (pipelined) {
+            pipelined = false;
+            outgoingQosHandler.onSessionAborted();
+            incomingQosHandler.onSessionAborted();
+            subscriptionHandler.onSessionAborted();
+        }
+    }
+
     @CallByThread("Netty EventLoop")
     public void expire(
             final @NotNull Throwable cause,
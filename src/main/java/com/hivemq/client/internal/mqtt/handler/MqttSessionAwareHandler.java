@@ -35,6 +35,23 @@ public abstract class MqttSessionAwareHandler extends MqttConnectionAwareHandler
         hasSession = true;
     }
 
+    /**
+     * Called when the ConnAck message is received for a connection on which the session was already started with a
+     * provisional connection configuration because of connect pipelining.
+     *
+     * @param connectionConfig the connection configuration negotiated with the ConnAck message.
+     */
+    public void onSessionConfirmed(final @NotNull MqttClientConnectionConfig connectionConfig) {}
+
+    /**
+     * Called if the connection is closed before the ConnAck message confirmed a session that was started with a
+     * provisional connection configuration because of connect pipelining. The handler must return to the state before
+     * the session was started, so that the next connection starts the session again.
+     */
+    public void onSessionAborted() {
+        hasSession = false;
+    }
+
     public void onSessionEnd(final @NotNull Throwable cause) {
         hasSession = false;
     }
@@ -67,6 +67,7 @@ abstract class AbstractMqttAuthHandler extends MqttTimeoutInboundHandler impleme
     AbstractMqttAuthHandler(
             final @NotNull MqttClientConfig clientConfig, final @NotNull Mqtt5EnhancedAuthMechanism authMechanism) {
 
+        super(clientConfig.getExecutorConfig().isNettyTimingWheel());
         this.clientConfig = clientConfig;
         this.authMechanism = authMechanism;
     }
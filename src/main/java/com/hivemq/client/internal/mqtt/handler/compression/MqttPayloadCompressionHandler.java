@@ -0,0 +1,178 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.compression;
+
+import com.hivemq.client.internal.logging.InternalLogger;
+import com.hivemq.client.internal.logging.InternalLoggerFactory;
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfig;
+import com.hivemq.client.internal.mqtt.datatypes.MqttUserPropertiesImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttUserPropertyImpl;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish;
+import com.hivemq.client.internal.netty.DefaultChannelOutboundHandler;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCodec;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PayloadFormatIndicator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Compresses the payload of outgoing and decompresses the payload of incoming PUBLISH messages.
+ * <p>
+ * It is added between the decoder and the QoS handlers, so the QoS handlers and the application only see uncompressed
+ * payloads. Compressed payloads are marked with a User Property containing the codec name, which also carries a UTF-8
+ * payload format indicator, as the indicator itself is removed from compressed payloads.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttPayloadCompressionHandler extends ChannelInboundHandlerAdapter
+        implements DefaultChannelOutboundHandler {
+
+    public static final @NotNull String NAME = "compression";
+    private static final @NotNull InternalLogger LOGGER =
+            InternalLoggerFactory.getLogger(MqttPayloadCompressionHandler.class);
+
+    private final @NotNull MqttPayloadCompressionConfig compressionConfig;
+    private final int maxDecompressedPayloadSize;
+    private final @NotNull MqttUserPropertyImpl marker;
+    private final @NotNull MqttUserPropertyImpl utf8Marker;
+
+    public MqttPayloadCompressionHandler(
+            final @NotNull MqttPayloadCompressionConfig compressionConfig, final int maximumPacketSize) {
+
+        this.compressionConfig = compressionConfig;
+        maxDecompressedPayloadSize = Math.min(compressionConfig.getMaxDecompressedPayloadSize(), maximumPacketSize);
+        final String codecName = compressionConfig.getCodec().getName();
+        marker = MqttUserPropertyImpl.of(Mqtt5PayloadCompressionConfig.USER_PROPERTY_NAME, codecName);
+        utf8Marker = MqttUserPropertyImpl.of(Mqtt5PayloadCompressionConfig.USER_PROPERTY_NAME,
+                codecName + Mqtt5PayloadCompressionConfig.UTF_8_SUFFIX);
+    }
+
+    @Override
+    public void write(
+            final @NotNull ChannelHandlerContext ctx,
+            final @NotNull Object msg,
+            final @NotNull ChannelPromise promise) {
+
+        if (msg instanceof MqttStatefulPublish) {
+            ctx.write(compress((MqttStatefulPublish) msg), promise);
+        } else {
+            ctx.write(msg, promise);
+        }
+    }
+
+    @Override
+    public void channelRead(final @NotNull ChannelHandlerContext ctx, final @NotNull Object msg) {
+        if (msg instanceof MqttStatefulPublish) {
+            ctx.fireChannelRead(decompress((MqttStatefulPublish) msg));
+        } else {
+            ctx.fireChannelRead(msg);
+        }
+    }
+
+    private @NotNull MqttStatefulPublish compress(final @NotNull MqttStatefulPublish statefulPublish) {
+        final MqttPublish publish = statefulPublish.stateless();
+        final int payloadLength = publish.getPayloadLength();
+        if ((payloadLength == 0) || (payloadLength < compressionConfig.getMinPayloadSize()) ||
+                !compressionConfig.matches(publish.getTopic()) ||
+                (indexOfMarker(publish.getUserProperties()) != -1)) {
+            return statefulPublish;
+        }
+        final ByteBuffer payload = publish.getRawSinglePayload();
+        assert payload != null;
+        final Mqtt5PayloadCodec codec = compressionConfig.getCodec();
+        final ByteBuffer compressed;
+        try {
+            compressed = codec.compress(payload);
+        } catch (final Throwable t) {
+            LOGGER.error("Unexpected exception thrown by payload codec, sending uncompressed payload.", t);
+            return statefulPublish;
+        }
+        final MqttUserPropertyImpl publishMarker =
+                (publish.getRawPayloadFormatIndicator() == Mqtt5PayloadFormatIndicator.UTF_8) ? utf8Marker : marker;
+        // only worth it if the packet gets smaller including the marker
+        if (compressed.remaining() + publishMarker.encodedLength() >= payloadLength) {
+            return statefulPublish;
+        }
+        final ImmutableList<MqttUserPropertyImpl> userProperties = publish.getUserProperties().asList();
+        final ImmutableList.Builder<MqttUserPropertyImpl> userPropertiesBuilder =
+                ImmutableList.builder(userProperties.size() + 1);
+        userPropertiesBuilder.addAll(userProperties).add(publishMarker);
+        // the compressed payload is binary, so it must not be declared as UTF-8, the marker carries the indicator
+        return statefulPublish.withStateless(
+                new MqttPublish(publish.getTopic(), compressed, null, publish.getQos(), publish.isRetain(),
+                        publish.getRawMessageExpiryInterval(), null, publish.getRawContentType(),
+                        publish.getRawResponseTopic(), publish.getRawCorrelationData(),
+                        MqttUserPropertiesImpl.build(userPropertiesBuilder), null, null));
+    }
+
+    private @NotNull MqttStatefulPublish decompress(final @NotNull MqttStatefulPublish statefulPublish) {
+        final MqttPublish publish = statefulPublish.stateless();
+        final int markerIndex = indexOfMarker(publish.getUserProperties());
+        if (markerIndex == -1) {
+            return statefulPublish;
+        }
+        final ByteBuffer payload = publish.getRawPayload();
+        ByteBuffer decompressed = null;
+        if (payload != null) {
+            try {
+                decompressed = compressionConfig.getCodec().decompress(payload, maxDecompressedPayloadSize);
+                // a custom codec might not enforce the maximum size itself
+                if (decompressed.remaining() > maxDecompressedPayloadSize) {
+                    throw new IllegalArgumentException("Decompressed payload exceeds the maximum size of " +
+                            maxDecompressedPayloadSize + " bytes.");
+                }
+            } catch (final Throwable t) {
+                LOGGER.warn("Could not decompress payload of PUBLISH on topic {}, delivering it compressed: {}",
+                        publish.getTopic(), t);
+                return statefulPublish;
+            }
+        }
+        final ImmutableList<MqttUserPropertyImpl> userProperties = publish.getUserProperties().asList();
+        final Mqtt5PayloadFormatIndicator payloadFormatIndicator =
+                userProperties.get(markerIndex).equals(utf8Marker) ? Mqtt5PayloadFormatIndicator.UTF_8 :
+                        publish.getRawPayloadFormatIndicator();
+        final ImmutableList.Builder<MqttUserPropertyImpl> userPropertiesBuilder =
+                ImmutableList.builder(userProperties.size() - 1);
+        for (int i = 0; i < userProperties.size(); i++) {
+            if (i != markerIndex) {
+                userPropertiesBuilder.add(userProperties.get(i));
+            }
+        }
+        return statefulPublish.withStateless(
+                new MqttPublish(publish.getTopic(), decompressed, null, publish.getQos(), publish.isRetain(),
+                        publish.getRawMessageExpiryInterval(), payloadFormatIndicator, publish.getRawContentType(),
+                        publish.getRawResponseTopic(), publish.getRawCorrelationData(),
+                        MqttUserPropertiesImpl.build(userPropertiesBuilder), null, null));
+    }
+
+    private int indexOfMarker(final @NotNull MqttUserPropertiesImpl userProperties) {
+        final ImmutableList<MqttUserPropertyImpl> list = userProperties.asList();
+        for (int i = 0; i < list.size(); i++) {
+            final MqttUserPropertyImpl userProperty = list.get(i);
+            if (userProperty.equals(marker) || userProperty.equals(utf8Marker)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
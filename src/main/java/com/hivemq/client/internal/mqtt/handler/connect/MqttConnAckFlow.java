@@ -30,16 +30,22 @@ public class MqttConnAckFlow {
     private final @Nullable SingleObserver<? super Mqtt5ConnAck> observer;
     private final @NotNull Disposable disposable;
     private final int attempts;
+    private final boolean reconnect;
+    private final long reconnectStartNanos;
     private boolean done;
 
     MqttConnAckFlow(final @NotNull SingleObserver<? super Mqtt5ConnAck> observer) {
         this.observer = observer;
         disposable = new MqttConnAckDisposable();
         attempts = 0;
+        reconnect = false;
+        reconnectStartNanos = 0;
     }
 
     @SuppressWarnings("CopyConstructorMissesField")
-    MqttConnAckFlow(final @Nullable MqttConnAckFlow oldFlow) {
+    MqttConnAckFlow(final @Nullable MqttConnAckFlow oldFlow, final long reconnectStartNanos) {
+        reconnect = true;
+        this.reconnectStartNanos = reconnectStartNanos;
         if (oldFlow == null) {
             observer = null;
             disposable = new MqttConnAckDisposable();
@@ -79,6 +85,14 @@ public class MqttConnAckFlow {
         return attempts;
     }
 
+    boolean isReconnect() {
+        return reconnect;
+    }
+
+    long getReconnectStartNanos() {
+        return reconnectStartNanos;
+    }
+
     private static class MqttConnAckDisposable implements Disposable {
 
         private volatile boolean disposed;
@@ -21,15 +21,18 @@ import com.hivemq.client.internal.logging.InternalLoggerFactory;
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
 import com.hivemq.client.internal.mqtt.exceptions.MqttClientStateExceptions;
+import com.hivemq.client.internal.mqtt.handler.MqttChannelInitializer;
+import com.hivemq.client.internal.mqtt.ioc.ConnectionComponent;
 import com.hivemq.client.internal.mqtt.lifecycle.MqttClientDisconnectedContextImpl;
 import com.hivemq.client.internal.mqtt.lifecycle.MqttClientReconnector;
 import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
+import com.hivemq.client.internal.netty.NettyEventLoopProvider;
 import com.hivemq.client.mqtt.exceptions.ConnectionFailedException;
 import com.hivemq.client.mqtt.lifecycle.MqttClientDisconnectedContext;
 import com.hivemq.client.mqtt.lifecycle.MqttClientDisconnectedListener;
 import com.hivemq.client.mqtt.lifecycle.MqttDisconnectSource;
 import com.hivemq.client.mqtt.mqtt5.message.connect.connack.Mqtt5ConnAck;
-import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
 import io.netty.channel.EventLoop;
 import io.reactivex.Single;
 import io.reactivex.SingleObserver;
@@ -37,6 +40,8 @@ import io.reactivex.internal.disposables.EmptyDisposable;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
 import java.util.concurrent.TimeUnit;
 
 import static com.hivemq.client.mqtt.MqttClientState.*;
@@ -77,18 +82,75 @@ public class MqttConnAckSingle extends Single<Mqtt5ConnAck> {
         if (flow.getDisposable().isDisposed()) {
             clientConfig.releaseEventLoop();
             clientConfig.getRawState().set(DISCONNECTED);
+        } else if ((clientConfig.getRawStandbyConnection() != null) && !eventLoop.inEventLoop()) {
+            // the standby connection is only accessed on the event loop, so it can be promoted there
+            eventLoop.execute(() -> connect(clientConfig, connect, flow, eventLoop));
         } else {
-            final Bootstrap bootstrap = clientConfig.getClientComponent()
+            final MqttClientTransportConfigImpl transportConfig = clientConfig.getCurrentTransportConfig();
+            if (NettyEventLoopProvider.of(transportConfig) != clientConfig.getEventLoopProvider()) {
+                // the event loop is held during reconnecting, so a reconnect can not switch to a different transport
+                final ConnectionFailedException e = new ConnectionFailedException(
+                        "The transport configuration requires a different Netty transport than the event loop of " +
+                                "the client. Switching to it on reconnect is not supported.");
+                eventLoop.execute(() -> fail(clientConfig, e, flow));
+                return;
+            }
+            final String unixDomainSocketPath = transportConfig.getRawUnixDomainSocketPath();
+            final SocketAddress remoteAddress;
+            final SocketAddress localAddress;
+            if (unixDomainSocketPath == null) {
+                remoteAddress = transportConfig.getRemoteAddress();
+                localAddress = transportConfig.getRawLocalAddress();
+            } else if (clientConfig.getEventLoopProvider().supportsDomainSockets()) {
+                remoteAddress = clientConfig.getEventLoopProvider().createDomainSocketAddress(unixDomainSocketPath);
+                localAddress = null;
+            } else {
+                // a reconnect can never succeed with this configuration, so the connect fails without reconnecting
+                final ConnectionFailedException e = new ConnectionFailedException(
+                        "Unix domain sockets are only supported by the native epoll transport.");
+                eventLoop.execute(() -> fail(clientConfig, e, flow));
+                return;
+            }
+
+            clientConfig.setCurrentServerAddress(transportConfig.getServerAddress());
+            final ConnectionComponent connectionComponent = clientConfig.getClientComponent()
                     .connectionComponentBuilder()
                     .connect(connect)
                     .connAckFlow(flow)
-                    .build()
-                    .bootstrap();
+                    .build();
 
-            final MqttClientTransportConfigImpl transportConfig = clientConfig.getCurrentTransportConfig();
+            final MqttStandbyConnection standbyConnection = clientConfig.getRawStandbyConnection();
+            final Channel standbyChannel = (standbyConnection != null) ? standbyConnection.promote() : null;
+            if (standbyChannel != null) {
+                standbyChannel.pipeline().addLast(connectionComponent.channelInitializer());
+                return;
+            }
+
+            if ((unixDomainSocketPath == null) && (transportConfig.getRawProxyConfig() == null) &&
+                    !transportConfig.getAdditionalServerAddresses().isEmpty()) {
+                final MqttChannelInitializer channelInitializer = connectionComponent.channelInitializer();
+                eventLoop.execute(() -> MqttEndpointRace.start(clientConfig, transportConfig, eventLoop,
+                        new MqttEndpointRace.Callback() {
+                            @Override
+                            public void onConnected(
+                                    final @NotNull Channel channel, final @NotNull InetSocketAddress serverAddress) {
 
-            bootstrap.group(eventLoop)
-                    .connect(transportConfig.getRemoteAddress(), transportConfig.getRawLocalAddress())
+                                clientConfig.setCurrentServerAddress(serverAddress);
+                                channel.pipeline().addLast(channelInitializer);
+                            }
+
+                            @Override
+                            public void onFailed(final @NotNull Throwable cause) {
+                                reconnect(clientConfig, MqttDisconnectSource.CLIENT,
+                                        new ConnectionFailedException(cause), connect, flow, eventLoop);
+                            }
+                        }));
+                return;
+            }
+
+            connectionComponent.bootstrap()
+                    .group(eventLoop)
+                    .connect(remoteAddress, localAddress)
                     .addListener(future -> {
                         final Throwable cause = future.cause();
                         if (cause != null) {
@@ -105,6 +167,22 @@ public class MqttConnAckSingle extends Single<Mqtt5ConnAck> {
         }
     }
 
+    private static void fail(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull Throwable cause,
+            final @NotNull MqttConnAckFlow flow) {
+
+        if (flow.setDone()) {
+            final MqttStandbyConnection standbyConnection = clientConfig.getRawStandbyConnection();
+            if (standbyConnection != null) {
+                standbyConnection.close();
+            }
+            clientConfig.getRawState().set(DISCONNECTED);
+            clientConfig.releaseEventLoop();
+            flow.onError(cause);
+        }
+    }
+
     public static void reconnect(
             final @NotNull MqttClientConfig clientConfig,
             final @NotNull MqttDisconnectSource source,
@@ -125,6 +203,10 @@ public class MqttConnAckSingle extends Single<Mqtt5ConnAck> {
             final @NotNull MqttConnect connect,
             final @NotNull EventLoop eventLoop) {
 
+        final MqttStandbyConnection standbyConnection = clientConfig.getRawStandbyConnection();
+        if (standbyConnection != null) {
+            standbyConnection.onConnectionLost();
+        }
         reconnect(clientConfig, source, cause, connect, 0, null, eventLoop);
     }
 
@@ -150,7 +232,14 @@ public class MqttConnAckSingle extends Single<Mqtt5ConnAck> {
             }
         }
 
+        final MqttStandbyConnection standbyConnection = clientConfig.getRawStandbyConnection();
         if (reconnector.isReconnect()) {
+            final long reconnectStartNanos =
+                    ((flow != null) && flow.isReconnect()) ? flow.getReconnectStartNanos() : System.nanoTime();
+            // a ready standby connection is promoted without delay
+            final long delayNanos = ((standbyConnection != null) &&
+                    standbyConnection.isReady(reconnector.getTransportConfig())) ? 0 :
+                    reconnector.getDelay(TimeUnit.NANOSECONDS);
             clientConfig.getRawState().set(DISCONNECTED_RECONNECT);
             eventLoop.schedule(() -> {
                 reconnector.getFuture().whenComplete((ignored, throwable) -> {
@@ -158,10 +247,14 @@ public class MqttConnAckSingle extends Single<Mqtt5ConnAck> {
                         if (clientConfig.getRawState().compareAndSet(DISCONNECTED_RECONNECT, CONNECTING_RECONNECT)) {
 
                             clientConfig.setCurrentTransportConfig(reconnector.getTransportConfig());
-                            connect(clientConfig, reconnector.getConnect(), new MqttConnAckFlow(flow), eventLoop);
+                            connect(clientConfig, reconnector.getConnect(),
+                                    new MqttConnAckFlow(flow, reconnectStartNanos), eventLoop);
                         }
 
                     } else if (clientConfig.getRawState().compareAndSet(DISCONNECTED_RECONNECT, DISCONNECTED)) {
+                        if (standbyConnection != null) {
+                            eventLoop.execute(standbyConnection::close);
+                        }
                         clientConfig.releaseEventLoop();
                         if (flow != null) {
                             if (throwable == null) {
@@ -172,11 +265,14 @@ public class MqttConnAckSingle extends Single<Mqtt5ConnAck> {
                         }
                     }
                 });
-            }, reconnector.getDelay(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+            }, delayNanos, TimeUnit.NANOSECONDS);
             clientConfig.setResubscribeIfSessionExpired(reconnector.isResubscribeIfSessionExpired());
             clientConfig.setRepublishIfSessionExpired(reconnector.isRepublishIfSessionExpired());
             reconnector.afterOnDisconnected();
         } else {
+            if (standbyConnection != null) {
+                standbyConnection.close();
+            }
             clientConfig.getRawState().set(DISCONNECTED);
             clientConfig.releaseEventLoop();
             if (flow != null) {
@@ -20,13 +20,16 @@ import com.hivemq.client.internal.logging.InternalLogger;
 import com.hivemq.client.internal.logging.InternalLoggerFactory;
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfig;
 import com.hivemq.client.internal.mqtt.codec.decoder.MqttDecoder;
 import com.hivemq.client.internal.mqtt.codec.encoder.MqttEncoder;
 import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
 import com.hivemq.client.internal.mqtt.handler.MqttSession;
+import com.hivemq.client.internal.mqtt.handler.compression.MqttPayloadCompressionHandler;
 import com.hivemq.client.internal.mqtt.handler.disconnect.MqttDisconnectEvent;
 import com.hivemq.client.internal.mqtt.handler.disconnect.MqttDisconnectUtil;
 import com.hivemq.client.internal.mqtt.handler.ping.MqttPingHandler;
+import com.hivemq.client.internal.mqtt.handler.ssl.MqttSslInitializer;
 import com.hivemq.client.internal.mqtt.handler.util.MqttTimeoutInboundHandler;
 import com.hivemq.client.internal.mqtt.ioc.ConnectionScope;
 import com.hivemq.client.internal.mqtt.lifecycle.MqttClientConnectedContextImpl;
@@ -41,10 +44,12 @@ import com.hivemq.client.mqtt.MqttVersion;
 import com.hivemq.client.mqtt.lifecycle.MqttClientConnectedContext;
 import com.hivemq.client.mqtt.lifecycle.MqttClientConnectedListener;
 import com.hivemq.client.mqtt.lifecycle.MqttDisconnectSource;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import com.hivemq.client.mqtt.mqtt5.exceptions.Mqtt5ConnAckException;
 import com.hivemq.client.mqtt.mqtt5.message.disconnect.Mqtt5DisconnectReasonCode;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPipeline;
 import org.jetbrains.annotations.NotNull;
 
 import javax.inject.Inject;
@@ -73,6 +78,7 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
     private final @NotNull MqttDecoder decoder;
 
     private boolean connectWritten = false;
+    private boolean pipelined = false;
     private long connectFlushTime;
 
     @Inject
@@ -83,6 +89,7 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
             final @NotNull MqttSession session,
             final @NotNull MqttDecoder decoder) {
 
+        super(clientConfig.getExecutorConfig().isNettyTimingWheel());
         this.connect = connect;
         this.connAckFlow = connAckFlow;
         this.clientConfig = clientConfig;
@@ -110,6 +117,11 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
      * The MQTT message Decoder is added after the write succeeded as the server is not allowed to send messages before
      * the CONNECT is sent.
      * <p>
+     * If connect pipelining is possible, the session is started directly after the CONNECT is written, so that pending
+     * (re)subscriptions and publishes are written without waiting for the CONNACK. The Decoder is added beforehand as
+     * the session handlers are placed after it. The payload compression handler is added before the session handlers
+     * write, so that pipelined publishes are compressed as well.
+     * <p>
      * If the write fails, the channel is closed.
      *
      * @param ctx the channel handler context.
@@ -118,8 +130,24 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
         if (!connectWritten) {
             connectWritten = true;
             connectFlushTime = System.nanoTime();
-            ctx.writeAndFlush((connect.getRawEnhancedAuthMechanism() == null) ?
-                    connect.createStateful(clientConfig.getRawClientIdentifier(), null) : connect).addListener(this);
+            if ((connect.getRawEnhancedAuthMechanism() == null) &&
+                    clientConfig.getCurrentTransportConfig().isConnectPipelining() && session.canStartPipelined()) {
+                pipelined = true;
+                final Channel channel = ctx.channel();
+                ctx.write(connect.createStateful(clientConfig.getRawClientIdentifier(), null)).addListener(this);
+                ctx.pipeline().addAfter(MqttEncoder.NAME, MqttDecoder.NAME, decoder);
+                final MqttClientConnectionConfig connectionConfig = createConnectionConfig(connect.getKeepAlive(),
+                        connect.getSessionExpiryInterval(), session.getServerRestrictions(), 0, channel);
+                ((MqttEncoder) ctx.pipeline().get(MqttEncoder.NAME)).onConnected(connectionConfig);
+                session.startPipelined(connectionConfig, ctx.pipeline(), channel.eventLoop());
+                addPayloadCompressionHandler(ctx.pipeline(), connectionConfig);
+                // the session handlers write in tasks, this flushes the CONNECT if they have nothing to write
+                channel.eventLoop().execute(ctx::flush);
+            } else {
+                ctx.writeAndFlush((connect.getRawEnhancedAuthMechanism() == null) ?
+                        connect.createStateful(clientConfig.getRawClientIdentifier(), null) : connect)
+                        .addListener(this);
+            }
         }
     }
 
@@ -128,7 +156,9 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
         if (connect.getRawEnhancedAuthMechanism() == null) {
             scheduleTimeout(ctx.channel());
         }
-        ctx.pipeline().addAfter(MqttEncoder.NAME, MqttDecoder.NAME, decoder);
+        if (!pipelined) {
+            ctx.pipeline().addAfter(MqttEncoder.NAME, MqttDecoder.NAME, decoder);
+        }
     }
 
     @Override
@@ -166,20 +196,36 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
 
             ((MqttEncoder) channel.pipeline().get(MqttEncoder.NAME)).onConnected(connectionConfig);
 
-            session.startOrResume(connAck, connectionConfig, channel.pipeline(), channel.eventLoop());
+            if (pipelined) {
+                session.confirmPipelined(connAck, connectionConfig);
+            } else {
+                session.startOrResume(connAck, connectionConfig, channel.pipeline(), channel.eventLoop());
+                addPayloadCompressionHandler(channel.pipeline(), connectionConfig);
+            }
 
             final int keepAlive = connectionConfig.getKeepAlive();
             if (keepAlive > 0) {
-                final MqttPingHandler pingHandler = new MqttPingHandler(keepAlive, connectFlushTime, System.nanoTime());
+                final MqttPingHandler pingHandler = new MqttPingHandler(keepAlive, connectFlushTime, System.nanoTime(),
+                        clientConfig.getExecutorConfig().isNettyTimingWheel());
                 channel.pipeline().addAfter(MqttDecoder.NAME, MqttPingHandler.NAME, pingHandler);
             }
 
             clientConfig.getRawState().set(MqttClientState.CONNECTED);
 
+            final MqttStandbyConnection standbyConnection =
+                    (clientConfig.getCurrentTransportConfig().getRawStandbyServerAddress() == null) ?
+                            clientConfig.getRawStandbyConnection() : clientConfig.getStandbyConnection();
+            long standbyFailoverNanos = -1;
+            if (standbyConnection != null) {
+                standbyFailoverNanos = standbyConnection.getFailoverNanos();
+                standbyConnection.open(channel.eventLoop());
+            }
+
             final ImmutableList<MqttClientConnectedListener> connectedListeners = clientConfig.getConnectedListeners();
             if (!connectedListeners.isEmpty()) {
-                final MqttClientConnectedContext context =
-                        MqttClientConnectedContextImpl.of(clientConfig, connect, connAck);
+                final boolean sslSessionResumed = MqttSslInitializer.isSessionResumed(channel);
+                final MqttClientConnectedContext context = MqttClientConnectedContextImpl.of(clientConfig, connect,
+                        connAck, sslSessionResumed, standbyFailoverNanos);
                 for (final MqttClientConnectedListener connectedListener : connectedListeners) {
                     try {
                         connectedListener.onConnected(context);
@@ -189,10 +235,34 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
                 }
             }
 
+            final Mqtt5ClientMetricsRecorder metricsRecorder = clientConfig.getAdvancedConfig().getMetricsRecorder();
+            if ((metricsRecorder != null) && connAckFlow.isReconnect()) {
+                metricsRecorder.onReconnected(
+                        connAckFlow.getAttempts(), System.nanoTime() - connAckFlow.getReconnectStartNanos());
+            }
+
             connAckFlow.onSuccess(connAck);
         }
     }
 
+    /**
+     * Adds the payload compression handler between the Decoder and the session handlers if payload compression is
+     * configured.
+     *
+     * @param pipeline         the channel pipeline.
+     * @param connectionConfig the connection config, its maximum packet size also limits decompressed payloads.
+     */
+    private void addPayloadCompressionHandler(
+            final @NotNull ChannelPipeline pipeline, final @NotNull MqttClientConnectionConfig connectionConfig) {
+
+        final MqttPayloadCompressionConfig compressionConfig =
+                clientConfig.getAdvancedConfig().getPayloadCompressionConfig();
+        if ((compressionConfig != null) && (clientConfig.getMqttVersion() == MqttVersion.MQTT_5_0)) {
+            pipeline.addAfter(MqttDecoder.NAME, MqttPayloadCompressionHandler.NAME,
+                    new MqttPayloadCompressionHandler(compressionConfig, connectionConfig.getMaximumPacketSize()));
+        }
+    }
+
     /**
      * The server must not send other messages before CONNACK.
      * <p>
@@ -257,11 +327,24 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
             sessionExpiryInterval = connect.getSessionExpiryInterval();
         }
 
-        final MqttConnectRestrictions restrictions = connect.getRestrictions();
         final MqttConnAckRestrictions connAckRestrictions = connAck.getRestrictions();
+        final MqttClientConnectionConfig connectionConfig = createConnectionConfig(keepAlive, sessionExpiryInterval,
+                connAckRestrictions, connAckRestrictions.getTopicAliasMaximum(), channel);
+        clientConfig.setConnectionConfig(connectionConfig);
+        return connectionConfig;
+    }
+
+    private @NotNull MqttClientConnectionConfig createConnectionConfig(
+            final int keepAlive,
+            final long sessionExpiryInterval,
+            final @NotNull MqttConnAckRestrictions connAckRestrictions,
+            final int topicAliasMaximum,
+            final @NotNull Channel channel) {
+
+        final MqttConnectRestrictions restrictions = connect.getRestrictions();
 
         // @formatter:off
-        final MqttClientConnectionConfig connectionConfig = new MqttClientConnectionConfig(
+        return new MqttClientConnectionConfig(
                 clientConfig.getCurrentTransportConfig(),
                 keepAlive,
                 connect.isCleanStart(),
@@ -277,7 +360,7 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
                 restrictions.isRequestResponseInformation(),
                 Math.min(restrictions.getSendMaximum(), connAckRestrictions.getReceiveMaximum()),
                 Math.min(restrictions.getSendMaximumPacketSize(), connAckRestrictions.getMaximumPacketSize()),
-                Math.min(restrictions.getSendTopicAliasMaximum(), connAckRestrictions.getTopicAliasMaximum()),
+                Math.min(restrictions.getSendTopicAliasMaximum(), topicAliasMaximum),
                 connAckRestrictions.getMaximumQos(),
                 connAckRestrictions.isRetainAvailable(),
                 connAckRestrictions.isWildcardSubscriptionAvailable(),
@@ -285,9 +368,6 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
                 connAckRestrictions.areSubscriptionIdentifiersAvailable(),
                 channel);
         // @formatter:on
-
-        clientConfig.setConnectionConfig(connectionConfig);
-        return connectionConfig;
     }
 
     @Override
@@ -296,6 +376,10 @@ public class MqttConnectHandler extends MqttTimeoutInboundHandler {
 
         super.onDisconnectEvent(ctx, disconnectEvent);
 
+        if (pipelined) {
+            session.abortPipelined();
+        }
+
         MqttConnAckSingle.reconnect(clientConfig, disconnectEvent.getSource(), disconnectEvent.getCause(), connect,
                 connAckFlow, ctx.channel().eventLoop());
     }
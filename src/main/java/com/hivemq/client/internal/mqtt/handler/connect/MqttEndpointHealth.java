@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import com.hivemq.client.internal.annotations.NotThreadSafe;
+import org.jetbrains.annotations.NotNull;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Health scores of the server endpoints a client connected to, used to order the connect attempts of subsequent
+ * (re)connects.
+ * <p>
+ * Endpoints with fewer consecutive failures are tried first. Among those, endpoints with a lower average connect time
+ * are tried first. Endpoints without a score are tried after endpoints that connected successfully, but before
+ * endpoints that failed. Endpoints with equal scores keep their configured order.
+ * <p>
+ * Only accessed during connecting which is never done concurrently for the same client.
+ *
+ * @author Silvio Giebl
+ */
+@NotThreadSafe
+public class MqttEndpointHealth {
+
+    private static final double CONNECT_TIME_WEIGHT = 0.3;
+
+    private final @NotNull HashMap<InetSocketAddress, Score> scores = new HashMap<>();
+
+    void onSuccess(final @NotNull InetSocketAddress address, final long connectNanos) {
+        final Score score = scores.computeIfAbsent(address, k -> new Score());
+        score.consecutiveFailures = 0;
+        score.connectNanos = (score.connectNanos == 0) ? connectNanos :
+                (long) (score.connectNanos + CONNECT_TIME_WEIGHT * (connectNanos - score.connectNanos));
+    }
+
+    void onFailure(final @NotNull InetSocketAddress address) {
+        scores.computeIfAbsent(address, k -> new Score()).consecutiveFailures++;
+    }
+
+    <T> @NotNull List<T> order(
+            final @NotNull List<T> candidates, final @NotNull Function<T, InetSocketAddress> key) {
+
+        final List<T> ordered = new ArrayList<>(candidates);
+        // List.sort is stable, so candidates with equal scores keep their configured order
+        ordered.sort(Comparator.comparingInt((T candidate) -> consecutiveFailures(key.apply(candidate)))
+                .thenComparingLong(candidate -> {
+                    final long connectNanos = connectNanos(key.apply(candidate));
+                    return (connectNanos == 0) ? Long.MAX_VALUE : connectNanos;
+                }));
+        return ordered;
+    }
+
+    int consecutiveFailures(final @NotNull InetSocketAddress address) {
+        final Score score = scores.get(address);
+        return (score == null) ? 0 : score.consecutiveFailures;
+    }
+
+    long connectNanos(final @NotNull InetSocketAddress address) {
+        final Score score = scores.get(address);
+        return (score == null) ? 0 : score.connectNanos;
+    }
+
+    private static class Score {
+
+        int consecutiveFailures;
+        long connectNanos;
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.*;
+import io.netty.resolver.AddressResolver;
+import io.netty.resolver.DefaultAddressResolverGroup;
+import io.netty.util.concurrent.Future;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects a socket to one of multiple server endpoints in a happy eyeballs style (RFC 8305): all IP addresses of all
+ * server addresses are resolved, ordered by their {@link MqttEndpointHealth health}, and connect attempts are started
+ * staggered by the connect attempt delay. A failed attempt immediately starts the next one. The first established
+ * connection wins and all other attempts are closed.
+ * <p>
+ * Only the socket connect is raced. The MQTT connection (and TLS, WebSocket) is only established on the winning socket,
+ * as parallel MQTT connections with the same client identifier would take over each other's session.
+ * <p>
+ * All methods are called on the event loop of the client.
+ *
+ * @author Silvio Giebl
+ */
+class MqttEndpointRace {
+
+    interface Callback {
+
+        void onConnected(@NotNull Channel channel, @NotNull InetSocketAddress serverAddress);
+
+        void onFailed(@NotNull Throwable cause);
+    }
+
+    private static final @NotNull ChannelHandler EMPTY_INITIALIZER = new ChannelInitializer<Channel>() {
+        @Override
+        protected void initChannel(final @NotNull Channel channel) {}
+    };
+
+    @CallByThread("Netty EventLoop")
+    static void start(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttClientTransportConfigImpl transportConfig,
+            final @NotNull EventLoop eventLoop,
+            final @NotNull Callback callback) {
+
+        final List<InetSocketAddress> serverAddresses = new ArrayList<>();
+        serverAddresses.add(transportConfig.getServerAddress());
+        serverAddresses.addAll(transportConfig.getAdditionalServerAddresses());
+
+        final MqttEndpointRace race = new MqttEndpointRace(clientConfig, transportConfig, eventLoop, callback,
+                serverAddresses.size());
+        final AddressResolver<InetSocketAddress> resolver = DefaultAddressResolverGroup.INSTANCE.getResolver(eventLoop);
+        for (int i = 0; i < serverAddresses.size(); i++) {
+            final int index = i;
+            final InetSocketAddress serverAddress = serverAddresses.get(i);
+            if (serverAddress.isUnresolved()) {
+                final Future<List<InetSocketAddress>> future = resolver.resolveAll(serverAddress);
+                future.addListener(f -> {
+                    if (future.isSuccess()) {
+                        race.onResolved(index, serverAddress, future.getNow());
+                    } else {
+                        race.onResolveFailed(index, future.cause());
+                    }
+                });
+            } else {
+                race.onResolved(index, serverAddress, null);
+            }
+        }
+    }
+
+    private final @NotNull MqttClientConfig clientConfig;
+    private final @NotNull EventLoop eventLoop;
+    private final @NotNull Callback callback;
+    private final @NotNull Bootstrap bootstrap;
+    private final @Nullable InetSocketAddress localAddress;
+    private final int connectAttemptDelayMs;
+
+    private final @NotNull List<@Nullable List<Candidate>> resolved;
+    private int unresolvedCount;
+    private @NotNull List<Candidate> candidates = new ArrayList<>();
+    private int nextCandidate;
+    private int pendingAttempts;
+    private final @NotNull List<Channel> channels = new ArrayList<>();
+    private @Nullable ScheduledFuture<?> nextAttemptFuture;
+    private @Nullable Throwable lastCause;
+    private boolean done;
+
+    private MqttEndpointRace(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttClientTransportConfigImpl transportConfig,
+            final @NotNull EventLoop eventLoop,
+            final @NotNull Callback callback,
+            final int serverAddressCount) {
+
+        this.clientConfig = clientConfig;
+        this.eventLoop = eventLoop;
+        this.callback = callback;
+        bootstrap = new Bootstrap().group(eventLoop)
+                .channelFactory(clientConfig.getEventLoopProvider().getChannelFactory())
+                .option(ChannelOption.ALLOCATOR, clientConfig.getByteBufAllocator())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, transportConfig.getSocketConnectTimeoutMs())
+                .handler(EMPTY_INITIALIZER);
+        localAddress = transportConfig.getRawLocalAddress();
+        connectAttemptDelayMs = transportConfig.getConnectAttemptDelayMs();
+        resolved = new ArrayList<>(serverAddressCount);
+        for (int i = 0; i < serverAddressCount; i++) {
+            resolved.add(null);
+        }
+        unresolvedCount = serverAddressCount;
+    }
+
+    private void onResolved(
+            final int index,
+            final @NotNull InetSocketAddress serverAddress,
+            final @Nullable List<InetSocketAddress> addresses) {
+
+        final List<Candidate> candidates = new ArrayList<>();
+        if (addresses == null) {
+            candidates.add(new Candidate(serverAddress, serverAddress));
+        } else {
+            for (final InetSocketAddress address : addresses) {
+                candidates.add(new Candidate(serverAddress, address));
+            }
+        }
+        resolved.set(index, candidates);
+        onResolveComplete();
+    }
+
+    private void onResolveFailed(final int index, final @NotNull Throwable cause) {
+        resolved.set(index, new ArrayList<>());
+        lastCause = cause;
+        onResolveComplete();
+    }
+
+    private void onResolveComplete() {
+        if (--unresolvedCount > 0) {
+            return;
+        }
+        final List<Candidate> candidates = new ArrayList<>();
+        for (final List<Candidate> serverAddressCandidates : resolved) {
+            if (serverAddressCandidates != null) {
+                candidates.addAll(serverAddressCandidates);
+            }
+        }
+        if (candidates.isEmpty()) {
+            done = true;
+            callback.onFailed((lastCause == null) ? new UnknownHostException() : lastCause);
+            return;
+        }
+        this.candidates = clientConfig.getEndpointHealth().order(candidates, candidate -> candidate.address);
+        startNextAttempt();
+    }
+
+    private void startNextAttempt() {
+        if (done || (nextCandidate >= candidates.size())) {
+            return;
+        }
+        if (nextAttemptFuture != null) {
+            nextAttemptFuture.cancel(false);
+            nextAttemptFuture = null;
+        }
+        final Candidate candidate = candidates.get(nextCandidate++);
+        pendingAttempts++;
+        final long startNanos = System.nanoTime();
+        final ChannelFuture future = bootstrap.connect(candidate.address, localAddress);
+        channels.add(future.channel());
+        future.addListener(f -> onAttemptComplete(future, candidate, startNanos));
+        if (nextCandidate < candidates.size()) {
+            nextAttemptFuture =
+                    eventLoop.schedule(this::startNextAttempt, connectAttemptDelayMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void onAttemptComplete(
+            final @NotNull ChannelFuture future, final @NotNull Candidate candidate, final long startNanos) {
+
+        pendingAttempts--;
+        final Channel channel = future.channel();
+        if (done) {
+            channel.close();
+            return;
+        }
+        final MqttEndpointHealth endpointHealth = clientConfig.getEndpointHealth();
+        if (future.isSuccess()) {
+            done = true;
+            if (nextAttemptFuture != null) {
+                nextAttemptFuture.cancel(false);
+                nextAttemptFuture = null;
+            }
+            endpointHealth.onSuccess(candidate.address, System.nanoTime() - startNanos);
+            for (final Channel other : channels) {
+                if (other != channel) {
+                    other.close();
+                }
+            }
+            channels.clear();
+            callback.onConnected(channel, candidate.serverAddress);
+        } else {
+            endpointHealth.onFailure(candidate.address);
+            if (nextCandidate < candidates.size()) {
+                startNextAttempt();
+            } else if (pendingAttempts == 0) {
+                done = true;
+                channels.clear();
+                callback.onFailed(future.cause());
+            }
+        }
+    }
+
+    private static class Candidate {
+
+        final @NotNull InetSocketAddress serverAddress;
+        final @NotNull InetSocketAddress address;
+
+        Candidate(final @NotNull InetSocketAddress serverAddress, final @NotNull InetSocketAddress address) {
+            this.serverAddress = serverAddress;
+            this.address = address;
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.annotations.NotThreadSafe;
+import com.hivemq.client.internal.logging.InternalLogger;
+import com.hivemq.client.internal.logging.InternalLoggerFactory;
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientSslConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.handler.ssl.MqttSslInitializer;
+import com.hivemq.client.mqtt.MqttClientState;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.*;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hot-standby connection of a client to its standby server address.
+ * <p>
+ * While the client is connected, a socket to the server address the client is not currently connected to is kept open
+ * (TLS handshaked if configured) without sending a CONNECT message. When the client reconnects, the standby socket is
+ * promoted to the new connection without reconnect delay, so only the CONNECT/CONNACK exchange (and a WebSocket
+ * upgrade if configured) is left on the failover path.
+ * <p>
+ * Servers close connections that do not send a CONNECT message in time. The standby socket is therefore replaced after
+ * a maximum idle time that is shorter than the CONNECT timeout of common servers. The replacement is opened first and
+ * the old socket is only closed when the replacement is ready, so the standby connection stays ready while it is
+ * renewed. If the standby socket is closed nevertheless, it is opened again after a retry delay.
+ * <p>
+ * Only accessed on the event loop of the client.
+ *
+ * @author Silvio Giebl
+ */
+@NotThreadSafe
+public class MqttStandbyConnection {
+
+    private static final @NotNull InternalLogger LOGGER = InternalLoggerFactory.getLogger(MqttStandbyConnection.class);
+    private static final long MAX_IDLE_MS = 5_000;
+    private static final int RETRY_DELAY_SECONDS = 5;
+
+    private static final @NotNull ChannelHandler EMPTY_INITIALIZER = new ChannelInitializer<Channel>() {
+        @Override
+        protected void initChannel(final @NotNull Channel channel) {}
+    };
+
+    private final @NotNull MqttClientConfig clientConfig;
+    private final long maxIdleMs;
+    private @Nullable MqttClientTransportConfigImpl transportConfig;
+    private @Nullable InetSocketAddress serverAddress;
+    private @Nullable Channel channel; // ready to be promoted
+    private @Nullable Channel nextChannel; // connecting or TLS handshaking, replaces channel when ready
+    private @Nullable ScheduledFuture<?> retryFuture;
+    private long connectionLostNanos = -1;
+    private long failoverStartNanos = -1;
+
+    public MqttStandbyConnection(final @NotNull MqttClientConfig clientConfig) {
+        this(clientConfig, MAX_IDLE_MS);
+    }
+
+    MqttStandbyConnection(final @NotNull MqttClientConfig clientConfig, final long maxIdleMs) {
+        this.clientConfig = clientConfig;
+        this.maxIdleMs = maxIdleMs;
+    }
+
+    /**
+     * Opens the standby connection for the current transport configuration if it is not already open.
+     *
+     * @param eventLoop the event loop of the client.
+     */
+    @CallByThread("Netty EventLoop")
+    void open(final @NotNull EventLoop eventLoop) {
+        final MqttClientTransportConfigImpl transportConfig = clientConfig.getCurrentTransportConfig();
+        final InetSocketAddress standbyServerAddress = transportConfig.getRawStandbyServerAddress();
+        if ((standbyServerAddress == null) || (transportConfig.getRawProxyConfig() != null) ||
+                (transportConfig.getRawUnixDomainSocketPath() != null)) {
+            close();
+            return;
+        }
+        final InetSocketAddress serverAddress = clientConfig.getCurrentServerAddress().equals(standbyServerAddress) ?
+                transportConfig.getServerAddress() : standbyServerAddress;
+        if (((channel != null) || (nextChannel != null) || (retryFuture != null)) &&
+                transportConfig.equals(this.transportConfig) && serverAddress.equals(this.serverAddress)) {
+            return;
+        }
+        close();
+        this.transportConfig = transportConfig;
+        this.serverAddress = serverAddress;
+        connect(eventLoop, transportConfig, serverAddress);
+    }
+
+    private void connect(
+            final @NotNull EventLoop eventLoop,
+            final @NotNull MqttClientTransportConfigImpl transportConfig,
+            final @NotNull InetSocketAddress serverAddress) {
+
+        final ChannelFuture future = new Bootstrap().group(eventLoop)
+                .channelFactory(clientConfig.getEventLoopProvider().getChannelFactory())
+                .option(ChannelOption.ALLOCATOR, clientConfig.getByteBufAllocator())
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, transportConfig.getSocketConnectTimeoutMs())
+                .handler(EMPTY_INITIALIZER)
+                .connect(serverAddress, transportConfig.getRawLocalAddress());
+        final Channel channel = future.channel();
+        nextChannel = channel;
+        channel.closeFuture().addListener(f -> onClosed(channel));
+        future.addListener(f -> {
+            if (!future.isSuccess()) {
+                onError(channel, future.cause());
+                return;
+            }
+            // the CONNECT timeout of the server starts when the socket is connected
+            eventLoop.schedule(() -> renew(channel), maxIdleMs, TimeUnit.MILLISECONDS);
+            final MqttClientSslConfigImpl sslConfig = transportConfig.getRawSslConfig();
+            if (sslConfig == null) {
+                onReady(channel);
+            } else {
+                MqttSslInitializer.initChannel(channel, clientConfig, sslConfig, serverAddress, this::onReady,
+                        this::onError);
+            }
+        });
+    }
+
+    private void onReady(final @NotNull Channel channel) {
+        if (channel != nextChannel) {
+            return;
+        }
+        final Channel oldChannel = this.channel;
+        this.channel = channel;
+        nextChannel = null;
+        if (oldChannel != null) {
+            oldChannel.close();
+        }
+    }
+
+    private void onError(final @NotNull Channel channel, final @NotNull Throwable cause) {
+        if (channel == nextChannel) {
+            LOGGER.warn("Could not open standby connection to {}: {}", serverAddress, cause.getMessage());
+        }
+        channel.close();
+    }
+
+    /**
+     * Opens a replacement for the given standby socket before the server closes it for not sending a CONNECT message.
+     */
+    private void renew(final @NotNull Channel channel) {
+        final MqttClientTransportConfigImpl transportConfig = this.transportConfig;
+        final InetSocketAddress serverAddress = this.serverAddress;
+        if ((channel == this.channel) && (nextChannel == null) && (transportConfig != null) &&
+                (serverAddress != null)) {
+            connect(channel.eventLoop(), transportConfig, serverAddress);
+        } else if (channel == nextChannel) { // the TLS handshake took longer than the maximum idle time
+            channel.close();
+        }
+    }
+
+    private void onClosed(final @NotNull Channel channel) {
+        if (channel == this.channel) {
+            this.channel = null;
+        } else if (channel == nextChannel) {
+            nextChannel = null;
+        } else {
+            return; // replaced, closed on purpose or promoted
+        }
+        if ((this.channel != null) || (nextChannel != null) || (retryFuture != null)) {
+            return;
+        }
+        final EventLoop eventLoop = channel.eventLoop();
+        retryFuture = eventLoop.schedule(() -> {
+            retryFuture = null;
+            final MqttClientTransportConfigImpl transportConfig = this.transportConfig;
+            final InetSocketAddress serverAddress = this.serverAddress;
+            if ((this.channel == null) && (nextChannel == null) && (transportConfig != null) &&
+                    (serverAddress != null) && (clientConfig.getRawState().get() == MqttClientState.CONNECTED)) {
+                connect(eventLoop, transportConfig, serverAddress);
+            }
+        }, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * @param transportConfig the transport configuration of the upcoming reconnect.
+     * @return whether a standby connection for the given transport configuration is ready to be promoted.
+     */
+    boolean isReady(final @NotNull MqttClientTransportConfigImpl transportConfig) {
+        final Channel channel = this.channel;
+        return (channel != null) && channel.isActive() && transportConfig.equals(this.transportConfig);
+    }
+
+    /**
+     * Records the time the connection was lost, used to measure the failover time.
+     */
+    void onConnectionLost() {
+        connectionLostNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes the standby connection to promote it to the new connection of the client. The current server address of
+     * the client is set to the server address of the standby connection.
+     *
+     * @return the standby connection or null if no standby connection for the current transport configuration is
+     *         ready.
+     */
+    @CallByThread("Netty EventLoop")
+    @Nullable Channel promote() {
+        final Channel channel = this.channel;
+        if ((channel == null) || !isReady(clientConfig.getCurrentTransportConfig())) {
+            failoverStartNanos = -1;
+            return null;
+        }
+        assert serverAddress != null;
+        clientConfig.setCurrentServerAddress(serverAddress);
+        failoverStartNanos = connectionLostNanos;
+        connectionLostNanos = -1;
+        this.channel = null;
+        close(); // a replacement in progress is not needed anymore, the roles of the server addresses are swapped
+        return channel;
+    }
+
+    /**
+     * @return the time between losing the previous connection and now if the current connection is a promoted standby
+     *         connection, otherwise -1.
+     */
+    long getFailoverNanos() {
+        final long failoverStartNanos = this.failoverStartNanos;
+        this.failoverStartNanos = -1;
+        return (failoverStartNanos == -1) ? -1 : System.nanoTime() - failoverStartNanos;
+    }
+
+    /**
+     * Closes the standby connection, for example if the client is disconnected and does not reconnect.
+     */
+    void close() {
+        final Channel channel = this.channel;
+        final Channel nextChannel = this.nextChannel;
+        final ScheduledFuture<?> retryFuture = this.retryFuture;
+        this.channel = null;
+        this.nextChannel = null;
+        this.retryFuture = null;
+        transportConfig = null;
+        serverAddress = null;
+        if (channel != null) {
+            channel.close();
+        }
+        if (nextChannel != null) {
+            nextChannel.close();
+        }
+        if (retryFuture != null) {
+            retryFuture.cancel(false);
+        }
+    }
+}
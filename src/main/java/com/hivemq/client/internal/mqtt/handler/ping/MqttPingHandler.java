@@ -23,12 +23,11 @@ import com.hivemq.client.internal.mqtt.ioc.ConnectionScope;
 import com.hivemq.client.internal.mqtt.message.ping.MqttPingReq;
 import com.hivemq.client.internal.mqtt.message.ping.MqttPingResp;
 import com.hivemq.client.internal.netty.DefaultChannelOutboundHandler;
+import com.hivemq.client.internal.netty.NettyTimeout;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.util.concurrent.ScheduledFuture;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.TimeUnit;
 
@@ -54,12 +53,18 @@ public class MqttPingHandler extends MqttConnectionAwareHandler
     private boolean pingReqWritten;
     private boolean pingReqFlushed;
     private boolean messageRead;
-    private @Nullable ScheduledFuture<?> timeoutFuture;
+    private final @NotNull NettyTimeout timeout;
+
+    public MqttPingHandler(
+            final int keepAlive,
+            final long lastFlushTimeNanos,
+            final long lastReadTimeNanos,
+            final boolean timingWheel) {
 
-    public MqttPingHandler(final int keepAlive, final long lastFlushTimeNanos, final long lastReadTimeNanos) {
         keepAliveNanos = TimeUnit.SECONDS.toNanos(keepAlive) - TimeUnit.MILLISECONDS.toNanos(100);
         this.lastFlushTimeNanos = lastFlushTimeNanos;
         this.lastReadTimeNanos = lastReadTimeNanos;
+        timeout = new NettyTimeout(this, timingWheel);
     }
 
     @Override
@@ -86,7 +91,7 @@ public class MqttPingHandler extends MqttConnectionAwareHandler
     }
 
     private void schedule(final @NotNull ChannelHandlerContext ctx, final long delayNanos) {
-        timeoutFuture = ctx.executor().schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+        timeout.schedule(ctx.executor(), delayNanos);
     }
 
     private long nextDelay(final long timeNanos) {
@@ -134,9 +139,6 @@ public class MqttPingHandler extends MqttConnectionAwareHandler
     protected void onDisconnectEvent(
             final @NotNull ChannelHandlerContext ctx, final @NotNull MqttDisconnectEvent disconnectEvent) {
 
-        if (timeoutFuture != null) {
-            timeoutFuture.cancel(false);
-            timeoutFuture = null;
-        }
+        timeout.cancel();
     }
 }
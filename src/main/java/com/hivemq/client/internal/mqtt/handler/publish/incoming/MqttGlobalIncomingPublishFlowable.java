@@ -46,6 +46,15 @@ public class MqttGlobalIncomingPublishFlowable extends Flowable<Mqtt5Publish> {
 
     @Override
     protected void subscribeActual(final @NotNull Subscriber<? super Mqtt5Publish> subscriber) {
+        subscribeFlow(subscriber, filter, clientConfig, manualAcknowledgement);
+    }
+
+    public static void subscribeFlow(
+            final @NotNull Subscriber<? super Mqtt5Publish> subscriber,
+            final @NotNull MqttGlobalPublishFilter filter,
+            final @NotNull MqttClientConfig clientConfig,
+            final boolean manualAcknowledgement) {
+
         final ClientComponent clientComponent = clientConfig.getClientComponent();
         final MqttIncomingQosHandler incomingQosHandler = clientComponent.incomingQosHandler();
         final MqttSubscriptionHandler subscriptionHandler = clientComponent.subscriptionHandler();
@@ -25,7 +25,9 @@ import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
 import com.hivemq.client.internal.util.collections.ChunkedArrayQueue;
 import com.hivemq.client.internal.util.collections.HandleList.Handle;
 import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author Silvio Giebl
@@ -39,6 +41,7 @@ class MqttIncomingPublishService {
 
     private final @NotNull MqttIncomingQosHandler incomingQosHandler;
     final @NotNull MqttIncomingPublishFlows incomingPublishFlows;
+    private final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder;
 
     private final @NotNull ChunkedArrayQueue<MqttStatefulPublishWithFlows> qos0Queue = new ChunkedArrayQueue<>(32);
     private final ChunkedArrayQueue<MqttStatefulPublishWithFlows>.@NotNull Iterator qos0It = qos0Queue.iterator();
@@ -53,16 +56,21 @@ class MqttIncomingPublishService {
 
     MqttIncomingPublishService(
             final @NotNull MqttIncomingQosHandler incomingQosHandler,
-            final @NotNull MqttIncomingPublishFlows incomingPublishFlows) {
+            final @NotNull MqttIncomingPublishFlows incomingPublishFlows,
+            final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder) {
 
         this.incomingQosHandler = incomingQosHandler;
         this.incomingPublishFlows = incomingPublishFlows;
+        this.metricsRecorder = metricsRecorder;
     }
 
     @CallByThread("Netty EventLoop")
     void onPublishQos0(final @NotNull MqttStatefulPublishWithFlows publishWithFlows, final int receiveMaximum) {
         if (qos0Queue.size() >= receiveMaximum) { // TODO receiveMaximum
             LOGGER.warn("QoS 0 publish message dropped.");
+            if (metricsRecorder != null) {
+                metricsRecorder.onIncomingPublishDropped(MqttQos.AT_MOST_ONCE);
+            }
             if (QOS_0_DROP_OLDEST) {
                 qos0It.reset();
                 final MqttStatefulPublishWithFlows flows = qos0It.next();
@@ -80,6 +88,9 @@ class MqttIncomingPublishService {
         if (!publishWithFlows.isEmpty()) {
             qos0Queue.offer(publishWithFlows);
         }
+        if (metricsRecorder != null) {
+            metricsRecorder.onIncomingPublishQueue(MqttQos.AT_MOST_ONCE, qos0Queue.size());
+        }
     }
 
     @CallByThread("Netty EventLoop")
@@ -94,6 +105,9 @@ class MqttIncomingPublishService {
         } else {
             qos1Or2Queue.offer(publishWithFlows);
         }
+        if (metricsRecorder != null) {
+            metricsRecorder.onIncomingPublishQueue(publishWithFlows.publish.stateless().getQos(), qos1Or2Queue.size());
+        }
         return true;
     }
 
@@ -102,6 +116,9 @@ class MqttIncomingPublishService {
         incomingPublishFlows.findMatching(publishWithFlows);
         if (publishWithFlows.isEmpty()) {
             LOGGER.warn("No publish flow registered for {}.", publishWithFlows.publish);
+            if (metricsRecorder != null) {
+                metricsRecorder.onIncomingPublishDropped(publishWithFlows.publish.stateless().getQos());
+            }
         }
         drain();
         for (Handle<MqttIncomingPublishFlow> h = publishWithFlows.getFirst(); h != null; h = h.getNext()) {
@@ -80,7 +80,8 @@ public class MqttIncomingQosHandler extends MqttSessionAwareHandler {
             final @NotNull MqttIncomingPublishFlows incomingPublishFlows) {
 
         this.clientConfig = clientConfig;
-        incomingPublishService = new MqttIncomingPublishService(this, incomingPublishFlows);
+        incomingPublishService = new MqttIncomingPublishService(this, incomingPublishFlows,
+                clientConfig.getAdvancedConfig().getMetricsRecorder());
     }
 
     @Override
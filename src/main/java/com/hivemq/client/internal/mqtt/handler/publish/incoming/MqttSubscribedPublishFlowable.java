@@ -48,6 +48,15 @@ public class MqttSubscribedPublishFlowable extends FlowableWithSingle<Mqtt5Publi
 
     @Override
     protected void subscribeActual(final @NotNull Subscriber<? super Mqtt5Publish> subscriber) {
+        subscribeFlow(subscriber, subscribe, clientConfig, manualAcknowledgement);
+    }
+
+    public static void subscribeFlow(
+            final @NotNull Subscriber<? super Mqtt5Publish> subscriber,
+            final @NotNull MqttSubscribe subscribe,
+            final @NotNull MqttClientConfig clientConfig,
+            final boolean manualAcknowledgement) {
+
         final ClientComponent clientComponent = clientConfig.getClientComponent();
         final MqttIncomingQosHandler incomingQosHandler = clientComponent.incomingQosHandler();
         final MqttSubscriptionHandler subscriptionHandler = clientComponent.subscriptionHandler();
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.logging.InternalLogger;
+import com.hivemq.client.internal.logging.InternalLoggerFactory;
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.exceptions.MqttClientStateExceptions;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.reactivex.Flowable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+
+/**
+ * Publishes a single message and invokes a callback with its result, without allocating a future or any RxJava
+ * observers per publish.
+ *
+ * @author Silvio Giebl
+ */
+public final class MqttAckCallback {
+
+    private static final @NotNull InternalLogger LOGGER = InternalLoggerFactory.getLogger(MqttAckCallback.class);
+
+    /**
+     * @param executor the executor the callback is invoked on or <code>null</code> to use the dispatch scheduler.
+     */
+    public static void publish(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttPublish publish,
+            final @NotNull BiConsumer<? super Mqtt5PublishResult, ? super Throwable> callback,
+            final @Nullable Executor executor) {
+
+        if (clientConfig.getState().isConnectedOrReconnect()) {
+            final ClientComponent clientComponent = clientConfig.getClientComponent();
+            final MqttOutgoingQosHandler outgoingQosHandler = clientComponent.outgoingQosHandler();
+            final MqttPublishFlowables publishFlowables = outgoingQosHandler.getPublishFlowables();
+
+            final Flow flow = new Flow(callback, clientConfig, outgoingQosHandler, executor);
+            publishFlowables.add(Flowable.just(new MqttPublishWithFlow(publish, flow)));
+        } else {
+            invoke(callback, null, MqttClientStateExceptions.notConnected());
+        }
+    }
+
+    private static void invoke(
+            final @NotNull BiConsumer<? super Mqtt5PublishResult, ? super Throwable> callback,
+            final @Nullable Mqtt5PublishResult result,
+            final @Nullable Throwable error) {
+
+        try {
+            callback.accept(result, error);
+        } catch (final Throwable t) {
+            LOGGER.error("Unexpected exception thrown by publish callback.", t);
+        }
+    }
+
+    private MqttAckCallback() {}
+
+    private static class Flow extends MqttAckDirectFlow {
+
+        private final @NotNull BiConsumer<? super Mqtt5PublishResult, ? super Throwable> callback;
+
+        Flow(
+                final @NotNull BiConsumer<? super Mqtt5PublishResult, ? super Throwable> callback,
+                final @NotNull MqttClientConfig clientConfig,
+                final @NotNull MqttOutgoingQosHandler outgoingQosHandler,
+                final @Nullable Executor executor) {
+
+            super(clientConfig, outgoingQosHandler, executor);
+            this.callback = callback;
+            init();
+        }
+
+        @Override
+        void onDone(final @NotNull MqttPublishResult result) {
+            final Throwable error = result.getRawError();
+            if (error == null) {
+                invoke(callback, result, null);
+            } else {
+                invoke(callback, null, error);
+            }
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Flow for the result of a single publish that hands the result off to the application with a single task, without
+ * any RxJava observers in between.
+ *
+ * @author Silvio Giebl
+ */
+abstract class MqttAckDirectFlow extends MqttAckFlow implements Runnable {
+
+    private final @NotNull MqttClientConfig clientConfig;
+    private final @NotNull MqttOutgoingQosHandler outgoingQosHandler;
+    private final @Nullable Executor executor;
+
+    private @Nullable MqttPublishResult result;
+
+    MqttAckDirectFlow(
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttOutgoingQosHandler outgoingQosHandler,
+            final @Nullable Executor executor) {
+
+        super(clientConfig);
+        this.clientConfig = clientConfig;
+        this.outgoingQosHandler = outgoingQosHandler;
+        this.executor = executor;
+    }
+
+    @CallByThread("Netty EventLoop")
+    @Override
+    void onResult(final @NotNull MqttPublishResult result) {
+        this.result = result;
+        if (result.acknowledged()) {
+            done();
+        }
+    }
+
+    @CallByThread("Netty EventLoop")
+    @Override
+    void acknowledged(final long acknowledged) {
+        assert (acknowledged == 1) && (result != null) : "a single publish must be acknowledged exactly once";
+        done();
+    }
+
+    @CallByThread("Netty EventLoop")
+    private void done() {
+        if (setDone()) {
+            if (executor == null) {
+                clientConfig.getDispatchScheduler().scheduleDirect(this);
+            } else {
+                try {
+                    executor.execute(this);
+                } catch (final RejectedExecutionException e) {
+                    // the send credit must still be released, so the error is handed to the application directly
+                    final MqttPublishResult result = this.result;
+                    assert result != null;
+                    this.result = null;
+                    onDone(new MqttPublishResult(result.getPublish(), e));
+                }
+            }
+        } else {
+            result = null;
+        }
+        outgoingQosHandler.request(1);
+    }
+
+    @Override
+    public void run() {
+        final MqttPublishResult result = this.result;
+        assert result != null;
+        this.result = null;
+        onDone(result);
+    }
+
+    abstract void onDone(@NotNull MqttPublishResult result);
+}
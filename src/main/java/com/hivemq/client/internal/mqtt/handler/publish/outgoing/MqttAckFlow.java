@@ -17,6 +17,8 @@
 package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
 
 import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.logging.InternalLogger;
+import com.hivemq.client.internal.logging.InternalLoggerFactory;
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.handler.util.FlowWithEventLoop;
 import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
@@ -27,12 +29,27 @@ import org.jetbrains.annotations.NotNull;
  */
 abstract class MqttAckFlow extends FlowWithEventLoop {
 
+    private static final @NotNull InternalLogger LOGGER = InternalLoggerFactory.getLogger(MqttAckFlow.class);
+
     MqttAckFlow(final @NotNull MqttClientConfig clientConfig) {
         super(clientConfig);
     }
 
     @CallByThread("Netty EventLoop")
-    abstract void onNext(final @NotNull MqttPublishResult result);
+    final void onNext(final @NotNull MqttPublishResult result) {
+        final Runnable payloadReleaseCallback = result.getPublish().getPayloadReleaseCallback();
+        if (payloadReleaseCallback != null) {
+            try {
+                payloadReleaseCallback.run();
+            } catch (final Throwable t) {
+                LOGGER.error("Unexpected exception thrown by payload release callback.", t);
+            }
+        }
+        onResult(result);
+    }
+
+    @CallByThread("Netty EventLoop")
+    abstract void onResult(final @NotNull MqttPublishResult result);
 
     @CallByThread("Netty EventLoop")
     abstract void acknowledged(final long acknowledged);
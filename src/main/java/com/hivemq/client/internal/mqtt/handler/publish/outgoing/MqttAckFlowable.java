@@ -43,6 +43,14 @@ public class MqttAckFlowable extends Flowable<Mqtt5PublishResult> {
 
     @Override
     protected void subscribeActual(final @NotNull Subscriber<? super Mqtt5PublishResult> subscriber) {
+        subscribeFlow(subscriber, clientConfig, publishFlowable);
+    }
+
+    public static void subscribeFlow(
+            final @NotNull Subscriber<? super Mqtt5PublishResult> subscriber,
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull Flowable<MqttPublish> publishFlowable) {
+
         if (clientConfig.getState().isConnectedOrReconnect()) {
             final ClientComponent clientComponent = clientConfig.getClientComponent();
             final MqttOutgoingQosHandler outgoingQosHandler = clientComponent.outgoingQosHandler();
@@ -69,7 +69,7 @@ class MqttAckFlowableFlow extends MqttAckFlow implements Subscription, Runnable
 
     @CallByThread("Netty EventLoop")
     @Override
-    void onNext(final @NotNull MqttPublishResult result) {
+    void onResult(final @NotNull MqttPublishResult result) {
         queue.offer(result);
         run();
     }
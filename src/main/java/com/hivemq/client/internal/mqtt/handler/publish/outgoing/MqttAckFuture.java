@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.exceptions.MqttClientStateExceptions;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.reactivex.Flowable;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Future for the result of a single publish that is completed directly by the outgoing QoS handler.
+ * <p>
+ * Unlike converting a {@link MqttAckSingle} with observeOn to a future, no RxJava observers and disposables are
+ * allocated per publish. The result is handed off to the application with a single task on the dispatch scheduler.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttAckFuture extends CompletableFuture<Mqtt5PublishResult> {
+
+    public static @NotNull CompletableFuture<Mqtt5PublishResult> publish(
+            final @NotNull MqttClientConfig clientConfig, final @NotNull MqttPublish publish) {
+
+        final MqttAckFuture future = new MqttAckFuture();
+        if (clientConfig.getState().isConnectedOrReconnect()) {
+            final ClientComponent clientComponent = clientConfig.getClientComponent();
+            final MqttOutgoingQosHandler outgoingQosHandler = clientComponent.outgoingQosHandler();
+            final MqttPublishFlowables publishFlowables = outgoingQosHandler.getPublishFlowables();
+
+            final Flow flow = new Flow(future, clientConfig, outgoingQosHandler);
+            future.flow = flow;
+            publishFlowables.add(Flowable.just(new MqttPublishWithFlow(publish, flow)));
+        } else {
+            future.completeExceptionally(MqttClientStateExceptions.notConnected());
+        }
+        return future;
+    }
+
+    private @Nullable Flow flow;
+
+    private MqttAckFuture() {}
+
+    @Override
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        final Flow flow = this.flow;
+        if (flow != null) {
+            flow.cancel();
+        }
+        return super.cancel(mayInterruptIfRunning);
+    }
+
+    private static class Flow extends MqttAckDirectFlow {
+
+        private final @NotNull MqttAckFuture future;
+
+        Flow(
+                final @NotNull MqttAckFuture future,
+                final @NotNull MqttClientConfig clientConfig,
+                final @NotNull MqttOutgoingQosHandler outgoingQosHandler) {
+
+            super(clientConfig, outgoingQosHandler, null);
+            this.future = future;
+            init();
+        }
+
+        @Override
+        void onDone(final @NotNull MqttPublishResult result) {
+            final Throwable error = result.getRawError();
+            if (error == null) {
+                future.complete(result);
+            } else {
+                future.completeExceptionally(error);
+            }
+        }
+    }
+}
@@ -79,7 +79,7 @@ public class MqttAckSingle extends Single<Mqtt5PublishResult> {
 
         @CallByThread("Netty EventLoop")
         @Override
-        void onNext(final @NotNull MqttPublishResult result) {
+        void onResult(final @NotNull MqttPublishResult result) {
             if (result.acknowledged()) {
                 done(result);
             } else {
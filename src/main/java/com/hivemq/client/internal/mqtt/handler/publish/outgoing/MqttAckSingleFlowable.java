@@ -47,6 +47,14 @@ public class MqttAckSingleFlowable extends Flowable<Mqtt5PublishResult> {
 
     @Override
     protected void subscribeActual(final @NotNull Subscriber<? super Mqtt5PublishResult> subscriber) {
+        subscribeFlow(subscriber, clientConfig, publish);
+    }
+
+    public static void subscribeFlow(
+            final @NotNull Subscriber<? super Mqtt5PublishResult> subscriber,
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttPublish publish) {
+
         if (clientConfig.getState().isConnectedOrReconnect()) {
             final ClientComponent clientComponent = clientConfig.getClientComponent();
             final MqttOutgoingQosHandler outgoingQosHandler = clientComponent.outgoingQosHandler();
@@ -86,13 +94,13 @@ public class MqttAckSingleFlowable extends Flowable<Mqtt5PublishResult> {
 
         @CallByThread("Netty EventLoop")
         @Override
-        void onNext(final @NotNull MqttPublishResult result) {
+        void onResult(final @NotNull MqttPublishResult result) {
             switch (state.get()) {
                 case STATE_NONE:
                     if (state.compareAndSet(STATE_NONE, STATE_RESULT)) {
                         this.result = result;
                     } else {
-                        onNext(result);
+                        onResult(result);
                     }
                     break;
                 case STATE_REQUESTED:
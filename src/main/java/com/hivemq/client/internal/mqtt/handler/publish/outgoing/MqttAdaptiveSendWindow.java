@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5SendWindowMetrics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Send window that is adapted to the measured round trip time of QoS 1 and QoS 2 messages (additive increase,
+ * multiplicative decrease with a latency target as congestion signal).
+ * <p>
+ * The window is only modified by the Netty EventLoop, the metrics can be read by any thread.
+ *
+ * @author Silvio Giebl
+ */
+public class MqttAdaptiveSendWindow implements Mqtt5SendWindowMetrics {
+
+    static final long NOT_MEASURED = 0;
+    private static final int SAMPLES = 1 << 8; // must be a power of 2
+
+    private final int minWindow;
+    private final long targetLatencyNanos;
+
+    private volatile int window;
+    private volatile int sendMaximum;
+    private boolean slowStart;
+    private int acknowledged;
+    private long lastDecreaseNanos;
+
+    private final @NotNull AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+    private volatile long sampleCount;
+
+    MqttAdaptiveSendWindow(final @NotNull MqttAdaptiveSendWindowConfig config) {
+        minWindow = config.getMinWindow();
+        targetLatencyNanos = config.getTargetLatencyNanos();
+    }
+
+    @CallByThread("Netty EventLoop")
+    void reset(final int sendMaximum, final long nowNanos) {
+        this.sendMaximum = sendMaximum;
+        window = Math.min(minWindow, sendMaximum);
+        slowStart = true;
+        acknowledged = 0;
+        lastDecreaseNanos = nowNanos;
+    }
+
+    @CallByThread("Netty EventLoop")
+    void onAcknowledged(final long sendNanos, final long nowNanos) {
+        final long rtt = nowNanos - sendNanos;
+        final long sampleCount = this.sampleCount;
+        samples.lazySet((int) sampleCount & (SAMPLES - 1), rtt);
+        this.sampleCount = sampleCount + 1;
+
+        final int window = this.window;
+        if (rtt > targetLatencyNanos) {
+            slowStart = false;
+            // only decrease once per round trip: messages sent before the last decrease do not reflect it yet
+            if (sendNanos - lastDecreaseNanos > 0) {
+                lastDecreaseNanos = nowNanos;
+                acknowledged = 0;
+                this.window = Math.max(window >> 1, Math.min(minWindow, sendMaximum));
+            }
+        } else if (window < sendMaximum) {
+            if (slowStart) {
+                this.window = window + 1;
+            } else if (++acknowledged >= window) {
+                acknowledged = 0;
+                this.window = window + 1;
+            }
+        }
+    }
+
+    @Override
+    public int getWindow() {
+        return window;
+    }
+
+    @Override
+    public int getSendMaximum() {
+        return sendMaximum;
+    }
+
+    @Override
+    public long getRoundTripTimeSampleCount() {
+        return sampleCount;
+    }
+
+    @Override
+    public long getRoundTripTime(final double percentile, final @NotNull TimeUnit timeUnit) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100. Found: " + percentile);
+        }
+        final int size = (int) Math.min(sampleCount, SAMPLES);
+        if (size == 0) {
+            return 0;
+        }
+        final long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        final int rank = (int) Math.ceil(percentile / 100 * size);
+        return timeUnit.convert(sorted[Math.max(rank - 1, 0)], TimeUnit.NANOSECONDS);
+    }
+}
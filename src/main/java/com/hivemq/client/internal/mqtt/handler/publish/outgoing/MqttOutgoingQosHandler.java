@@ -21,6 +21,7 @@ import com.hivemq.client.internal.logging.InternalLogger;
 import com.hivemq.client.internal.logging.InternalLoggerFactory;
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfig;
 import com.hivemq.client.internal.mqtt.advanced.interceptor.MqttClientInterceptors;
 import com.hivemq.client.internal.mqtt.exceptions.MqttClientStateExceptions;
 import com.hivemq.client.internal.mqtt.handler.MqttSessionAwareHandler;
@@ -45,13 +46,14 @@ import com.hivemq.client.internal.netty.ContextFuture;
 import com.hivemq.client.internal.netty.DefaultContextPromise;
 import com.hivemq.client.internal.util.Ranges;
 import com.hivemq.client.internal.util.UnsignedDataTypes;
-import com.hivemq.client.internal.util.collections.IntIndex;
+import com.hivemq.client.internal.util.collections.DenseIntIndex;
 import com.hivemq.client.internal.util.collections.NodeList;
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.datatypes.MqttQos;
 import com.hivemq.client.mqtt.exceptions.ConnectionClosedException;
 import com.hivemq.client.mqtt.mqtt5.advanced.interceptor.qos1.Mqtt5OutgoingQos1Interceptor;
 import com.hivemq.client.mqtt.mqtt5.advanced.interceptor.qos2.Mqtt5OutgoingQos2Interceptor;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import com.hivemq.client.mqtt.mqtt5.exceptions.Mqtt5PubAckException;
 import com.hivemq.client.mqtt.mqtt5.exceptions.Mqtt5PubRecException;
 import com.hivemq.client.mqtt.mqtt5.message.disconnect.Mqtt5DisconnectReasonCode;
@@ -80,22 +82,25 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
 
     public static final @NotNull String NAME = "qos.outgoing";
     private static final @NotNull InternalLogger LOGGER = InternalLoggerFactory.getLogger(MqttOutgoingQosHandler.class);
-    private static final IntIndex.@NotNull Spec<MqttPubOrRelWithFlow> INDEX_SPEC =
-            new IntIndex.Spec<>(x -> x.packetIdentifier);
+    private static final DenseIntIndex.@NotNull Spec<MqttPubOrRelWithFlow> INDEX_SPEC =
+            new DenseIntIndex.Spec<>(x -> x.packetIdentifier, 1);
     private static final int MAX_CONCURRENT_PUBLISH_FLOWABLES = 64; // TODO configurable
     private static final boolean QOS_2_COMPLETE_RESULT = false; // TODO configurable
 
     private final @NotNull MqttClientConfig clientConfig;
     private final @NotNull MqttPublishFlowables publishFlowables;
+    private final @Nullable MqttAdaptiveSendWindow sendWindow;
+    private final @Nullable Mqtt5ClientMetricsRecorder metricsRecorder;
 
     // valid for session
-    private final @NotNull SpscUnboundedArrayQueue<MqttPublishWithFlow> queue = new SpscUnboundedArrayQueue<>(32);
+    // created on the first publish, as clients that never publish should not retain the queue
+    private volatile @Nullable SpscUnboundedArrayQueue<MqttPublishWithFlow> queue;
     private final @NotNull AtomicInteger queuedCounter = new AtomicInteger();
     private final @NotNull NodeList<MqttPubOrRelWithFlow> pending = new NodeList<>();
     private final @NotNull Ranges packetIdentifiers = new Ranges(1, 0);
 
     // valid for connection
-    private final @NotNull IntIndex<MqttPubOrRelWithFlow> pendingIndex = new IntIndex<>(INDEX_SPEC);
+    private final @NotNull DenseIntIndex<MqttPubOrRelWithFlow> pendingIndex = new DenseIntIndex<>(INDEX_SPEC);
     private @Nullable MqttPubOrRelWithFlow resendPending;
     private @Nullable MqttPublishWithFlow currentPending;
     private int sendMaximum;
@@ -103,22 +108,48 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
 
     private @Nullable Subscription subscription;
     private int shrinkRequests;
+    private long writeStallNanos = MqttAdaptiveSendWindow.NOT_MEASURED;
 
     @Inject
     MqttOutgoingQosHandler(final @NotNull MqttClientConfig clientConfig) {
         this.clientConfig = clientConfig;
         publishFlowables = new MqttPublishFlowables();
+        final MqttAdaptiveSendWindowConfig sendWindowConfig =
+                clientConfig.getAdvancedConfig().getAdaptiveSendWindowConfig();
+        sendWindow = (sendWindowConfig == null) ? null : new MqttAdaptiveSendWindow(sendWindowConfig);
+        metricsRecorder = clientConfig.getAdvancedConfig().getMetricsRecorder();
     }
 
     @Override
     public void onSessionStartOrResume(
             final @NotNull MqttClientConnectionConfig connectionConfig, final @NotNull EventLoop eventLoop) {
 
+        applyConnectionConfig(connectionConfig);
+
+        pendingIndex.clear();
+        resendPending = pending.getFirst();
+        if ((resendPending != null) || (queuedCounter.get() > 0)) {
+            eventLoop.execute(this);
+        }
+
+        super.onSessionStartOrResume(connectionConfig, eventLoop);
+    }
+
+    @Override
+    public void onSessionConfirmed(final @NotNull MqttClientConnectionConfig connectionConfig) {
+        // publishes that were already written keep their packet identifiers, only the limits are updated
+        applyConnectionConfig(connectionConfig);
+    }
+
+    private void applyConnectionConfig(final @NotNull MqttClientConnectionConfig connectionConfig) {
         final int oldSendMaximum = sendMaximum;
         final int newSendMaximum = Math.min(connectionConfig.getSendMaximum(),
                 UnsignedDataTypes.UNSIGNED_SHORT_MAX_VALUE - MqttSubscriptionHandler.MAX_SUB_PENDING);
         sendMaximum = newSendMaximum;
         packetIdentifiers.resize(newSendMaximum);
+        if (sendWindow != null) {
+            sendWindow.reset(newSendMaximum, System.nanoTime());
+        }
         if (oldSendMaximum == 0) {
             publishFlowables.flatMap(
                     f -> f, true, MAX_CONCURRENT_PUBLISH_FLOWABLES, Math.min(newSendMaximum, Flowable.bufferSize()))
@@ -136,14 +167,6 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             }
         }
         topicAliasMapping = connectionConfig.getSendTopicAliasMapping();
-
-        pendingIndex.clear();
-        resendPending = pending.getFirst();
-        if ((resendPending != null) || (queuedCounter.get() > 0)) {
-            eventLoop.execute(this);
-        }
-
-        super.onSessionStartOrResume(connectionConfig, eventLoop);
     }
 
     @Override
@@ -153,6 +176,10 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
 
     @Override
     public void onNext(final @NotNull MqttPublishWithFlow publishWithFlow) {
+        SpscUnboundedArrayQueue<MqttPublishWithFlow> queue = this.queue;
+        if (queue == null) { // onNext is only called by the single producer, so no concurrent creation
+            this.queue = queue = new SpscUnboundedArrayQueue<>(32);
+        }
         queue.offer(publishWithFlow);
         if (queuedCounter.getAndIncrement() == 0) {
             publishWithFlow.getAckFlow().getEventLoop().execute(this);
@@ -198,7 +225,7 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             return;
         }
         final Channel channel = ctx.channel();
-        final int maxWrites = sendMaximum - pendingIndex.size();
+        final int maxWrites = ((sendWindow == null) ? sendMaximum : sendWindow.getWindow()) - pendingIndex.size();
         int written = 0;
         for (MqttPubOrRelWithFlow pubOrRelWithFlow = resendPending;
              (pubOrRelWithFlow != null) && (written < maxWrites) && channel.isWritable();
@@ -207,7 +234,8 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             written++;
         }
         int dequeued = 0;
-        while ((written < maxWrites) && channel.isWritable()) {
+        final SpscUnboundedArrayQueue<MqttPublishWithFlow> queue = this.queue;
+        while ((queue != null) && (written < maxWrites) && channel.isWritable()) {
             final MqttPublishWithFlow publishWithFlow = queue.poll();
             if (publishWithFlow == null) {
                 break;
@@ -222,6 +250,9 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             if ((dequeued > 0) && (queuedCounter.addAndGet(-dequeued) > 0) && wasWritable) {
                 channel.eventLoop().execute(this);
             }
+            if (metricsRecorder != null) {
+                metricsRecorder.onOutgoingPublishQueue(queuedCounter.get(), pendingIndex.size());
+            }
         }
     }
 
@@ -230,6 +261,12 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
         final Channel channel = ctx.channel();
         if (channel.isWritable()) {
             channel.eventLoop().execute(this);
+            if ((metricsRecorder != null) && (writeStallNanos != MqttAdaptiveSendWindow.NOT_MEASURED)) {
+                metricsRecorder.onWriteStall(System.nanoTime() - writeStallNanos);
+                writeStallNanos = MqttAdaptiveSendWindow.NOT_MEASURED;
+            }
+        } else if (metricsRecorder != null) {
+            writeStallNanos = System.nanoTime();
         }
         ctx.fireChannelWritabilityChanged();
     }
@@ -238,6 +275,7 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             final @NotNull ChannelHandlerContext ctx, final @NotNull MqttPubOrRelWithFlow pubOrRelWithFlow) {
 
         pendingIndex.put(pubOrRelWithFlow);
+        pubOrRelWithFlow.sendNanos = MqttAdaptiveSendWindow.NOT_MEASURED; // ambiguous acknowledgement of a resend
         if (pubOrRelWithFlow instanceof MqttPublishWithFlow) {
             final MqttPublishWithFlow publishWithFlow = (MqttPublishWithFlow) pubOrRelWithFlow;
             final MqttStatefulPublish publish = publishWithFlow.getPublish()
@@ -289,6 +327,9 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             return;
         }
         publishWithFlow.packetIdentifier = packetIdentifier;
+        if ((sendWindow != null) || (metricsRecorder != null)) {
+            publishWithFlow.sendNanos = System.nanoTime();
+        }
         pendingIndex.put(publishWithFlow);
         pending.add(publishWithFlow);
 
@@ -341,6 +382,7 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             return;
         }
 
+        onAcknowledged(publishWithFlow);
         completePending(ctx, publishWithFlow);
 
         onPubAck(publish, pubAck);
@@ -372,6 +414,7 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
 
         if (pubRec.getReasonCode().isError()) {
             pendingIndex.remove(packetIdentifier);
+            onAcknowledged(publishWithFlow);
             completePending(ctx, publishWithFlow);
 
             onPubRecError(publish, pubRec);
@@ -404,6 +447,7 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             final @NotNull MqttPublishWithFlow publishWithFlow, final @NotNull MqttPubRelWithFlow pubRelWithFlow) {
 
         pubRelWithFlow.packetIdentifier = publishWithFlow.packetIdentifier;
+        pubRelWithFlow.sendNanos = publishWithFlow.sendNanos;
         pendingIndex.put(pubRelWithFlow);
         pending.replace(publishWithFlow, pubRelWithFlow);
     }
@@ -430,6 +474,7 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
         final MqttPubRel pubRel = pubRelWithFlow.getPubRel();
         final MqttAckFlow ackFlow = pubRelWithFlow.getAckFlow();
 
+        onAcknowledged(pubRelWithFlow);
         completePending(ctx, pubRelWithFlow);
 
         onPubComp(pubRel, pubComp);
@@ -445,6 +490,22 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
         }
     }
 
+    private void onAcknowledged(final @NotNull MqttPubOrRelWithFlow pubOrRelWithFlow) {
+        final long sendNanos = pubOrRelWithFlow.sendNanos;
+        if (sendNanos == MqttAdaptiveSendWindow.NOT_MEASURED) {
+            return;
+        }
+        final long nowNanos = System.nanoTime();
+        if (sendWindow != null) {
+            sendWindow.onAcknowledged(sendNanos, nowNanos);
+        }
+        if (metricsRecorder != null) {
+            final MqttQos qos = (pubOrRelWithFlow instanceof MqttPublishWithFlow) ?
+                    ((MqttPublishWithFlow) pubOrRelWithFlow).getPublish().getQos() : MqttQos.EXACTLY_ONCE;
+            metricsRecorder.onPublishAcknowledged(qos, nowNanos - sendNanos);
+        }
+    }
+
     private void completePending(
             final @NotNull ChannelHandlerContext ctx, final @NotNull MqttPubOrRelWithFlow oldPending) {
 
@@ -456,9 +517,16 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
             packetIdentifiers.resize(sendMaximum);
         }
 
-        if (resendPending != null) {
+        if ((resendPending != null) || ((sendWindow != null) && (queuedCounter.get() > 0))) {
             ctx.channel().eventLoop().execute(this);
         }
+        if (metricsRecorder != null) {
+            metricsRecorder.onOutgoingPublishQueue(queuedCounter.get(), pendingIndex.size());
+        }
+    }
+
+    public @Nullable MqttAdaptiveSendWindow getSendWindow() {
+        return sendWindow;
     }
 
     @Override
@@ -473,6 +541,16 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
         }
     }
 
+    @Override
+    public void onSessionAborted() {
+        super.onSessionAborted();
+
+        // publishes that were already written keep their packet identifiers and are resent on the next connection
+        pendingIndex.clear();
+        resendPending = null;
+        currentPending = null;
+    }
+
     @Override
     public void onSessionEnd(final @NotNull Throwable cause) {
         super.onSessionEnd(cause);
@@ -511,7 +589,8 @@ public class MqttOutgoingQosHandler extends MqttSessionAwareHandler
     private void clearQueued(final @NotNull Throwable cause) {
         int polled = 0;
         while (true) {
-            final MqttPublishWithFlow publishWithFlow = queue.poll();
+            final SpscUnboundedArrayQueue<MqttPublishWithFlow> queue = this.queue;
+            final MqttPublishWithFlow publishWithFlow = (queue == null) ? null : queue.poll();
             if (publishWithFlow == null) {
                 if (queuedCounter.addAndGet(-polled) == 0) {
                     break;
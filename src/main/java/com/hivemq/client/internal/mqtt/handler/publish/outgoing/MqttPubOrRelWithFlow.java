@@ -26,6 +26,7 @@ abstract class MqttPubOrRelWithFlow extends NodeList.Node<MqttPubOrRelWithFlow>
 
     private final @NotNull MqttAckFlow ackFlow;
     int packetIdentifier;
+    long sendNanos;
 
     MqttPubOrRelWithFlow(final @NotNull MqttAckFlow ackFlow) {
         this.ackFlow = ackFlow;
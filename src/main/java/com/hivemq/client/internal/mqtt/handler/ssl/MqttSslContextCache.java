@@ -0,0 +1,54 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.ssl;
+
+import com.hivemq.client.internal.annotations.ThreadSafe;
+import com.hivemq.client.internal.mqtt.MqttClientSslConfigImpl;
+import io.netty.handler.ssl.SslContext;
+import org.jetbrains.annotations.NotNull;
+
+import javax.net.ssl.SSLException;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Process-wide cache of {@link SslContext}s keyed by equal {@link MqttClientSslConfigImpl}s, so that many clients with
+ * the same secure transport configuration share one context instead of each creating their own.
+ * <p>
+ * Entries are weakly referenced by their configuration, so a context is released when no client uses a configuration
+ * equal to the one it was created for anymore.
+ *
+ * @author Silvio Giebl
+ */
+@ThreadSafe
+final class MqttSslContextCache {
+
+    private static final @NotNull Map<MqttClientSslConfigImpl, SslContext> CACHE = new WeakHashMap<>();
+
+    static @NotNull SslContext get(final @NotNull MqttClientSslConfigImpl sslConfig) throws SSLException {
+        synchronized (CACHE) {
+            SslContext sslContext = CACHE.get(sslConfig);
+            if (sslContext == null) {
+                sslContext = MqttSslInitializer.createSslContext(sslConfig);
+                CACHE.put(sslConfig, sslContext);
+            }
+            return sslContext;
+        }
+    }
+
+    private MqttSslContextCache() {}
+}
@@ -16,19 +16,20 @@
 
 package com.hivemq.client.internal.mqtt.handler.ssl;
 
+import com.hivemq.client.internal.logging.InternalLogger;
+import com.hivemq.client.internal.logging.InternalLoggerFactory;
 import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.MqttClientSslConfigImpl;
 import com.hivemq.client.internal.util.collections.ImmutableList;
 import io.netty.channel.Channel;
-import io.netty.handler.ssl.SslContext;
-import io.netty.handler.ssl.SslContextBuilder;
-import io.netty.handler.ssl.SslHandler;
-import io.netty.handler.ssl.SupportedCipherSuiteFilter;
+import io.netty.handler.ssl.*;
+import io.netty.util.AttributeKey;
 import org.jetbrains.annotations.NotNull;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSession;
 import java.net.InetSocketAddress;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -39,7 +40,11 @@ import java.util.function.Consumer;
  */
 public final class MqttSslInitializer {
 
+    private static final @NotNull InternalLogger LOGGER = InternalLoggerFactory.getLogger(MqttSslInitializer.class);
+
     private static final @NotNull String SSL_HANDLER_NAME = "ssl";
+    private static final @NotNull AttributeKey<Boolean> SESSION_RESUMED =
+            AttributeKey.valueOf(MqttSslInitializer.class, "sessionResumed");
 
     public static void initChannel(
             final @NotNull Channel channel,
@@ -48,13 +53,22 @@ public final class MqttSslInitializer {
             final @NotNull Consumer<Channel> onSuccess,
             final @NotNull BiConsumer<Channel, Throwable> onError) {
 
-        final InetSocketAddress serverAddress = clientConfig.getCurrentTransportConfig().getServerAddress();
+        initChannel(channel, clientConfig, sslConfig, clientConfig.getCurrentServerAddress(), onSuccess, onError);
+    }
+
+    public static void initChannel(
+            final @NotNull Channel channel,
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttClientSslConfigImpl sslConfig,
+            final @NotNull InetSocketAddress serverAddress,
+            final @NotNull Consumer<Channel> onSuccess,
+            final @NotNull BiConsumer<Channel, Throwable> onError) {
 
         final SslHandler sslHandler;
         try {
             SslContext sslContext = clientConfig.getCurrentSslContext();
             if (sslContext == null) {
-                sslContext = createSslContext(sslConfig);
+                sslContext = MqttSslContextCache.get(sslConfig);
                 clientConfig.setCurrentSslContext(sslContext);
             }
             sslHandler = sslContext.newHandler(channel.alloc(), serverAddress.getHostString(), serverAddress.getPort());
@@ -72,17 +86,46 @@ public final class MqttSslInitializer {
             sslHandler.engine().setSSLParameters(sslParameters);
         }
 
+        final long handshakeStartMillis = System.currentTimeMillis();
+        final Consumer<Channel> onHandshakeSuccess = ch -> {
+            // a resumed session was created by a previous handshake, a new session during this handshake
+            final SSLSession session = sslHandler.engine().getSession();
+            ch.attr(SESSION_RESUMED).set(session.getCreationTime() < handshakeStartMillis);
+            onSuccess.accept(ch);
+        };
+
         final MqttSslAdapterHandler sslAdapterHandler =
-                new MqttSslAdapterHandler(sslHandler, serverAddress.getHostString(), hostnameVerifier, onSuccess,
-                        onError);
+                new MqttSslAdapterHandler(sslHandler, serverAddress.getHostString(), hostnameVerifier,
+                        onHandshakeSuccess, onError);
 
         channel.pipeline().addLast(SSL_HANDLER_NAME, sslHandler).addLast(MqttSslAdapterHandler.NAME, sslAdapterHandler);
     }
 
+    /**
+     * @param channel the channel.
+     * @return whether the TLS handshake of the given channel resumed a session of a previous connection, false if the
+     *         channel does not use TLS.
+     */
+    public static boolean isSessionResumed(final @NotNull Channel channel) {
+        return Boolean.TRUE.equals(channel.attr(SESSION_RESUMED).get());
+    }
+
     static @NotNull SslContext createSslContext(final @NotNull MqttClientSslConfigImpl sslConfig) throws SSLException {
         final ImmutableList<String> protocols = sslConfig.getRawProtocols();
 
+        final SslProvider sslProvider;
+        if (sslConfig.isOpenSslPreferred() && OpenSsl.isAvailable()) {
+            sslProvider = SslProvider.OPENSSL;
+        } else {
+            if (sslConfig.isOpenSslPreferred()) {
+                LOGGER.warn("OpenSSL is preferred but not available, using the JDK SSL provider instead: {}",
+                        OpenSsl.unavailabilityCause());
+            }
+            sslProvider = SslProvider.JDK;
+        }
+
         return SslContextBuilder.forClient()
+                .sslProvider(sslProvider)
                 .trustManager(sslConfig.getRawTrustManagerFactory())
                 .keyManager(sslConfig.getRawKeyManagerFactory())
                 .protocols((protocols == null) ? null : protocols.toArray(new String[0]))
@@ -38,8 +38,8 @@ import com.hivemq.client.internal.mqtt.message.unsubscribe.unsuback.MqttUnsubAck
 import com.hivemq.client.internal.mqtt.message.unsubscribe.unsuback.mqtt3.Mqtt3UnsubAckView;
 import com.hivemq.client.internal.util.Ranges;
 import com.hivemq.client.internal.util.UnsignedDataTypes;
+import com.hivemq.client.internal.util.collections.DenseIntIndex;
 import com.hivemq.client.internal.util.collections.ImmutableList;
-import com.hivemq.client.internal.util.collections.IntIndex;
 import com.hivemq.client.internal.util.collections.NodeList;
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.mqtt5.exceptions.Mqtt5SubAckException;
@@ -64,9 +64,10 @@ public class MqttSubscriptionHandler extends MqttSessionAwareHandler implements
     public static final @NotNull String NAME = "subscription";
     private static final @NotNull InternalLogger LOGGER =
             InternalLoggerFactory.getLogger(MqttSubscriptionHandler.class);
-    private static final IntIndex.@NotNull Spec<MqttSubOrUnsubWithFlow> INDEX_SPEC =
-            new IntIndex.Spec<>(x -> x.packetIdentifier, 4);
     public static final int MAX_SUB_PENDING = 10; // TODO configurable
+    private static final DenseIntIndex.@NotNull Spec<MqttSubOrUnsubWithFlow> INDEX_SPEC =
+            new DenseIntIndex.Spec<>(x -> x.packetIdentifier,
+                    UnsignedDataTypes.UNSIGNED_SHORT_MAX_VALUE - MAX_SUB_PENDING + 1, MAX_SUB_PENDING);
 
     private final @NotNull MqttClientConfig clientConfig;
     private final @NotNull MqttIncomingPublishFlows incomingPublishFlows;
@@ -77,7 +78,7 @@ public class MqttSubscriptionHandler extends MqttSessionAwareHandler implements
     private int nextSubscriptionIdentifier = 1;
 
     // valid for connection
-    private final @NotNull IntIndex<MqttSubOrUnsubWithFlow> pendingIndex = new IntIndex<>(INDEX_SPEC);
+    private final @NotNull DenseIntIndex<MqttSubOrUnsubWithFlow> pendingIndex = new DenseIntIndex<>(INDEX_SPEC);
     private @Nullable MqttSubOrUnsubWithFlow sendPending, currentPending;
     private boolean subscriptionIdentifiersAvailable;
 
@@ -117,6 +118,11 @@ public class MqttSubscriptionHandler extends MqttSessionAwareHandler implements
         super.onSessionStartOrResume(connectionConfig, eventLoop);
     }
 
+    @Override
+    public void onSessionConfirmed(final @NotNull MqttClientConnectionConfig connectionConfig) {
+        subscriptionIdentifiersAvailable = connectionConfig.areSubscriptionIdentifiersAvailable();
+    }
+
     public void subscribe(
             final @NotNull MqttSubscribe subscribe, final @NotNull MqttSubscriptionFlow<MqttSubAck> flow) {
 
@@ -348,6 +354,27 @@ public class MqttSubscriptionHandler extends MqttSessionAwareHandler implements
         }
     }
 
+    @Override
+    public void onSessionAborted() {
+        super.onSessionAborted();
+
+        pendingIndex.clear();
+        sendPending = null;
+        currentPending = null;
+        MqttSubOrUnsubWithFlow current = pending.getFirst();
+        while (current != null) {
+            final MqttSubOrUnsubWithFlow next = current.getNext();
+            if (current.packetIdentifier != 0) {
+                packetIdentifiers.returnId(current.packetIdentifier);
+                current.packetIdentifier = 0;
+            }
+            if (current.getFlow() == null) { // resubscriptions are added again when the session is started
+                pending.remove(current);
+            }
+            current = next;
+        }
+    }
+
     @Override
     public void onSessionEnd(final @NotNull Throwable cause) {
         super.onSessionEnd(cause);
@@ -20,7 +20,7 @@ import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import io.netty.channel.EventLoop;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 /**
  * @author Silvio Giebl
@@ -31,10 +31,13 @@ public abstract class FlowWithEventLoop {
     private static final int STATE_NOT_DONE = 1;
     private static final int STATE_DONE = 2;
     private static final int STATE_CANCELLED = 3;
+    // a field updater instead of an AtomicInteger, as a flow is allocated for every single publish
+    private static final @NotNull AtomicIntegerFieldUpdater<FlowWithEventLoop> DONE_STATE =
+            AtomicIntegerFieldUpdater.newUpdater(FlowWithEventLoop.class, "doneState");
 
     private final @NotNull MqttClientConfig clientConfig;
     protected final @NotNull EventLoop eventLoop;
-    private final @NotNull AtomicInteger doneState = new AtomicInteger(STATE_INIT);
+    private volatile int doneState = STATE_INIT;
 
     public FlowWithEventLoop(final @NotNull MqttClientConfig clientConfig) {
         this.clientConfig = clientConfig;
@@ -42,7 +45,7 @@ public abstract class FlowWithEventLoop {
     }
 
     public boolean init() {
-        if (doneState.compareAndSet(STATE_INIT, STATE_NOT_DONE)) {
+        if (DONE_STATE.compareAndSet(this, STATE_INIT, STATE_NOT_DONE)) {
             return true;
         }
         clientConfig.releaseEventLoop();
@@ -50,7 +53,7 @@ public abstract class FlowWithEventLoop {
     }
 
     protected boolean setDone() {
-        if (doneState.compareAndSet(STATE_NOT_DONE, STATE_DONE)) {
+        if (DONE_STATE.compareAndSet(this, STATE_NOT_DONE, STATE_DONE)) {
             clientConfig.releaseEventLoop();
             return true;
         }
@@ -58,7 +61,7 @@ public abstract class FlowWithEventLoop {
     }
 
     public void cancel() {
-        if (doneState.getAndSet(STATE_CANCELLED) == STATE_NOT_DONE) {
+        if (DONE_STATE.getAndSet(this, STATE_CANCELLED) == STATE_NOT_DONE) {
             onCancel();
             clientConfig.releaseEventLoop();
         }
@@ -71,11 +74,11 @@ public abstract class FlowWithEventLoop {
     protected void onCancel() {}
 
     public boolean isCancelled() {
-        return doneState.get() == STATE_CANCELLED;
+        return doneState == STATE_CANCELLED;
     }
 
     public boolean isDisposed() {
-        final int doneState = this.doneState.get();
+        final int doneState = this.doneState;
         return (doneState == STATE_DONE) || (doneState == STATE_CANCELLED);
     }
 
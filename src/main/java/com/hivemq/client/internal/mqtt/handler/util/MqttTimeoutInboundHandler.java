@@ -20,14 +20,13 @@ import com.hivemq.client.internal.annotations.CallByThread;
 import com.hivemq.client.internal.mqtt.handler.MqttConnectionAwareHandler;
 import com.hivemq.client.internal.mqtt.handler.disconnect.MqttDisconnectEvent;
 import com.hivemq.client.internal.mqtt.handler.disconnect.MqttDisconnectUtil;
+import com.hivemq.client.internal.netty.NettyTimeout;
 import com.hivemq.client.mqtt.mqtt5.message.disconnect.Mqtt5DisconnectReasonCode;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.util.concurrent.ScheduledFuture;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.concurrent.TimeUnit;
@@ -40,7 +39,15 @@ import java.util.concurrent.TimeUnit;
 public abstract class MqttTimeoutInboundHandler extends MqttConnectionAwareHandler
         implements Runnable, ChannelFutureListener {
 
-    private @Nullable ScheduledFuture<?> timeoutFuture;
+    private final @NotNull NettyTimeout timeout;
+
+    /**
+     * @param timingWheel whether the timeout is scheduled on the shared timing wheel of the event loop instead of as an
+     *                    individual task.
+     */
+    protected MqttTimeoutInboundHandler(final boolean timingWheel) {
+        timeout = new NettyTimeout(this, timingWheel);
+    }
 
     /**
      * Schedules a timeout if the given future succeeded. Otherwise the channel is closed.
@@ -91,7 +98,7 @@ public abstract class MqttTimeoutInboundHandler extends MqttConnectionAwareHandl
     protected void scheduleTimeout(final @NotNull Channel channel) {
         final long timeoutMs = getTimeoutMs();
         if (timeoutMs > 0) {
-            timeoutFuture = channel.eventLoop().schedule(this, timeoutMs, TimeUnit.MILLISECONDS);
+            timeout.schedule(channel.eventLoop(), TimeUnit.MILLISECONDS.toNanos(timeoutMs));
         }
     }
 
@@ -100,10 +107,7 @@ public abstract class MqttTimeoutInboundHandler extends MqttConnectionAwareHandl
      */
     @CallByThread("Netty EventLoop")
     protected void cancelTimeout() {
-        if (timeoutFuture != null) {
-            timeoutFuture.cancel(false);
-            timeoutFuture = null;
-        }
+        timeout.cancel();
     }
 
     @Override
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.websocket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+
+/**
+ * Coalesces all encoded MQTT packets that are written between two flushes into one buffer, so that {@link
+ * MqttWebSocketCodec} wraps them into a single WebSocket frame instead of one frame per packet.
+ * <p>
+ * A coalesced buffer is written as soon as adding the next packet would exceed the maximum frame size. Packets that
+ * are larger than the maximum frame size are written in their own frame.
+ *
+ * @author Silvio Giebl
+ */
+class MqttWebSocketFrameCoalescer extends ChannelOutboundHandlerAdapter {
+
+    public static final @NotNull String NAME = "ws.coalescer";
+
+    private final int maxFrameSize;
+    private @Nullable ByteBuf pending;
+    private final @NotNull ArrayList<ChannelPromise> pendingPromises = new ArrayList<>();
+
+    MqttWebSocketFrameCoalescer(final int maxFrameSize) {
+        this.maxFrameSize = maxFrameSize;
+    }
+
+    @Override
+    public void write(
+            final @NotNull ChannelHandlerContext ctx,
+            final @NotNull Object msg,
+            final @NotNull ChannelPromise promise) {
+
+        if (!(msg instanceof ByteBuf)) {
+            writePending(ctx);
+            ctx.write(msg, promise);
+            return;
+        }
+        final ByteBuf byteBuf = (ByteBuf) msg;
+        if ((pending != null) && (pending.readableBytes() + byteBuf.readableBytes() > maxFrameSize)) {
+            writePending(ctx);
+        }
+        if (pending == null) {
+            pending = byteBuf;
+        } else {
+            final CompositeByteBuf composite;
+            if (pending instanceof CompositeByteBuf) {
+                composite = (CompositeByteBuf) pending;
+            } else {
+                composite = ctx.alloc().compositeBuffer(Integer.MAX_VALUE).addComponent(true, pending);
+                pending = composite;
+            }
+            composite.addComponent(true, byteBuf);
+        }
+        if (!promise.isVoid()) {
+            pendingPromises.add(promise);
+        }
+    }
+
+    @Override
+    public void flush(final @NotNull ChannelHandlerContext ctx) {
+        writePending(ctx);
+        ctx.flush();
+    }
+
+    private void writePending(final @NotNull ChannelHandlerContext ctx) {
+        final ByteBuf pending = this.pending;
+        if (pending == null) {
+            return;
+        }
+        this.pending = null;
+        final int promiseCount = pendingPromises.size();
+        if (promiseCount == 0) {
+            ctx.write(pending, ctx.voidPromise());
+        } else if (promiseCount == 1) {
+            ctx.write(pending, pendingPromises.get(0));
+        } else {
+            final ChannelPromise[] promises = pendingPromises.toArray(new ChannelPromise[0]);
+            ctx.write(pending).addListener(future -> {
+                final Throwable cause = future.cause();
+                for (final ChannelPromise promise : promises) {
+                    if (cause == null) {
+                        promise.trySuccess();
+                    } else {
+                        promise.tryFailure(cause);
+                    }
+                }
+            });
+        }
+        pendingPromises.clear();
+    }
+
+    @Override
+    public void handlerRemoved(final @NotNull ChannelHandlerContext ctx) {
+        if (pending != null) {
+            pending.release();
+            pending = null;
+            final ClosedChannelException cause = new ClosedChannelException();
+            for (final ChannelPromise promise : pendingPromises) {
+                promise.tryFailure(cause);
+            }
+            pendingPromises.clear();
+        }
+    }
+
+    @Override
+    public boolean isSharable() {
+        return false;
+    }
+}
@@ -22,11 +22,13 @@ import com.hivemq.client.internal.mqtt.MqttWebSocketConfigImpl;
 import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
 import com.hivemq.client.internal.mqtt.ioc.ConnectionScope;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelPipeline;
 import io.netty.handler.codec.http.HttpClientCodec;
 import io.netty.handler.codec.http.HttpObjectAggregator;
 import io.netty.handler.codec.http.websocketx.WebSocketClientHandshaker;
 import io.netty.handler.codec.http.websocketx.WebSocketClientHandshakerFactory;
 import io.netty.handler.codec.http.websocketx.WebSocketVersion;
+import io.netty.handler.codec.http.websocketx.extensions.compression.WebSocketClientCompressionHandler;
 import org.jetbrains.annotations.NotNull;
 
 import javax.inject.Inject;
@@ -44,6 +46,7 @@ public class MqttWebSocketInitializer {
 
     private static final @NotNull String HTTP_CODEC_NAME = "http.codec";
     private static final @NotNull String HTTP_AGGREGATOR_NAME = "http.aggregator";
+    private static final @NotNull String WS_COMPRESSION_NAME = "ws.compression";
 
     private final @NotNull MqttWebSocketCodec mqttWebSocketCodec;
 
@@ -62,7 +65,7 @@ public class MqttWebSocketInitializer {
         final URI uri;
         try {
             final MqttClientTransportConfigImpl transportConfig = clientConfig.getCurrentTransportConfig();
-            final InetSocketAddress serverAddress = transportConfig.getServerAddress();
+            final InetSocketAddress serverAddress = clientConfig.getCurrentServerAddress();
             uri = new URI((transportConfig.getRawSslConfig() == null) ? "ws" : "wss", null,
                     serverAddress.getHostString(), serverAddress.getPort(), "/" + webSocketConfig.getServerPath(),
                     webSocketConfig.getQueryString(), null);
@@ -76,12 +79,20 @@ public class MqttWebSocketInitializer {
                         webSocketConfig.getSubprotocol(), true, null, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT,
                         true, false);
 
-        channel.pipeline()
-                .addLast(HTTP_CODEC_NAME, new HttpClientCodec())
-                .addLast(HTTP_AGGREGATOR_NAME, new HttpObjectAggregator(65_535))
-                .addLast(MqttWebsocketHandshakeHandler.NAME,
-                        new MqttWebsocketHandshakeHandler(handshaker, webSocketConfig.getHandshakeTimeoutMs(),
-                                onSuccess, onError))
+        final ChannelPipeline pipeline = channel.pipeline();
+        pipeline.addLast(HTTP_CODEC_NAME, new HttpClientCodec())
+                .addLast(HTTP_AGGREGATOR_NAME, new HttpObjectAggregator(65_535));
+        if (webSocketConfig.isPerMessageDeflate()) {
+            // adds the extension offer to the handshake request and the negotiated deflate encoder/decoder
+            pipeline.addLast(WS_COMPRESSION_NAME, WebSocketClientCompressionHandler.INSTANCE);
+        }
+        pipeline.addLast(MqttWebsocketHandshakeHandler.NAME,
+                new MqttWebsocketHandshakeHandler(handshaker, webSocketConfig.getHandshakeTimeoutMs(), onSuccess,
+                        onError))
                 .addLast(MqttWebSocketCodec.NAME, mqttWebSocketCodec);
+        if (webSocketConfig.getCoalescingMaxFrameSize() > 0) {
+            pipeline.addLast(MqttWebSocketFrameCoalescer.NAME,
+                    new MqttWebSocketFrameCoalescer(webSocketConfig.getCoalescingMaxFrameSize()));
+        }
     }
 }
@@ -16,6 +16,7 @@
 
 package com.hivemq.client.internal.mqtt.ioc;
 
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
 import com.hivemq.client.internal.mqtt.handler.MqttChannelInitializer;
 import com.hivemq.client.internal.mqtt.handler.auth.MqttAuthHandler;
 import com.hivemq.client.internal.mqtt.handler.auth.MqttConnectAuthHandler;
@@ -26,6 +27,8 @@ import dagger.Lazy;
 import dagger.Module;
 import dagger.Provides;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -35,8 +38,15 @@ import org.jetbrains.annotations.NotNull;
 abstract class ConnectionModule {
 
     @Provides
-    static @NotNull Bootstrap provideBootstrap(final @NotNull MqttChannelInitializer channelInitializer) {
-        return new Bootstrap().channelFactory(NettyEventLoopProvider.INSTANCE.getChannelFactory())
+    static @NotNull Bootstrap provideBootstrap(
+            final @NotNull MqttClientConfig clientConfig, final @NotNull MqttChannelInitializer channelInitializer) {
+
+        final NettyEventLoopProvider eventLoopProvider = clientConfig.getEventLoopProvider();
+        final ChannelFactory<?> channelFactory =
+                (clientConfig.getCurrentTransportConfig().getRawUnixDomainSocketPath() == null) ?
+                        eventLoopProvider.getChannelFactory() : eventLoopProvider.getDomainSocketChannelFactory();
+        return new Bootstrap().channelFactory(channelFactory)
+                .option(ChannelOption.ALLOCATOR, clientConfig.getByteBufAllocator())
                 .handler(channelInitializer);
     }
 
@@ -25,6 +25,8 @@ import com.hivemq.client.mqtt.lifecycle.MqttClientConnectedContext;
 import com.hivemq.client.mqtt.mqtt5.lifecycle.Mqtt5ClientConnectedContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.OptionalLong;
+
 /**
  * @author Silvio Giebl
  */
@@ -33,26 +35,36 @@ public class MqttClientConnectedContextImpl implements Mqtt5ClientConnectedConte
     public static @NotNull MqttClientConnectedContext of(
             final @NotNull MqttClientConfig clientConfig,
             final @NotNull MqttConnect connect,
-            final @NotNull MqttConnAck connAck) {
+            final @NotNull MqttConnAck connAck,
+            final boolean sslSessionResumed,
+            final long standbyFailoverNanos) {
 
         if (clientConfig.getMqttVersion() == MqttVersion.MQTT_3_1_1) {
-            return Mqtt3ClientConnectedContextView.of(clientConfig, connect, connAck);
+            return Mqtt3ClientConnectedContextView.of(clientConfig, connect, connAck, sslSessionResumed,
+                    standbyFailoverNanos);
         }
-        return new MqttClientConnectedContextImpl(clientConfig, connect, connAck);
+        return new MqttClientConnectedContextImpl(
+                clientConfig, connect, connAck, sslSessionResumed, standbyFailoverNanos);
     }
 
     private final @NotNull MqttClientConfig clientConfig;
     private final @NotNull MqttConnect connect;
     private final @NotNull MqttConnAck connAck;
+    private final boolean sslSessionResumed;
+    private final long standbyFailoverNanos;
 
     private MqttClientConnectedContextImpl(
             final @NotNull MqttClientConfig clientConfig,
             final @NotNull MqttConnect connect,
-            final @NotNull MqttConnAck connAck) {
+            final @NotNull MqttConnAck connAck,
+            final boolean sslSessionResumed,
+            final long standbyFailoverNanos) {
 
         this.clientConfig = clientConfig;
         this.connect = connect;
         this.connAck = connAck;
+        this.sslSessionResumed = sslSessionResumed;
+        this.standbyFailoverNanos = standbyFailoverNanos;
     }
 
     @Override
@@ -69,4 +81,14 @@ public class MqttClientConnectedContextImpl implements Mqtt5ClientConnectedConte
     public @NotNull MqttConnAck getConnAck() {
         return connAck;
     }
+
+    @Override
+    public boolean isSslSessionResumed() {
+        return sslSessionResumed;
+    }
+
+    @Override
+    public @NotNull OptionalLong getStandbyFailoverNanos() {
+        return (standbyFailoverNanos == -1) ? OptionalLong.empty() : OptionalLong.of(standbyFailoverNanos);
+    }
 }
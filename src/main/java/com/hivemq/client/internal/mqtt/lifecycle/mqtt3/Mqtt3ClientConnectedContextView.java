@@ -26,6 +26,8 @@ import com.hivemq.client.mqtt.lifecycle.MqttClientConnectedContext;
 import com.hivemq.client.mqtt.mqtt3.lifecycle.Mqtt3ClientConnectedContext;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.OptionalLong;
+
 /**
  * @author Silvio Giebl
  */
@@ -34,24 +36,32 @@ public class Mqtt3ClientConnectedContextView implements Mqtt3ClientConnectedCont
     public static @NotNull MqttClientConnectedContext of(
             final @NotNull MqttClientConfig clientConfig,
             final @NotNull MqttConnect connect,
-            final @NotNull MqttConnAck connAck) {
+            final @NotNull MqttConnAck connAck,
+            final boolean sslSessionResumed,
+            final long standbyFailoverNanos) {
 
-        return new Mqtt3ClientConnectedContextView(
-                new Mqtt3ClientConfigView(clientConfig), Mqtt3ConnectView.of(connect), Mqtt3ConnAckView.of(connAck));
+        return new Mqtt3ClientConnectedContextView(new Mqtt3ClientConfigView(clientConfig),
+                Mqtt3ConnectView.of(connect), Mqtt3ConnAckView.of(connAck), sslSessionResumed, standbyFailoverNanos);
     }
 
     private final @NotNull Mqtt3ClientConfigView clientConfig;
     private final @NotNull Mqtt3ConnectView connect;
     private final @NotNull Mqtt3ConnAckView connAck;
+    private final boolean sslSessionResumed;
+    private final long standbyFailoverNanos;
 
     private Mqtt3ClientConnectedContextView(
             final @NotNull Mqtt3ClientConfigView clientConfig,
             final @NotNull Mqtt3ConnectView connect,
-            final @NotNull Mqtt3ConnAckView connAck) {
+            final @NotNull Mqtt3ConnAckView connAck,
+            final boolean sslSessionResumed,
+            final long standbyFailoverNanos) {
 
         this.clientConfig = clientConfig;
         this.connect = connect;
         this.connAck = connAck;
+        this.sslSessionResumed = sslSessionResumed;
+        this.standbyFailoverNanos = standbyFailoverNanos;
     }
 
     @Override
@@ -68,4 +78,14 @@ public class Mqtt3ClientConnectedContextView implements Mqtt3ClientConnectedCont
     public @NotNull Mqtt3ConnAckView getConnAck() {
         return connAck;
     }
+
+    @Override
+    public boolean isSslSessionResumed() {
+        return sslSessionResumed;
+    }
+
+    @Override
+    public @NotNull OptionalLong getStandbyFailoverNanos() {
+        return (standbyFailoverNanos == -1) ? OptionalLong.empty() : OptionalLong.of(standbyFailoverNanos);
+    }
 }
@@ -35,6 +35,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalLong;
@@ -52,6 +53,7 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
 
     private final @NotNull MqttTopicImpl topic;
     private final @Nullable ByteBuffer payload;
+    private final @NotNull ByteBuffer @Nullable [] payloadBuffers;
     private final @NotNull MqttQos qos;
     private final boolean retain;
     private final long messageExpiryInterval;
@@ -60,6 +62,7 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
     private final @Nullable MqttTopicImpl responseTopic;
     private final @Nullable ByteBuffer correlationData;
 
+    private final @Nullable Runnable payloadReleaseCallback;
     private final @Nullable Confirmable confirmable;
 
     public MqttPublish(
@@ -75,9 +78,29 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
             final @NotNull MqttUserPropertiesImpl userProperties,
             final @Nullable Confirmable confirmable) {
 
+        this(topic, payload, null, qos, retain, messageExpiryInterval, payloadFormatIndicator, contentType,
+                responseTopic, correlationData, userProperties, null, confirmable);
+    }
+
+    public MqttPublish(
+            final @NotNull MqttTopicImpl topic,
+            final @Nullable ByteBuffer payload,
+            final @NotNull ByteBuffer @Nullable [] payloadBuffers,
+            final @NotNull MqttQos qos,
+            final boolean retain,
+            final long messageExpiryInterval,
+            final @Nullable Mqtt5PayloadFormatIndicator payloadFormatIndicator,
+            final @Nullable MqttUtf8StringImpl contentType,
+            final @Nullable MqttTopicImpl responseTopic,
+            final @Nullable ByteBuffer correlationData,
+            final @NotNull MqttUserPropertiesImpl userProperties,
+            final @Nullable Runnable payloadReleaseCallback,
+            final @Nullable Confirmable confirmable) {
+
         super(userProperties);
         this.topic = topic;
         this.payload = payload;
+        this.payloadBuffers = payloadBuffers;
         this.qos = qos;
         this.retain = retain;
         this.messageExpiryInterval = messageExpiryInterval;
@@ -85,6 +108,7 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
         this.contentType = contentType;
         this.responseTopic = responseTopic;
         this.correlationData = correlationData;
+        this.payloadReleaseCallback = payloadReleaseCallback;
         this.confirmable = confirmable;
     }
 
@@ -95,16 +119,46 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
 
     @Override
     public @NotNull Optional<ByteBuffer> getPayload() {
-        return ByteBufferUtil.optionalReadOnly(payload);
+        return ByteBufferUtil.optionalReadOnly(getRawSinglePayload());
     }
 
+    /**
+     * @return the payload if it consists of a single buffer, <code>null</code> if it is absent or consists of
+     *         {@link #getRawPayloadBuffers() multiple buffers}.
+     */
     public @Nullable ByteBuffer getRawPayload() {
         return payload;
     }
 
+    /**
+     * @return the payload buffers if the payload consists of multiple buffers that are written without copying them
+     *         into a single buffer, otherwise <code>null</code>.
+     */
+    public @NotNull ByteBuffer @Nullable [] getRawPayloadBuffers() {
+        return payloadBuffers;
+    }
+
+    public int getPayloadLength() {
+        if (payloadBuffers != null) {
+            return ByteBufferUtil.remaining(payloadBuffers);
+        }
+        return (payload == null) ? 0 : payload.remaining();
+    }
+
+    /**
+     * @return the payload as a single buffer, multiple payload buffers are copied into a single buffer.
+     */
+    public @Nullable ByteBuffer getRawSinglePayload() {
+        return (payloadBuffers == null) ? payload : ByteBufferUtil.concat(payloadBuffers);
+    }
+
     @Override
     public byte @NotNull [] getPayloadAsBytes() {
-        return ByteBufferUtil.copyBytes(payload);
+        return ByteBufferUtil.copyBytes(getRawSinglePayload());
+    }
+
+    public @Nullable Runnable getPayloadReleaseCallback() {
+        return payloadReleaseCallback;
     }
 
     @Override
@@ -203,14 +257,16 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
     }
 
     public @NotNull MqttPublish withConfirmable(final @NotNull Confirmable confirmable) {
-        return new MqttPublish(topic, payload, qos, retain, messageExpiryInterval, payloadFormatIndicator, contentType,
-                responseTopic, correlationData, getUserProperties(), confirmable);
+        return new MqttPublish(topic, payload, payloadBuffers, qos, retain, messageExpiryInterval,
+                payloadFormatIndicator, contentType, responseTopic, correlationData, getUserProperties(),
+                payloadReleaseCallback, confirmable);
     }
 
     @Override
     protected @NotNull String toAttributeString() {
-        return "topic=" + topic + ((payload == null) ? "" : ", payload=" + payload.remaining() + "byte") + ", qos=" +
-                qos + ", retain=" + retain + ((messageExpiryInterval == NO_MESSAGE_EXPIRY) ? "" :
+        return "topic=" + topic +
+                (((payload == null) && (payloadBuffers == null)) ? "" : ", payload=" + getPayloadLength() + "byte") +
+                ", qos=" + qos + ", retain=" + retain + ((messageExpiryInterval == NO_MESSAGE_EXPIRY) ? "" :
                 ", messageExpiryInterval=" + messageExpiryInterval) +
                 ((payloadFormatIndicator == null) ? "" : ", payloadFormatIndicator=" + payloadFormatIndicator) +
                 ((contentType == null) ? "" : ", contentType=" + contentType) +
@@ -235,7 +291,8 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
         final MqttPublish that = (MqttPublish) o;
 
         return that.canEqual(this) && partialEquals(that) && topic.equals(that.topic) &&
-                Objects.equals(payload, that.payload) && (qos == that.qos) && (retain == that.retain) &&
+                Objects.equals(payload, that.payload) && Arrays.equals(payloadBuffers, that.payloadBuffers) &&
+                (qos == that.qos) && (retain == that.retain) &&
                 (messageExpiryInterval == that.messageExpiryInterval) &&
                 (payloadFormatIndicator == that.payloadFormatIndicator) &&
                 Objects.equals(contentType, that.contentType) && Objects.equals(responseTopic, that.responseTopic) &&
@@ -251,6 +308,7 @@ public class MqttPublish extends MqttMessageWithUserProperties implements Mqtt5P
         int result = partialHashCode();
         result = 31 * result + topic.hashCode();
         result = 31 * result + Objects.hashCode(payload);
+        result = 31 * result + Arrays.hashCode(payloadBuffers);
         result = 31 * result + qos.hashCode();
         result = 31 * result + Boolean.hashCode(retain);
         result = 31 * result + Long.hashCode(messageExpiryInterval);
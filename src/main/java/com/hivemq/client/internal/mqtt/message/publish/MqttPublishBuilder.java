@@ -40,6 +40,7 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
 
     @Nullable MqttTopicImpl topic;
     @Nullable ByteBuffer payload;
+    @NotNull ByteBuffer @Nullable [] payloadBuffers;
     @NotNull MqttQos qos = MqttPublish.DEFAULT_QOS;
     boolean retain;
     long messageExpiryInterval = MqttPublish.NO_MESSAGE_EXPIRY;
@@ -54,6 +55,7 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
     MqttPublishBuilder(final @NotNull MqttPublish publish) {
         topic = publish.getTopic();
         payload = publish.getRawPayload();
+        payloadBuffers = publish.getRawPayloadBuffers();
         qos = publish.getQos();
         retain = publish.isRetain();
         messageExpiryInterval = publish.getRawMessageExpiryInterval();
@@ -67,6 +69,7 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
     MqttPublishBuilder(final @NotNull MqttPublishBuilder<?> publishBuilder) {
         topic = publishBuilder.topic;
         payload = publishBuilder.payload;
+        payloadBuffers = publishBuilder.payloadBuffers;
         qos = publishBuilder.qos;
         retain = publishBuilder.retain;
         messageExpiryInterval = publishBuilder.messageExpiryInterval;
@@ -163,6 +166,8 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
 
     private static abstract class Base<B extends Base<B>> extends MqttPublishBuilder<B> {
 
+        private @Nullable Runnable payloadReleaseCallback;
+
         Base() {}
 
         Base(final @NotNull MqttPublish publish) {
@@ -171,11 +176,32 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
 
         public @NotNull B payload(final byte @Nullable [] payload) {
             this.payload = ByteBufferUtil.wrap(payload);
+            payloadBuffers = null;
             return self();
         }
 
         public @NotNull B payload(final @Nullable ByteBuffer payload) {
             this.payload = ByteBufferUtil.slice(payload);
+            payloadBuffers = null;
+            return self();
+        }
+
+        public @NotNull B payload(final @Nullable ByteBuffer @Nullable ... payload) {
+            final ByteBuffer[] buffers = Checks.elementsNotNull(payload, "Payload buffers");
+            if (buffers.length == 1) {
+                return payload(buffers[0]);
+            }
+            final ByteBuffer[] payloadBuffers = new ByteBuffer[buffers.length];
+            for (int i = 0; i < buffers.length; i++) {
+                payloadBuffers[i] = buffers[i].slice();
+            }
+            this.payload = null;
+            this.payloadBuffers = payloadBuffers;
+            return self();
+        }
+
+        public @NotNull B payloadReleaseCallback(final @Nullable Runnable payloadReleaseCallback) {
+            this.payloadReleaseCallback = payloadReleaseCallback;
             return self();
         }
 
@@ -185,8 +211,9 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
 
         public @NotNull MqttPublish build() {
             Checks.notNull(topic, "Topic");
-            return new MqttPublish(topic, payload, qos, retain, messageExpiryInterval, payloadFormatIndicator,
-                    contentType, responseTopic, correlationData, userProperties, null);
+            return new MqttPublish(topic, payload, payloadBuffers, qos, retain, messageExpiryInterval,
+                    payloadFormatIndicator, contentType, responseTopic, correlationData, userProperties,
+                    payloadReleaseCallback, null);
         }
     }
 
@@ -253,7 +280,7 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
             if (publish instanceof MqttWillPublish) {
                 delayInterval = ((MqttWillPublish) publish).getDelayInterval();
             } else {
-                payload(payload); // check payload size restriction
+                checkPayload();
             }
         }
 
@@ -262,20 +289,34 @@ public abstract class MqttPublishBuilder<B extends MqttPublishBuilder<B>> {
             if (publishBuilder instanceof WillBase) {
                 delayInterval = ((WillBase<?>) publishBuilder).delayInterval;
             } else {
+                checkPayload();
+            }
+        }
+
+        private void checkPayload() {
+            if (payloadBuffers == null) {
                 payload(payload); // check payload size restriction
+            } else {
+                payload(payloadBuffers); // copy into a single buffer as the Will is kept for the whole session
             }
         }
 
         public @NotNull B payload(final byte @Nullable [] payload) {
             this.payload = MqttChecks.binaryDataOrNull(payload, "Payload");
+            payloadBuffers = null;
             return self();
         }
 
         public @NotNull B payload(final @Nullable ByteBuffer payload) {
             this.payload = MqttChecks.binaryDataOrNull(payload, "Payload");
+            payloadBuffers = null;
             return self();
         }
 
+        public @NotNull B payload(final @Nullable ByteBuffer @Nullable ... payload) {
+            return payload(ByteBufferUtil.concat(Checks.elementsNotNull(payload, "Payload buffers")));
+        }
+
         public @NotNull B delayInterval(final long delayInterval) {
             this.delayInterval = Checks.unsignedInt(delayInterval, "Will delay interval");
             return self();
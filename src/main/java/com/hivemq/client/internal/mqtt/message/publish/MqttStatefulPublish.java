@@ -67,6 +67,10 @@ public class MqttStatefulPublish extends MqttStatefulMessage.WithId<MqttPublish>
         return subscriptionIdentifiers;
     }
 
+    public @NotNull MqttStatefulPublish withStateless(final @NotNull MqttPublish publish) {
+        return new MqttStatefulPublish(publish, getPacketIdentifier(), dup, topicAlias, subscriptionIdentifiers);
+    }
+
     @Override
     protected @NotNull String toAttributeString() {
         return super.toAttributeString() + ", dup=" + dup + ", topicAlias=" + topicAlias +
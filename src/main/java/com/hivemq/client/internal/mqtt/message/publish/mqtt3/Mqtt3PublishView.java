@@ -70,6 +70,19 @@ public class Mqtt3PublishView implements Mqtt3Publish {
         return new Mqtt3PublishView(delegate(topic, payload, qos, retain));
     }
 
+    static @NotNull Mqtt3PublishView of(
+            final @NotNull MqttTopicImpl topic,
+            final @Nullable ByteBuffer payload,
+            final @NotNull ByteBuffer @Nullable [] payloadBuffers,
+            final @NotNull MqttQos qos,
+            final boolean retain,
+            final @Nullable Runnable payloadReleaseCallback) {
+
+        return new Mqtt3PublishView(
+                new MqttPublish(topic, payload, payloadBuffers, qos, retain, MqttPublish.NO_MESSAGE_EXPIRY, null, null,
+                        null, null, MqttUserPropertiesImpl.NO_USER_PROPERTIES, payloadReleaseCallback, null));
+    }
+
     static @NotNull Mqtt3PublishView willOf(
             final @NotNull MqttTopicImpl topic,
             final @Nullable ByteBuffer payload,
@@ -135,8 +148,9 @@ public class Mqtt3PublishView implements Mqtt3Publish {
     }
 
     private @NotNull String toAttributeString() {
-        return "topic=" + getTopic() + ((delegate.getRawPayload() == null) ? "" :
-                ", payload=" + delegate.getRawPayload().remaining() + "byte") + ", qos=" + getQos() + ", retain=" +
+        return "topic=" + getTopic() +
+                (((delegate.getRawPayload() == null) && (delegate.getRawPayloadBuffers() == null)) ? "" :
+                        ", payload=" + delegate.getPayloadLength() + "byte") + ", qos=" + getQos() + ", retain=" +
                 isRetain();
     }
 
@@ -41,6 +41,8 @@ public abstract class Mqtt3PublishViewBuilder<B extends Mqtt3PublishViewBuilder<
 
     @Nullable MqttTopicImpl topic;
     @Nullable ByteBuffer payload;
+    @NotNull ByteBuffer @Nullable [] payloadBuffers;
+    @Nullable Runnable payloadReleaseCallback;
     @NotNull MqttQos qos = Mqtt3PublishView.DEFAULT_QOS;
     boolean retain;
 
@@ -50,6 +52,8 @@ public abstract class Mqtt3PublishViewBuilder<B extends Mqtt3PublishViewBuilder<
         final MqttPublish delegate = publish.getDelegate();
         topic = delegate.getTopic();
         payload = delegate.getRawPayload();
+        payloadBuffers = delegate.getRawPayloadBuffers();
+        payloadReleaseCallback = delegate.getPayloadReleaseCallback();
         qos = delegate.getQos();
         retain = delegate.isRetain();
     }
@@ -90,17 +94,19 @@ public abstract class Mqtt3PublishViewBuilder<B extends Mqtt3PublishViewBuilder<
 
         public @NotNull B payload(final byte @Nullable [] payload) {
             this.payload = ByteBufferUtil.wrap(payload);
+            payloadBuffers = null;
             return self();
         }
 
         public @NotNull B payload(final @Nullable ByteBuffer payload) {
             this.payload = ByteBufferUtil.slice(payload);
+            payloadBuffers = null;
             return self();
         }
 
         public @NotNull Mqtt3PublishView build() {
             Checks.notNull(topic, "Topic");
-            return Mqtt3PublishView.of(topic, payload, qos, retain);
+            return Mqtt3PublishView.of(topic, payload, payloadBuffers, qos, retain, payloadReleaseCallback);
         }
     }
 
@@ -182,6 +188,12 @@ public abstract class Mqtt3PublishViewBuilder<B extends Mqtt3PublishViewBuilder<
         WillBase(final @NotNull Mqtt3PublishView publish) {
             super(publish);
             if (!(publish.getDelegate() instanceof MqttWillPublish)) {
+                if (payloadBuffers != null) {
+                    // copy into a single buffer as the Will is kept for the whole session
+                    payload = ByteBufferUtil.concat(payloadBuffers);
+                    payloadBuffers = null;
+                }
+                payloadReleaseCallback = null;
                 payload(payload); // check payload size restriction
             }
         }
@@ -45,12 +45,14 @@ import com.hivemq.client.mqtt.mqtt3.message.subscribe.Mqtt3Subscribe;
 import com.hivemq.client.mqtt.mqtt3.message.subscribe.suback.Mqtt3SubAck;
 import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3Unsubscribe;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
 import com.hivemq.client.mqtt.mqtt5.message.subscribe.suback.Mqtt5SubAck;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -240,6 +242,43 @@ public class Mqtt3AsyncClientView implements Mqtt3AsyncClient {
         return future;
     }
 
+    @Override
+    public void publish(
+            final @Nullable Mqtt3Publish publish,
+            final @Nullable BiConsumer<? super Mqtt3Publish, ? super Throwable> callback) {
+
+        final MqttPublish mqttPublish = MqttChecks.publish(publish);
+        Checks.notNull(callback, "Callback");
+
+        delegate.publish(mqttPublish, callback(publish, callback));
+    }
+
+    @Override
+    public void publish(
+            final @Nullable Mqtt3Publish publish,
+            final @Nullable BiConsumer<? super Mqtt3Publish, ? super Throwable> callback,
+            final @Nullable Executor executor) {
+
+        final MqttPublish mqttPublish = MqttChecks.publish(publish);
+        Checks.notNull(callback, "Callback");
+        Checks.notNull(executor, "Executor");
+
+        delegate.publish(mqttPublish, callback(publish, callback), executor);
+    }
+
+    private static @NotNull BiConsumer<Mqtt5PublishResult, Throwable> callback(
+            final @NotNull Mqtt3Publish publish,
+            final @NotNull BiConsumer<? super Mqtt3Publish, ? super Throwable> callback) {
+
+        return (publishResult, throwable) -> {
+            if (throwable != null) {
+                callback.accept(null, Mqtt3ExceptionFactory.map(throwable));
+            } else {
+                callback.accept(publish, null);
+            }
+        };
+    }
+
     @Override
     public Mqtt3PublishViewBuilder.@NotNull Send<CompletableFuture<Mqtt3Publish>> publishWith() {
         return new Mqtt3PublishViewBuilder.Send<>(this::publish);
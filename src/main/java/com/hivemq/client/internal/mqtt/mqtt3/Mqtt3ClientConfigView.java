@@ -22,6 +22,8 @@ import com.hivemq.client.internal.mqtt.message.auth.MqttSimpleAuth;
 import com.hivemq.client.internal.mqtt.message.auth.mqtt3.Mqtt3SimpleAuthView;
 import com.hivemq.client.internal.mqtt.message.publish.MqttWillPublish;
 import com.hivemq.client.internal.mqtt.message.publish.mqtt3.Mqtt3PublishView;
+import com.hivemq.client.mqtt.MqttClientBufferMetrics;
+import com.hivemq.client.mqtt.MqttClientEventLoopMetrics;
 import com.hivemq.client.mqtt.MqttClientExecutorConfig;
 import com.hivemq.client.mqtt.MqttClientState;
 import com.hivemq.client.mqtt.MqttClientTransportConfig;
@@ -71,6 +73,16 @@ public class Mqtt3ClientConfigView implements Mqtt3ClientConfig {
         return delegate.getExecutorConfig();
     }
 
+    @Override
+    public @NotNull MqttClientBufferMetrics getBufferMetrics() {
+        return delegate.getBufferMetrics();
+    }
+
+    @Override
+    public @Immutable @NotNull List<@NotNull MqttClientEventLoopMetrics> getEventLoopMetrics() {
+        return delegate.getEventLoopMetrics();
+    }
+
     @Override
     public @NotNull Optional<MqttClientAutoReconnect> getAutomaticReconnect() {
         return delegate.getAutomaticReconnect();
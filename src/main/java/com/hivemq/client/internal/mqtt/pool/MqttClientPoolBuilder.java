@@ -0,0 +1,65 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.pool;
+
+import com.hivemq.client.internal.mqtt.MqttRxClient;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.pool.Mqtt5ClientPoolBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttClientPoolBuilder implements Mqtt5ClientPoolBuilder {
+
+    private final @NotNull IntFunction<MqttRxClient> clientFactory;
+    private int size = DEFAULT_SIZE;
+    private @Nullable Function<? super Mqtt5Publish, ?> shardKeyFunction;
+
+    public MqttClientPoolBuilder(final @NotNull IntFunction<MqttRxClient> clientFactory) {
+        this.clientFactory = clientFactory;
+    }
+
+    @Override
+    public @NotNull MqttClientPoolBuilder size(final int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Pool size must be positive. Found: " + size);
+        }
+        this.size = size;
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttClientPoolBuilder shardKey(final @Nullable Function<? super Mqtt5Publish, ?> shardKeyFunction) {
+        this.shardKeyFunction = shardKeyFunction;
+        return this;
+    }
+
+    @Override
+    public @NotNull MqttRxClientPool buildRx() {
+        final ImmutableList.Builder<MqttRxClient> clientsBuilder = ImmutableList.builder(size);
+        for (int i = 0; i < size; i++) {
+            clientsBuilder.add(clientFactory.apply(i));
+        }
+        return new MqttRxClientPool(clientsBuilder.build(), shardKeyFunction);
+    }
+}
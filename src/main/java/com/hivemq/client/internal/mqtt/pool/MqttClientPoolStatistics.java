@@ -0,0 +1,86 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.pool;
+
+import com.hivemq.client.internal.mqtt.MqttRxClient;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.pool.Mqtt5ClientPoolStatistics;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttClientPoolStatistics implements Mqtt5ClientPoolStatistics {
+
+    private final @NotNull MqttRxClient client;
+    private final @NotNull AtomicLong published = new AtomicLong();
+    private final @NotNull AtomicLong succeeded = new AtomicLong();
+    private final @NotNull AtomicLong failed = new AtomicLong();
+    private final @NotNull AtomicLong received = new AtomicLong();
+
+    MqttClientPoolStatistics(final @NotNull MqttRxClient client) {
+        this.client = client;
+    }
+
+    void onPublished() {
+        published.incrementAndGet();
+    }
+
+    void onResult(final @NotNull Mqtt5PublishResult result) {
+        if (result.getError().isPresent()) {
+            failed.incrementAndGet();
+        } else {
+            succeeded.incrementAndGet();
+        }
+    }
+
+    void onReceived() {
+        received.incrementAndGet();
+    }
+
+    @Override
+    public @NotNull MqttRxClient getClient() {
+        return client;
+    }
+
+    @Override
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    @Override
+    public long getSucceededCount() {
+        return succeeded.get();
+    }
+
+    @Override
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    @Override
+    public long getPendingCount() {
+        return published.get() - succeeded.get() - failed.get();
+    }
+
+    @Override
+    public long getReceivedCount() {
+        return received.get();
+    }
+}
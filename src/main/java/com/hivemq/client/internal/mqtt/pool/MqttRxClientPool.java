@@ -0,0 +1,258 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.pool;
+
+import com.hivemq.client.internal.mqtt.MqttRxClient;
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicFilterImpl;
+import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribe;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscription;
+import com.hivemq.client.internal.mqtt.message.unsubscribe.MqttUnsubscribe;
+import com.hivemq.client.internal.mqtt.util.MqttChecks;
+import com.hivemq.client.internal.util.Checks;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.mqtt5.message.connect.Mqtt5Connect;
+import com.hivemq.client.mqtt.mqtt5.message.connect.connack.Mqtt5ConnAck;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscribe;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.suback.Mqtt5SubAck;
+import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
+import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.unsuback.Mqtt5UnsubAck;
+import com.hivemq.client.mqtt.mqtt5.pool.Mqtt5RxClientPool;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * @author Silvio Giebl
+ */
+public class MqttRxClientPool implements Mqtt5RxClientPool {
+
+    private final @NotNull ImmutableList<MqttRxClient> clients;
+    private final @NotNull ImmutableList<MqttClientPoolStatistics> statistics;
+    private final @Nullable Function<? super Mqtt5Publish, ?> shardKeyFunction;
+    private final @NotNull AtomicInteger roundRobinIndex = new AtomicInteger();
+
+    MqttRxClientPool(
+            final @NotNull ImmutableList<MqttRxClient> clients,
+            final @Nullable Function<? super Mqtt5Publish, ?> shardKeyFunction) {
+
+        this.clients = clients;
+        final ImmutableList.Builder<MqttClientPoolStatistics> statisticsBuilder =
+                ImmutableList.builder(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            statisticsBuilder.add(new MqttClientPoolStatistics(clients.get(i)));
+        }
+        statistics = statisticsBuilder.build();
+        this.shardKeyFunction = shardKeyFunction;
+    }
+
+    @Override
+    public @NotNull ImmutableList<MqttRxClient> getClients() {
+        return clients;
+    }
+
+    @Override
+    public @NotNull ImmutableList<MqttClientPoolStatistics> getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public @NotNull Single<List<Mqtt5ConnAck>> connect() {
+        return connect(MqttConnect.DEFAULT);
+    }
+
+    @Override
+    public @NotNull Single<List<Mqtt5ConnAck>> connect(final @Nullable Mqtt5Connect connect) {
+        final MqttConnect mqttConnect = MqttChecks.connect(connect);
+        // only the first client sends the will, otherwise it would be published once per lost connection
+        final MqttConnect connectWithoutWill = (mqttConnect.getRawWillPublish() == null) ? mqttConnect :
+                mqttConnect.extend().willPublish(null).build();
+        final ImmutableList.Builder<Single<Mqtt5ConnAck>> singlesBuilder = ImmutableList.builder(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            singlesBuilder.add(clients.get(i).connect((i == 0) ? mqttConnect : connectWithoutWill));
+        }
+        return zip(singlesBuilder.build());
+    }
+
+    @Override
+    public @NotNull Single<List<Mqtt5SubAck>> subscribe(final @Nullable Mqtt5Subscribe subscribe) {
+        final MqttSubscribe[] shards = shardSubscribe(MqttChecks.subscribe(subscribe));
+        final ImmutableList.Builder<Single<Mqtt5SubAck>> singlesBuilder = ImmutableList.builder(clients.size());
+        for (int i = 0; i < shards.length; i++) {
+            final MqttSubscribe shard = shards[i];
+            if (shard != null) {
+                singlesBuilder.add(clients.get(i).subscribe(shard));
+            }
+        }
+        return zip(singlesBuilder.build());
+    }
+
+    /**
+     * Splits the subscriptions of the given Subscribe message across the clients of this pool.
+     * <p>
+     * A subscription with a shared topic filter is sent by every client, as the server delivers each message only once
+     * per share group. Any other subscription is sent by exactly one client, chosen by the topic filter, so a matching
+     * message is not received by every client.
+     *
+     * @param subscribe the Subscribe message.
+     * @return the Subscribe message for each client in the same order as {@link #getClients()}, <code>null</code> if
+     *         the client does not have to subscribe.
+     */
+    @Nullable MqttSubscribe @NotNull [] shardSubscribe(final @NotNull MqttSubscribe subscribe) {
+        final ImmutableList<MqttSubscription> subscriptions = subscribe.getSubscriptions();
+        final int[] indexes = new int[subscriptions.size()];
+        for (int i = 0; i < subscriptions.size(); i++) {
+            indexes[i] = shardIndex(subscriptions.get(i).getTopicFilter());
+        }
+        final MqttSubscribe[] shards = new MqttSubscribe[clients.size()];
+        for (int clientIndex = 0; clientIndex < shards.length; clientIndex++) {
+            ImmutableList.Builder<MqttSubscription> builder = null;
+            for (int i = 0; i < indexes.length; i++) {
+                if ((indexes[i] == -1) || (indexes[i] == clientIndex)) {
+                    if (builder == null) {
+                        builder = ImmutableList.builder();
+                    }
+                    builder.add(subscriptions.get(i));
+                }
+            }
+            if (builder != null) {
+                shards[clientIndex] = new MqttSubscribe(builder.build(), subscribe.getUserProperties());
+            }
+        }
+        return shards;
+    }
+
+    @Override
+    public @NotNull Single<List<Mqtt5UnsubAck>> unsubscribe(final @Nullable Mqtt5Unsubscribe unsubscribe) {
+        final MqttUnsubscribe[] shards = shardUnsubscribe(MqttChecks.unsubscribe(unsubscribe));
+        final ImmutableList.Builder<Single<Mqtt5UnsubAck>> singlesBuilder = ImmutableList.builder(clients.size());
+        for (int i = 0; i < shards.length; i++) {
+            final MqttUnsubscribe shard = shards[i];
+            if (shard != null) {
+                singlesBuilder.add(clients.get(i).unsubscribe(shard));
+            }
+        }
+        return zip(singlesBuilder.build());
+    }
+
+    /**
+     * Splits the topic filters of the given Unsubscribe message across the clients of this pool in the same way as
+     * {@link #shardSubscribe(MqttSubscribe)}, so each topic filter is unsubscribed by the clients that subscribed it.
+     *
+     * @param unsubscribe the Unsubscribe message.
+     * @return the Unsubscribe message for each client in the same order as {@link #getClients()}, <code>null</code> if
+     *         the client does not have to unsubscribe.
+     */
+    @Nullable MqttUnsubscribe @NotNull [] shardUnsubscribe(final @NotNull MqttUnsubscribe unsubscribe) {
+        final ImmutableList<MqttTopicFilterImpl> topicFilters = unsubscribe.getTopicFilters();
+        final int[] indexes = new int[topicFilters.size()];
+        for (int i = 0; i < topicFilters.size(); i++) {
+            indexes[i] = shardIndex(topicFilters.get(i));
+        }
+        final MqttUnsubscribe[] shards = new MqttUnsubscribe[clients.size()];
+        for (int clientIndex = 0; clientIndex < shards.length; clientIndex++) {
+            ImmutableList.Builder<MqttTopicFilterImpl> builder = null;
+            for (int i = 0; i < indexes.length; i++) {
+                if ((indexes[i] == -1) || (indexes[i] == clientIndex)) {
+                    if (builder == null) {
+                        builder = ImmutableList.builder();
+                    }
+                    builder.add(topicFilters.get(i));
+                }
+            }
+            if (builder != null) {
+                shards[clientIndex] = new MqttUnsubscribe(builder.build(), unsubscribe.getUserProperties());
+            }
+        }
+        return shards;
+    }
+
+    /**
+     * @return the index of the client that sends the (un)subscription of the given topic filter, or -1 if every client
+     *         sends it because the topic filter is shared.
+     */
+    private int shardIndex(final @NotNull MqttTopicFilterImpl topicFilter) {
+        return topicFilter.isShared() ? -1 : subscriptionIndex(topicFilter);
+    }
+
+    int subscriptionIndex(final @NotNull MqttTopicFilterImpl topicFilter) {
+        final int hash = topicFilter.toString().hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), clients.size());
+    }
+
+    private static <T> @NotNull Single<List<T>> zip(final @NotNull ImmutableList<Single<T>> singles) {
+        return Single.<T, List<T>>zip(singles, results -> {
+            //noinspection unchecked
+            return ImmutableList.copyOf((T[]) results);
+        });
+    }
+
+    @Override
+    public @NotNull Flowable<Mqtt5Publish> publishes(final @Nullable MqttGlobalPublishFilter filter) {
+        Checks.notNull(filter, "Global publish filter");
+
+        return Flowable.fromIterable(statistics)
+                .flatMap(clientStatistics -> clientStatistics.getClient()
+                        .publishes(filter)
+                        .doOnNext(publish -> clientStatistics.onReceived()), statistics.size());
+    }
+
+    @Override
+    public @NotNull Flowable<Mqtt5PublishResult> publish(final @Nullable Flowable<Mqtt5Publish> publishFlowable) {
+        Checks.notNull(publishFlowable, "Publish flowable");
+
+        return publishFlowable.groupBy(this::shardIndex).flatMap(group -> {
+            final Integer index = group.getKey();
+            assert index != null;
+            final MqttClientPoolStatistics clientStatistics = statistics.get(index);
+            return clientStatistics.getClient()
+                    .publish(group.doOnNext(publish -> clientStatistics.onPublished()))
+                    .doOnNext(clientStatistics::onResult);
+        }, statistics.size());
+    }
+
+    int shardIndex(final @NotNull Mqtt5Publish publish) {
+        final int size = clients.size();
+        if (shardKeyFunction == null) {
+            return Math.floorMod(roundRobinIndex.getAndIncrement(), size);
+        }
+        final Object key = shardKeyFunction.apply(publish);
+        if (key == null) {
+            return 0;
+        }
+        final int hash = key.hashCode();
+        return Math.floorMod(hash ^ (hash >>> 16), size);
+    }
+
+    @Override
+    public @NotNull Completable disconnect() {
+        final ImmutableList.Builder<Completable> completablesBuilder = ImmutableList.builder(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            completablesBuilder.add(clients.get(i).disconnect());
+        }
+        return Completable.merge(completablesBuilder.build());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.netty;
+
+import com.hivemq.client.mqtt.MqttClientBufferMetrics;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufAllocatorMetric;
+import io.netty.buffer.ByteBufAllocatorMetricProvider;
+import io.netty.buffer.PoolArenaMetric;
+import io.netty.buffer.PooledByteBufAllocatorMetric;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * @author Silvio Giebl
+ */
+public class NettyBufferMetrics implements MqttClientBufferMetrics {
+
+    private final @Nullable ByteBufAllocatorMetric metric;
+
+    public NettyBufferMetrics(final @NotNull ByteBufAllocator allocator) {
+        metric = (allocator instanceof ByteBufAllocatorMetricProvider) ?
+                ((ByteBufAllocatorMetricProvider) allocator).metric() : null;
+    }
+
+    @Override
+    public long getUsedDirectMemory() {
+        return (metric == null) ? 0 : metric.usedDirectMemory();
+    }
+
+    @Override
+    public long getUsedHeapMemory() {
+        return (metric == null) ? 0 : metric.usedHeapMemory();
+    }
+
+    @Override
+    public int getDirectArenas() {
+        return (metric instanceof PooledByteBufAllocatorMetric) ?
+                ((PooledByteBufAllocatorMetric) metric).numDirectArenas() : 0;
+    }
+
+    @Override
+    public int getHeapArenas() {
+        return (metric instanceof PooledByteBufAllocatorMetric) ?
+                ((PooledByteBufAllocatorMetric) metric).numHeapArenas() : 0;
+    }
+
+    @Override
+    public long getActiveDirectAllocations() {
+        return (metric instanceof PooledByteBufAllocatorMetric) ?
+                activeAllocations(((PooledByteBufAllocatorMetric) metric).directArenas()) : 0;
+    }
+
+    @Override
+    public long getActiveHeapAllocations() {
+        return (metric instanceof PooledByteBufAllocatorMetric) ?
+                activeAllocations(((PooledByteBufAllocatorMetric) metric).heapArenas()) : 0;
+    }
+
+    @Override
+    public int getThreadLocalCaches() {
+        return (metric instanceof PooledByteBufAllocatorMetric) ?
+                ((PooledByteBufAllocatorMetric) metric).numThreadLocalCaches() : 0;
+    }
+
+    private static long activeAllocations(final @NotNull List<PoolArenaMetric> arenas) {
+        long activeAllocations = 0;
+        //noinspection ForLoopReplaceableByForEach
+        for (int i = 0; i < arenas.size(); i++) {
+            activeAllocations += arenas.get(i).numActiveAllocations();
+        }
+        return activeAllocations;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.netty;
+
+import com.hivemq.client.internal.annotations.ThreadSafe;
+import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Provides the buffer allocators for the clients. Clients with the same buffer settings share the same allocator, the
+ * default settings use the global default allocator of Netty.
+ *
+ * @author Silvio Giebl
+ */
+@ThreadSafe
+public class NettyByteBufAllocatorProvider {
+
+    public static final @NotNull NettyByteBufAllocatorProvider INSTANCE = new NettyByteBufAllocatorProvider();
+
+    private final @NotNull Map<@NotNull Long, @NotNull ByteBufAllocator> allocators = new HashMap<>();
+
+    private NettyByteBufAllocatorProvider() {}
+
+    public synchronized @NotNull ByteBufAllocator getAllocator(final int arenas, final boolean direct) {
+        if ((arenas == MqttClientExecutorConfigImpl.DEFAULT_NETTY_BUFFER_ARENAS) && direct) {
+            return ByteBufAllocator.DEFAULT;
+        }
+        return allocators.computeIfAbsent(((long) arenas << 1) | (direct ? 1 : 0), key -> {
+            final int heapArenas = (arenas == MqttClientExecutorConfigImpl.DEFAULT_NETTY_BUFFER_ARENAS) ?
+                    PooledByteBufAllocator.defaultNumHeapArena() : arenas;
+            final int directArenas = (arenas == MqttClientExecutorConfigImpl.DEFAULT_NETTY_BUFFER_ARENAS) ?
+                    PooledByteBufAllocator.defaultNumDirectArena() : arenas;
+            return new PooledByteBufAllocator(direct, heapArenas, directArenas,
+                    PooledByteBufAllocator.defaultPageSize(), PooledByteBufAllocator.defaultMaxOrder());
+        });
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.netty;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.annotations.ThreadSafe;
+import com.hivemq.client.mqtt.MqttClientEventLoopMetrics;
+import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Silvio Giebl
+ */
+@ThreadSafe
+public class NettyEventLoopMetrics implements MqttClientEventLoopMetrics {
+
+    private static final long MIN_SAMPLE_NANOS = 1_000_000_000L;
+
+    private final @NotNull EventLoop eventLoop;
+    private volatile int clients; // only written while holding the lock of the NettyEventLoopProvider
+    private volatile long messages; // only written by the event loop thread
+    private long sampleNanos = System.nanoTime();
+    private long sampleMessages;
+    private double messageRate;
+
+    NettyEventLoopMetrics(final @NotNull EventLoop eventLoop) {
+        this.eventLoop = eventLoop;
+    }
+
+    @NotNull EventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    void addClient() {
+        //noinspection NonAtomicOperationOnVolatileField
+        clients++;
+    }
+
+    void removeClient() {
+        //noinspection NonAtomicOperationOnVolatileField
+        clients--;
+    }
+
+    @CallByThread("Netty EventLoop")
+    public void onMessage() {
+        //noinspection NonAtomicOperationOnVolatileField
+        messages++;
+    }
+
+    @Override
+    public int getClients() {
+        return clients;
+    }
+
+    @Override
+    public long getMessages() {
+        return messages;
+    }
+
+    @Override
+    public synchronized double getMessageRate() {
+        final long nanos = System.nanoTime();
+        final long elapsedNanos = nanos - sampleNanos;
+        if (elapsedNanos >= MIN_SAMPLE_NANOS) {
+            final long messages = this.messages;
+            messageRate = (messages - sampleMessages) * 1_000_000_000d / elapsedNanos;
+            sampleNanos = nanos;
+            sampleMessages = messages;
+        }
+        return messageRate;
+    }
+
+    @Override
+    public int getPendingTasks() {
+        return (eventLoop instanceof SingleThreadEventExecutor) ?
+                ((SingleThreadEventExecutor) eventLoop).pendingTasks() : 0;
+    }
+}
@@ -20,25 +20,38 @@ import com.hivemq.client.internal.annotations.ThreadSafe;
 import com.hivemq.client.internal.logging.InternalLogger;
 import com.hivemq.client.internal.logging.InternalLoggerFactory;
 import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttSocketConfigImpl;
 import com.hivemq.client.internal.util.ClassUtil;
-import io.netty.channel.ChannelFactory;
-import io.netty.channel.EventLoop;
-import io.netty.channel.MultithreadEventLoopGroup;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttClientEventLoopMetrics;
+import com.hivemq.client.mqtt.MqttEventLoopAssignment;
+import io.netty.channel.*;
 import io.netty.channel.epoll.Epoll;
+import io.netty.channel.epoll.EpollDomainSocketChannel;
 import io.netty.channel.epoll.EpollEventLoopGroup;
 import io.netty.channel.epoll.EpollSocketChannel;
+import io.netty.channel.epoll.EpollSocketChannelConfig;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
 import io.netty.util.concurrent.DefaultThreadFactory;
+import io.netty.util.concurrent.EventExecutor;
 import io.netty.util.concurrent.ThreadPerTaskExecutor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.net.SocketAddress;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * @author Silvio Giebl
@@ -48,27 +61,97 @@ public class NettyEventLoopProvider {
 
     private static final @NotNull InternalLogger LOGGER = InternalLoggerFactory.getLogger(NettyEventLoopProvider.class);
 
+    /**
+     * The provider for the preferred transport: io_uring, then epoll, then NIO.
+     */
     public static final @NotNull NettyEventLoopProvider INSTANCE;
+    /**
+     * The epoll provider if the preferred transport is io_uring and epoll is available too, otherwise
+     * <code>null</code>. io_uring does not support native socket options and Unix domain sockets, so clients that are
+     * configured with them use epoll instead.
+     */
+    private static final @Nullable NettyEventLoopProvider EPOLL_FALLBACK;
 
     static {
-        if (ClassUtil.isAvailable("io.netty.channel.epoll.Epoll")) {
-            INSTANCE = EpollHolder.eventLoopProvider();
+        final NettyEventLoopProvider epoll =
+                ClassUtil.isAvailable("io.netty.channel.epoll.Epoll") ? EpollHolder.eventLoopProvider() : null;
+        final NettyEventLoopProvider ioUring = ClassUtil.isAvailable("io.netty.incubator.channel.uring.IOUring") ?
+                IOUringHolder.eventLoopProvider() : null;
+        if (ioUring != null) {
+            INSTANCE = ioUring;
+            EPOLL_FALLBACK = epoll;
         } else {
-            INSTANCE = nioEventLoopProvider();
+            INSTANCE = (epoll != null) ? epoll :
+                    new NettyEventLoopProvider(NioEventLoopGroup::new, NioSocketChannel::new, null, null, null);
+            EPOLL_FALLBACK = null;
         }
     }
 
-    private static NettyEventLoopProvider nioEventLoopProvider() {
-        return new NettyEventLoopProvider(NioEventLoopGroup::new, NioSocketChannel::new);
+    /**
+     * Returns the provider for a client with the given transport configuration.
+     *
+     * @param transportConfig the transport configuration of the client.
+     * @return the epoll provider if the preferred provider does not support the native socket options or the Unix
+     *         domain socket of the transport configuration and epoll does, otherwise {@link #INSTANCE}.
+     */
+    public static @NotNull NettyEventLoopProvider of(final @NotNull MqttClientTransportConfigImpl transportConfig) {
+        final NettyEventLoopProvider epollFallback = EPOLL_FALLBACK;
+        if ((epollFallback != null) && ((transportConfig.getRawUnixDomainSocketPath() != null) ||
+                transportConfig.getSocketConfig().hasNativeOptions())) {
+            return epollFallback;
+        }
+        return INSTANCE;
+    }
+
+    private static class IOUringHolder {
+
+        private static @Nullable NettyEventLoopProvider eventLoopProvider() {
+            if (IOUring.isAvailable()) {
+                return new NettyEventLoopProvider(
+                        IOUringEventLoopGroup::new, IOUringSocketChannel::new, null, null, null);
+            }
+            return null;
+        }
     }
 
     private static class EpollHolder {
 
-        private static NettyEventLoopProvider eventLoopProvider() {
+        private static final @NotNull String SO_BUSY_POLL = "SO_BUSY_POLL";
+
+        private static @Nullable NettyEventLoopProvider eventLoopProvider() {
             if (Epoll.isAvailable()) {
-                return new NettyEventLoopProvider(EpollEventLoopGroup::new, EpollSocketChannel::new);
-            } else {
-                return nioEventLoopProvider();
+                return new NettyEventLoopProvider(EpollEventLoopGroup::new, EpollSocketChannel::new,
+                        EpollHolder::initNativeSocket, EpollDomainSocketChannel::new, DomainSocketAddress::new);
+            }
+            return null;
+        }
+
+        private static void initNativeSocket(
+                final @NotNull Channel channel, final @NotNull MqttSocketConfigImpl socketConfig) {
+
+            if (!(channel.config() instanceof EpollSocketChannelConfig)) {
+                return;
+            }
+            final EpollSocketChannelConfig config = (EpollSocketChannelConfig) channel.config();
+            try {
+                if (socketConfig.isTcpQuickAck()) {
+                    config.setTcpQuickAck(true);
+                }
+                if (socketConfig.isTcpCork()) {
+                    config.setTcpCork(true);
+                }
+                if (socketConfig.getTcpNotSentLowAt() != 0) {
+                    config.setTcpNotSentLowAt(socketConfig.getTcpNotSentLowAt());
+                }
+                if (socketConfig.getBusyPollMicros() != 0) {
+                    // SO_BUSY_POLL is only defined by newer Netty versions
+                    if (!ChannelOption.exists(SO_BUSY_POLL) || !config.setOption(
+                            ChannelOption.<Integer>valueOf(SO_BUSY_POLL), socketConfig.getBusyPollMicros())) {
+                        LOGGER.warn("SO_BUSY_POLL is not supported by the native epoll transport, ignoring it.");
+                    }
+                }
+            } catch (final ChannelException e) {
+                LOGGER.warn("Failed to set native socket options, continuing without them: {}", e);
             }
         }
     }
@@ -76,16 +159,29 @@ public class NettyEventLoopProvider {
     private final @NotNull Map<@Nullable Executor, @NotNull Entry> entries = new HashMap<>();
     private final @NotNull BiFunction<Integer, Executor, MultithreadEventLoopGroup> eventLoopGroupFactory;
     private final @NotNull ChannelFactory<?> channelFactory;
+    private final @Nullable BiConsumer<Channel, MqttSocketConfigImpl> nativeSocketInitializer;
+    private final @Nullable ChannelFactory<?> domainSocketChannelFactory;
+    private final @Nullable Function<String, SocketAddress> domainSocketAddressFactory;
 
     private NettyEventLoopProvider(
             final @NotNull BiFunction<Integer, Executor, MultithreadEventLoopGroup> eventLoopGroupFactory,
-            final @NotNull ChannelFactory<?> channelFactory) {
+            final @NotNull ChannelFactory<?> channelFactory,
+            final @Nullable BiConsumer<Channel, MqttSocketConfigImpl> nativeSocketInitializer,
+            final @Nullable ChannelFactory<?> domainSocketChannelFactory,
+            final @Nullable Function<String, SocketAddress> domainSocketAddressFactory) {
 
         this.eventLoopGroupFactory = eventLoopGroupFactory;
         this.channelFactory = channelFactory;
+        this.nativeSocketInitializer = nativeSocketInitializer;
+        this.domainSocketChannelFactory = domainSocketChannelFactory;
+        this.domainSocketAddressFactory = domainSocketAddressFactory;
     }
 
-    public synchronized @NotNull EventLoop acquireEventLoop(final @Nullable Executor executor, final int threadCount) {
+    public synchronized @NotNull EventLoop acquireEventLoop(
+            final @Nullable Executor executor,
+            final int threadCount,
+            final @NotNull MqttEventLoopAssignment assignment) {
+
         Entry entry = entries.get(executor);
         if (entry == null) {
             final MultithreadEventLoopGroup eventLoopGroup;
@@ -114,11 +210,17 @@ public class NettyEventLoopProvider {
             }
             entry.referenceCount++;
         }
-        return entry.eventLoopGroup.next();
+        final NettyEventLoopMetrics metrics = entry.assign(assignment);
+        metrics.addClient();
+        return metrics.getEventLoop();
     }
 
-    public synchronized void releaseEventLoop(final @Nullable Executor executor) {
+    public synchronized void releaseEventLoop(final @Nullable Executor executor, final @NotNull EventLoop eventLoop) {
         final Entry entry = entries.get(executor);
+        final NettyEventLoopMetrics metrics = entry.getMetrics(eventLoop);
+        if (metrics != null) {
+            metrics.removeClient();
+        }
         if (--entry.referenceCount == 0) {
             entries.remove(executor);
             if (!(executor instanceof MultithreadEventLoopGroup)) {
@@ -128,17 +230,111 @@ public class NettyEventLoopProvider {
         }
     }
 
+    public synchronized @NotNull ImmutableList<MqttClientEventLoopMetrics> getEventLoopMetrics(
+            final @Nullable Executor executor) {
+
+        final Entry entry = entries.get(executor);
+        return (entry == null) ? ImmutableList.of() : entry.metricsList;
+    }
+
+    public synchronized @Nullable NettyEventLoopMetrics getEventLoopMetrics(final @NotNull EventLoop eventLoop) {
+        for (final Entry entry : entries.values()) {
+            final NettyEventLoopMetrics metrics = entry.getMetrics(eventLoop);
+            if (metrics != null) {
+                return metrics;
+            }
+        }
+        return null;
+    }
+
     public @NotNull ChannelFactory<?> getChannelFactory() {
         return channelFactory;
     }
 
+    public boolean supportsDomainSockets() {
+        return domainSocketChannelFactory != null;
+    }
+
+    public @NotNull ChannelFactory<?> getDomainSocketChannelFactory() {
+        if (domainSocketChannelFactory == null) {
+            throw new UnsupportedOperationException(
+                    "Unix domain sockets are only supported by the native epoll transport.");
+        }
+        return domainSocketChannelFactory;
+    }
+
+    public @NotNull SocketAddress createDomainSocketAddress(final @NotNull String path) {
+        if (domainSocketAddressFactory == null) {
+            throw new UnsupportedOperationException(
+                    "Unix domain sockets are only supported by the native epoll transport.");
+        }
+        return domainSocketAddressFactory.apply(path);
+    }
+
+    public void initNativeSocket(final @NotNull Channel channel, final @NotNull MqttSocketConfigImpl socketConfig) {
+        if (nativeSocketInitializer == null) {
+            LOGGER.warn("Native socket options are only supported by the native epoll transport, ignoring them.");
+        } else {
+            nativeSocketInitializer.accept(channel, socketConfig);
+        }
+    }
+
     private static class Entry {
 
         final @NotNull MultithreadEventLoopGroup eventLoopGroup;
+        final @NotNull NettyEventLoopMetrics @NotNull [] metrics;
+        final @NotNull ImmutableList<MqttClientEventLoopMetrics> metricsList;
         int referenceCount = 1;
 
         private Entry(final @NotNull MultithreadEventLoopGroup eventLoopGroup) {
             this.eventLoopGroup = eventLoopGroup;
+            metrics = new NettyEventLoopMetrics[eventLoopGroup.executorCount()];
+            int i = 0;
+            for (final EventExecutor eventExecutor : eventLoopGroup) {
+                metrics[i++] = new NettyEventLoopMetrics((EventLoop) eventExecutor);
+            }
+            metricsList = ImmutableList.copyOf(metrics);
+        }
+
+        @NotNull NettyEventLoopMetrics assign(final @NotNull MqttEventLoopAssignment assignment) {
+            switch (assignment) {
+                case LEAST_CLIENTS: {
+                    NettyEventLoopMetrics least = metrics[0];
+                    for (int i = 1; i < metrics.length; i++) {
+                        if (metrics[i].getClients() < least.getClients()) {
+                            least = metrics[i];
+                        }
+                    }
+                    return least;
+                }
+                case LEAST_MESSAGES: {
+                    NettyEventLoopMetrics least = metrics[0];
+                    double leastRate = least.getMessageRate();
+                    for (int i = 1; i < metrics.length; i++) {
+                        final double rate = metrics[i].getMessageRate();
+                        if ((rate < leastRate) ||
+                                ((rate == leastRate) && (metrics[i].getClients() < least.getClients()))) {
+                            least = metrics[i];
+                            leastRate = rate;
+                        }
+                    }
+                    return least;
+                }
+                default: {
+                    final NettyEventLoopMetrics metrics = getMetrics(eventLoopGroup.next());
+                    assert metrics != null : "all event loops of the group have metrics";
+                    return metrics;
+                }
+            }
+        }
+
+        @Nullable NettyEventLoopMetrics getMetrics(final @NotNull EventLoop eventLoop) {
+            for (final NettyEventLoopMetrics metrics : this.metrics) {
+                if (metrics.getEventLoop() == eventLoop) {
+                    return metrics;
+                }
+            }
+            return null;
         }
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.netty;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.annotations.NotThreadSafe;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reusable timeout that is either scheduled as an individual task on the scheduler of an event loop or on the shared
+ * {@link NettyTimingWheel} of the event loop.
+ * <p>
+ * Rescheduling a timeout on the timing wheel does not allocate and is O(1), whereas each schedule on the scheduler of
+ * the event loop allocates a task and inserts it into a priority queue. The timing wheel has a precision of {@link
+ * NettyTimingWheel#TICK_NANOS}, so timeouts may fire up to one tick late.
+ *
+ * @author Silvio Giebl
+ */
+@NotThreadSafe
+public class NettyTimeout {
+
+    final @NotNull Runnable task;
+    private final boolean timingWheel;
+    private @Nullable ScheduledFuture<?> future;
+
+    // fields used by the NettyTimingWheel
+    @Nullable NettyTimingWheel wheel;
+    int slot = NettyTimingWheel.NOT_SCHEDULED;
+    long deadlineTick;
+    @Nullable NettyTimeout prev;
+    @Nullable NettyTimeout next;
+    @Nullable NettyTimeout nextExpired;
+
+    public NettyTimeout(final @NotNull Runnable task, final boolean timingWheel) {
+        this.task = task;
+        this.timingWheel = timingWheel;
+    }
+
+    /**
+     * Schedules this timeout. A previously scheduled and not yet expired timeout is cancelled.
+     *
+     * @param executor   the event loop the timeout is scheduled on.
+     * @param delayNanos the delay in nanoseconds.
+     */
+    @CallByThread("Netty EventLoop")
+    public void schedule(final @NotNull EventExecutor executor, final long delayNanos) {
+        cancel();
+        if (timingWheel) {
+            NettyTimingWheel.of(executor).schedule(this, delayNanos);
+        } else {
+            future = executor.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Cancels this timeout if it is scheduled.
+     */
+    @CallByThread("Netty EventLoop")
+    public void cancel() {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        } else if (wheel != null) {
+            wheel.cancel(this);
+        }
+    }
+}
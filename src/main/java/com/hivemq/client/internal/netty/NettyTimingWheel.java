@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.netty;
+
+import com.hivemq.client.internal.annotations.CallByThread;
+import com.hivemq.client.internal.annotations.NotThreadSafe;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.FastThreadLocal;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coarse-grained hashed timing wheel that is shared by all {@link NettyTimeout}s of an event loop.
+ * <p>
+ * Timeouts are kept in intrusive doubly linked lists per slot, so scheduling and cancelling are O(1) and do not
+ * allocate. The wheel only schedules a periodic tick task on the event loop while it contains timeouts.
+ *
+ * @author Silvio Giebl
+ */
+@NotThreadSafe
+class NettyTimingWheel implements Runnable {
+
+    static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final int SLOTS = 1 << 9;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    static final int NOT_SCHEDULED = -1;
+    private static final int EXPIRED = -2;
+
+    private static final @NotNull FastThreadLocal<NettyTimingWheel> WHEELS = new FastThreadLocal<>();
+
+    @CallByThread("Netty EventLoop")
+    static @NotNull NettyTimingWheel of(final @NotNull EventExecutor executor) {
+        NettyTimingWheel wheel = WHEELS.get();
+        if ((wheel == null) || (wheel.executor != executor)) { // threads of a custom executor may be reused
+            wheel = new NettyTimingWheel(executor);
+            WHEELS.set(wheel);
+        }
+        return wheel;
+    }
+
+    private final @NotNull EventExecutor executor;
+    private final long startNanos = System.nanoTime();
+    private final @Nullable NettyTimeout @NotNull [] slots = new NettyTimeout[SLOTS];
+    private long processedTick;
+    private int size;
+    private @Nullable ScheduledFuture<?> tickFuture;
+
+    private NettyTimingWheel(final @NotNull EventExecutor executor) {
+        this.executor = executor;
+    }
+
+    void schedule(final @NotNull NettyTimeout timeout, final long delayNanos) {
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        if (tickFuture == null) {
+            processedTick = elapsedNanos / TICK_NANOS; // skip the ticks while the wheel was idle
+            tickFuture = executor.scheduleAtFixedRate(this, TICK_NANOS, TICK_NANOS, TimeUnit.NANOSECONDS);
+        }
+        final long deadlineNanos = elapsedNanos + Math.max(delayNanos, 0);
+        final long deadlineTick = Math.max((deadlineNanos + TICK_NANOS - 1) / TICK_NANOS, processedTick + 1);
+        final int slot = (int) (deadlineTick & SLOT_MASK);
+        timeout.wheel = this;
+        timeout.slot = slot;
+        timeout.deadlineTick = deadlineTick;
+        timeout.prev = null;
+        final NettyTimeout head = slots[slot];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        slots[slot] = timeout;
+        size++;
+    }
+
+    void cancel(final @NotNull NettyTimeout timeout) {
+        final int slot = timeout.slot;
+        if (slot >= 0) {
+            unlink(timeout, slot);
+        }
+        timeout.slot = NOT_SCHEDULED;
+        timeout.wheel = null;
+    }
+
+    private void unlink(final @NotNull NettyTimeout timeout, final int slot) {
+        final NettyTimeout prev = timeout.prev;
+        final NettyTimeout next = timeout.next;
+        if (prev == null) {
+            slots[slot] = next;
+        } else {
+            prev.next = next;
+        }
+        if (next != null) {
+            next.prev = prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        size--;
+    }
+
+    @Override
+    public void run() {
+        final long currentTick = (System.nanoTime() - startNanos) / TICK_NANOS;
+        while (processedTick < currentTick) {
+            final long tick = ++processedTick;
+            final int slot = (int) (tick & SLOT_MASK);
+            NettyTimeout expired = null;
+            NettyTimeout timeout = slots[slot];
+            while (timeout != null) {
+                final NettyTimeout next = timeout.next;
+                if (timeout.deadlineTick <= tick) {
+                    unlink(timeout, slot);
+                    timeout.slot = EXPIRED;
+                    timeout.nextExpired = expired;
+                    expired = timeout;
+                }
+                timeout = next;
+            }
+            // tasks may cancel or reschedule any timeout, so the expired timeouts are unlinked before running them
+            while (expired != null) {
+                final NettyTimeout next = expired.nextExpired;
+                expired.nextExpired = null;
+                if (expired.slot == EXPIRED) {
+                    expired.slot = NOT_SCHEDULED;
+                    expired.wheel = null;
+                    expired.task.run();
+                }
+                expired = next;
+            }
+        }
+        if ((size == 0) && (tickFuture != null)) {
+            tickFuture.cancel(false);
+            tickFuture = null;
+        }
+    }
+}
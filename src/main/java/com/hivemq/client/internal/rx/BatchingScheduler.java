@@ -0,0 +1,164 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.rx;
+
+import io.reactivex.Scheduler;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.internal.disposables.EmptyDisposable;
+import io.reactivex.plugins.RxJavaPlugins;
+import org.jctools.queues.MpscUnboundedArrayQueue;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduler that batches the tasks of all its workers and executes them serially on an underlying scheduler.
+ * <p>
+ * Only one task is scheduled on the underlying scheduler at a time. This task runs the tasks that are available,
+ * including tasks that are scheduled while it is running. So if many tasks are scheduled at once, for example all
+ * results completed during one event loop cycle, they are handed off with a single task and a single thread wake-up
+ * instead of one for each. Only a limited amount of tasks is run per batch before the batch is scheduled again, so
+ * a busy batching scheduler does not starve other work of the underlying scheduler.
+ * <p>
+ * As the tasks are run serially, a task must not block on the completion of another task of the same batching
+ * scheduler.
+ *
+ * @author Silvio Giebl
+ */
+public class BatchingScheduler extends Scheduler implements Runnable {
+
+    private static final int CHUNK_SIZE = 64;
+
+    private final @NotNull Scheduler scheduler;
+    private final @NotNull MpscUnboundedArrayQueue<BatchedTask> queue = new MpscUnboundedArrayQueue<>(CHUNK_SIZE);
+    private final @NotNull AtomicInteger wip = new AtomicInteger();
+
+    public BatchingScheduler(final @NotNull Scheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public @NotNull Worker createWorker() {
+        return new BatchingWorker();
+    }
+
+    @Override
+    public @NotNull Disposable scheduleDirect(
+            final @NotNull Runnable run, final long delay, final @NotNull TimeUnit unit) {
+
+        return schedule(new BatchedTask(RxJavaPlugins.onSchedule(run), null), delay, unit);
+    }
+
+    private @NotNull Disposable schedule(
+            final @NotNull BatchedTask task, final long delay, final @NotNull TimeUnit unit) {
+
+        if (delay <= 0) {
+            enqueue(task);
+        } else {
+            scheduler.scheduleDirect(() -> enqueue(task), delay, unit);
+        }
+        return task;
+    }
+
+    private void enqueue(final @NotNull BatchedTask task) {
+        queue.offer(task);
+        if (wip.getAndIncrement() == 0) {
+            scheduler.scheduleDirect(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        int missed = 1;
+        int executed = 0;
+        do {
+            BatchedTask task;
+            while ((task = queue.poll()) != null) {
+                task.run();
+                if (++executed == CHUNK_SIZE) {
+                    // wip is not decremented, the next batch is responsible for the remaining tasks
+                    scheduler.scheduleDirect(this);
+                    return;
+                }
+            }
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private class BatchingWorker extends Worker {
+
+        private volatile boolean disposed;
+
+        @Override
+        public @NotNull Disposable schedule(
+                final @NotNull Runnable run, final long delay, final @NotNull TimeUnit unit) {
+
+            if (disposed) {
+                return EmptyDisposable.INSTANCE;
+            }
+            return BatchingScheduler.this.schedule(new BatchedTask(RxJavaPlugins.onSchedule(run), this), delay, unit);
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+
+    private static class BatchedTask implements Runnable, Disposable {
+
+        private final @NotNull Runnable run;
+        private final @Nullable BatchingWorker worker;
+        private volatile boolean disposed;
+
+        BatchedTask(final @NotNull Runnable run, final @Nullable BatchingWorker worker) {
+            this.run = run;
+            this.worker = worker;
+        }
+
+        @Override
+        public void run() {
+            if (disposed || ((worker != null) && worker.disposed)) {
+                return;
+            }
+            disposed = true;
+            try {
+                run.run();
+            } catch (final Throwable t) {
+                RxJavaPlugins.onError(t);
+            }
+        }
+
+        @Override
+        public void dispose() {
+            disposed = true;
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return disposed;
+        }
+    }
+}
@@ -45,6 +45,23 @@ public final class ByteBufferUtil {
         return (byteBuffer == null) ? Optional.empty() : Optional.of(byteBuffer.asReadOnlyBuffer());
     }
 
+    public static int remaining(final @NotNull ByteBuffer @NotNull [] byteBuffers) {
+        int remaining = 0;
+        for (final ByteBuffer byteBuffer : byteBuffers) {
+            remaining += byteBuffer.remaining();
+        }
+        return remaining;
+    }
+
+    public static @NotNull ByteBuffer concat(final @NotNull ByteBuffer @NotNull [] byteBuffers) {
+        final ByteBuffer concat = ByteBuffer.allocate(remaining(byteBuffers));
+        for (final ByteBuffer byteBuffer : byteBuffers) {
+            concat.put(byteBuffer.duplicate());
+        }
+        concat.flip();
+        return concat;
+    }
+
     public static byte @NotNull [] getBytes(final @NotNull ByteBuffer byteBuffer) {
         if (byteBuffer.hasArray()) {
             final byte[] array = byteBuffer.array();
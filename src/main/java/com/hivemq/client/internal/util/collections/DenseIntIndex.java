@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.util.collections;
+
+import com.hivemq.client.internal.annotations.NotThreadSafe;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.function.ToIntFunction;
+
+/**
+ * Index for entries with dense int keys (for example packet identifiers that are handed out from the lowest free
+ * value). An entry is stored directly at the array position <code>key - minKey</code>, so no hashing and no nodes are
+ * required. The array is only allocated on the first put, grows on demand to the highest key in use and is released
+ * on {@link #clear()}, so idle indexes do not retain memory.
+ *
+ * @author Silvio Giebl
+ */
+@NotThreadSafe
+public class DenseIntIndex<E> {
+
+    public static class Spec<E> {
+
+        private static final int DEFAULT_MIN_CAPACITY = 1 << 4;
+
+        final @NotNull ToIntFunction<? super E> keyFunction;
+        final int minKey;
+        final int minCapacity;
+
+        public Spec(final @NotNull ToIntFunction<? super E> keyFunction, final int minKey) {
+            this(keyFunction, minKey, DEFAULT_MIN_CAPACITY);
+        }
+
+        public Spec(final @NotNull ToIntFunction<? super E> keyFunction, final int minKey, final int minCapacity) {
+            this.keyFunction = keyFunction;
+            this.minKey = minKey;
+            this.minCapacity = minCapacity;
+        }
+    }
+
+    private static final @Nullable Object @NotNull [] EMPTY_TABLE = new Object[0];
+
+    private final @NotNull Spec<E> spec;
+    private @Nullable Object @NotNull [] table;
+    private int size;
+
+    public DenseIntIndex(final @NotNull Spec<E> spec) {
+        this.spec = spec;
+        table = EMPTY_TABLE;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public @Nullable E put(final @NotNull E entry) {
+        return put(entry, true);
+    }
+
+    public @Nullable E putIfAbsent(final @NotNull E entry) {
+        return put(entry, false);
+    }
+
+    private @Nullable E put(final @NotNull E entry, final boolean overwrite) {
+        final int index = spec.keyFunction.applyAsInt(entry) - spec.minKey;
+        Object[] table = this.table;
+        if (index >= table.length) {
+            table = grow(index);
+        }
+        final Object o = table[index];
+        if (o == null) {
+            table[index] = entry;
+            size++;
+            return null;
+        }
+        if (overwrite) {
+            table[index] = entry;
+        }
+        return cast(o);
+    }
+
+    public @Nullable E get(final int key) {
+        final int index = key - spec.minKey;
+        final Object[] table = this.table;
+        if ((index < 0) || (index >= table.length)) {
+            return null;
+        }
+        final Object o = table[index];
+        return (o == null) ? null : cast(o);
+    }
+
+    public @Nullable E remove(final int key) {
+        final int index = key - spec.minKey;
+        final Object[] table = this.table;
+        if ((index < 0) || (index >= table.length)) {
+            return null;
+        }
+        final Object o = table[index];
+        if (o == null) {
+            return null;
+        }
+        table[index] = null;
+        size--;
+        return cast(o);
+    }
+
+    public void clear() {
+        table = EMPTY_TABLE;
+        size = 0;
+    }
+
+    private @Nullable Object @NotNull [] grow(final int index) {
+        final int newCapacity = Math.max(Math.max(table.length << 1, spec.minCapacity), index + 1);
+        return table = Arrays.copyOf(table, newCapacity);
+    }
+
+    private @NotNull E cast(final @NotNull Object o) {
+        //noinspection unchecked
+        return (E) o;
+    }
+}
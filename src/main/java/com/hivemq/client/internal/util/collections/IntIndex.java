@@ -21,7 +21,6 @@ import com.hivemq.client.internal.util.Pow2Util;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.Arrays;
 import java.util.function.Consumer;
 import java.util.function.ToIntFunction;
 
@@ -32,6 +31,8 @@ import java.util.function.ToIntFunction;
 public class IntIndex<E> {
 
     private static final int MAX_CAPACITY = 1 << 30;
+    // shared by all empty indexes until the first put and after clear(), never written
+    private static final @Nullable Object @NotNull [] EMPTY_TABLE = new Object[1];
 
     public static class Spec<E> {
 
@@ -73,9 +74,12 @@ public class IntIndex<E> {
 
     public IntIndex(final @NotNull Spec<E> spec) {
         this.spec = spec;
-        final int minCapacityPow2 = 1 << Pow2Util.roundToPowerOf2Bits(spec.minCapacity);
-        table = new Object[minCapacityPow2];
-        calcThresholds(minCapacityPow2);
+        table = EMPTY_TABLE;
+        calcThresholds(minCapacityPow2());
+    }
+
+    private int minCapacityPow2() {
+        return 1 << Pow2Util.roundToPowerOf2Bits(spec.minCapacity);
     }
 
     public int size() {
@@ -91,7 +95,10 @@ public class IntIndex<E> {
     }
 
     private @Nullable E put(final @NotNull E entry, final boolean overwrite) {
-        final Object[] table = this.table;
+        Object[] table = this.table;
+        if (table == EMPTY_TABLE) {
+            this.table = table = new Object[minCapacityPow2()];
+        }
         final int key = spec.keyFunction.applyAsInt(entry);
         final int index = key & (table.length - 1);
         final Object o = table[index];
@@ -234,15 +241,11 @@ public class IntIndex<E> {
     }
 
     public void clear() {
-        if (size > 0) {
-            if (table.length == spec.minCapacity) {
-                Arrays.fill(table, null);
-            } else {
-                table = new Object[spec.minCapacity];
-            }
+        if (table != EMPTY_TABLE) {
+            table = EMPTY_TABLE;
             size = 0;
             nodeCount = 0;
-            calcThresholds(spec.minCapacity);
+            calcThresholds(minCapacityPow2());
         }
     }
 
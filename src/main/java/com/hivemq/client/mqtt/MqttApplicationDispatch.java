@@ -0,0 +1,52 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt;
+
+/**
+ * Strategies for handing off results and messages from the event loop of Netty (network communication framework) to
+ * application specific code, such as callbacks.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+public enum MqttApplicationDispatch {
+
+    /**
+     * Each result and each stream of messages is handed off to the {@link
+     * MqttClientExecutorConfig#getApplicationScheduler() application scheduler} on its own.
+     */
+    SCHEDULER,
+    /**
+     * All results and messages of a client that are available at the same time are handed off to the {@link
+     * MqttClientExecutorConfig#getApplicationScheduler() application scheduler} in one task. This reduces the amount of
+     * scheduled tasks and thread wake-ups if a client completes many operations at once, but the application specific
+     * code of a client is then executed serially. A batch is limited in size, so a busy client does not occupy a thread
+     * of the application scheduler indefinitely.
+     * <p>
+     * Application specific code must not block on results of the same client (for example calling {@code join()} on
+     * the future of a publish inside a callback of the same client), as the result is only delivered after the
+     * blocking code returns, which leads to a deadlock.
+     */
+    BATCHED,
+    /**
+     * Application specific code is executed directly on the event loop of Netty without any hand-off. This has the
+     * lowest latency, but the application specific code must not block, as it would otherwise block the network
+     * communication of all clients sharing the same event loop.
+     */
+    EVENT_LOOP
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt;
+
+import com.hivemq.client.annotations.DoNotImplement;
+
+/**
+ * Metrics of the buffer pool Netty (network communication framework) uses for an {@link MqttClient MQTT client}.
+ * <p>
+ * The buffer pool may be shared with other clients, see {@link MqttClientExecutorConfig#getNettyBufferArenas()}.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface MqttClientBufferMetrics {
+
+    /**
+     * @return the amount of bytes of direct (off-heap) memory used by the buffer pool.
+     */
+    long getUsedDirectMemory();
+
+    /**
+     * @return the amount of bytes of heap memory used by the buffer pool.
+     */
+    long getUsedHeapMemory();
+
+    /**
+     * @return the amount of direct arenas of the buffer pool, 0 if the buffers are not pooled.
+     */
+    int getDirectArenas();
+
+    /**
+     * @return the amount of heap arenas of the buffer pool, 0 if the buffers are not pooled.
+     */
+    int getHeapArenas();
+
+    /**
+     * @return the amount of currently active allocations in all direct arenas of the buffer pool.
+     */
+    long getActiveDirectAllocations();
+
+    /**
+     * @return the amount of currently active allocations in all heap arenas of the buffer pool.
+     */
+    long getActiveHeapAllocations();
+
+    /**
+     * @return the amount of thread local caches of the buffer pool.
+     */
+    int getThreadLocalCaches();
+}
@@ -97,6 +97,22 @@ public interface MqttClientConfig {
      */
     @NotNull MqttClientExecutorConfig getExecutorConfig();
 
+    /**
+     * @return the metrics of the buffer pool used by the client.
+     * @since 1.3
+     */
+    @NotNull MqttClientBufferMetrics getBufferMetrics();
+
+    /**
+     * Returns the metrics of all event loops of Netty (network communication framework) that are available to the
+     * client, which are shared with other clients using the same {@link MqttClientExecutorConfig#getNettyExecutor()
+     * executor}.
+     *
+     * @return the metrics of the event loops, empty if the client is not using an event loop at the moment.
+     * @since 1.3
+     */
+    @Immutable @NotNull List<@NotNull MqttClientEventLoopMetrics> getEventLoopMetrics();
+
     /**
      * @return the optional automatic reconnect strategy of the client.
      * @since 1.1
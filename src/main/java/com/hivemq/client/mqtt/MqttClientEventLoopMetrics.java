@@ -0,0 +1,57 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt;
+
+import com.hivemq.client.annotations.DoNotImplement;
+
+/**
+ * Metrics of an event loop of Netty (network communication framework) used by {@link MqttClient MQTT clients}.
+ * <p>
+ * An event loop may be shared with other clients that use the same {@link MqttClientExecutorConfig#getNettyExecutor()
+ * executor}.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface MqttClientEventLoopMetrics {
+
+    /**
+     * @return the amount of clients currently assigned to the event loop.
+     */
+    int getClients();
+
+    /**
+     * @return the total amount of MQTT messages sent and received on the event loop.
+     */
+    long getMessages();
+
+    /**
+     * Returns the recent rate of MQTT messages sent and received on the event loop. The rate is averaged over the time
+     * between two calls of this method or an {@link MqttEventLoopAssignment#LEAST_MESSAGES event loop assignment}, but
+     * at least over one second.
+     *
+     * @return the recent rate of MQTT messages per second.
+     */
+    double getMessageRate();
+
+    /**
+     * @return the amount of tasks waiting to be executed by the event loop.
+     */
+    int getPendingTasks();
+}
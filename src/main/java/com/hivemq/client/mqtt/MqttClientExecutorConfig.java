@@ -36,6 +36,18 @@ import java.util.concurrent.Executor;
 public interface MqttClientExecutorConfig {
 
     @NotNull Scheduler DEFAULT_APPLICATION_SCHEDULER = Schedulers.computation();
+    /**
+     * The default strategy for assigning an event loop of Netty (network communication framework) to a client.
+     *
+     * @since 1.3
+     */
+    @NotNull MqttEventLoopAssignment DEFAULT_NETTY_EVENT_LOOP_ASSIGNMENT = MqttEventLoopAssignment.ROUND_ROBIN;
+    /**
+     * The default strategy for handing off results and messages to application specific code.
+     *
+     * @since 1.3
+     */
+    @NotNull MqttApplicationDispatch DEFAULT_APPLICATION_DISPATCH = MqttApplicationDispatch.SCHEDULER;
 
     /**
      * Creates a builder for an executor configuration.
@@ -61,6 +73,48 @@ public interface MqttClientExecutorConfig {
      */
     @NotNull Scheduler getApplicationScheduler();
 
+    /**
+     * Returns the optional user defined amount of arenas of the buffer pool Netty (network communication framework)
+     * uses for the clients with this executor configuration. If present, these clients share a dedicated buffer pool
+     * instead of the global default buffer pool.
+     *
+     * @return the optional user defined amount of arenas of the buffer pool Netty uses.
+     * @since 1.3
+     */
+    @NotNull OptionalInt getNettyBufferArenas();
+
+    /**
+     * @return whether Netty (network communication framework) prefers direct (off-heap) buffers over heap buffers for
+     *         network I/O.
+     * @since 1.3
+     */
+    boolean isNettyDirectBuffers();
+
+    /**
+     * @return the strategy for assigning an event loop of Netty (network communication framework) to a client.
+     * @since 1.3
+     */
+    @NotNull MqttEventLoopAssignment getNettyEventLoopAssignment();
+
+    /**
+     * Returns whether keep alive and handshake timeouts are driven by a shared coarse-grained timing wheel per event
+     * loop of Netty (network communication framework) instead of individually scheduled tasks.
+     * <p>
+     * The timing wheel has a precision of 100 milliseconds, but rescheduling a timeout is cheaper and does not
+     * allocate. This reduces the scheduling overhead if an event loop handles a large amount of connections.
+     *
+     * @return whether timeouts are driven by a shared timing wheel per event loop of Netty.
+     * @since 1.3
+     */
+    boolean isNettyTimingWheel();
+
+    /**
+     * @return the strategy for handing off results and messages from the event loop of Netty (network communication
+     *         framework) to application specific code.
+     * @since 1.3
+     */
+    @NotNull MqttApplicationDispatch getApplicationDispatch();
+
     /**
      * Creates a builder for extending this executor configuration.
      *
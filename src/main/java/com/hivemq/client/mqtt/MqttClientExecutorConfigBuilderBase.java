@@ -63,4 +63,59 @@ public interface MqttClientExecutorConfigBuilderBase<B extends MqttClientExecuto
      */
     @CheckReturnValue
     @NotNull B applicationScheduler(@NotNull Scheduler applicationScheduler);
+
+    /**
+     * Sets the optional user defined {@link MqttClientExecutorConfig#getNettyBufferArenas() amount of arenas of the
+     * buffer pool Netty} (network communication framework) uses.
+     *
+     * @param nettyBufferArenas the user defined amount of arenas of the buffer pool Netty uses.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B nettyBufferArenas(int nettyBufferArenas);
+
+    /**
+     * Sets whether {@link MqttClientExecutorConfig#isNettyDirectBuffers() Netty prefers direct buffers} (network
+     * communication framework).
+     *
+     * @param nettyDirectBuffers whether Netty prefers direct buffers over heap buffers.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B nettyDirectBuffers(boolean nettyDirectBuffers);
+
+    /**
+     * Sets the {@link MqttClientExecutorConfig#getNettyEventLoopAssignment() strategy for assigning an event loop of
+     * Netty} (network communication framework) to a client.
+     *
+     * @param nettyEventLoopAssignment the strategy for assigning an event loop of Netty to a client.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B nettyEventLoopAssignment(@NotNull MqttEventLoopAssignment nettyEventLoopAssignment);
+
+    /**
+     * Sets whether {@link MqttClientExecutorConfig#isNettyTimingWheel() timeouts are driven by a shared timing wheel
+     * per event loop of Netty} (network communication framework).
+     *
+     * @param nettyTimingWheel whether timeouts are driven by a shared timing wheel per event loop of Netty.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B nettyTimingWheel(boolean nettyTimingWheel);
+
+    /**
+     * Sets the {@link MqttClientExecutorConfig#getApplicationDispatch() strategy for handing off results and messages
+     * to application specific code}.
+     *
+     * @param applicationDispatch the strategy for handing off results and messages to application specific code.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B applicationDispatch(@NotNull MqttApplicationDispatch applicationDispatch);
 }
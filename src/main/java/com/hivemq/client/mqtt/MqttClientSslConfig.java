@@ -88,6 +88,16 @@ public interface MqttClientSslConfig {
      */
     @NotNull Optional<HostnameVerifier> getHostnameVerifier();
 
+    /**
+     * Returns whether the OpenSSL provider (netty-tcnative) is preferred over the JDK provider.
+     * <p>
+     * If OpenSSL is preferred but netty-tcnative is not available on the class path, the JDK provider is used.
+     *
+     * @return whether the OpenSSL provider is preferred.
+     * @since 1.3
+     */
+    boolean isOpenSslPreferred();
+
     /**
      * Creates a builder for extending this secure transport configuration.
      *
@@ -98,4 +98,15 @@ public interface MqttClientSslConfigBuilderBase<B extends MqttClientSslConfigBui
      */
     @CheckReturnValue
     @NotNull B hostnameVerifier(@Nullable HostnameVerifier hostnameVerifier);
+
+    /**
+     * Sets whether the {@link MqttClientSslConfig#isOpenSslPreferred() OpenSSL provider is preferred} over the JDK
+     * provider.
+     *
+     * @param openSslPreferred whether the OpenSSL provider (netty-tcnative) is preferred if it is available.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B preferOpenSsl(boolean openSslPreferred);
 }
@@ -17,10 +17,12 @@
 package com.hivemq.client.mqtt;
 
 import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.annotations.Immutable;
 import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImplBuilder;
 import org.jetbrains.annotations.NotNull;
 
 import java.net.InetSocketAddress;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -44,6 +46,18 @@ public interface MqttClientTransportConfig {
      * @since 1.2
      */
     int DEFAULT_MQTT_CONNECT_TIMEOUT_MS = 60_000;
+    /**
+     * The default delay between starting connect attempts to the next server address in milliseconds.
+     *
+     * @since 1.3
+     */
+    int DEFAULT_CONNECT_ATTEMPT_DELAY_MS = 250;
+    /**
+     * Connect pipelining is disabled by default.
+     *
+     * @since 1.3
+     */
+    boolean DEFAULT_CONNECT_PIPELINING = false;
 
     /**
      * Creates a builder for a transport configuration.
@@ -59,12 +73,59 @@ public interface MqttClientTransportConfig {
      */
     @NotNull InetSocketAddress getServerAddress();
 
+    /**
+     * Returns the additional server addresses that are tried together with the {@link #getServerAddress() server
+     * address}.
+     * <p>
+     * If additional server addresses are set, all IP addresses of all server addresses are tried. The client starts
+     * the socket connect attempts staggered by the {@link #getConnectAttemptDelayMs() connect attempt delay}, uses the
+     * first connection that is established and closes the others. Addresses that recently failed or connected slowly
+     * are tried later on subsequent (re)connects. This does not apply to connections via a proxy or a Unix domain
+     * socket.
+     *
+     * @return the additional server addresses.
+     * @since 1.3
+     */
+    @NotNull @Immutable List<@NotNull InetSocketAddress> getAdditionalServerAddresses();
+
+    /**
+     * Returns the optional standby server address the client keeps a hot-standby connection to.
+     * <p>
+     * While the client is connected, it keeps an additional socket (TLS handshaked if a secure transport is configured)
+     * to the standby server address without sending a Connect message. If the connection is lost and the client
+     * reconnects, the standby connection is promoted without reconnect delay, the session is resumed on it, and the
+     * roles of the server address and the standby server address are swapped. The time between losing the connection
+     * and receiving the ConnAck message on the standby connection is reported via {@link
+     * com.hivemq.client.mqtt.lifecycle.MqttClientConnectedContext#getStandbyFailoverNanos()}.
+     * <p>
+     * Servers close connections that do not send a Connect message in time, so the standby socket is replaced by a new
+     * one every 5 seconds, which is shorter than the Connect timeout of common servers. The new socket is opened before
+     * the old one is closed, so a standby connection is ready at any time. This does not apply to connections via a
+     * proxy or a Unix domain socket.
+     *
+     * @return the optional standby server address.
+     * @since 1.3
+     */
+    @NotNull Optional<InetSocketAddress> getStandbyServerAddress();
+
     /**
      * @return the optional local bind address.
      * @since 1.2
      */
     @NotNull Optional<InetSocketAddress> getLocalAddress();
 
+    /**
+     * Returns the optional path of a Unix domain socket to connect to instead of the {@link #getServerAddress() server
+     * address}.
+     * <p>
+     * The server address is still used as host for TLS (SNI, hostname verification) and WebSocket, but the local
+     * address and the proxy configuration do not apply to Unix domain sockets.
+     *
+     * @return the optional path of the Unix domain socket.
+     * @since 1.3
+     */
+    @NotNull Optional<String> getUnixDomainSocketPath();
+
     /**
      * @return the optional secure transport configuration.
      */
@@ -81,6 +142,12 @@ public interface MqttClientTransportConfig {
      */
     @NotNull Optional<MqttProxyConfig> getProxyConfig();
 
+    /**
+     * @return the socket configuration.
+     * @since 1.3
+     */
+    @NotNull MqttSocketConfig getSocketConfig();
+
     /**
      * @return the timeout for connecting the socket to the server in milliseconds.
      * @since 1.2
@@ -93,6 +160,26 @@ public interface MqttClientTransportConfig {
      */
     int getMqttConnectTimeoutMs();
 
+    /**
+     * @return the delay between starting connect attempts to the next server address in milliseconds.
+     * @since 1.3
+     */
+    int getConnectAttemptDelayMs();
+
+    /**
+     * Returns whether the client writes the resubscriptions and the first publishes directly after the Connect message
+     * instead of waiting for the ConnAck message.
+     * <p>
+     * This saves a round trip per (re)connect on links with high latency. Until the ConnAck message is received, the
+     * restrictions of the server from the previous connection (or the defaults of the MQTT specification for the first
+     * connection) are assumed. Pipelining is only used if no session is resumed and no enhanced authentication is
+     * configured, as otherwise the packets would depend on the outcome of the connect.
+     *
+     * @return whether the client pipelines messages after the Connect message.
+     * @since 1.3
+     */
+    boolean isConnectPipelining();
+
     /**
      * Creates a builder for extending this transport configuration.
      *
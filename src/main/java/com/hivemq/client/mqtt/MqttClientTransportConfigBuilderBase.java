@@ -23,6 +23,7 @@ import org.jetbrains.annotations.Nullable;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.util.Collection;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -71,6 +72,30 @@ public interface MqttClientTransportConfigBuilderBase<B extends MqttClientTransp
     @CheckReturnValue
     @NotNull B serverPort(int port);
 
+    /**
+     * Sets the {@link MqttClientTransportConfig#getAdditionalServerAddresses() additional server addresses} that are
+     * tried together with the server address.
+     *
+     * @param addresses the additional server addresses or <code>null</code> to remove any previously set additional
+     *                  server addresses.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B additionalServerAddresses(@Nullable Collection<@NotNull InetSocketAddress> addresses);
+
+    /**
+     * Sets the optional {@link MqttClientTransportConfig#getStandbyServerAddress() standby server address} the client
+     * keeps a hot-standby connection to.
+     *
+     * @param address the standby server address or <code>null</code> to remove any previously set standby server
+     *                address.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B standbyServerAddress(@Nullable InetSocketAddress address);
+
     /**
      * Sets the optional {@link MqttClientTransportConfig#getLocalAddress() local bind address}.
      * <p>
@@ -115,6 +140,19 @@ public interface MqttClientTransportConfigBuilderBase<B extends MqttClientTransp
     @CheckReturnValue
     @NotNull B localPort(int port);
 
+    /**
+     * Sets the optional {@link MqttClientTransportConfig#getUnixDomainSocketPath() path of a Unix domain socket} to
+     * connect to instead of the server address.
+     * <p>
+     * Unix domain sockets require the native epoll transport to be on the class path.
+     *
+     * @param path the path of the Unix domain socket or <code>null</code> to remove any previously set path.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B unixDomainSocketPath(@Nullable String path);
+
     /**
      * Sets the {@link MqttClientTransportConfig#getSslConfig() secure transport configuration} to the default
      * configuration.
@@ -203,6 +241,29 @@ public interface MqttClientTransportConfigBuilderBase<B extends MqttClientTransp
     @CheckReturnValue
     MqttProxyConfigBuilder.@NotNull Nested<? extends B> proxyConfig();
 
+    /**
+     * Sets the {@link MqttClientTransportConfig#getSocketConfig() socket configuration}.
+     *
+     * @param socketConfig the socket configuration.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B socketConfig(@NotNull MqttSocketConfig socketConfig);
+
+    /**
+     * Fluent counterpart of {@link #socketConfig(MqttSocketConfig)}.
+     * <p>
+     * Calling {@link MqttSocketConfigBuilder.Nested#applySocketConfig()} on the returned builder has the effect of
+     * extending the current socket configuration.
+     *
+     * @return the fluent builder for the socket configuration.
+     * @see #socketConfig(MqttSocketConfig)
+     * @since 1.3
+     */
+    @CheckReturnValue
+    MqttSocketConfigBuilder.@NotNull Nested<? extends B> socketConfig();
+
     /**
      * Sets the {@link MqttClientTransportConfig#getSocketConnectTimeoutMs() timeout for connecting the socket to the
      * server}.
@@ -231,4 +292,29 @@ public interface MqttClientTransportConfigBuilderBase<B extends MqttClientTransp
      */
     @CheckReturnValue
     @NotNull B mqttConnectTimeout(long timeout, @NotNull TimeUnit timeUnit);
+
+    /**
+     * Sets the {@link MqttClientTransportConfig#getConnectAttemptDelayMs() delay between starting connect attempts to
+     * the next server address}.
+     * <p>
+     * The delay in milliseconds must be in the range: [0, {@link Integer#MAX_VALUE}].
+     *
+     * @param delay    the delay between starting connect attempts or <code>0</code> to start all attempts at once.
+     * @param timeUnit the time unit of the given delay (this delay only supports millisecond precision).
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B connectAttemptDelay(long delay, @NotNull TimeUnit timeUnit);
+
+    /**
+     * Sets whether the client {@link MqttClientTransportConfig#isConnectPipelining() pipelines messages after the
+     * Connect message} instead of waiting for the ConnAck message.
+     *
+     * @param connectPipelining whether the client pipelines messages after the Connect message.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B connectPipelining(boolean connectPipelining);
 }
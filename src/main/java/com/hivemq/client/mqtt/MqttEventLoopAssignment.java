@@ -0,0 +1,45 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt;
+
+/**
+ * Strategies for assigning an event loop of Netty (network communication framework) to an {@link MqttClient MQTT
+ * client}.
+ * <p>
+ * The event loop is assigned when a client connects from the disconnected state. It is kept during automatic
+ * reconnects, as the session state of the client is bound to it.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+public enum MqttEventLoopAssignment {
+
+    /**
+     * The event loops are assigned in turn, regardless of their load.
+     */
+    ROUND_ROBIN,
+    /**
+     * The event loop with the least clients currently assigned is used.
+     */
+    LEAST_CLIENTS,
+    /**
+     * The event loop with the lowest recent {@link MqttClientEventLoopMetrics#getMessageRate() message rate} is used.
+     * Event loops with the same message rate are chosen by the least clients.
+     */
+    LEAST_MESSAGES
+}
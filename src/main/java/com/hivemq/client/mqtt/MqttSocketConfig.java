@@ -0,0 +1,132 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt;
+
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.internal.mqtt.MqttSocketConfigImplBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configuration of the socket options used by {@link MqttClient MQTT clients}.
+ * <p>
+ * Some options are only applied if the native epoll transport is used (Linux with the netty-transport-native-epoll
+ * module on the class path). They are ignored otherwise.
+ * <p>
+ * Sizes of <code>0</code> mean that the default of the operating system or Netty is used.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface MqttSocketConfig {
+
+    /**
+     * The default whether Nagle's algorithm is disabled.
+     */
+    boolean DEFAULT_TCP_NO_DELAY = true;
+    /**
+     * The default whether TCP keep alive is enabled.
+     */
+    boolean DEFAULT_KEEP_ALIVE = true;
+
+    /**
+     * Creates a builder for a socket configuration.
+     *
+     * @return the created builder for a socket configuration.
+     */
+    static @NotNull MqttSocketConfigBuilder builder() {
+        return new MqttSocketConfigImplBuilder.Default();
+    }
+
+    /**
+     * @return whether Nagle's algorithm is disabled (<code>TCP_NODELAY</code>).
+     */
+    boolean isTcpNoDelay();
+
+    /**
+     * @return whether TCP keep alive is enabled (<code>SO_KEEPALIVE</code>).
+     */
+    boolean isKeepAlive();
+
+    /**
+     * @return the size of the socket send buffer in bytes (<code>SO_SNDBUF</code>) or <code>0</code> for the default.
+     */
+    int getSendBufferSize();
+
+    /**
+     * @return the size of the socket receive buffer in bytes (<code>SO_RCVBUF</code>) or <code>0</code> for the
+     *         default.
+     */
+    int getReceiveBufferSize();
+
+    /**
+     * Returns the low water mark of the write buffer. If the amount of bytes queued in the write buffer falls below
+     * this value after it exceeded the {@link #getWriteBufferHighWaterMark() high water mark}, the client continues
+     * writing messages.
+     *
+     * @return the low water mark of the write buffer in bytes or <code>0</code> for the default.
+     */
+    int getWriteBufferLowWaterMark();
+
+    /**
+     * Returns the high water mark of the write buffer. If the amount of bytes queued in the write buffer exceeds this
+     * value, the client stops writing messages until it falls below the {@link #getWriteBufferLowWaterMark() low water
+     * mark}.
+     *
+     * @return the high water mark of the write buffer in bytes or <code>0</code> for the default.
+     */
+    int getWriteBufferHighWaterMark();
+
+    /**
+     * Returns the time to busy poll for packets on the socket before blocking (<code>SO_BUSY_POLL</code>). Only
+     * applied if the native epoll transport is used.
+     *
+     * @return the busy poll time in microseconds or <code>0</code> if busy polling is disabled.
+     */
+    int getBusyPollMicros();
+
+    /**
+     * Returns whether acknowledgements are sent immediately instead of delayed (<code>TCP_QUICKACK</code>). Only
+     * applied if the native epoll transport is used.
+     *
+     * @return whether acknowledgements are sent immediately.
+     */
+    boolean isTcpQuickAck();
+
+    /**
+     * Returns whether partial frames are held back until they are full (<code>TCP_CORK</code>). Only applied if the
+     * native epoll transport is used.
+     *
+     * @return whether partial frames are held back.
+     */
+    boolean isTcpCork();
+
+    /**
+     * Returns the limit of unsent bytes in the socket send buffer (<code>TCP_NOTSENT_LOWAT</code>). Only applied if the
+     * native epoll transport is used.
+     *
+     * @return the limit of unsent bytes or <code>0</code> for the default.
+     */
+    int getTcpNotSentLowAt();
+
+    /**
+     * Creates a builder for extending this socket configuration.
+     *
+     * @return the created builder.
+     */
+    @NotNull MqttSocketConfigBuilder extend();
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Builder base for a {@link MqttSocketConfig}.
+ *
+ * @param <B> the type of the builder.
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface MqttSocketConfigBuilderBase<B extends MqttSocketConfigBuilderBase<B>> {
+
+    /**
+     * Sets whether {@link MqttSocketConfig#isTcpNoDelay() Nagle's algorithm is disabled}.
+     * <p>
+     * The default is {@link MqttSocketConfig#DEFAULT_TCP_NO_DELAY}.
+     *
+     * @param tcpNoDelay whether Nagle's algorithm is disabled.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B tcpNoDelay(boolean tcpNoDelay);
+
+    /**
+     * Sets whether {@link MqttSocketConfig#isKeepAlive() TCP keep alive is enabled}.
+     * <p>
+     * The default is {@link MqttSocketConfig#DEFAULT_KEEP_ALIVE}.
+     *
+     * @param keepAlive whether TCP keep alive is enabled.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B keepAlive(boolean keepAlive);
+
+    /**
+     * Sets the {@link MqttSocketConfig#getSendBufferSize() size of the socket send buffer}.
+     * <p>
+     * It must not be negative.
+     *
+     * @param sendBufferSize the size of the socket send buffer in bytes or <code>0</code> for the default.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B sendBufferSize(int sendBufferSize);
+
+    /**
+     * Sets the {@link MqttSocketConfig#getReceiveBufferSize() size of the socket receive buffer}.
+     * <p>
+     * It must not be negative.
+     *
+     * @param receiveBufferSize the size of the socket receive buffer in bytes or <code>0</code> for the default.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B receiveBufferSize(int receiveBufferSize);
+
+    /**
+     * Sets the {@link MqttSocketConfig#getWriteBufferLowWaterMark() low} and {@link
+     * MqttSocketConfig#getWriteBufferHighWaterMark() high} water mark of the write buffer.
+     * <p>
+     * Both must be positive and the low water mark must not be greater than the high water mark, or both must be
+     * <code>0</code> for the default.
+     *
+     * @param low  the low water mark of the write buffer in bytes.
+     * @param high the high water mark of the write buffer in bytes.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B writeBufferWaterMark(int low, int high);
+
+    /**
+     * Sets the {@link MqttSocketConfig#getBusyPollMicros() busy poll time}.
+     * <p>
+     * It must not be negative.
+     *
+     * @param busyPollMicros the busy poll time in microseconds or <code>0</code> to disable busy polling.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B busyPollMicros(int busyPollMicros);
+
+    /**
+     * Sets whether {@link MqttSocketConfig#isTcpQuickAck() acknowledgements are sent immediately}.
+     *
+     * @param tcpQuickAck whether acknowledgements are sent immediately.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B tcpQuickAck(boolean tcpQuickAck);
+
+    /**
+     * Sets whether {@link MqttSocketConfig#isTcpCork() partial frames are held back}.
+     *
+     * @param tcpCork whether partial frames are held back.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B tcpCork(boolean tcpCork);
+
+    /**
+     * Sets the {@link MqttSocketConfig#getTcpNotSentLowAt() limit of unsent bytes in the socket send buffer}.
+     * <p>
+     * It must not be negative.
+     *
+     * @param tcpNotSentLowAt the limit of unsent bytes or <code>0</code> for the default.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull B tcpNotSentLowAt(int tcpNotSentLowAt);
+}
@@ -51,6 +51,13 @@ public interface MqttWebSocketConfig {
      * @since 1.2
      */
     int DEFAULT_HANDSHAKE_TIMEOUT_MS = 10_000;
+    /**
+     * The default maximum size of a WebSocket frame that coalesces multiple MQTT packets, <code>0</code> means that
+     * every MQTT packet is sent in its own frame.
+     *
+     * @since 1.3
+     */
+    int DEFAULT_COALESCING_MAX_FRAME_SIZE = 0;
 
     /**
      * Creates a builder for a WebSocket configuration.
@@ -82,6 +89,23 @@ public interface MqttWebSocketConfig {
      */
     int getHandshakeTimeoutMs();
 
+    /**
+     * Returns the maximum size of a WebSocket frame that coalesces all MQTT packets written between two flushes.
+     * <p>
+     * Coalescing saves the frame header and masking pass per packet. MQTT packets that are larger than the maximum
+     * size are still sent in one frame.
+     *
+     * @return the maximum size of a coalesced WebSocket frame in bytes, <code>0</code> if coalescing is disabled.
+     * @since 1.3
+     */
+    int getCoalescingMaxFrameSize();
+
+    /**
+     * @return whether the <code>permessage-deflate</code> extension is offered during the WebSocket handshake.
+     * @since 1.3
+     */
+    boolean isPerMessageDeflate();
+
     /**
      * Creates a builder for extending this WebSocket configuration.
      *
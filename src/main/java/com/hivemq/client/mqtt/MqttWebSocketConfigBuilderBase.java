@@ -71,4 +71,29 @@ public interface MqttWebSocketConfigBuilderBase<B extends MqttWebSocketConfigBui
      */
     @CheckReturnValue
     @NotNull B handshakeTimeout(long timeout, @NotNull TimeUnit timeUnit);
+
+    /**
+     * Sets the {@link MqttWebSocketConfig#getCoalescingMaxFrameSize() maximum size of a WebSocket frame that coalesces
+     * multiple MQTT packets}.
+     * <p>
+     * The maximum frame size must be in the range: [0, {@link Integer#MAX_VALUE}].
+     *
+     * @param maxFrameSize the maximum size of a coalesced WebSocket frame in bytes or <code>0</code> to disable
+     *                     coalescing.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B coalescingMaxFrameSize(int maxFrameSize);
+
+    /**
+     * Sets whether the {@link MqttWebSocketConfig#isPerMessageDeflate() <code>permessage-deflate</code> extension} is
+     * offered during the WebSocket handshake.
+     *
+     * @param perMessageDeflate whether the <code>permessage-deflate</code> extension is offered.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B perMessageDeflate(boolean perMessageDeflate);
 }
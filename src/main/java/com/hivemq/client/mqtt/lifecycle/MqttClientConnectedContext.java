@@ -20,6 +20,8 @@ import com.hivemq.client.annotations.DoNotImplement;
 import com.hivemq.client.mqtt.MqttClientConfig;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.OptionalLong;
+
 /**
  * Provides context about the client that is now connected.
  *
@@ -33,4 +35,23 @@ public interface MqttClientConnectedContext {
      * @return the config of the client that is now connected.
      */
     @NotNull MqttClientConfig getClientConfig();
+
+    /**
+     * Returns whether the SSL/TLS session of the connection was resumed from a previous connection to the same server
+     * instead of performing a full handshake.
+     *
+     * @return whether the SSL/TLS session was resumed, <code>false</code> if the connection is not secured.
+     * @since 1.3
+     */
+    boolean isSslSessionResumed();
+
+    /**
+     * Returns the time between losing the previous connection and receiving the ConnAck message if the connection was
+     * established by promoting the hot-standby connection to the {@link
+     * com.hivemq.client.mqtt.MqttClientTransportConfig#getStandbyServerAddress() standby server address}.
+     *
+     * @return the failover time in nanoseconds, empty if the connection was not established via a standby connection.
+     * @since 1.3
+     */
+    @NotNull OptionalLong getStandbyFailoverNanos();
 }
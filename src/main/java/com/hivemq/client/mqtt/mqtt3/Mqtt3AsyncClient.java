@@ -30,9 +30,11 @@ import com.hivemq.client.mqtt.mqtt3.message.subscribe.suback.Mqtt3SubAck;
 import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3Unsubscribe;
 import com.hivemq.client.mqtt.mqtt3.message.unsubscribe.Mqtt3UnsubscribeBuilder;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -298,6 +300,40 @@ public interface Mqtt3AsyncClient extends Mqtt3Client {
      */
     @NotNull CompletableFuture<@NotNull Mqtt3Publish> publish(@NotNull Mqtt3Publish publish);
 
+    /**
+     * Publishes the given Publish message and invokes the callback with its result instead of completing a future.
+     * <p>
+     * The callback is invoked exactly once, either with the same Publish message (for context) and a
+     * <code>null</code> throwable if the Publish message was successfully published, or with a <code>null</code>
+     * Publish message and the throwable if an error occurred before the Publish message was sent or before an
+     * acknowledgement message was received.
+     *
+     * @param publish  the Publish message sent to the broker.
+     * @param callback the callback for the result of the Publish message.
+     * @see #publish(Mqtt3Publish, BiConsumer, Executor)
+     * @since 1.3
+     */
+    void publish(
+            @NotNull Mqtt3Publish publish,
+            @NotNull BiConsumer<? super @Nullable Mqtt3Publish, ? super @Nullable Throwable> callback);
+
+    /**
+     * Publishes the given Publish message and invokes the callback with its result on the given executor.
+     * <p>
+     * Passing an executor that runs the callback in the calling thread (for example <code>Runnable::run</code>)
+     * invokes the callback directly on the Netty event loop, so the callback must not block in this case.
+     *
+     * @param publish  the Publish message sent to the broker.
+     * @param callback the callback for the result of the Publish message.
+     * @param executor the executor where the callback is executed on.
+     * @see #publish(Mqtt3Publish, BiConsumer)
+     * @since 1.3
+     */
+    void publish(
+            @NotNull Mqtt3Publish publish,
+            @NotNull BiConsumer<? super @Nullable Mqtt3Publish, ? super @Nullable Throwable> callback,
+            @NotNull Executor executor);
+
     /**
      * Fluent counterpart of {@link #publish(Mqtt3Publish)}.
      * <p>
@@ -34,9 +34,11 @@ import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
 import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5UnsubscribeBuilder;
 import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.unsuback.Mqtt5UnsubAck;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 /**
@@ -310,6 +312,45 @@ public interface Mqtt5AsyncClient extends Mqtt5Client {
      */
     @NotNull CompletableFuture<@NotNull Mqtt5PublishResult> publish(@NotNull Mqtt5Publish publish);
 
+    /**
+     * Publishes the given Publish message and invokes the callback with its result instead of completing a future.
+     * <p>
+     * The callback is invoked exactly once, either with the {@link Mqtt5PublishResult} and a <code>null</code>
+     * throwable if the Publish message was successfully published, or with a <code>null</code> result and the
+     * throwable the future returned by {@link #publish(Mqtt5Publish)} would complete exceptionally with. It is invoked
+     * the same way as the futures of this client are completed, so it runs directly on the Netty event loop if the
+     * {@link com.hivemq.client.mqtt.MqttClientExecutorConfig#getApplicationDispatch() application dispatch} is
+     * {@link com.hivemq.client.mqtt.MqttApplicationDispatch#EVENT_LOOP EVENT_LOOP}.
+     * <p>
+     * Unlike {@link #publish(Mqtt5Publish)}, no future is allocated per Publish message, which suits high-rate
+     * producers.
+     *
+     * @param publish  the Publish message sent to the broker.
+     * @param callback the callback for the result of the Publish message.
+     * @see #publish(Mqtt5Publish, BiConsumer, Executor)
+     * @since 1.3
+     */
+    void publish(
+            @NotNull Mqtt5Publish publish,
+            @NotNull BiConsumer<? super @Nullable Mqtt5PublishResult, ? super @Nullable Throwable> callback);
+
+    /**
+     * Publishes the given Publish message and invokes the callback with its result on the given executor.
+     * <p>
+     * Passing an executor that runs the callback in the calling thread (for example <code>Runnable::run</code>)
+     * invokes the callback directly on the Netty event loop, so the callback must not block in this case.
+     *
+     * @param publish  the Publish message sent to the broker.
+     * @param callback the callback for the result of the Publish message.
+     * @param executor the executor where the callback is executed on.
+     * @see #publish(Mqtt5Publish, BiConsumer)
+     * @since 1.3
+     */
+    void publish(
+            @NotNull Mqtt5Publish publish,
+            @NotNull BiConsumer<? super @Nullable Mqtt5PublishResult, ? super @Nullable Throwable> callback,
+            @NotNull Executor executor);
+
     /**
      * Fluent counterpart of {@link #publish(Mqtt5Publish)}.
      * <p>
@@ -26,6 +26,7 @@ import com.hivemq.client.mqtt.mqtt5.message.auth.Mqtt5SimpleAuth;
 import com.hivemq.client.mqtt.mqtt5.message.auth.Mqtt5SimpleAuthBuilder;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5WillPublishBuilder;
+import com.hivemq.client.mqtt.mqtt5.pool.Mqtt5ClientPoolBuilder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -152,4 +153,14 @@ public interface Mqtt5ClientBuilder extends MqttClientBuilderBase<Mqtt5ClientBui
      */
     @CheckReturnValue
     @NotNull Mqtt5BlockingClient buildBlocking();
+
+    /**
+     * Creates a builder for a {@link com.hivemq.client.mqtt.mqtt5.pool.Mqtt5RxClientPool pool of clients} that are all
+     * built with the configuration of this builder at the time the pool is built.
+     *
+     * @return the created builder for a pool of clients.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5ClientPoolBuilder pool();
 }
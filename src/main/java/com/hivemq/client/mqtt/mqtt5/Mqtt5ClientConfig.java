@@ -19,6 +19,7 @@ package com.hivemq.client.mqtt.mqtt5;
 import com.hivemq.client.annotations.DoNotImplement;
 import com.hivemq.client.mqtt.MqttClientConfig;
 import com.hivemq.client.mqtt.mqtt5.advanced.Mqtt5ClientAdvancedConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5SendWindowMetrics;
 import com.hivemq.client.mqtt.mqtt5.auth.Mqtt5EnhancedAuthMechanism;
 import com.hivemq.client.mqtt.mqtt5.message.auth.Mqtt5SimpleAuth;
 import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5WillPublish;
@@ -43,6 +44,13 @@ public interface Mqtt5ClientConfig extends MqttClientConfig {
      */
     @NotNull Mqtt5ClientAdvancedConfig getAdvancedConfig();
 
+    /**
+     * @return the metrics of the adaptive send window if {@link Mqtt5ClientAdvancedConfig#getAdaptiveSendWindowConfig()
+     *         configured}.
+     * @since 1.3
+     */
+    @NotNull Optional<Mqtt5SendWindowMetrics> getSendWindowMetrics();
+
     /**
      * Returns the optional simple authentication and/or authorization related data of the client.
      * <p>
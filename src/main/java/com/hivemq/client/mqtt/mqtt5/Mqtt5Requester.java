@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.mqtt5;
+
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.internal.mqtt.MqttRequesterBuilder;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Requester for the MQTT 5 request/response pattern on top of an {@link Mqtt5Client}.
+ * <p>
+ * Each request is published with the {@link Mqtt5Publish#getResponseTopic() response topic} of this requester and a
+ * unique {@link Mqtt5Publish#getCorrelationData() correlation data}. The responder is expected to publish the response
+ * to the response topic (or any of its sub-topics) with the same correlation data. All responses are received with a
+ * single subscription to the response topic and its sub-topics that is established with the first request, so a
+ * requester can handle many thousands of concurrent requests.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5Requester {
+
+    /**
+     * Creates a builder for a requester.
+     *
+     * @param client the client that is used to send the requests and receive the responses.
+     * @return the created builder for a requester.
+     */
+    static @NotNull Mqtt5RequesterBuilder builder(final @NotNull Mqtt5Client client) {
+        return new MqttRequesterBuilder(client);
+    }
+
+    /**
+     * Sends the given Publish message as request and receives the response.
+     * <p>
+     * The response topic and correlation data of the given Publish message are replaced.
+     *
+     * @param request the Publish message sent as request.
+     * @return a {@link CompletableFuture} which
+     *         <ul>
+     *           <li>completes normally with the response Publish message,
+     *           <li>completes exceptionally with a {@link java.util.concurrent.TimeoutException TimeoutException} if
+     *             no response was received within the timeout of this requester or
+     *           <li>completes exceptionally with a different exception if an error occurred before the request was
+     *             sent, while subscribing to the response topic or if this requester was closed.
+     *         </ul>
+     */
+    @NotNull CompletableFuture<@NotNull Mqtt5Publish> request(@NotNull Mqtt5Publish request);
+
+    /**
+     * Closes this requester.
+     * <p>
+     * Stops receiving responses and completes all pending requests exceptionally. Requests after closing fail
+     * immediately.
+     */
+    void close();
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.mqtt5;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.mqtt.datatypes.MqttTopic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link Mqtt5Requester}.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5RequesterBuilder {
+
+    /**
+     * Sets the response topic that is set in all requests.
+     * <p>
+     * The requester subscribes to the response topic and all of its sub-topics. It must not be shared with other
+     * requesters. The default is a unique topic below <code>responses/</code>.
+     *
+     * @param responseTopic the string representation of the response topic.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5RequesterBuilder responseTopic(@NotNull String responseTopic);
+
+    /**
+     * Sets the response topic that is set in all requests.
+     * <p>
+     * See {@link #responseTopic(String)}.
+     *
+     * @param responseTopic the response topic.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5RequesterBuilder responseTopic(@NotNull MqttTopic responseTopic);
+
+    /**
+     * Sets the timeout between sending a request and receiving its response.
+     * <p>
+     * The timeout in milliseconds must be in the range: [0, {@link Integer#MAX_VALUE}]. The default is 10 seconds.
+     * Timeouts are tracked with a coarse-grained timing wheel, so they may expire up to 100 milliseconds late.
+     *
+     * @param timeout  the timeout or <code>0</code> to disable the timeout.
+     * @param timeUnit the time unit of the given timeout (this timeout only supports millisecond precision).
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5RequesterBuilder timeout(long timeout, @NotNull TimeUnit timeUnit);
+
+    /**
+     * Builds the {@link Mqtt5Requester}.
+     *
+     * @return the built {@link Mqtt5Requester}.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5Requester build();
+}
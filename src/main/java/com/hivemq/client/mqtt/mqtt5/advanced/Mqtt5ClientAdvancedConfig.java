@@ -18,7 +18,10 @@ package com.hivemq.client.mqtt.mqtt5.advanced;
 
 import com.hivemq.client.annotations.DoNotImplement;
 import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfigBuilder;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5AdaptiveSendWindowConfig;
 import com.hivemq.client.mqtt.mqtt5.advanced.interceptor.Mqtt5ClientInterceptors;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -53,11 +56,47 @@ public interface Mqtt5ClientAdvancedConfig {
      */
     boolean isValidatePayloadFormat();
 
+    /**
+     * Returns whether the payload of incoming {@link com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish
+     * Mqtt5Publish} messages is stored in a direct (off-heap) buffer instead of a heap buffer.
+     *
+     * @return whether the payload of incoming messages is stored in a direct buffer.
+     * @since 1.3
+     */
+    boolean isDirectBufferPayload();
+
+    /**
+     * Returns whether the correlation data of incoming {@link com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish
+     * Mqtt5Publish} messages is stored in a direct (off-heap) buffer instead of a heap buffer.
+     *
+     * @return whether the correlation data of incoming messages is stored in a direct buffer.
+     * @since 1.3
+     */
+    boolean isDirectBufferCorrelationData();
+
     /**
      * @return the optional interceptors of messages.
      */
     @Nullable Mqtt5ClientInterceptors getInterceptors();
 
+    /**
+     * @return the optional configuration for compressing and decompressing payloads.
+     * @since 1.3
+     */
+    @Nullable Mqtt5PayloadCompressionConfig getPayloadCompressionConfig();
+
+    /**
+     * @return the optional configuration for adapting the send window to the measured acknowledgement latency.
+     * @since 1.3
+     */
+    @Nullable Mqtt5AdaptiveSendWindowConfig getAdaptiveSendWindowConfig();
+
+    /**
+     * @return the optional recorder for metrics of the publish lifecycle.
+     * @since 1.3
+     */
+    @Nullable Mqtt5ClientMetricsRecorder getMetricsRecorder();
+
     /**
      * Creates a builder for extending this advanced configuration.
      *
@@ -18,8 +18,11 @@ package com.hivemq.client.mqtt.mqtt5.advanced;
 
 import com.hivemq.client.annotations.CheckReturnValue;
 import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol.Mqtt5AdaptiveSendWindowConfig;
 import com.hivemq.client.mqtt.mqtt5.advanced.interceptor.Mqtt5ClientInterceptors;
 import com.hivemq.client.mqtt.mqtt5.advanced.interceptor.Mqtt5ClientInterceptorsBuilder;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.Mqtt5ClientMetricsRecorder;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -51,6 +54,29 @@ public interface Mqtt5ClientAdvancedConfigBuilderBase<B extends Mqtt5ClientAdvan
     @CheckReturnValue
     @NotNull B validatePayloadFormat(boolean validatePayloadFormat);
 
+    /**
+     * Sets whether {@link Mqtt5ClientAdvancedConfig#isDirectBufferPayload() the payload of incoming messages is stored
+     * in a direct buffer}.
+     *
+     * @param directBufferPayload whether the payload of incoming messages is stored in a direct buffer.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B directBufferPayload(boolean directBufferPayload);
+
+    /**
+     * Sets whether {@link Mqtt5ClientAdvancedConfig#isDirectBufferCorrelationData() the correlation data of incoming
+     * messages is stored in a direct buffer}.
+     *
+     * @param directBufferCorrelationData whether the correlation data of incoming messages is stored in a direct
+     *                                    buffer.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B directBufferCorrelationData(boolean directBufferCorrelationData);
+
     /**
      * Sets the optional {@link Mqtt5ClientInterceptors collection of interceptors of MQTT messages}.
      *
@@ -72,4 +98,38 @@ public interface Mqtt5ClientAdvancedConfigBuilderBase<B extends Mqtt5ClientAdvan
      */
     @CheckReturnValue
     Mqtt5ClientInterceptorsBuilder.@NotNull Nested<? extends B> interceptors();
+
+    /**
+     * Sets the optional {@link Mqtt5PayloadCompressionConfig configuration for compressing and decompressing
+     * payloads}.
+     *
+     * @param payloadCompressionConfig the configuration for compressing and decompressing payloads or
+     *                                 <code>null</code> to disable payload compression.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B payloadCompressionConfig(@Nullable Mqtt5PayloadCompressionConfig payloadCompressionConfig);
+
+    /**
+     * Sets the optional {@link Mqtt5AdaptiveSendWindowConfig configuration for adapting the send window to the measured
+     * acknowledgement latency}.
+     *
+     * @param adaptiveSendWindowConfig the configuration for adapting the send window or <code>null</code> to always
+     *                                 send up to the Receive Maximum of the server.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B adaptiveSendWindowConfig(@Nullable Mqtt5AdaptiveSendWindowConfig adaptiveSendWindowConfig);
+
+    /**
+     * Sets the optional {@link Mqtt5ClientMetricsRecorder recorder for metrics of the publish lifecycle}.
+     *
+     * @param metricsRecorder the recorder for metrics or <code>null</code> to not measure any metrics.
+     * @return the builder.
+     * @since 1.3
+     */
+    @CheckReturnValue
+    @NotNull B metricsRecorder(@Nullable Mqtt5ClientMetricsRecorder metricsRecorder);
 }
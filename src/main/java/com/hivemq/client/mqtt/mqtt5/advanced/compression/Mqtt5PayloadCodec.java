@@ -0,0 +1,75 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.advanced.compression;
+
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttDeflatePayloadCodec;
+import org.jetbrains.annotations.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Codec that compresses and decompresses the payload of {@link
+ * com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish Mqtt5Publish} messages.
+ * <p>
+ * The methods are called on the Netty event loop of the connection, so they must not block. They may be called
+ * concurrently for different connections.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+public interface Mqtt5PayloadCodec {
+
+    /**
+     * Returns the codec that uses the JDK {@link java.util.zip.Deflater} and {@link java.util.zip.Inflater}. Deflater
+     * and Inflater instances are reused per thread.
+     *
+     * @return the deflate codec.
+     */
+    static @NotNull Mqtt5PayloadCodec deflate() {
+        return MqttDeflatePayloadCodec.INSTANCE;
+    }
+
+    /**
+     * Returns the name of this codec. It is sent as value of the {@link
+     * Mqtt5PayloadCompressionConfig#USER_PROPERTY_NAME} User Property to mark compressed payloads.
+     *
+     * @return the name of this codec.
+     */
+    @NotNull String getName();
+
+    /**
+     * Compresses the given payload.
+     *
+     * @param payload the payload to compress. Its position and limit must not be modified.
+     * @return the compressed payload.
+     */
+    @NotNull ByteBuffer compress(@NotNull ByteBuffer payload);
+
+    /**
+     * Decompresses the given payload.
+     * <p>
+     * The decompressed payload must not exceed the given maximum size. Implementations must check the size while
+     * decompressing, so that a small malicious payload can not force a large allocation.
+     *
+     * @param payload the payload to decompress. Its position and limit must not be modified.
+     * @param maxSize the maximum size of the decompressed payload in bytes.
+     * @return the decompressed payload.
+     * @throws IllegalArgumentException if the payload is not a valid compressed payload of this codec or the
+     *                                  decompressed payload exceeds the maximum size.
+     */
+    @NotNull ByteBuffer decompress(@NotNull ByteBuffer payload, int maxSize);
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.advanced.compression;
+
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.annotations.Immutable;
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfigBuilder;
+import com.hivemq.client.mqtt.datatypes.MqttTopicFilter;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Configuration for compressing the payload of outgoing and decompressing the payload of incoming {@link
+ * com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish Mqtt5Publish} messages.
+ * <p>
+ * An outgoing payload is compressed if its topic matches one of the {@link #getTopicFilters() topic filters} and it is
+ * at least {@link #getMinPayloadSize() minimum payload size} bytes long. A compressed payload is marked with the
+ * {@link #USER_PROPERTY_NAME} User Property containing the {@link Mqtt5PayloadCodec#getName() codec name}. A payload is
+ * only sent compressed if it is actually smaller. As a compressed payload is binary, the payload format indicator is
+ * removed. A {@link com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PayloadFormatIndicator#UTF_8 UTF_8} payload
+ * format indicator is instead carried in the value of the marking User Property as codec name followed by
+ * {@link #UTF_8_SUFFIX}.
+ * <p>
+ * An incoming payload that is marked with the codec name is decompressed before it is delivered, the marking User
+ * Property is removed and the payload format indicator is restored. If the payload can not be decompressed, for
+ * example because it exceeds the {@link #getMaxDecompressedPayloadSize() maximum decompressed payload size} or the
+ * maximum packet size of the client, it is delivered compressed.
+ * <p>
+ * Compression is only applied to MQTT 5 connections as MQTT 3 does not support User Properties.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5PayloadCompressionConfig {
+
+    /**
+     * Name of the User Property that marks compressed payloads.
+     */
+    @NotNull String USER_PROPERTY_NAME = "content-encoding";
+    /**
+     * Suffix of the value of the marking User Property if the payload format indicator of the uncompressed payload is
+     * {@link com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PayloadFormatIndicator#UTF_8 UTF_8}.
+     */
+    @NotNull String UTF_8_SUFFIX = ";utf-8";
+    /**
+     * The default minimum size of a payload to be compressed.
+     */
+    int DEFAULT_MIN_PAYLOAD_SIZE = 256;
+    /**
+     * The default maximum size of a decompressed payload.
+     */
+    int DEFAULT_MAX_DECOMPRESSED_PAYLOAD_SIZE = 1_048_576;
+
+    /**
+     * Creates a builder for a payload compression configuration.
+     *
+     * @return the created builder for a payload compression configuration.
+     */
+    static @NotNull Mqtt5PayloadCompressionConfigBuilder builder() {
+        return new MqttPayloadCompressionConfigBuilder();
+    }
+
+    /**
+     * @return the codec used for compressing and decompressing payloads.
+     */
+    @NotNull Mqtt5PayloadCodec getCodec();
+
+    /**
+     * @return the minimum size of an outgoing payload to be compressed.
+     */
+    int getMinPayloadSize();
+
+    /**
+     * Returns the maximum size of an incoming payload after decompression. Incoming payloads are additionally limited
+     * by the maximum packet size of the client.
+     *
+     * @return the maximum size of a decompressed payload in bytes.
+     */
+    int getMaxDecompressedPayloadSize();
+
+    /**
+     * Returns the topic filters that the topics of outgoing messages must match to compress their payload. If empty,
+     * the payload of all outgoing messages is compressed.
+     *
+     * @return the topic filters.
+     */
+    @Immutable @NotNull List<@NotNull ? extends MqttTopicFilter> getTopicFilters();
+
+    /**
+     * Creates a builder for extending this payload compression configuration.
+     *
+     * @return the created builder.
+     */
+    @NotNull Mqtt5PayloadCompressionConfigBuilder extend();
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.advanced.compression;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.mqtt.datatypes.MqttTopicFilter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Builder for a {@link Mqtt5PayloadCompressionConfig}.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5PayloadCompressionConfigBuilder {
+
+    /**
+     * Sets the {@link Mqtt5PayloadCompressionConfig#getCodec() codec}.
+     * <p>
+     * It is {@link Mqtt5PayloadCodec#deflate()} by default.
+     *
+     * @param codec the codec.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5PayloadCompressionConfigBuilder codec(@Nullable Mqtt5PayloadCodec codec);
+
+    /**
+     * Sets the {@link Mqtt5PayloadCompressionConfig#getMinPayloadSize() minimum payload size}.
+     * <p>
+     * It must not be negative. The default is {@link Mqtt5PayloadCompressionConfig#DEFAULT_MIN_PAYLOAD_SIZE}.
+     *
+     * @param minPayloadSize the minimum size of an outgoing payload to be compressed.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5PayloadCompressionConfigBuilder minPayloadSize(int minPayloadSize);
+
+    /**
+     * Sets the {@link Mqtt5PayloadCompressionConfig#getMaxDecompressedPayloadSize() maximum decompressed payload
+     * size}.
+     * <p>
+     * It must be positive. The default is {@link Mqtt5PayloadCompressionConfig#DEFAULT_MAX_DECOMPRESSED_PAYLOAD_SIZE}.
+     *
+     * @param maxDecompressedPayloadSize the maximum size of an incoming payload after decompression.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5PayloadCompressionConfigBuilder maxDecompressedPayloadSize(int maxDecompressedPayloadSize);
+
+    /**
+     * Adds a {@link Mqtt5PayloadCompressionConfig#getTopicFilters() topic filter}.
+     *
+     * @param topicFilter the string representation of the topic filter.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5PayloadCompressionConfigBuilder addTopicFilter(@Nullable String topicFilter);
+
+    /**
+     * Adds a {@link Mqtt5PayloadCompressionConfig#getTopicFilters() topic filter}.
+     *
+     * @param topicFilter the topic filter.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5PayloadCompressionConfigBuilder addTopicFilter(@Nullable MqttTopicFilter topicFilter);
+
+    /**
+     * Builds the {@link Mqtt5PayloadCompressionConfig}.
+     *
+     * @return the built {@link Mqtt5PayloadCompressionConfig}.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5PayloadCompressionConfig build();
+}
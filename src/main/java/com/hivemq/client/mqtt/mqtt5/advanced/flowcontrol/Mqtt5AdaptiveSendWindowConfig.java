@@ -0,0 +1,90 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol;
+
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfigBuilder;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Configuration for adapting the amount of concurrently unacknowledged QoS 1 and QoS 2 {@link
+ * com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish Mqtt5Publish} messages (send window) to the measured
+ * acknowledgement latency.
+ * <p>
+ * Without this configuration the client sends up to the Receive Maximum of the server. With this configuration the
+ * client measures the round trip time from sending a Publish until receiving its PubAck or PubComp and adapts the send
+ * window below the Receive Maximum of the server:
+ * <ul>
+ *   <li>while the round trip time stays below the {@link #getTargetLatency(TimeUnit) target latency}, the window is
+ *     increased by 1 for each full window of acknowledged messages (or doubled per round trip until the target
+ *     latency is exceeded for the first time after connecting)</li>
+ *   <li>if the round trip time exceeds the target latency, the window is halved, but at most once per round trip and
+ *     never below the {@link #getMinWindow() minimum window}</li>
+ * </ul>
+ * Round trip times of resent messages are not measured as their acknowledgement can not be assigned to a specific
+ * send.
+ *
+ * @author Silvio Giebl
+ * @see Mqtt5SendWindowMetrics
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5AdaptiveSendWindowConfig {
+
+    /**
+     * The default minimum send window.
+     */
+    int DEFAULT_MIN_WINDOW = 1;
+    /**
+     * The default target latency in milliseconds.
+     */
+    long DEFAULT_TARGET_LATENCY_MS = 100;
+
+    /**
+     * Creates a builder for an adaptive send window configuration.
+     *
+     * @return the created builder for an adaptive send window configuration.
+     */
+    static @NotNull Mqtt5AdaptiveSendWindowConfigBuilder builder() {
+        return new MqttAdaptiveSendWindowConfigBuilder();
+    }
+
+    /**
+     * Returns the minimum send window. The send window is never decreased below this value but is still limited by the
+     * Receive Maximum of the server.
+     *
+     * @return the minimum send window.
+     */
+    int getMinWindow();
+
+    /**
+     * Returns the target latency. The send window is decreased if the round trip time of a message exceeds this value.
+     *
+     * @param timeUnit the time unit of the returned target latency.
+     * @return the target latency in the given time unit.
+     */
+    long getTargetLatency(@NotNull TimeUnit timeUnit);
+
+    /**
+     * Creates a builder for extending this adaptive send window configuration.
+     *
+     * @return the created builder.
+     */
+    @NotNull Mqtt5AdaptiveSendWindowConfigBuilder extend();
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Builder for a {@link Mqtt5AdaptiveSendWindowConfig}.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5AdaptiveSendWindowConfigBuilder {
+
+    /**
+     * Sets the {@link Mqtt5AdaptiveSendWindowConfig#getMinWindow() minimum send window}.
+     * <p>
+     * It must be positive. The default is {@link Mqtt5AdaptiveSendWindowConfig#DEFAULT_MIN_WINDOW}.
+     *
+     * @param minWindow the minimum send window.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5AdaptiveSendWindowConfigBuilder minWindow(int minWindow);
+
+    /**
+     * Sets the {@link Mqtt5AdaptiveSendWindowConfig#getTargetLatency(TimeUnit) target latency}.
+     * <p>
+     * It must be positive. The default is {@link Mqtt5AdaptiveSendWindowConfig#DEFAULT_TARGET_LATENCY_MS}
+     * milliseconds.
+     *
+     * @param targetLatency the target latency.
+     * @param timeUnit      the time unit of the given target latency.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5AdaptiveSendWindowConfigBuilder targetLatency(long targetLatency, @Nullable TimeUnit timeUnit);
+
+    /**
+     * Builds the {@link Mqtt5AdaptiveSendWindowConfig}.
+     *
+     * @return the built {@link Mqtt5AdaptiveSendWindowConfig}.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5AdaptiveSendWindowConfig build();
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.advanced.flowcontrol;
+
+import com.hivemq.client.annotations.DoNotImplement;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Metrics of the adaptive send window of an {@link com.hivemq.client.mqtt.mqtt5.Mqtt5Client Mqtt5Client}.
+ * <p>
+ * Round trip time percentiles are calculated over the most recent round trip time samples.
+ *
+ * @author Silvio Giebl
+ * @see Mqtt5AdaptiveSendWindowConfig
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5SendWindowMetrics {
+
+    /**
+     * @return the current send window, the maximum amount of concurrently unacknowledged QoS 1 and QoS 2 messages.
+     */
+    int getWindow();
+
+    /**
+     * @return the Receive Maximum of the server that limits the send window, 0 if the client has not been connected
+     *         yet.
+     */
+    int getSendMaximum();
+
+    /**
+     * @return the total amount of round trip time samples that have been measured.
+     */
+    long getRoundTripTimeSampleCount();
+
+    /**
+     * Returns a percentile of the most recent round trip times.
+     *
+     * @param percentile the percentile, must be between 0 (minimum) and 100 (maximum).
+     * @param timeUnit   the time unit of the returned round trip time.
+     * @return the round trip time percentile in the given time unit, 0 if no round trip time has been measured yet.
+     */
+    long getRoundTripTime(double percentile, @NotNull TimeUnit timeUnit);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.mqtt5.advanced.metrics;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Recorder for metrics of the publish lifecycle of an {@link com.hivemq.client.mqtt.mqtt5.Mqtt5Client Mqtt5Client}.
+ * <p>
+ * All methods have an empty default implementation, so an implementation only needs to override the methods for the
+ * metrics it is interested in. If no recorder is configured, no metrics are measured at all.
+ * <p>
+ * The methods are called on the Netty event loop of the client. They must not block and should only update counters
+ * or histograms.
+ *
+ * @author Silvio Giebl
+ * @see com.hivemq.client.mqtt.mqtt5.advanced.Mqtt5ClientAdvancedConfig#getMetricsRecorder()
+ * @since 1.3
+ */
+public interface Mqtt5ClientMetricsRecorder {
+
+    /**
+     * Called when outgoing Publish messages have been written or acknowledged.
+     *
+     * @param queued   the amount of Publish messages that are queued and not written yet.
+     * @param inFlight the amount of QoS 1 and QoS 2 Publish messages that are written but not acknowledged yet.
+     */
+    default void onOutgoingPublishQueue(final int queued, final int inFlight) {}
+
+    /**
+     * Called when an outgoing Publish message with QoS 1 or QoS 2 has been acknowledged by the server.
+     *
+     * @param qos          the QoS of the Publish message.
+     * @param latencyNanos the time between writing the Publish message and receiving the PubAck or PubComp message in
+     *                     nanoseconds.
+     */
+    default void onPublishAcknowledged(final @NotNull MqttQos qos, final long latencyNanos) {}
+
+    /**
+     * Called when an incoming Publish message has been received.
+     *
+     * @param qos    the QoS of the received Publish message.
+     * @param queued the amount of Publish messages with the same QoS (QoS 0 or QoS 1 and 2) that are queued because
+     *               they have not been consumed by all matching subscribers yet.
+     */
+    default void onIncomingPublishQueue(final @NotNull MqttQos qos, final int queued) {}
+
+    /**
+     * Called when an incoming Publish message is dropped, either because the queue for QoS 0 messages is full or
+     * because no subscriber matches the Publish message.
+     *
+     * @param qos the QoS of the dropped Publish message.
+     */
+    default void onIncomingPublishDropped(final @NotNull MqttQos qos) {}
+
+    /**
+     * Called when an MQTT packet has been encoded for sending.
+     *
+     * @param bytes the encoded size of the packet in bytes.
+     */
+    default void onPacketSent(final int bytes) {}
+
+    /**
+     * Called when an MQTT packet has been received and decoded.
+     *
+     * @param bytes the size of the packet in bytes.
+     */
+    default void onPacketReceived(final int bytes) {}
+
+    /**
+     * Called when the client has successfully reconnected after the connection was lost or a connect attempt failed.
+     *
+     * @param attempts      the amount of failed connect attempts before the client reconnected successfully.
+     * @param durationNanos the time between losing the connection (or the first failed connect attempt) and
+     *                      receiving the successful ConnAck message in nanoseconds.
+     */
+    default void onReconnected(final int attempts, final long durationNanos) {}
+
+    /**
+     * Called when the channel of the client becomes writable again after the outgoing buffer was full, so no
+     * further messages were written.
+     *
+     * @param durationNanos the time the channel was not writable in nanoseconds.
+     */
+    default void onWriteStall(final long durationNanos) {}
+}
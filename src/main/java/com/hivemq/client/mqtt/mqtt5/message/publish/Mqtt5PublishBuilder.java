@@ -19,6 +19,9 @@ package com.hivemq.client.mqtt.mqtt5.message.publish;
 import com.hivemq.client.annotations.CheckReturnValue;
 import com.hivemq.client.annotations.DoNotImplement;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.ByteBuffer;
 
 /**
  * Builder for a {@link Mqtt5Publish}.
@@ -52,6 +55,21 @@ public interface Mqtt5PublishBuilder extends Mqtt5PublishBuilderBase<Mqtt5Publis
         @CheckReturnValue
         Mqtt5WillPublishBuilder.@NotNull Complete asWill();
 
+        /**
+         * Sets a callback that is run when the client does not need the buffers of the {@link
+         * Mqtt5PublishBuilderBase.Complete#payload(ByteBuffer) payload} anymore, for example to return them to a pool.
+         * <p>
+         * The callback is run on a client thread right before the result of the Publish message is emitted, that is
+         * when it was written (QoS 0), acknowledged (QoS 1 and 2) or failed. It is not carried over if the Publish
+         * message is {@link Mqtt5Publish#extend() extended}.
+         *
+         * @param payloadReleaseCallback the callback or <code>null</code> to remove any previously set callback.
+         * @return the builder.
+         * @since 1.3
+         */
+        @CheckReturnValue
+        @NotNull Complete payloadReleaseCallback(@Nullable Runnable payloadReleaseCallback);
+
         /**
          * Builds the {@link Mqtt5Publish}.
          *
@@ -78,6 +96,17 @@ public interface Mqtt5PublishBuilder extends Mqtt5PublishBuilderBase<Mqtt5Publis
         @DoNotImplement
         interface Complete<P> extends Nested<P>, Mqtt5PublishBuilderBase.Complete<Nested.Complete<P>> {
 
+            /**
+             * Sets a callback that is run when the client does not need the buffers of the payload anymore.
+             *
+             * @param payloadReleaseCallback the callback or <code>null</code> to remove any previously set callback.
+             * @return the builder.
+             * @see Mqtt5PublishBuilder.Complete#payloadReleaseCallback(Runnable)
+             * @since 1.3
+             */
+            @CheckReturnValue
+            @NotNull Complete<P> payloadReleaseCallback(@Nullable Runnable payloadReleaseCallback);
+
             /**
              * Builds the {@link Mqtt5Publish} and applies it to the parent.
              *
@@ -102,6 +131,17 @@ public interface Mqtt5PublishBuilder extends Mqtt5PublishBuilderBase<Mqtt5Publis
         @DoNotImplement
         interface Complete<P> extends Send<P>, Mqtt5PublishBuilderBase.Complete<Send.Complete<P>> {
 
+            /**
+             * Sets a callback that is run when the client does not need the buffers of the payload anymore.
+             *
+             * @param payloadReleaseCallback the callback or <code>null</code> to remove any previously set callback.
+             * @return the builder.
+             * @see Mqtt5PublishBuilder.Complete#payloadReleaseCallback(Runnable)
+             * @since 1.3
+             */
+            @CheckReturnValue
+            @NotNull Complete<P> payloadReleaseCallback(@Nullable Runnable payloadReleaseCallback);
+
             /**
              * Builds the {@link Mqtt5Publish} and applies it to the parent which then sends the Publish message.
              *
@@ -95,6 +95,19 @@ public interface Mqtt5PublishBuilderBase<C extends Mqtt5PublishBuilderBase.Compl
         @CheckReturnValue
         @NotNull C payload(@Nullable ByteBuffer payload);
 
+        /**
+         * Sets the optional {@link Mqtt5Publish#getPayload() payload} as a sequence of {@link ByteBuffer}s.
+         * <p>
+         * The buffers are written one after another without copying them into a single buffer, so they must not be
+         * modified until the Publish message is acknowledged. A Will Publish copies the buffers into a single buffer.
+         *
+         * @param payload the payload as multiple {@link ByteBuffer}s.
+         * @return the builder.
+         * @since 1.3
+         */
+        @CheckReturnValue
+        @NotNull C payload(@NotNull ByteBuffer @NotNull ... payload);
+
         /**
          * Sets the {@link Mqtt5Publish#getQos() QoS}.
          *
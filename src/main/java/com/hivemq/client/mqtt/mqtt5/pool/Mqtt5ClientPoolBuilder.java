@@ -0,0 +1,72 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.pool;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * Builder for a {@link Mqtt5RxClientPool}.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5ClientPoolBuilder {
+
+    /**
+     * The default amount of clients of a pool.
+     */
+    int DEFAULT_SIZE = 4;
+
+    /**
+     * Sets the amount of clients (connections) of the pool.
+     * <p>
+     * It must be positive. The default is {@link #DEFAULT_SIZE}.
+     *
+     * @param size the amount of clients of the pool.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5ClientPoolBuilder size(int size);
+
+    /**
+     * Sets the function that determines the shard key of a Publish message. All messages with equal shard keys are
+     * sent via the same client, so their order is preserved.
+     * <p>
+     * The default is <code>null</code>, which distributes messages round-robin without any order guarantees.
+     *
+     * @param shardKeyFunction the function that determines the shard key of a Publish message or <code>null</code> to
+     *                         distribute messages round-robin.
+     * @return the builder.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5ClientPoolBuilder shardKey(@Nullable Function<? super Mqtt5Publish, ?> shardKeyFunction);
+
+    /**
+     * Builds the {@link Mqtt5RxClientPool}.
+     *
+     * @return the built {@link Mqtt5RxClientPool}.
+     */
+    @CheckReturnValue
+    @NotNull Mqtt5RxClientPool buildRx();
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.pool;
+
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Statistics of a single client of a {@link Mqtt5RxClientPool}.
+ * <p>
+ * Only messages that are published or consumed via the pool are counted.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5ClientPoolStatistics {
+
+    /**
+     * @return the client these statistics belong to.
+     */
+    @NotNull Mqtt5RxClient getClient();
+
+    /**
+     * @return the amount of Publish messages that have been handed to the client.
+     */
+    long getPublishedCount();
+
+    /**
+     * @return the amount of Publish messages that have been published successfully.
+     */
+    long getSucceededCount();
+
+    /**
+     * @return the amount of Publish messages that failed to be published.
+     */
+    long getFailedCount();
+
+    /**
+     * @return the amount of Publish messages that have been handed to the client but whose result is still pending.
+     */
+    long getPendingCount();
+
+    /**
+     * @return the amount of incoming Publish messages that have been received by the client.
+     */
+    long getReceivedCount();
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.mqtt.mqtt5.pool;
+
+import com.hivemq.client.annotations.CheckReturnValue;
+import com.hivemq.client.annotations.DoNotImplement;
+import com.hivemq.client.annotations.Immutable;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.mqtt5.Mqtt5RxClient;
+import com.hivemq.client.mqtt.mqtt5.message.connect.Mqtt5Connect;
+import com.hivemq.client.mqtt.mqtt5.message.connect.connack.Mqtt5ConnAck;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.Mqtt5Subscribe;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.suback.Mqtt5SubAck;
+import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.Mqtt5Unsubscribe;
+import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.unsuback.Mqtt5UnsubAck;
+import io.reactivex.Completable;
+import io.reactivex.Flowable;
+import io.reactivex.Single;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Pool of {@link Mqtt5RxClient}s that distributes Publish messages across multiple MQTT connections.
+ * <p>
+ * A single connection is handled by one thread and one TCP stream. A pool can be used to spread the load of a single
+ * logical client across multiple threads and streams. All clients of a pool are built with the same configuration and
+ * share the same Netty event loop group, only their Client Identifiers are derived from the configured one by
+ * appending <code>-</code> and the index of the client.
+ * <p>
+ * Publish messages are distributed by a {@link Mqtt5ClientPoolBuilder#shardKey(java.util.function.Function) shard
+ * key}: all messages with the same key are sent via the same connection, so their order is preserved. Without a shard
+ * key messages are distributed round-robin and no order is guaranteed.
+ * <p>
+ * A Will Publish message, either configured on the client builder or contained in the Connect message, is only sent by
+ * the first client. So it is published once if the connection of the first client is lost, but not if the connection
+ * of any other client is lost.
+ *
+ * @author Silvio Giebl
+ * @since 1.3
+ */
+@DoNotImplement
+public interface Mqtt5RxClientPool {
+
+    /**
+     * @return the clients of this pool.
+     */
+    @Immutable @NotNull List<@NotNull ? extends Mqtt5RxClient> getClients();
+
+    /**
+     * @return the statistics of each client of this pool, in the same order as {@link #getClients()}.
+     */
+    @Immutable @NotNull List<@NotNull ? extends Mqtt5ClientPoolStatistics> getStatistics();
+
+    /**
+     * Creates a {@link Single} for connecting all clients of this pool with the default Connect message.
+     *
+     * @return the {@link Single} which emits the ConnAck messages of all clients in the same order as {@link
+     *         #getClients()} or an error if any client fails to connect.
+     * @see Mqtt5RxClient#connect()
+     */
+    @CheckReturnValue
+    @NotNull Single<@Immutable List<@NotNull Mqtt5ConnAck>> connect();
+
+    /**
+     * Creates a {@link Single} for connecting all clients of this pool with the given Connect message.
+     *
+     * @param connect the Connect message sent by each client, only the first client sends its Will Publish message.
+     * @return the {@link Single} which emits the ConnAck messages of all clients in the same order as {@link
+     *         #getClients()} or an error if any client fails to connect.
+     * @see Mqtt5RxClient#connect(Mqtt5Connect)
+     */
+    @CheckReturnValue
+    @NotNull Single<@Immutable List<@NotNull Mqtt5ConnAck>> connect(@NotNull Mqtt5Connect connect);
+
+    /**
+     * Creates a {@link Single} for subscribing the clients of this pool with the subscriptions of the given Subscribe
+     * message.
+     * <p>
+     * Subscriptions with a shared topic filter are sent by every client, so the server balances the matching messages
+     * across the pool. Any other subscription is sent by only one client, chosen by its topic filter, so each matching
+     * message is received only once across the pool. The messages can be consumed with {@link
+     * #publishes(MqttGlobalPublishFilter)}.
+     *
+     * @param subscribe the Subscribe message whose subscriptions are split across the clients.
+     * @return the {@link Single} which emits the SubAck messages of the subscribed clients in the same order as {@link
+     *         #getClients()} or an error if any client fails to subscribe.
+     * @see Mqtt5RxClient#subscribe(Mqtt5Subscribe)
+     */
+    @CheckReturnValue
+    @NotNull Single<@Immutable List<@NotNull Mqtt5SubAck>> subscribe(@NotNull Mqtt5Subscribe subscribe);
+
+    /**
+     * Creates a {@link Single} for unsubscribing the clients of this pool from the topic filters of the given
+     * Unsubscribe message.
+     * <p>
+     * Each topic filter is sent by the same clients that sent it with {@link #subscribe(Mqtt5Subscribe)}: a shared
+     * topic filter by every client, any other topic filter by the one client chosen by the topic filter.
+     *
+     * @param unsubscribe the Unsubscribe message whose topic filters are split across the clients.
+     * @return the {@link Single} which emits the UnsubAck messages of the unsubscribed clients in the same order as
+     *         {@link #getClients()} or an error if any client fails to unsubscribe.
+     * @see Mqtt5RxClient#unsubscribe(Mqtt5Unsubscribe)
+     */
+    @CheckReturnValue
+    @NotNull Single<@Immutable List<@NotNull Mqtt5UnsubAck>> unsubscribe(@NotNull Mqtt5Unsubscribe unsubscribe);
+
+    /**
+     * Creates a {@link Flowable} for globally consuming all incoming Publish messages of all clients of this pool
+     * matching the given filter.
+     *
+     * @param filter the filter with which all incoming Publish messages are filtered.
+     * @return the {@link Flowable} which emits the merged incoming Publish messages of all clients.
+     * @see Mqtt5RxClient#publishes(MqttGlobalPublishFilter)
+     */
+    @CheckReturnValue
+    @NotNull Flowable<Mqtt5Publish> publishes(@NotNull MqttGlobalPublishFilter filter);
+
+    /**
+     * Creates a {@link Flowable} for publishing the Publish messages emitted by the given {@link Flowable} via the
+     * clients of this pool.
+     * <p>
+     * Results of messages with the same shard key are emitted in the order of the messages. Results of messages with
+     * different shard keys may be emitted in any order.
+     *
+     * @param publishFlowable the source of the Publish messages to publish.
+     * @return the {@link Flowable} which emits the results of the Publish messages.
+     * @see Mqtt5RxClient#publish(Flowable)
+     */
+    @CheckReturnValue
+    @NotNull Flowable<Mqtt5PublishResult> publish(@NotNull Flowable<Mqtt5Publish> publishFlowable);
+
+    /**
+     * Creates a {@link Completable} for disconnecting all clients of this pool with the default Disconnect message.
+     *
+     * @return the {@link Completable} which completes when all clients are disconnected or errors if any client fails
+     *         to disconnect.
+     * @see Mqtt5RxClient#disconnect()
+     */
+    @CheckReturnValue
+    @NotNull Completable disconnect();
+}
@@ -16,6 +16,7 @@
 
 package com.hivemq.client.internal.mqtt;
 
+import com.hivemq.client.mqtt.MqttClientTransportConfig;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.jetbrains.annotations.NotNull;
@@ -23,7 +24,13 @@ import org.junit.jupiter.api.Test;
 
 import javax.net.ssl.KeyManagerFactory;
 import javax.net.ssl.TrustManagerFactory;
+import java.net.InetSocketAddress;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Silvio Giebl
@@ -40,9 +47,63 @@ class MqttClientTransportConfigImplTest {
         EqualsVerifier.forClass(MqttClientTransportConfigImpl.class)
                 .suppress(Warning.STRICT_INHERITANCE)
                 .withIgnoredAnnotations(NotNull.class) // EqualsVerifier thinks @NotNull Optional is @NotNull
-                .withNonnullFields("serverAddress")
+                .withNonnullFields("serverAddress", "additionalServerAddresses", "socketConfig")
                 .withPrefabValues(KeyManagerFactory.class, kmf1, kmf2)
                 .withPrefabValues(TrustManagerFactory.class, tmf1, tmf2)
                 .verify();
     }
-}
\ No newline at end of file
+
+    @Test
+    void unixDomainSocketPath() {
+        final MqttClientTransportConfigImpl transportConfig =
+                new MqttClientTransportConfigImplBuilder.Default().unixDomainSocketPath("/var/run/mqtt.sock").build();
+        assertEquals(Optional.of("/var/run/mqtt.sock"), transportConfig.getUnixDomainSocketPath());
+        assertEquals(transportConfig, transportConfig.extend().build());
+        assertFalse(transportConfig.extend().unixDomainSocketPath(null).build().getUnixDomainSocketPath().isPresent());
+        assertFalse(MqttClientTransportConfigImpl.DEFAULT.getUnixDomainSocketPath().isPresent());
+    }
+
+    @Test
+    void unixDomainSocketPath_empty_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new MqttClientTransportConfigImplBuilder.Default().unixDomainSocketPath(""));
+    }
+
+    @Test
+    void additionalServerAddresses() {
+        final InetSocketAddress address = InetSocketAddress.createUnresolved("backup", 1883);
+        final MqttClientTransportConfigImpl transportConfig = new MqttClientTransportConfigImplBuilder.Default()
+                .additionalServerAddresses(Collections.singletonList(address))
+                .connectAttemptDelay(100, TimeUnit.MILLISECONDS)
+                .build();
+        assertEquals(Collections.singletonList(address), transportConfig.getAdditionalServerAddresses());
+        assertEquals(100, transportConfig.getConnectAttemptDelayMs());
+        assertEquals(transportConfig, transportConfig.extend().build());
+        assertTrue(transportConfig.extend().additionalServerAddresses(null).build().getAdditionalServerAddresses()
+                .isEmpty());
+        assertTrue(MqttClientTransportConfigImpl.DEFAULT.getAdditionalServerAddresses().isEmpty());
+        assertEquals(MqttClientTransportConfig.DEFAULT_CONNECT_ATTEMPT_DELAY_MS,
+                MqttClientTransportConfigImpl.DEFAULT.getConnectAttemptDelayMs());
+    }
+
+    @Test
+    void standbyServerAddress() {
+        final InetSocketAddress address = InetSocketAddress.createUnresolved("standby", 1883);
+        final MqttClientTransportConfigImpl transportConfig =
+                new MqttClientTransportConfigImplBuilder.Default().standbyServerAddress(address).build();
+        assertEquals(Optional.of(address), transportConfig.getStandbyServerAddress());
+        assertEquals(transportConfig, transportConfig.extend().build());
+        assertFalse(transportConfig.extend().standbyServerAddress(null).build().getStandbyServerAddress().isPresent());
+        assertFalse(MqttClientTransportConfigImpl.DEFAULT.getStandbyServerAddress().isPresent());
+    }
+
+    @Test
+    void connectPipelining() {
+        assertFalse(MqttClientTransportConfigImpl.DEFAULT.isConnectPipelining());
+        final MqttClientTransportConfigImpl transportConfig =
+                new MqttClientTransportConfigImplBuilder.Default().connectPipelining(true).build();
+        assertTrue(transportConfig.isConnectPipelining());
+        assertEquals(transportConfig, transportConfig.extend().build());
+        assertFalse(transportConfig.extend().connectPipelining(false).build().isConnectPipelining());
+    }
+}
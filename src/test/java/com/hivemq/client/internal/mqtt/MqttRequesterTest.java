@@ -0,0 +1,226 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt;
+
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicImpl;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttIncomingQosHandler;
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttOutgoingQosHandler;
+import com.hivemq.client.internal.mqtt.handler.subscribe.MqttSubscriptionFlow;
+import com.hivemq.client.internal.mqtt.handler.subscribe.MqttSubscriptionHandler;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.subscribe.suback.MqttSubAck;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import io.reactivex.Emitter;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttRequesterTest {
+
+    private final EventLoop eventLoop = new DefaultEventLoop();
+    private final MqttClientConfig clientConfig = mock(MqttClientConfig.class);
+    private final MqttSubscriptionHandler subscriptionHandler = mock(MqttSubscriptionHandler.class);
+    private MqttSubscriptionFlow<MqttSubAck> subscriptionFlow;
+
+    @BeforeEach
+    void setUp() {
+        final ClientComponent clientComponent = mock(ClientComponent.class);
+        when(clientComponent.subscriptionHandler()).thenReturn(subscriptionHandler);
+        when(clientComponent.incomingQosHandler()).thenReturn(mock(MqttIncomingQosHandler.class));
+        // the publish flowables of the outgoing qos handler are a mock that swallows the requests
+        when(clientComponent.outgoingQosHandler()).thenReturn(mock(MqttOutgoingQosHandler.class, RETURNS_MOCKS));
+        when(clientConfig.getClientComponent()).thenReturn(clientComponent);
+        when(clientConfig.acquireEventLoop()).thenReturn(eventLoop);
+        when(clientConfig.getState()).thenReturn(MqttClientState.CONNECTED);
+        when(clientConfig.getDispatchScheduler()).thenReturn(Schedulers.trampoline());
+    }
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void request_completesWithMatchingResponse() throws Exception {
+        final MqttRequester requester = createRequester(0);
+
+        final CompletableFuture<Mqtt5Publish> future0 = requester.request(createRequest());
+        final CompletableFuture<Mqtt5Publish> future1 = requester.request(createRequest());
+        subscribed();
+        assertEquals(2, requester.getPendingRequestCount());
+
+        final Mqtt5Publish response1 = createResponse(correlationData(1));
+        respond(response1);
+        assertSame(response1, future1.get(0, TimeUnit.SECONDS));
+        assertFalse(future0.isDone());
+
+        final Mqtt5Publish response0 = createResponse(correlationData(0));
+        respond(response0);
+        assertSame(response0, future0.get(0, TimeUnit.SECONDS));
+        assertEquals(0, requester.getPendingRequestCount());
+    }
+
+    @Test
+    void request_timesOut() throws Exception {
+        final MqttRequester requester = createRequester(100);
+
+        final CompletableFuture<Mqtt5Publish> future = requester.request(createRequest());
+        subscribed();
+
+        final ExecutionException exception =
+                assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertTrue(exception.getCause() instanceof TimeoutException);
+        assertEquals(0, requester.getPendingRequestCount());
+
+        // a late response is ignored
+        respond(createResponse(correlationData(0)));
+        assertEquals(0, requester.getPendingRequestCount());
+    }
+
+    @Test
+    void request_cancel_removesPendingRequest() throws Exception {
+        final MqttRequester requester = createRequester(100);
+
+        final CompletableFuture<Mqtt5Publish> future = requester.request(createRequest());
+        subscribed();
+        assertEquals(1, requester.getPendingRequestCount());
+
+        assertTrue(future.cancel(false));
+        assertEquals(0, requester.getPendingRequestCount());
+
+        // neither the timeout nor a late response complete the cancelled request
+        Thread.sleep(300);
+        respond(createResponse(correlationData(0)));
+        assertTrue(future.isCancelled());
+        assertEquals(0, requester.getPendingRequestCount());
+    }
+
+    @Test
+    void request_cancelBeforeSubscribed_removesPendingRequest() throws Exception {
+        final MqttRequester requester = createRequester(0);
+
+        final CompletableFuture<Mqtt5Publish> future = requester.request(createRequest());
+        assertTrue(future.cancel(false));
+        assertEquals(0, requester.getPendingRequestCount());
+
+        subscribed();
+        assertEquals(0, requester.getPendingRequestCount());
+        assertTrue(future.isCancelled());
+    }
+
+    @Test
+    void request_unknownCorrelationData_isIgnored() throws Exception {
+        final MqttRequester requester = createRequester(0);
+
+        final CompletableFuture<Mqtt5Publish> future = requester.request(createRequest());
+        subscribed();
+
+        respond(createResponse(correlationData(42)));
+        respond(createResponse(new byte[]{0, 0, 0, 0}));
+        respond(createResponse(null));
+
+        assertFalse(future.isDone());
+        assertEquals(1, requester.getPendingRequestCount());
+
+        final Mqtt5Publish response = createResponse(correlationData(0));
+        respond(response);
+        assertSame(response, future.get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void request_correlationDataStartsAtInitialCorrelationId() throws Exception {
+        final MqttRequester requester =
+                new MqttRequester(clientConfig, MqttTopicImpl.of("responses/test"), 0, Long.MAX_VALUE);
+
+        final CompletableFuture<Mqtt5Publish> future0 = requester.request(createRequest());
+        final CompletableFuture<Mqtt5Publish> future1 = requester.request(createRequest());
+        subscribed();
+
+        // a response to a requester that starts at 0, e.g. one with a nested response topic, is ignored
+        respond(createResponse(correlationData(0)));
+        assertEquals(2, requester.getPendingRequestCount());
+
+        final Mqtt5Publish response1 = createResponse(correlationData(Long.MIN_VALUE));
+        respond(response1);
+        assertSame(response1, future1.get(0, TimeUnit.SECONDS));
+
+        final Mqtt5Publish response0 = createResponse(correlationData(Long.MAX_VALUE));
+        respond(response0);
+        assertSame(response0, future0.get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void request_notConnected_fails() {
+        when(clientConfig.getState()).thenReturn(MqttClientState.DISCONNECTED);
+        final MqttRequester requester = createRequester(0);
+
+        final CompletableFuture<Mqtt5Publish> future = requester.request(createRequest());
+        subscribed();
+
+        assertTrue(future.isCompletedExceptionally());
+        assertEquals(0, requester.getPendingRequestCount());
+    }
+
+    private MqttRequester createRequester(final int timeoutMs) {
+        return new MqttRequester(clientConfig, MqttTopicImpl.of("responses/test"), timeoutMs, 0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void subscribed() throws Exception {
+        final ArgumentCaptor<MqttSubscriptionFlow<MqttSubAck>> flowCaptor =
+                ArgumentCaptor.forClass(MqttSubscriptionFlow.class);
+        verify(subscriptionHandler).subscribe(any(), flowCaptor.capture());
+        subscriptionFlow = flowCaptor.getValue();
+        eventLoop.submit(() -> subscriptionFlow.onSuccess(mock(MqttSubAck.class))).get();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void respond(final Mqtt5Publish response) throws Exception {
+        eventLoop.submit(() -> ((Emitter<Mqtt5Publish>) subscriptionFlow).onNext(response)).get();
+    }
+
+    private static Mqtt5Publish createRequest() {
+        return Mqtt5Publish.builder().topic("requests/test").build();
+    }
+
+    private static Mqtt5Publish createResponse(final byte[] correlationData) {
+        return Mqtt5Publish.builder().topic("responses/test").correlationData(correlationData).build();
+    }
+
+    private static byte[] correlationData(final long correlationId) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(correlationId).array();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt;
+
+import nl.jqno.equalsverifier.EqualsVerifier;
+import nl.jqno.equalsverifier.Warning;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttSocketConfigImplTest {
+
+    @Test
+    void equals() {
+        EqualsVerifier.forClass(MqttSocketConfigImpl.class).suppress(Warning.STRICT_INHERITANCE).verify();
+    }
+
+    @Test
+    void builder_default() {
+        assertEquals(MqttSocketConfigImpl.DEFAULT, new MqttSocketConfigImplBuilder.Default().build());
+        assertFalse(MqttSocketConfigImpl.DEFAULT.hasNativeOptions());
+    }
+
+    @Test
+    void builder_writeBufferWaterMark() {
+        final MqttSocketConfigImpl socketConfig =
+                new MqttSocketConfigImplBuilder.Default().writeBufferWaterMark(1024, 4096).build();
+        assertEquals(1024, socketConfig.getWriteBufferLowWaterMark());
+        assertEquals(4096, socketConfig.getWriteBufferHighWaterMark());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MqttSocketConfigImplBuilder.Default().writeBufferWaterMark(4096, 1024));
+        assertThrows(IllegalArgumentException.class,
+                () -> new MqttSocketConfigImplBuilder.Default().writeBufferWaterMark(0, 1024));
+    }
+
+    @Test
+    void builder_nativeOptions() {
+        final MqttSocketConfigImpl socketConfig = new MqttSocketConfigImplBuilder.Default().busyPollMicros(50)
+                .tcpQuickAck(true)
+                .tcpNotSentLowAt(16384)
+                .build();
+        assertTrue(socketConfig.hasNativeOptions());
+        assertEquals(socketConfig, socketConfig.extend().build());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new MqttSocketConfigImplBuilder.Default().busyPollMicros(-1));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.advanced.compression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttDeflatePayloadCodecTest {
+
+    private static final int MAX_SIZE = 10_000_000;
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100, 10_000, 1_000_000})
+    void compress_decompress(final int size) {
+        final byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        final ByteBuffer payload = ByteBuffer.wrap(bytes);
+
+        final ByteBuffer compressed = MqttDeflatePayloadCodec.INSTANCE.compress(payload);
+        final ByteBuffer decompressed = MqttDeflatePayloadCodec.INSTANCE.decompress(compressed, MAX_SIZE);
+
+        assertEquals(ByteBuffer.wrap(bytes), decompressed);
+        assertEquals(size, payload.remaining());
+    }
+
+    @Test
+    void compress_repetitive_isSmaller() {
+        final byte[] bytes = new byte[10_000];
+        Arrays.fill(bytes, (byte) 'a');
+
+        final ByteBuffer compressed = MqttDeflatePayloadCodec.INSTANCE.compress(ByteBuffer.wrap(bytes));
+
+        assertTrue(compressed.remaining() < 100);
+        assertEquals(ByteBuffer.wrap(bytes), MqttDeflatePayloadCodec.INSTANCE.decompress(compressed, MAX_SIZE));
+    }
+
+    @Test
+    void compress_directAndSlicedBuffer() {
+        final byte[] bytes = "{\"temperature\": 21.5, \"humidity\": 40}".getBytes(StandardCharsets.UTF_8);
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).flip();
+        final ByteBuffer sliced = ByteBuffer.wrap(new byte[bytes.length + 10], 5, bytes.length).slice();
+        sliced.put(bytes).flip();
+
+        assertEquals(direct, MqttDeflatePayloadCodec.INSTANCE.decompress(
+                MqttDeflatePayloadCodec.INSTANCE.compress(direct), MAX_SIZE));
+        assertEquals(sliced, MqttDeflatePayloadCodec.INSTANCE.decompress(
+                MqttDeflatePayloadCodec.INSTANCE.compress(sliced), MAX_SIZE));
+    }
+
+    @Test
+    void decompress_malformed_throws() {
+        final ByteBuffer malformed = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+        assertThrows(IllegalArgumentException.class,
+                () -> MqttDeflatePayloadCodec.INSTANCE.decompress(malformed, MAX_SIZE));
+    }
+
+    @Test
+    void decompress_truncated_throws() {
+        final byte[] bytes = new byte[1_000];
+        new Random(1).nextBytes(bytes);
+        final ByteBuffer compressed = MqttDeflatePayloadCodec.INSTANCE.compress(ByteBuffer.wrap(bytes));
+        final ByteBuffer truncated = compressed.duplicate();
+        truncated.limit(truncated.position() + (truncated.remaining() / 2));
+        assertThrows(IllegalArgumentException.class,
+                () -> MqttDeflatePayloadCodec.INSTANCE.decompress(truncated, MAX_SIZE));
+
+        // the thread local inflater is reset and still usable
+        assertEquals(ByteBuffer.wrap(bytes), MqttDeflatePayloadCodec.INSTANCE.decompress(compressed, MAX_SIZE));
+    }
+
+    @Test
+    void decompress_exactlyMaxSize() {
+        final byte[] bytes = new byte[1_000];
+        Arrays.fill(bytes, (byte) 'a');
+        final ByteBuffer compressed = MqttDeflatePayloadCodec.INSTANCE.compress(ByteBuffer.wrap(bytes));
+
+        assertEquals(ByteBuffer.wrap(bytes), MqttDeflatePayloadCodec.INSTANCE.decompress(compressed, 1_000));
+    }
+
+    @Test
+    void decompress_exceedingMaxSize_throws() {
+        final byte[] bytes = new byte[1_001];
+        Arrays.fill(bytes, (byte) 'a');
+        final ByteBuffer compressed = MqttDeflatePayloadCodec.INSTANCE.compress(ByteBuffer.wrap(bytes));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MqttDeflatePayloadCodec.INSTANCE.decompress(compressed, 1_000));
+    }
+
+    @Test
+    void decompress_bomb_throws() {
+        // 20 MB of zeros compress to about 20 KB
+        final byte[] bytes = new byte[20_000_000];
+        final ByteBuffer compressed = MqttDeflatePayloadCodec.INSTANCE.compress(ByteBuffer.wrap(bytes));
+        assertTrue(compressed.remaining() < 100_000);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MqttDeflatePayloadCodec.INSTANCE.decompress(compressed, 1_000_000));
+    }
+}
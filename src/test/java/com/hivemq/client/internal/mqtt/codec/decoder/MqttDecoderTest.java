@@ -0,0 +1,76 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.codec.decoder;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfigBuilder;
+import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
+import com.hivemq.client.internal.mqtt.message.connect.MqttConnectBuilder;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttVersion;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.RecordingMetricsRecorder;
+import com.hivemq.client.mqtt.mqtt5.message.Mqtt5MessageType;
+import com.hivemq.client.mqtt.mqtt5.message.ping.Mqtt5PingResp;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttDecoderTest {
+
+    @Test
+    void decode_recordsReceivedBytes() {
+        final RecordingMetricsRecorder metricsRecorder = new RecordingMetricsRecorder();
+        final MqttClientConfig clientConfig =
+                new MqttClientConfig(MqttVersion.MQTT_5_0, MqttClientIdentifierImpl.of("test"),
+                        MqttClientTransportConfigImpl.DEFAULT, MqttClientExecutorConfigImpl.DEFAULT,
+                        new MqttClientAdvancedConfigBuilder.Default().metricsRecorder(metricsRecorder).build(),
+                        MqttClientConfig.ConnectDefaults.of(null, null, null), ImmutableList.of(), ImmutableList.of());
+        final MqttDecoder decoder = new MqttDecoder(new MqttMessageDecoders() {{
+            decoders[Mqtt5MessageType.PINGRESP.getCode()] = new MqttPingRespDecoder();
+        }}, clientConfig, new MqttConnectBuilder.Default().build());
+        final EmbeddedChannel channel = new EmbeddedChannel(decoder);
+
+        final ByteBuf byteBuf = channel.alloc().buffer();
+        byteBuf.writeBytes(new byte[]{(byte) 0b1101_0000, 0, (byte) 0b1101_0000, 0});
+        // incomplete packet is not recorded until it is complete
+        byteBuf.writeByte(0b1101_0000);
+        channel.writeInbound(byteBuf);
+
+        assertTrue(channel.readInbound() instanceof Mqtt5PingResp);
+        assertTrue(channel.readInbound() instanceof Mqtt5PingResp);
+        assertNull(channel.readInbound());
+        assertEquals(Arrays.asList(2, 2), metricsRecorder.getPacketsReceived());
+
+        final ByteBuf remaining = channel.alloc().buffer();
+        remaining.writeByte(0);
+        channel.writeInbound(remaining);
+
+        assertTrue(channel.readInbound() instanceof Mqtt5PingResp);
+        assertEquals(Arrays.asList(2, 2, 2), metricsRecorder.getPacketsReceived());
+        channel.finishAndReleaseAll();
+    }
+}
@@ -37,6 +37,7 @@ import java.nio.ByteBuffer;
 import static com.hivemq.client.internal.mqtt.datatypes.MqttUserPropertiesImpl.NO_USER_PROPERTIES;
 import static com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish.DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS;
 import static com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish.DEFAULT_NO_TOPIC_ALIAS;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -126,6 +127,37 @@ class Mqtt5PublishEncoderTest extends AbstractMqtt5EncoderWithUserPropertiesTest
         encode(expected, publish, -1, false, DEFAULT_NO_TOPIC_ALIAS, true, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
     }
 
+    @Test
+    void encode_payloadBuffers() {
+        final byte[] expected = {
+                // fixed header
+                //   type, flags
+                0b0011_0000,
+                //   remaining length
+                15,
+                // variable header
+                //   topic name
+                0, 5, 't', 'o', 'p', 'i', 'c',
+                //   properties
+                2,
+                //     payload format indicator
+                0x01, 0,
+                // payload
+                1, 2, 3, 4, 5
+        };
+
+        final ByteBuffer directBuffer = ByteBuffer.allocateDirect(3);
+        directBuffer.put(new byte[]{3, 4, 5}).flip();
+        final MqttPublish publish =
+                new MqttPublish(MqttTopicImpl.of("topic"), null,
+                        new ByteBuffer[]{ByteBuffer.wrap(new byte[]{1, 2}), directBuffer}, MqttQos.AT_MOST_ONCE,
+                        false, MqttPublish.NO_MESSAGE_EXPIRY, Mqtt5PayloadFormatIndicator.UNSPECIFIED, null, null,
+                        null, NO_USER_PROPERTIES, null, null);
+
+        encode(expected, publish, -1, false, DEFAULT_NO_TOPIC_ALIAS, true, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
+        assertEquals(3, directBuffer.remaining());
+    }
+
     @Test
     void encode_retainTrue() {
         final byte[] expected = {
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler;
+
+import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttIncomingQosHandler;
+import com.hivemq.client.internal.mqtt.handler.publish.outgoing.MqttOutgoingQosHandler;
+import com.hivemq.client.internal.mqtt.handler.subscribe.MqttSubscriptionHandler;
+import com.hivemq.client.internal.mqtt.message.connect.connack.MqttConnAck;
+import com.hivemq.client.internal.mqtt.message.connect.connack.MqttConnAckRestrictions;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoop;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttSessionTest {
+
+    private final MqttSubscriptionHandler subscriptionHandler = mock(MqttSubscriptionHandler.class);
+    private final MqttIncomingQosHandler incomingQosHandler = mock(MqttIncomingQosHandler.class);
+    private final MqttOutgoingQosHandler outgoingQosHandler = mock(MqttOutgoingQosHandler.class);
+    private final MqttSession session = new MqttSession(subscriptionHandler, incomingQosHandler, outgoingQosHandler);
+    private final MqttClientConnectionConfig connectionConfig = mock(MqttClientConnectionConfig.class);
+    private final ChannelPipeline pipeline = mock(ChannelPipeline.class);
+    private final EventLoop eventLoop = mock(EventLoop.class);
+
+    @Test
+    void startPipelined_startsHandlersBeforeConnAck() {
+        assertTrue(session.canStartPipelined());
+
+        session.startPipelined(connectionConfig, pipeline, eventLoop);
+
+        verify(pipeline).addAfter(any(), eq(MqttSubscriptionHandler.NAME), eq(subscriptionHandler));
+        verify(pipeline).addAfter(any(), eq(MqttIncomingQosHandler.NAME), eq(incomingQosHandler));
+        verify(pipeline).addAfter(any(), eq(MqttOutgoingQosHandler.NAME), eq(outgoingQosHandler));
+        verify(subscriptionHandler).onSessionStartOrResume(connectionConfig, eventLoop);
+        verify(incomingQosHandler).onSessionStartOrResume(connectionConfig, eventLoop);
+        verify(outgoingQosHandler).onSessionStartOrResume(connectionConfig, eventLoop);
+        verify(outgoingQosHandler, never()).onSessionConfirmed(any());
+    }
+
+    @Test
+    void confirmPipelined_appliesConnAckToHandlers() {
+        final MqttConnAckRestrictions restrictions =
+                new MqttConnAckRestrictions(5, 1024, 0, MqttQos.AT_LEAST_ONCE, true, true, true, true);
+        final MqttConnAck connAck = mock(MqttConnAck.class);
+        when(connAck.getRestrictions()).thenReturn(restrictions);
+        final MqttClientConnectionConfig confirmedConnectionConfig = mock(MqttClientConnectionConfig.class);
+
+        session.startPipelined(connectionConfig, pipeline, eventLoop);
+        session.confirmPipelined(connAck, confirmedConnectionConfig);
+
+        verify(subscriptionHandler).onSessionConfirmed(confirmedConnectionConfig);
+        verify(incomingQosHandler).onSessionConfirmed(confirmedConnectionConfig);
+        verify(outgoingQosHandler).onSessionConfirmed(confirmedConnectionConfig);
+        assertSame(restrictions, session.getServerRestrictions());
+        assertFalse(session.canStartPipelined());
+
+        session.abortPipelined();
+        verify(outgoingQosHandler, never()).onSessionAborted();
+    }
+
+    @Test
+    void abortPipelined_rollsBackHandlers() {
+        session.startPipelined(connectionConfig, pipeline, eventLoop);
+        session.abortPipelined();
+
+        verify(subscriptionHandler).onSessionAborted();
+        verify(incomingQosHandler).onSessionAborted();
+        verify(outgoingQosHandler).onSessionAborted();
+        verify(outgoingQosHandler, never()).onSessionEnd(any());
+        assertTrue(session.canStartPipelined());
+        assertSame(MqttConnAckRestrictions.DEFAULT, session.getServerRestrictions());
+
+        session.abortPipelined();
+        verify(outgoingQosHandler, times(1)).onSessionAborted();
+    }
+
+    @Test
+    void abortPipelined_withoutPipelinedStart_doesNothing() {
+        session.abortPipelined();
+
+        verifyZeroInteractions(subscriptionHandler, incomingQosHandler, outgoingQosHandler);
+    }
+}
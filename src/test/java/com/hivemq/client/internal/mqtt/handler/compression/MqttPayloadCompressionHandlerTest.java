@@ -0,0 +1,228 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.compression;
+
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfig;
+import com.hivemq.client.internal.mqtt.advanced.compression.MqttPayloadCompressionConfigBuilder;
+import com.hivemq.client.internal.mqtt.datatypes.MqttUserPropertyImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishBuilder;
+import com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.advanced.compression.Mqtt5PayloadCompressionConfig;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PayloadFormatIndicator;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+import static com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish.DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS;
+import static com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish.DEFAULT_NO_TOPIC_ALIAS;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttPayloadCompressionHandlerTest {
+
+    private static final @NotNull MqttUserPropertyImpl MARKER =
+            MqttUserPropertyImpl.of(Mqtt5PayloadCompressionConfig.USER_PROPERTY_NAME, "deflate");
+    private static final @NotNull MqttUserPropertyImpl UTF_8_MARKER =
+            MqttUserPropertyImpl.of(Mqtt5PayloadCompressionConfig.USER_PROPERTY_NAME, "deflate;utf-8");
+
+    private final @NotNull MqttPayloadCompressionConfig compressionConfig =
+            new MqttPayloadCompressionConfigBuilder().addTopicFilter("compressed/#").minPayloadSize(100).build();
+    private final @NotNull EmbeddedChannel channel = new EmbeddedChannel(
+            new MqttPayloadCompressionHandler(compressionConfig, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT));
+
+    @AfterEach
+    void tearDown() {
+        channel.close();
+    }
+
+    @Test
+    void write_compressesMatchingPublish() {
+        final byte[] payload = repetitivePayload(1_000);
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("compressed/topic")
+                .qos(MqttQos.AT_LEAST_ONCE)
+                .payload(payload)
+                .payloadFormatIndicator(Mqtt5PayloadFormatIndicator.UTF_8)
+                .userProperties()
+                .add("key", "value")
+                .applyUserProperties()
+                .build();
+
+        channel.writeOutbound(
+                publish.createStateful(12, true, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS));
+        final MqttStatefulPublish written = channel.readOutbound();
+
+        assertEquals(12, written.getPacketIdentifier());
+        assertTrue(written.isDup());
+        final MqttPublish compressed = written.stateless();
+        assertTrue(compressed.getPayloadLength() < payload.length);
+        assertNull(compressed.getRawPayloadFormatIndicator());
+        assertEquals(Arrays.asList(MqttUserPropertyImpl.of("key", "value"), UTF_8_MARKER),
+                compressed.getUserProperties().asList());
+
+        // the compressed publish is received as the original publish including the payload format indicator
+        channel.writeInbound(
+                compressed.createStateful(3, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS));
+        final MqttStatefulPublish read = channel.readInbound();
+
+        assertEquals(3, read.getPacketIdentifier());
+        assertEquals(ByteBuffer.wrap(payload), read.stateless().getRawPayload());
+        assertEquals(Mqtt5PayloadFormatIndicator.UTF_8, read.stateless().getRawPayloadFormatIndicator());
+        assertEquals(Arrays.asList(MqttUserPropertyImpl.of("key", "value")),
+                read.stateless().getUserProperties().asList());
+    }
+
+    @Test
+    void write_withoutPayloadFormatIndicator_restoredWithout() {
+        final byte[] payload = repetitivePayload(1_000);
+        final MqttPublish publish =
+                new MqttPublishBuilder.Default().topic("compressed/topic").payload(payload).build();
+
+        channel.writeOutbound(
+                publish.createStateful(-1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS));
+        final MqttPublish compressed = ((MqttStatefulPublish) channel.readOutbound()).stateless();
+
+        assertEquals(Arrays.asList(MARKER), compressed.getUserProperties().asList());
+
+        channel.writeInbound(
+                compressed.createStateful(-1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS));
+        final MqttPublish read = ((MqttStatefulPublish) channel.readInbound()).stateless();
+
+        assertEquals(ByteBuffer.wrap(payload), read.getRawPayload());
+        assertNull(read.getRawPayloadFormatIndicator());
+        assertTrue(read.getUserProperties().asList().isEmpty());
+    }
+
+    @Test
+    void write_notMatchingTopic_notCompressed() {
+        final MqttPublish publish =
+                new MqttPublishBuilder.Default().topic("other/topic").payload(repetitivePayload(1_000)).build();
+        final MqttStatefulPublish statefulPublish =
+                publish.createStateful(-1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
+
+        channel.writeOutbound(statefulPublish);
+
+        assertSame(statefulPublish, channel.readOutbound());
+    }
+
+    @Test
+    void write_belowMinPayloadSize_notCompressed() {
+        final MqttPublish publish =
+                new MqttPublishBuilder.Default().topic("compressed/topic").payload(repetitivePayload(99)).build();
+        final MqttStatefulPublish statefulPublish =
+                publish.createStateful(-1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
+
+        channel.writeOutbound(statefulPublish);
+
+        assertSame(statefulPublish, channel.readOutbound());
+    }
+
+    @Test
+    void write_incompressible_notCompressed() {
+        final byte[] payload = new byte[1_000];
+        new Random(0).nextBytes(payload);
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("compressed/topic").payload(payload).build();
+        final MqttStatefulPublish statefulPublish =
+                publish.createStateful(-1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
+
+        channel.writeOutbound(statefulPublish);
+
+        assertSame(statefulPublish, channel.readOutbound());
+    }
+
+    @Test
+    void read_notMarked_notDecompressed() {
+        final MqttPublish publish =
+                new MqttPublishBuilder.Default().topic("compressed/topic").payload(repetitivePayload(1_000)).build();
+        final MqttStatefulPublish statefulPublish =
+                publish.createStateful(1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
+
+        channel.writeInbound(statefulPublish);
+
+        assertSame(statefulPublish, channel.readInbound());
+    }
+
+    @Test
+    void read_malformed_deliveredUnchanged() {
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(new byte[]{1, 2, 3})
+                .userProperties()
+                .add(MARKER)
+                .applyUserProperties()
+                .build();
+        final MqttStatefulPublish statefulPublish =
+                publish.createStateful(1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS);
+
+        channel.writeInbound(statefulPublish);
+
+        assertSame(statefulPublish, channel.readInbound());
+    }
+
+    @Test
+    void read_exceedingMaxDecompressedPayloadSize_deliveredCompressed() {
+        final MqttPayloadCompressionConfig compressionConfig =
+                this.compressionConfig.extend().maxDecompressedPayloadSize(999).build();
+        final MqttPayloadCompressionHandler handler =
+                new MqttPayloadCompressionHandler(compressionConfig, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT);
+        final EmbeddedChannel channel = new EmbeddedChannel(handler);
+        try {
+            assertReadDeliveredCompressed(channel, 1_000);
+        } finally {
+            channel.close();
+        }
+    }
+
+    @Test
+    void read_exceedingMaximumPacketSize_deliveredCompressed() {
+        final EmbeddedChannel channel = new EmbeddedChannel(new MqttPayloadCompressionHandler(compressionConfig, 999));
+        try {
+            assertReadDeliveredCompressed(channel, 1_000);
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void assertReadDeliveredCompressed(final @NotNull EmbeddedChannel channel, final int payloadSize) {
+        final byte[] payload = repetitivePayload(payloadSize);
+        this.channel.writeOutbound(new MqttPublishBuilder.Default().topic("compressed/topic")
+                .payload(payload)
+                .build()
+                .createStateful(-1, false, DEFAULT_NO_TOPIC_ALIAS, DEFAULT_NO_SUBSCRIPTION_IDENTIFIERS));
+        final MqttStatefulPublish compressed = this.channel.readOutbound();
+
+        channel.writeInbound(compressed);
+
+        assertSame(compressed, channel.readInbound());
+    }
+
+    private static byte @NotNull [] repetitivePayload(final int length) {
+        final byte[] payload = new byte[length];
+        for (int i = 0; i < length; i++) {
+            payload[i] = (byte) ('a' + (i % 4));
+        }
+        return payload;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttRxClient;
+import com.hivemq.client.internal.mqtt.MqttRxClientBuilder;
+import com.hivemq.client.internal.netty.NettyEventLoopProvider;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.MqttClientTransportConfig;
+import com.hivemq.client.mqtt.exceptions.ConnectionFailedException;
+import com.hivemq.client.mqtt.mqtt5.message.connect.connack.Mqtt5ConnAck;
+import io.reactivex.observers.TestObserver;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttConnAckSingleTest {
+
+    @Test
+    void connect_unsupportedUnixDomainSocket_failsWithoutReconnect() {
+        final MqttClientTransportConfigImpl transportConfig = (MqttClientTransportConfigImpl)
+                MqttClientTransportConfig.builder().unixDomainSocketPath("/tmp/mqtt.sock").build();
+        assumeFalse(NettyEventLoopProvider.of(transportConfig).supportsDomainSockets());
+
+        final AtomicInteger disconnectedCount = new AtomicInteger();
+        final MqttRxClient client = new MqttRxClientBuilder().transportConfig(transportConfig)
+                .automaticReconnectWithDefaultConfig()
+                .addDisconnectedListener(context -> disconnectedCount.incrementAndGet())
+                .buildRx();
+
+        final TestObserver<Mqtt5ConnAck> observer = client.connect().test();
+
+        observer.awaitDone(5, TimeUnit.SECONDS);
+        observer.assertError(ConnectionFailedException.class);
+        assertEquals(MqttClientState.DISCONNECTED, client.getState());
+        assertEquals(0, disconnectedCount.get());
+    }
+
+    @Test
+    void reconnect_transportRequiringDifferentEventLoop_failsWithoutReconnect() {
+        // nothing listens on port 1, so the first connect fails and the client tries to reconnect
+        final MqttClientTransportConfigImpl transportConfig = (MqttClientTransportConfigImpl)
+                MqttClientTransportConfig.builder().serverHost("localhost").serverPort(1).build();
+        final MqttClientTransportConfigImpl nativeTransportConfig = (MqttClientTransportConfigImpl)
+                MqttClientTransportConfig.builder()
+                        .serverHost("localhost")
+                        .serverPort(1)
+                        .socketConfig()
+                        .tcpQuickAck(true)
+                        .applySocketConfig()
+                        .build();
+        assumeTrue(NettyEventLoopProvider.of(transportConfig) != NettyEventLoopProvider.of(nativeTransportConfig));
+
+        final AtomicInteger disconnectedCount = new AtomicInteger();
+        final MqttRxClient client = new MqttRxClientBuilder().transportConfig(transportConfig)
+                .addDisconnectedListener(context -> {
+                    disconnectedCount.incrementAndGet();
+                    context.getReconnector()
+                            .reconnect(true)
+                            .delay(0, TimeUnit.MILLISECONDS)
+                            .transportConfig(nativeTransportConfig);
+                })
+                .buildRx();
+
+        final TestObserver<Mqtt5ConnAck> observer = client.connect().test();
+
+        observer.awaitDone(5, TimeUnit.SECONDS);
+        observer.assertError(ConnectionFailedException.class);
+        assertEquals(MqttClientState.DISCONNECTED, client.getState());
+        assertEquals(1, disconnectedCount.get());
+    }
+}
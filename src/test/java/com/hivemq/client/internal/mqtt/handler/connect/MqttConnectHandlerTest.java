@@ -0,0 +1,107 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import com.hivemq.client.internal.mqtt.MqttRxClient;
+import com.hivemq.client.internal.mqtt.MqttRxClientBuilder;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.RecordingMetricsRecorder;
+import com.hivemq.client.mqtt.mqtt5.message.connect.connack.Mqtt5ConnAck;
+import io.reactivex.observers.TestObserver;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttConnectHandlerTest {
+
+    private static final byte @NotNull [] CONNACK = {0x20, 0x03, 0x00, 0x00, 0x00};
+
+    @Test
+    void readConnAck_afterReconnect_recordsReconnect() throws Exception {
+        final RecordingMetricsRecorder metricsRecorder = new RecordingMetricsRecorder();
+        try (final ServerSocket serverSocket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            final MqttRxClient client = new MqttRxClientBuilder().identifier("test")
+                    .serverHost(InetAddress.getLoopbackAddress())
+                    .serverPort(serverSocket.getLocalPort())
+                    .automaticReconnect()
+                    .initialDelay(10, TimeUnit.MILLISECONDS)
+                    .maxDelay(10, TimeUnit.MILLISECONDS)
+                    .applyAutomaticReconnect()
+                    .advancedConfig()
+                    .metricsRecorder(metricsRecorder)
+                    .applyAdvancedConfig()
+                    .buildRx();
+
+            final TestObserver<Mqtt5ConnAck> observer = client.connect().test();
+            // the first connection is lost after it was established
+            try (final Socket socket = serverSocket.accept()) {
+                readConnect(socket);
+                socket.getOutputStream().write(CONNACK);
+                observer.await(5, TimeUnit.SECONDS);
+                observer.assertComplete();
+            }
+            // the first reconnect attempt fails
+            try (final Socket socket = serverSocket.accept()) {
+                readConnect(socket);
+            }
+            // the second reconnect attempt succeeds
+            try (final Socket socket = serverSocket.accept()) {
+                readConnect(socket);
+                socket.getOutputStream().write(CONNACK);
+
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (metricsRecorder.getReconnectAttempts().isEmpty() && (System.nanoTime() < deadline)) {
+                    Thread.sleep(10);
+                }
+                // the initial connect is not recorded, only the reconnect after one failed attempt
+                assertEquals(Collections.singletonList(1), metricsRecorder.getReconnectAttempts());
+                assertTrue(metricsRecorder.getReconnectDurationsNanos().get(0) > 0);
+                assertEquals(MqttClientState.CONNECTED, client.getState());
+                assertEquals(Arrays.asList(CONNACK.length, CONNACK.length), metricsRecorder.getPacketsReceived());
+                client.disconnect().blockingAwait(5, TimeUnit.SECONDS);
+            }
+        }
+    }
+
+    private static void readConnect(final @NotNull Socket socket) throws IOException {
+        final DataInputStream in = new DataInputStream(socket.getInputStream());
+        assertEquals(0x10, in.readUnsignedByte());
+        int remainingLength = 0;
+        int shift = 0;
+        int encodedByte;
+        do {
+            encodedByte = in.readUnsignedByte();
+            remainingLength |= (encodedByte & 0x7F) << shift;
+            shift += 7;
+        } while ((encodedByte & 0x80) != 0);
+        in.readFully(new byte[remainingLength]);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttEndpointHealthTest {
+
+    private static final InetSocketAddress ADDRESS_1 = InetSocketAddress.createUnresolved("host1", 1883);
+    private static final InetSocketAddress ADDRESS_2 = InetSocketAddress.createUnresolved("host2", 1883);
+    private static final InetSocketAddress ADDRESS_3 = InetSocketAddress.createUnresolved("host3", 1883);
+
+    @Test
+    void order_noScores_keepsConfiguredOrder() {
+        final MqttEndpointHealth health = new MqttEndpointHealth();
+        final List<InetSocketAddress> addresses = Arrays.asList(ADDRESS_1, ADDRESS_2, ADDRESS_3);
+        assertEquals(addresses, health.order(addresses, Function.identity()));
+    }
+
+    @Test
+    void order_failedLast() {
+        final MqttEndpointHealth health = new MqttEndpointHealth();
+        health.onFailure(ADDRESS_1);
+        assertEquals(Arrays.asList(ADDRESS_2, ADDRESS_3, ADDRESS_1),
+                health.order(Arrays.asList(ADDRESS_1, ADDRESS_2, ADDRESS_3), Function.identity()));
+    }
+
+    @Test
+    void order_successfulFirst_fasterFirst() {
+        final MqttEndpointHealth health = new MqttEndpointHealth();
+        health.onSuccess(ADDRESS_2, 20_000_000);
+        health.onSuccess(ADDRESS_3, 10_000_000);
+        assertEquals(Arrays.asList(ADDRESS_3, ADDRESS_2, ADDRESS_1),
+                health.order(Arrays.asList(ADDRESS_1, ADDRESS_2, ADDRESS_3), Function.identity()));
+    }
+
+    @Test
+    void onSuccess_resetsFailures() {
+        final MqttEndpointHealth health = new MqttEndpointHealth();
+        health.onFailure(ADDRESS_1);
+        health.onFailure(ADDRESS_1);
+        assertEquals(2, health.consecutiveFailures(ADDRESS_1));
+        health.onSuccess(ADDRESS_1, 10_000_000);
+        assertEquals(0, health.consecutiveFailures(ADDRESS_1));
+        assertEquals(10_000_000, health.connectNanos(ADDRESS_1));
+    }
+
+    @Test
+    void onSuccess_averagesConnectTime() {
+        final MqttEndpointHealth health = new MqttEndpointHealth();
+        health.onSuccess(ADDRESS_1, 10_000_000);
+        health.onSuccess(ADDRESS_1, 20_000_000);
+        assertEquals(13_000_000, health.connectNanos(ADDRESS_1));
+    }
+}
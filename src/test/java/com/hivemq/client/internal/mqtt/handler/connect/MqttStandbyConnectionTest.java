@@ -0,0 +1,196 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.connect;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
+import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.MqttClientTransportConfig;
+import com.hivemq.client.mqtt.MqttVersion;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttStandbyConnectionTest {
+
+    private final @NotNull NioEventLoopGroup serverEventLoopGroup = new NioEventLoopGroup(1);
+    private final @NotNull AtomicInteger accepted = new AtomicInteger();
+    private final @NotNull AtomicInteger open = new AtomicInteger();
+    private final @NotNull AtomicInteger closedByServer = new AtomicInteger();
+    private @Nullable MqttClientConfig clientConfig;
+
+    @AfterEach
+    void tearDown() {
+        if (clientConfig != null) {
+            clientConfig.releaseEventLoop();
+        }
+        serverEventLoopGroup.shutdownGracefully();
+    }
+
+    @Test
+    void promote_readyStandby_swapsServerAddress() throws Exception {
+        final InetSocketAddress serverAddress = bindServer(Long.MAX_VALUE);
+        final InetSocketAddress standbyServerAddress = bindServer(Long.MAX_VALUE);
+        final MqttClientConfig clientConfig = createClientConfig(serverAddress, standbyServerAddress);
+        final EventLoop eventLoop = clientConfig.acquireEventLoop();
+        final MqttStandbyConnection standbyConnection = new MqttStandbyConnection(clientConfig);
+
+        run(eventLoop, () -> standbyConnection.open(eventLoop));
+        awaitReady(eventLoop, standbyConnection, clientConfig);
+        assertEquals(1, accepted.get());
+
+        final Channel channel = call(eventLoop, () -> {
+            standbyConnection.onConnectionLost();
+            return standbyConnection.promote();
+        });
+        assertNotNull(channel);
+        assertTrue(channel.isActive());
+        assertEquals(standbyServerAddress.getPort(), ((InetSocketAddress) channel.remoteAddress()).getPort());
+        assertEquals(standbyServerAddress, clientConfig.getCurrentServerAddress());
+        final long failoverNanos = call(eventLoop, standbyConnection::getFailoverNanos);
+        assertTrue(failoverNanos >= 0);
+        final long failoverNanosAgain = call(eventLoop, standbyConnection::getFailoverNanos);
+        assertEquals(-1, failoverNanosAgain);
+
+        assertNull(call(eventLoop, standbyConnection::promote));
+        channel.close().sync();
+    }
+
+    @Test
+    void promote_notReady_returnsNull() throws Exception {
+        final InetSocketAddress serverAddress = bindServer(Long.MAX_VALUE);
+        final InetSocketAddress standbyServerAddress = bindServer(Long.MAX_VALUE);
+        final MqttClientConfig clientConfig = createClientConfig(serverAddress, standbyServerAddress);
+        final EventLoop eventLoop = clientConfig.acquireEventLoop();
+        final MqttStandbyConnection standbyConnection = new MqttStandbyConnection(clientConfig);
+
+        run(eventLoop, standbyConnection::onConnectionLost);
+        assertNull(call(eventLoop, standbyConnection::promote));
+        final long failoverNanos = call(eventLoop, standbyConnection::getFailoverNanos);
+        assertEquals(-1, failoverNanos);
+        assertEquals(serverAddress, clientConfig.getCurrentServerAddress());
+    }
+
+    @Test
+    void open_renewsBeforeServerConnectTimeout() throws Exception {
+        final InetSocketAddress serverAddress = bindServer(Long.MAX_VALUE);
+        final InetSocketAddress standbyServerAddress = bindServer(600);
+        final MqttClientConfig clientConfig = createClientConfig(serverAddress, standbyServerAddress);
+        final EventLoop eventLoop = clientConfig.acquireEventLoop();
+        final MqttStandbyConnection standbyConnection = new MqttStandbyConnection(clientConfig, 200);
+
+        run(eventLoop, () -> standbyConnection.open(eventLoop));
+        awaitReady(eventLoop, standbyConnection, clientConfig);
+
+        final long endNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(1_500);
+        while (System.nanoTime() < endNanos) {
+            assertTrue(call(eventLoop, () -> standbyConnection.isReady(clientConfig.getCurrentTransportConfig())));
+            assertTrue(open.get() <= 2);
+            Thread.sleep(20);
+        }
+        assertTrue(accepted.get() >= 4);
+        assertEquals(0, closedByServer.get());
+
+        run(eventLoop, standbyConnection::close);
+    }
+
+    private @NotNull InetSocketAddress bindServer(final long connectTimeoutMs) throws InterruptedException {
+        final Channel serverChannel = new ServerBootstrap().group(serverEventLoopGroup)
+                .channel(NioServerSocketChannel.class)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(final @NotNull Channel channel) {
+                        accepted.incrementAndGet();
+                        open.incrementAndGet();
+                        channel.closeFuture().addListener(f -> open.decrementAndGet());
+                        if (connectTimeoutMs != Long.MAX_VALUE) { // like a server that did not receive a CONNECT
+                            channel.eventLoop().schedule(() -> {
+                                if (channel.isActive()) {
+                                    closedByServer.incrementAndGet();
+                                    channel.close();
+                                }
+                            }, connectTimeoutMs, TimeUnit.MILLISECONDS);
+                        }
+                    }
+                })
+                .bind("127.0.0.1", 0)
+                .sync()
+                .channel();
+        return (InetSocketAddress) serverChannel.localAddress();
+    }
+
+    private @NotNull MqttClientConfig createClientConfig(
+            final @NotNull InetSocketAddress serverAddress, final @NotNull InetSocketAddress standbyServerAddress) {
+
+        final MqttClientTransportConfigImpl transportConfig = (MqttClientTransportConfigImpl) MqttClientTransportConfig
+                .builder()
+                .serverAddress(serverAddress)
+                .standbyServerAddress(standbyServerAddress)
+                .build();
+        final MqttClientConfig clientConfig =
+                new MqttClientConfig(MqttVersion.MQTT_5_0, MqttClientIdentifierImpl.of("test"), transportConfig,
+                        MqttClientExecutorConfigImpl.DEFAULT, MqttClientAdvancedConfig.DEFAULT,
+                        MqttClientConfig.ConnectDefaults.of(null, null, null), ImmutableList.of(),
+                        ImmutableList.of());
+        clientConfig.getRawState().set(MqttClientState.CONNECTED);
+        this.clientConfig = clientConfig;
+        return clientConfig;
+    }
+
+    private static void awaitReady(
+            final @NotNull EventLoop eventLoop,
+            final @NotNull MqttStandbyConnection standbyConnection,
+            final @NotNull MqttClientConfig clientConfig) throws Exception {
+
+        final long endNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!call(eventLoop, () -> standbyConnection.isReady(clientConfig.getCurrentTransportConfig()))) {
+            assertTrue(System.nanoTime() < endNanos, "standby connection did not get ready");
+            Thread.sleep(10);
+        }
+    }
+
+    private static void run(final @NotNull EventLoop eventLoop, final @NotNull Runnable runnable) throws Exception {
+        eventLoop.submit(runnable).get(5, TimeUnit.SECONDS);
+    }
+
+    private static <T> T call(final @NotNull EventLoop eventLoop, final @NotNull Callable<T> callable)
+            throws Exception {
+
+        return eventLoop.submit(callable).get(5, TimeUnit.SECONDS);
+    }
+}
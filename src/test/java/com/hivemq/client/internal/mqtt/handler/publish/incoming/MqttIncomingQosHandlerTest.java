@@ -0,0 +1,123 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.incoming;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfigBuilder;
+import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish;
+import com.hivemq.client.internal.mqtt.message.publish.puback.MqttPubAck;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.MqttVersion;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.RecordingMetricsRecorder;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.reactivex.subscribers.TestSubscriber;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttIncomingQosHandlerTest {
+
+    private final RecordingMetricsRecorder metricsRecorder = new RecordingMetricsRecorder();
+    private final MqttClientConfig clientConfig = mock(MqttClientConfig.class);
+    private final MqttIncomingPublishFlows incomingPublishFlows = new MqttIncomingPublishFlows();
+    private final EmbeddedChannel channel = new EmbeddedChannel();
+    private MqttIncomingQosHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        when(clientConfig.getAdvancedConfig()).thenReturn(
+                new MqttClientAdvancedConfigBuilder.Default().metricsRecorder(metricsRecorder).build());
+        when(clientConfig.getMqttVersion()).thenReturn(MqttVersion.MQTT_5_0);
+        when(clientConfig.acquireEventLoop()).thenReturn(channel.eventLoop());
+        handler = new MqttIncomingQosHandler(clientConfig, incomingPublishFlows);
+        channel.pipeline().addLast(handler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    void readPublish_withoutSubscriber_recordsDroppedPublishes() {
+        handler.onSessionStartOrResume(createConnectionConfig(10), channel.eventLoop());
+
+        channel.writeInbound(createPublish(MqttQos.AT_MOST_ONCE, MqttStatefulPublish.NO_PACKET_IDENTIFIER_QOS_0));
+        channel.writeInbound(createPublish(MqttQos.AT_LEAST_ONCE, 1));
+
+        assertEquals(Arrays.asList(MqttQos.AT_MOST_ONCE, MqttQos.AT_LEAST_ONCE), metricsRecorder.getDroppedQos());
+        assertEquals(Arrays.asList("AT_MOST_ONCE:0", "AT_LEAST_ONCE:0"), metricsRecorder.getIncomingPublishQueue());
+        assertTrue(channel.readOutbound() instanceof MqttPubAck);
+    }
+
+    @Test
+    void readPublish_withoutDemand_recordsQueueSizes() {
+        handler.onSessionStartOrResume(createConnectionConfig(1), channel.eventLoop());
+        final TestSubscriber<Mqtt5Publish> subscriber = new TestSubscriber<>(0);
+        final MqttGlobalIncomingPublishFlow flow =
+                new MqttGlobalIncomingPublishFlow(subscriber, clientConfig, handler, MqttGlobalPublishFilter.ALL,
+                        false);
+        subscriber.onSubscribe(flow);
+        assertTrue(flow.init());
+        incomingPublishFlows.subscribeGlobal(flow);
+
+        channel.writeInbound(createPublish(MqttQos.AT_MOST_ONCE, MqttStatefulPublish.NO_PACKET_IDENTIFIER_QOS_0));
+        assertEquals(Collections.singletonList("AT_MOST_ONCE:1"), metricsRecorder.getIncomingPublishQueue());
+        assertTrue(metricsRecorder.getDroppedQos().isEmpty());
+
+        // the QoS 0 queue is limited by the receive maximum, so the oldest QoS 0 publish is dropped
+        channel.writeInbound(createPublish(MqttQos.AT_MOST_ONCE, MqttStatefulPublish.NO_PACKET_IDENTIFIER_QOS_0));
+        assertEquals(Arrays.asList("AT_MOST_ONCE:1", "AT_MOST_ONCE:1"), metricsRecorder.getIncomingPublishQueue());
+        assertEquals(Collections.singletonList(MqttQos.AT_MOST_ONCE), metricsRecorder.getDroppedQos());
+
+        channel.writeInbound(createPublish(MqttQos.AT_LEAST_ONCE, 1));
+        assertEquals(Arrays.asList("AT_MOST_ONCE:1", "AT_MOST_ONCE:1", "AT_LEAST_ONCE:1"),
+                metricsRecorder.getIncomingPublishQueue());
+        subscriber.assertEmpty();
+    }
+
+    private static @NotNull MqttStatefulPublish createPublish(final @NotNull MqttQos qos, final int packetIdentifier) {
+        final MqttPublish publish = (MqttPublish) Mqtt5Publish.builder().topic("test").qos(qos).build();
+        return publish.createStateful(packetIdentifier, false, null);
+    }
+
+    private @NotNull MqttClientConnectionConfig createConnectionConfig(final int receiveMaximum) {
+        return new MqttClientConnectionConfig(MqttClientTransportConfigImpl.DEFAULT, 10, true, true, 0, false, false,
+                null, receiveMaximum, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, true, false, 10,
+                MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, MqttQos.EXACTLY_ONCE, true, true, true, true,
+                channel);
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult.MqttQos2IntermediateResult;
+import com.hivemq.client.internal.mqtt.message.publish.pubrec.MqttPubRec;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.exceptions.MqttClientStateException;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.netty.channel.EventLoop;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttAckCallbackTest {
+
+    private final MqttClientConfig clientConfig = mock(MqttClientConfig.class);
+    private final MqttOutgoingQosHandler outgoingQosHandler = mock(MqttOutgoingQosHandler.class);
+    private final MqttPublishFlowables publishFlowables = mock(MqttPublishFlowables.class);
+    private final MqttPublish publish = (MqttPublish) Mqtt5Publish.builder().topic("test").build();
+    private final AtomicReference<Mqtt5PublishResult> result = new AtomicReference<>();
+    private final AtomicReference<Throwable> error = new AtomicReference<>();
+    private final AtomicInteger invocations = new AtomicInteger();
+    private final BiConsumer<Mqtt5PublishResult, Throwable> callback = (result, error) -> {
+        invocations.incrementAndGet();
+        this.result.set(result);
+        this.error.set(error);
+    };
+
+    @BeforeEach
+    void setUp() {
+        final ClientComponent clientComponent = mock(ClientComponent.class);
+        when(clientComponent.outgoingQosHandler()).thenReturn(outgoingQosHandler);
+        when(outgoingQosHandler.getPublishFlowables()).thenReturn(publishFlowables);
+        when(clientConfig.getClientComponent()).thenReturn(clientComponent);
+        when(clientConfig.acquireEventLoop()).thenReturn(mock(EventLoop.class));
+        when(clientConfig.getState()).thenReturn(MqttClientState.CONNECTED);
+        when(clientConfig.getDispatchScheduler()).thenReturn(Schedulers.trampoline());
+    }
+
+    @Test
+    void publish_success_invokesCallbackOnExecutor() {
+        final List<Runnable> tasks = new ArrayList<>();
+        MqttAckCallback.publish(clientConfig, publish, callback, tasks::add);
+
+        final MqttAckFlow flow = sentFlow();
+        final MqttPublishResult publishResult = new MqttPublishResult(publish, null);
+        flow.onNext(publishResult);
+
+        verify(outgoingQosHandler).request(1);
+        assertEquals(1, tasks.size());
+        assertNull(result.get());
+        tasks.get(0).run();
+        assertEquals(1, invocations.get());
+        assertSame(publishResult, result.get());
+        assertNull(error.get());
+    }
+
+    @Test
+    void publish_success_withoutExecutor_invokesCallbackOnDispatchScheduler() {
+        MqttAckCallback.publish(clientConfig, publish, callback, null);
+
+        final MqttPublishResult publishResult = new MqttPublishResult(publish, null);
+        sentFlow().onNext(publishResult);
+
+        verify(clientConfig).getDispatchScheduler();
+        verify(outgoingQosHandler).request(1);
+        assertSame(publishResult, result.get());
+    }
+
+    @Test
+    void publish_error_invokesCallbackWithError() {
+        MqttAckCallback.publish(clientConfig, publish, callback, Runnable::run);
+
+        final Exception exception = new Exception("test");
+        sentFlow().onNext(new MqttPublishResult(publish, exception));
+
+        verify(outgoingQosHandler).request(1);
+        assertEquals(1, invocations.get());
+        assertNull(result.get());
+        assertSame(exception, error.get());
+    }
+
+    @Test
+    void publish_qos2_invokesCallbackWhenAcknowledged() {
+        MqttAckCallback.publish(clientConfig, publish, callback, Runnable::run);
+
+        final MqttAckFlow flow = sentFlow();
+        final MqttPublishResult publishResult =
+                new MqttQos2IntermediateResult(publish, mock(MqttPubRec.class), () -> false);
+        flow.onNext(publishResult);
+        assertNull(result.get());
+        verify(outgoingQosHandler, never()).request(anyLong());
+
+        flow.acknowledged(1);
+        verify(outgoingQosHandler).request(1);
+        assertSame(publishResult, result.get());
+    }
+
+    @Test
+    void publish_rejectedExecution_releasesCreditAndInvokesCallbackWithError() {
+        final RejectedExecutionException exception = new RejectedExecutionException("test");
+        MqttAckCallback.publish(clientConfig, publish, callback, task -> {
+            throw exception;
+        });
+
+        sentFlow().onNext(new MqttPublishResult(publish, null));
+
+        verify(outgoingQosHandler).request(1);
+        assertEquals(1, invocations.get());
+        assertNull(result.get());
+        assertSame(exception, error.get());
+    }
+
+    @Test
+    void publish_callbackThrows_releasesCredit() {
+        MqttAckCallback.publish(clientConfig, publish, (result, error) -> {
+            throw new RuntimeException("test");
+        }, Runnable::run);
+
+        sentFlow().onNext(new MqttPublishResult(publish, null));
+
+        verify(outgoingQosHandler).request(1);
+    }
+
+    @Test
+    void publish_notConnected_invokesCallbackWithError() {
+        when(clientConfig.getState()).thenReturn(MqttClientState.DISCONNECTED);
+
+        MqttAckCallback.publish(clientConfig, publish, callback, Runnable::run);
+
+        verify(publishFlowables, never()).add(any());
+        assertNull(result.get());
+        assertTrue(error.get() instanceof MqttClientStateException);
+    }
+
+    @SuppressWarnings("unchecked")
+    private MqttAckFlow sentFlow() {
+        final ArgumentCaptor<Flowable<MqttPublishWithFlow>> captor = ArgumentCaptor.forClass(Flowable.class);
+        verify(publishFlowables).add(captor.capture());
+        final MqttPublishWithFlow publishWithFlow = captor.getValue().blockingSingle();
+        assertSame(publish, publishWithFlow.getPublish());
+        return publishWithFlow.getAckFlow();
+    }
+}
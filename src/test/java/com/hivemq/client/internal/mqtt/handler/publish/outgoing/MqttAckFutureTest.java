@@ -0,0 +1,142 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.ioc.ClientComponent;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult.MqttQos2IntermediateResult;
+import com.hivemq.client.internal.mqtt.message.publish.pubrec.MqttPubRec;
+import com.hivemq.client.mqtt.MqttClientState;
+import com.hivemq.client.mqtt.exceptions.MqttClientStateException;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5PublishResult;
+import io.netty.channel.EventLoop;
+import io.reactivex.Flowable;
+import io.reactivex.schedulers.Schedulers;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttAckFutureTest {
+
+    private final MqttClientConfig clientConfig = mock(MqttClientConfig.class);
+    private final MqttOutgoingQosHandler outgoingQosHandler = mock(MqttOutgoingQosHandler.class);
+    private final MqttPublishFlowables publishFlowables = mock(MqttPublishFlowables.class);
+    private final MqttPublish publish = (MqttPublish) Mqtt5Publish.builder().topic("test").build();
+
+    @BeforeEach
+    void setUp() {
+        final ClientComponent clientComponent = mock(ClientComponent.class);
+        when(clientComponent.outgoingQosHandler()).thenReturn(outgoingQosHandler);
+        when(outgoingQosHandler.getPublishFlowables()).thenReturn(publishFlowables);
+        when(clientConfig.getClientComponent()).thenReturn(clientComponent);
+        when(clientConfig.acquireEventLoop()).thenReturn(mock(EventLoop.class));
+        when(clientConfig.getState()).thenReturn(MqttClientState.CONNECTED);
+        when(clientConfig.getDispatchScheduler()).thenReturn(Schedulers.trampoline());
+    }
+
+    @Test
+    void publish_success_completesFuture() throws Exception {
+        final CompletableFuture<Mqtt5PublishResult> future = MqttAckFuture.publish(clientConfig, publish);
+        assertFalse(future.isDone());
+
+        final MqttPublishResult result = new MqttPublishResult(publish, null);
+        sentFlow().onNext(result);
+
+        verify(outgoingQosHandler).request(1);
+        assertSame(result, future.get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void publish_error_completesFutureExceptionally() {
+        final CompletableFuture<Mqtt5PublishResult> future = MqttAckFuture.publish(clientConfig, publish);
+
+        final Exception exception = new Exception("test");
+        sentFlow().onNext(new MqttPublishResult(publish, exception));
+
+        verify(outgoingQosHandler).request(1);
+        final ExecutionException executionException =
+                assertThrows(ExecutionException.class, () -> future.get(0, TimeUnit.SECONDS));
+        assertSame(exception, executionException.getCause());
+    }
+
+    @Test
+    void publish_qos2_completesFutureWhenAcknowledged() throws Exception {
+        final CompletableFuture<Mqtt5PublishResult> future = MqttAckFuture.publish(clientConfig, publish);
+
+        final MqttAckFlow flow = sentFlow();
+        final MqttPublishResult result = new MqttQos2IntermediateResult(publish, mock(MqttPubRec.class), () -> false);
+        flow.onNext(result);
+        assertFalse(future.isDone());
+        verify(outgoingQosHandler, never()).request(anyLong());
+
+        flow.acknowledged(1);
+        verify(outgoingQosHandler).request(1);
+        assertSame(result, future.get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void publish_cancel_releasesCreditWithoutCompletingFuture() {
+        final CompletableFuture<Mqtt5PublishResult> future = MqttAckFuture.publish(clientConfig, publish);
+        final MqttAckFlow flow = sentFlow();
+
+        assertTrue(future.cancel(false));
+        assertTrue(flow.isCancelled());
+
+        flow.onNext(new MqttPublishResult(publish, null));
+        verify(outgoingQosHandler).request(1);
+        assertTrue(future.isCancelled());
+        assertThrows(CancellationException.class, () -> future.get(0, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void publish_notConnected_completesFutureExceptionally() {
+        when(clientConfig.getState()).thenReturn(MqttClientState.DISCONNECTED);
+
+        final CompletableFuture<Mqtt5PublishResult> future = MqttAckFuture.publish(clientConfig, publish);
+
+        verify(publishFlowables, never()).add(any());
+        final ExecutionException executionException =
+                assertThrows(ExecutionException.class, () -> future.get(0, TimeUnit.SECONDS));
+        assertTrue(executionException.getCause() instanceof MqttClientStateException);
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull MqttAckFlow sentFlow() {
+        final ArgumentCaptor<Flowable<MqttPublishWithFlow>> captor = ArgumentCaptor.forClass(Flowable.class);
+        verify(publishFlowables).add(captor.capture());
+        final MqttPublishWithFlow publishWithFlow = captor.getValue().blockingSingle();
+        assertSame(publish, publishWithFlow.getPublish());
+        return publishWithFlow.getAckFlow();
+    }
+}
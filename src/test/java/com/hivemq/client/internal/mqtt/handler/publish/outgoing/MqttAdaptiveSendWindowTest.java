@@ -0,0 +1,150 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfig;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfigBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttAdaptiveSendWindowTest {
+
+    private static final long TARGET = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long BELOW_TARGET = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long ABOVE_TARGET = TimeUnit.MILLISECONDS.toNanos(200);
+
+    private static @NotNull MqttAdaptiveSendWindow create(final int minWindow) {
+        final MqttAdaptiveSendWindowConfig config = new MqttAdaptiveSendWindowConfigBuilder().minWindow(minWindow)
+                .targetLatency(TARGET, TimeUnit.NANOSECONDS)
+                .build();
+        return new MqttAdaptiveSendWindow(config);
+    }
+
+    @Test
+    void reset_startsAtMinWindow() {
+        final MqttAdaptiveSendWindow sendWindow = create(4);
+        sendWindow.reset(100, 0);
+        assertEquals(4, sendWindow.getWindow());
+        assertEquals(100, sendWindow.getSendMaximum());
+
+        sendWindow.reset(2, 0);
+        assertEquals(2, sendWindow.getWindow());
+    }
+
+    @Test
+    void slowStart_increasesPerAcknowledgement_untilSendMaximum() {
+        final MqttAdaptiveSendWindow sendWindow = create(1);
+        sendWindow.reset(10, 0);
+        long now = 1;
+        for (int i = 0; i < 20; i++) {
+            sendWindow.onAcknowledged(now, now + BELOW_TARGET);
+            now += BELOW_TARGET;
+        }
+        assertEquals(10, sendWindow.getWindow());
+    }
+
+    @Test
+    void aboveTarget_halvesOncePerRoundTrip() {
+        final MqttAdaptiveSendWindow sendWindow = create(1);
+        sendWindow.reset(100, 0);
+        for (int i = 0; i < 31; i++) {
+            sendWindow.onAcknowledged(1, 1 + BELOW_TARGET);
+        }
+        assertEquals(32, sendWindow.getWindow());
+
+        final long sent = 10;
+        final long acked = sent + ABOVE_TARGET;
+        sendWindow.onAcknowledged(sent, acked);
+        assertEquals(16, sendWindow.getWindow());
+        // sent before the decrease, so the decrease is not reflected yet
+        sendWindow.onAcknowledged(sent + 1, acked + 1);
+        assertEquals(16, sendWindow.getWindow());
+        // sent after the decrease
+        sendWindow.onAcknowledged(acked + 1, acked + 1 + ABOVE_TARGET);
+        assertEquals(8, sendWindow.getWindow());
+    }
+
+    @Test
+    void aboveTarget_notBelowMinWindow() {
+        final MqttAdaptiveSendWindow sendWindow = create(3);
+        sendWindow.reset(100, 0);
+        long now = 1;
+        for (int i = 0; i < 5; i++) {
+            sendWindow.onAcknowledged(now, now + ABOVE_TARGET);
+            now += ABOVE_TARGET + 1;
+        }
+        assertEquals(3, sendWindow.getWindow());
+    }
+
+    @Test
+    void congestionAvoidance_increasesPerWindow() {
+        final MqttAdaptiveSendWindow sendWindow = create(1);
+        sendWindow.reset(100, 0);
+        for (int i = 0; i < 7; i++) {
+            sendWindow.onAcknowledged(1, 1 + BELOW_TARGET);
+        }
+        assertEquals(8, sendWindow.getWindow());
+        sendWindow.onAcknowledged(10, 10 + ABOVE_TARGET);
+        assertEquals(4, sendWindow.getWindow());
+
+        for (int i = 0; i < 3; i++) {
+            sendWindow.onAcknowledged(1, 1 + BELOW_TARGET);
+        }
+        assertEquals(4, sendWindow.getWindow());
+        sendWindow.onAcknowledged(1, 1 + BELOW_TARGET);
+        assertEquals(5, sendWindow.getWindow());
+    }
+
+    @Test
+    void getRoundTripTime_percentiles() {
+        final MqttAdaptiveSendWindow sendWindow = create(1);
+        sendWindow.reset(1000, 0);
+        assertEquals(0, sendWindow.getRoundTripTime(50, TimeUnit.MILLISECONDS));
+
+        for (int i = 1; i <= 100; i++) {
+            sendWindow.onAcknowledged(0, TimeUnit.MILLISECONDS.toNanos(i));
+        }
+        assertEquals(100, sendWindow.getRoundTripTimeSampleCount());
+        assertEquals(1, sendWindow.getRoundTripTime(0, TimeUnit.MILLISECONDS));
+        assertEquals(50, sendWindow.getRoundTripTime(50, TimeUnit.MILLISECONDS));
+        assertEquals(99, sendWindow.getRoundTripTime(99, TimeUnit.MILLISECONDS));
+        assertEquals(100, sendWindow.getRoundTripTime(100, TimeUnit.MILLISECONDS));
+        assertThrows(IllegalArgumentException.class, () -> sendWindow.getRoundTripTime(101, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void getRoundTripTime_onlyMostRecentSamples() {
+        final MqttAdaptiveSendWindow sendWindow = create(1);
+        sendWindow.reset(1000, 0);
+        for (int i = 0; i < 1000; i++) {
+            sendWindow.onAcknowledged(0, TimeUnit.SECONDS.toNanos(10));
+        }
+        for (int i = 0; i < 1000; i++) {
+            sendWindow.onAcknowledged(0, TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        assertEquals(2000, sendWindow.getRoundTripTimeSampleCount());
+        assertEquals(1, sendWindow.getRoundTripTime(100, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.publish.outgoing;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfigBuilder;
+import com.hivemq.client.internal.mqtt.advanced.flowcontrol.MqttAdaptiveSendWindowConfigBuilder;
+import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttUserPropertiesImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublish;
+import com.hivemq.client.internal.mqtt.message.publish.MqttPublishResult;
+import com.hivemq.client.internal.mqtt.message.publish.MqttStatefulPublish;
+import com.hivemq.client.internal.mqtt.message.publish.puback.MqttPubAck;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttVersion;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.advanced.metrics.RecordingMetricsRecorder;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.publish.puback.Mqtt5PubAckReasonCode;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttOutgoingQosHandlerTest {
+
+    @Test
+    void onSessionConfirmed_reconcilesProvisionalSendMaximum() {
+        final MqttClientAdvancedConfig advancedConfig = new MqttClientAdvancedConfigBuilder.Default()
+                .adaptiveSendWindowConfig(new MqttAdaptiveSendWindowConfigBuilder().minWindow(8).build())
+                .build();
+        final MqttClientConfig clientConfig =
+                new MqttClientConfig(MqttVersion.MQTT_5_0, MqttClientIdentifierImpl.of("test"),
+                        MqttClientTransportConfigImpl.DEFAULT, MqttClientExecutorConfigImpl.DEFAULT, advancedConfig,
+                        MqttClientConfig.ConnectDefaults.of(null, null, null), ImmutableList.of(), ImmutableList.of());
+        final MqttOutgoingQosHandler handler = new MqttOutgoingQosHandler(clientConfig);
+        final EmbeddedChannel channel = new EmbeddedChannel(handler);
+        final MqttAdaptiveSendWindow sendWindow = handler.getSendWindow();
+        assertNotNull(sendWindow);
+
+        handler.onSessionStartOrResume(createConnectionConfig(100, channel), channel.eventLoop());
+        assertEquals(100, sendWindow.getSendMaximum());
+        assertEquals(8, sendWindow.getWindow());
+
+        handler.onSessionConfirmed(createConnectionConfig(5, channel));
+        assertEquals(5, sendWindow.getSendMaximum());
+        assertEquals(5, sendWindow.getWindow());
+
+        handler.onSessionConfirmed(createConnectionConfig(50, channel));
+        assertEquals(50, sendWindow.getSendMaximum());
+        assertEquals(8, sendWindow.getWindow());
+        channel.close();
+    }
+
+    @Test
+    void publishAcknowledged_recordsQueueSizesAndAckLatency() {
+        final RecordingMetricsRecorder metricsRecorder = new RecordingMetricsRecorder();
+        final MqttOutgoingQosHandler handler = new MqttOutgoingQosHandler(createClientConfig(metricsRecorder));
+        final EmbeddedChannel channel = new EmbeddedChannel(handler);
+        handler.onSessionStartOrResume(createConnectionConfig(10, channel), channel.eventLoop());
+
+        final MqttClientConfig flowClientConfig = mock(MqttClientConfig.class);
+        when(flowClientConfig.acquireEventLoop()).thenReturn(channel.eventLoop());
+        handler.onNext(createPublishWithFlow(flowClientConfig));
+        handler.onNext(createPublishWithFlow(flowClientConfig));
+        channel.runPendingTasks();
+        assertEquals(Collections.singletonList("0/2"), metricsRecorder.getOutgoingPublishQueue());
+
+        final MqttStatefulPublish publish1 = channel.readOutbound();
+        final MqttStatefulPublish publish2 = channel.readOutbound();
+        channel.writeInbound(new MqttPubAck(publish2.getPacketIdentifier(), Mqtt5PubAckReasonCode.SUCCESS, null,
+                MqttUserPropertiesImpl.NO_USER_PROPERTIES));
+        channel.writeInbound(new MqttPubAck(publish1.getPacketIdentifier(), Mqtt5PubAckReasonCode.SUCCESS, null,
+                MqttUserPropertiesImpl.NO_USER_PROPERTIES));
+
+        assertEquals(Arrays.asList("0/2", "0/1", "0/0"), metricsRecorder.getOutgoingPublishQueue());
+        assertEquals(Arrays.asList(MqttQos.AT_LEAST_ONCE, MqttQos.AT_LEAST_ONCE),
+                metricsRecorder.getAcknowledgedQos());
+        for (final long latencyNanos : metricsRecorder.getAckLatenciesNanos()) {
+            assertTrue(latencyNanos >= 0);
+        }
+        channel.close();
+    }
+
+    @Test
+    void channelWritabilityChanged_recordsWriteStall() throws InterruptedException {
+        final RecordingMetricsRecorder metricsRecorder = new RecordingMetricsRecorder();
+        final MqttOutgoingQosHandler handler = new MqttOutgoingQosHandler(createClientConfig(metricsRecorder));
+        final EmbeddedChannel channel = new EmbeddedChannel(handler);
+        handler.onSessionStartOrResume(createConnectionConfig(10, channel), channel.eventLoop());
+
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, false);
+        assertFalse(channel.isWritable());
+        Thread.sleep(10);
+        assertTrue(metricsRecorder.getWriteStallsNanos().isEmpty());
+
+        channel.unsafe().outboundBuffer().setUserDefinedWritability(1, true);
+        channel.runPendingTasks();
+
+        assertEquals(1, metricsRecorder.getWriteStallsNanos().size());
+        assertTrue(metricsRecorder.getWriteStallsNanos().get(0) >= TimeUnit.MILLISECONDS.toNanos(10));
+        channel.close();
+    }
+
+    private static @NotNull MqttClientConfig createClientConfig(
+            final @NotNull RecordingMetricsRecorder metricsRecorder) {
+
+        return new MqttClientConfig(MqttVersion.MQTT_5_0, MqttClientIdentifierImpl.of("test"),
+                MqttClientTransportConfigImpl.DEFAULT, MqttClientExecutorConfigImpl.DEFAULT,
+                new MqttClientAdvancedConfigBuilder.Default().metricsRecorder(metricsRecorder).build(),
+                MqttClientConfig.ConnectDefaults.of(null, null, null), ImmutableList.of(), ImmutableList.of());
+    }
+
+    private static @NotNull MqttPublishWithFlow createPublishWithFlow(final @NotNull MqttClientConfig clientConfig) {
+        final MqttPublish publish =
+                (MqttPublish) Mqtt5Publish.builder().topic("test").qos(MqttQos.AT_LEAST_ONCE).build();
+        return new MqttPublishWithFlow(publish, new MqttAckFlow(clientConfig) {
+            @Override
+            void onResult(final @NotNull MqttPublishResult result) {}
+
+            @Override
+            void acknowledged(final long acknowledged) {}
+        });
+    }
+
+    private static @NotNull MqttClientConnectionConfig createConnectionConfig(
+            final int sendMaximum, final @NotNull EmbeddedChannel channel) {
+
+        return new MqttClientConnectionConfig(MqttClientTransportConfigImpl.DEFAULT, 10, true, true, 0, false, false,
+                null, 10, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, true, false, sendMaximum,
+                MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, MqttQos.EXACTLY_ONCE, true, true, true, true,
+                channel);
+    }
+}
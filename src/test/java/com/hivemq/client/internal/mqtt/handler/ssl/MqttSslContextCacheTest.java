@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.ssl;
+
+import com.hivemq.client.internal.mqtt.MqttClientSslConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientSslConfigImplBuilder;
+import io.netty.handler.ssl.SslContext;
+import org.junit.jupiter.api.Test;
+
+import javax.net.ssl.SSLException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttSslContextCacheTest {
+
+    @Test
+    void get_equalConfigs_sameContext() throws SSLException {
+        final MqttClientSslConfigImpl sslConfig1 =
+                new MqttClientSslConfigImplBuilder.Default().protocols(Collections.singletonList("TLSv1.2")).build();
+        final MqttClientSslConfigImpl sslConfig2 =
+                new MqttClientSslConfigImplBuilder.Default().protocols(Collections.singletonList("TLSv1.2")).build();
+        assertNotSame(sslConfig1, sslConfig2);
+
+        final SslContext sslContext = MqttSslContextCache.get(sslConfig1);
+        assertSame(sslContext, MqttSslContextCache.get(sslConfig2));
+        assertSame(sslContext, MqttSslContextCache.get(sslConfig1));
+    }
+
+    @Test
+    void get_differentConfigs_differentContexts() throws SSLException {
+        final MqttClientSslConfigImpl sslConfig1 =
+                new MqttClientSslConfigImplBuilder.Default().protocols(Collections.singletonList("TLSv1.2")).build();
+        final MqttClientSslConfigImpl sslConfig2 = sslConfig1.extend().protocols(null).build();
+
+        assertNotSame(MqttSslContextCache.get(sslConfig1), MqttSslContextCache.get(sslConfig2));
+    }
+
+    @Test
+    void get_openSslPreferred_fallsBackIfUnavailable() throws SSLException {
+        final MqttClientSslConfigImpl sslConfig =
+                new MqttClientSslConfigImplBuilder.Default().preferOpenSsl(true).build();
+
+        final SslContext sslContext = MqttSslContextCache.get(sslConfig);
+        assertTrue(sslContext.isClient());
+    }
+}
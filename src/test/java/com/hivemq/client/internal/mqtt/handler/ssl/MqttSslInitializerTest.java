@@ -16,13 +16,27 @@
 
 package com.hivemq.client.internal.mqtt.handler.ssl;
 
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
 import com.hivemq.client.internal.mqtt.MqttClientSslConfigImpl;
 import com.hivemq.client.internal.mqtt.MqttClientSslConfigImplBuilder;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
+import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
 import com.hivemq.client.internal.util.collections.ImmutableList;
-import io.netty.channel.Channel;
+import com.hivemq.client.mqtt.MqttVersion;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.*;
 import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
 import io.netty.handler.ssl.SslProvider;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import io.netty.handler.ssl.util.SelfSignedCertificate;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -31,9 +45,12 @@ import javax.net.ssl.SSLContext;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLException;
 import javax.net.ssl.TrustManagerFactory;
+import java.net.InetSocketAddress;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -144,6 +161,76 @@ class MqttSslInitializerTest {
         assertEquals(protocols.get(1), enabledProtocols[1]);
     }
 
+    @Test
+    public void test_initChannel_resumes_session_from_ssl_session_cache() throws Exception {
+        final SelfSignedCertificate certificate = new SelfSignedCertificate("localhost");
+        final SslContext serverSslContext =
+                SslContextBuilder.forServer(certificate.certificate(), certificate.privateKey())
+                        .sslProvider(SslProvider.JDK)
+                        .build();
+        final DefaultEventLoopGroup eventLoopGroup = new DefaultEventLoopGroup(1);
+        final LocalAddress localAddress = new LocalAddress(MqttSslInitializerTest.class);
+        final Channel serverChannel = new ServerBootstrap().group(eventLoopGroup)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInitializer<Channel>() {
+                    @Override
+                    protected void initChannel(final @NotNull Channel channel) {
+                        channel.pipeline().addLast(serverSslContext.newHandler(channel.alloc()));
+                    }
+                })
+                .bind(localAddress)
+                .sync()
+                .channel();
+        try {
+            final MqttClientConfig clientConfig =
+                    new MqttClientConfig(MqttVersion.MQTT_5_0, MqttClientIdentifierImpl.of("test"),
+                            MqttClientTransportConfigImpl.DEFAULT, MqttClientExecutorConfigImpl.DEFAULT,
+                            MqttClientAdvancedConfig.DEFAULT, MqttClientConfig.ConnectDefaults.of(null, null, null),
+                            ImmutableList.of(), ImmutableList.of());
+            // TLSv1.2 caches the session when the handshake completes, TLSv1.3 only when the ticket is received later
+            final MqttClientSslConfigImpl sslConfig = new MqttClientSslConfigImplBuilder.Default()
+                    .trustManagerFactory(InsecureTrustManagerFactory.INSTANCE)
+                    .protocols(ImmutableList.of("TLSv1.2"))
+                    .hostnameVerifier((hostname, session) -> true)
+                    .build();
+            final InetSocketAddress serverAddress = InetSocketAddress.createUnresolved("localhost", 8883);
+
+            final Channel channel1 = connectSsl(eventLoopGroup, localAddress, clientConfig, sslConfig, serverAddress);
+            assertFalse(MqttSslInitializer.isSessionResumed(channel1));
+            channel1.close().sync();
+            Thread.sleep(10); // the resumed session must have been created before the next handshake starts
+
+            final Channel channel2 = connectSsl(eventLoopGroup, localAddress, clientConfig, sslConfig, serverAddress);
+            assertTrue(MqttSslInitializer.isSessionResumed(channel2));
+            assertFalse(MqttSslInitializer.isSessionResumed(channel1));
+            channel2.close().sync();
+        } finally {
+            serverChannel.close().sync();
+            eventLoopGroup.shutdownGracefully();
+            certificate.delete();
+        }
+    }
+
+    private static @NotNull Channel connectSsl(
+            final @NotNull EventLoopGroup eventLoopGroup,
+            final @NotNull LocalAddress localAddress,
+            final @NotNull MqttClientConfig clientConfig,
+            final @NotNull MqttClientSslConfigImpl sslConfig,
+            final @NotNull InetSocketAddress serverAddress) throws Exception {
+
+        final Channel channel = new Bootstrap().group(eventLoopGroup)
+                .channel(LocalChannel.class)
+                .handler(new ChannelInboundHandlerAdapter())
+                .connect(localAddress)
+                .sync()
+                .channel();
+        final CompletableFuture<Channel> future = new CompletableFuture<>();
+        channel.eventLoop()
+                .execute(() -> MqttSslInitializer.initChannel(channel, clientConfig, sslConfig, serverAddress,
+                        future::complete, (ch, cause) -> future.completeExceptionally(cause)));
+        return future.get(10, TimeUnit.SECONDS);
+    }
+
     private @NotNull ImmutableList<String> getFirstSupportedCipherSuite() throws Exception {
 
         final List<String> supportedCipherSuites = getEnabledCipherSuites();
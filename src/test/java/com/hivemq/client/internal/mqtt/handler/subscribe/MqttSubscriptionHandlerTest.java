@@ -0,0 +1,118 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.subscribe;
+
+import com.hivemq.client.internal.mqtt.MqttClientConfig;
+import com.hivemq.client.internal.mqtt.MqttClientConnectionConfig;
+import com.hivemq.client.internal.mqtt.MqttClientExecutorConfigImpl;
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.mqtt.advanced.MqttClientAdvancedConfig;
+import com.hivemq.client.internal.mqtt.datatypes.MqttClientIdentifierImpl;
+import com.hivemq.client.internal.mqtt.datatypes.MqttVariableByteInteger;
+import com.hivemq.client.internal.mqtt.handler.disconnect.MqttDisconnectUtil;
+import com.hivemq.client.internal.mqtt.handler.publish.incoming.MqttIncomingPublishFlows;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttStatefulSubscribe;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribeBuilder;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscription;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttVersion;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.exceptions.ConnectionClosedException;
+import com.hivemq.client.mqtt.lifecycle.MqttDisconnectSource;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttSubscriptionHandlerTest {
+
+    private final @NotNull MqttClientConfig clientConfig =
+            new MqttClientConfig(MqttVersion.MQTT_5_0, MqttClientIdentifierImpl.of("test"),
+                    MqttClientTransportConfigImpl.DEFAULT, MqttClientExecutorConfigImpl.DEFAULT,
+                    MqttClientAdvancedConfig.DEFAULT, MqttClientConfig.ConnectDefaults.of(null, null, null),
+                    ImmutableList.of(), ImmutableList.of());
+    private final @NotNull MqttIncomingPublishFlows incomingPublishFlows = mock(MqttIncomingPublishFlows.class);
+    private final @NotNull MqttSubscription subscription =
+            new MqttSubscribeBuilder.Default().topicFilter("test/topic").build().getSubscriptions().get(0);
+
+    @Test
+    void onSessionAborted_resubscribesOnceOnNextStart() {
+        when(incomingPublishFlows.getSubscriptions()).thenReturn(
+                Collections.singletonMap(1, Collections.singletonList(subscription)));
+        final MqttSubscriptionHandler handler = new MqttSubscriptionHandler(clientConfig, incomingPublishFlows);
+
+        final EmbeddedChannel channel1 = start(handler);
+        final MqttStatefulSubscribe subscribe1 = channel1.readOutbound();
+        assertNotNull(subscribe1);
+        assertEquals(subscription, subscribe1.stateless().getSubscriptions().get(0));
+        assertNull(channel1.readOutbound());
+        abort(handler, channel1);
+
+        final EmbeddedChannel channel2 = start(handler);
+        final MqttStatefulSubscribe subscribe2 = channel2.readOutbound();
+        assertNotNull(subscribe2);
+        assertNull(channel2.readOutbound());
+        assertEquals(subscribe1.getPacketIdentifier(), subscribe2.getPacketIdentifier());
+        channel2.close();
+    }
+
+    @Test
+    void onSessionAborted_doesNotResendStaleResubscriptions() {
+        when(incomingPublishFlows.getSubscriptions()).thenReturn(
+                Collections.singletonMap(1, Collections.singletonList(subscription)));
+        final MqttSubscriptionHandler handler = new MqttSubscriptionHandler(clientConfig, incomingPublishFlows);
+
+        final EmbeddedChannel channel1 = start(handler);
+        assertNotNull(channel1.readOutbound());
+        abort(handler, channel1);
+
+        when(incomingPublishFlows.getSubscriptions()).thenReturn(Collections.emptyMap());
+        final EmbeddedChannel channel2 = start(handler);
+        assertNull(channel2.readOutbound());
+        channel2.close();
+    }
+
+    private static @NotNull EmbeddedChannel start(final @NotNull MqttSubscriptionHandler handler) {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(MqttSubscriptionHandler.NAME, handler);
+        handler.onSessionStartOrResume(createConnectionConfig(channel), channel.eventLoop());
+        channel.runPendingTasks();
+        return channel;
+    }
+
+    private static void abort(final @NotNull MqttSubscriptionHandler handler, final @NotNull EmbeddedChannel channel) {
+        MqttDisconnectUtil.fireDisconnectEvent(
+                channel, new ConnectionClosedException("closed before CONNACK"), MqttDisconnectSource.SERVER);
+        handler.onSessionAborted();
+        channel.close();
+    }
+
+    private static @NotNull MqttClientConnectionConfig createConnectionConfig(final @NotNull EmbeddedChannel channel) {
+        return new MqttClientConnectionConfig(MqttClientTransportConfigImpl.DEFAULT, 10, true, true, 0, false, false,
+                null, 10, MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, true, false, 10,
+                MqttVariableByteInteger.MAXIMUM_PACKET_SIZE_LIMIT, 0, MqttQos.EXACTLY_ONCE, true, true, true, true,
+                channel);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.handler.websocket;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttWebSocketFrameCoalescerTest {
+
+    private final @NotNull EmbeddedChannel channel =
+            new EmbeddedChannel(new MqttWebSocketFrameCoalescer(10));
+
+    @Test
+    void write_coalescesUntilFlush() {
+        final ChannelFuture future1 = channel.write(buffer(1, 2, 3));
+        final ChannelFuture future2 = channel.write(buffer(4, 5));
+        assertNull(channel.readOutbound());
+
+        channel.flush();
+        assertFrame(channel.readOutbound(), 1, 2, 3, 4, 5);
+        assertNull(channel.readOutbound());
+        assertTrue(future1.isSuccess());
+        assertTrue(future2.isSuccess());
+    }
+
+    @Test
+    void write_exceedsMaxFrameSize_writesSeparateFrames() {
+        channel.write(buffer(1, 2, 3, 4, 5, 6));
+        channel.write(buffer(7, 8, 9, 10, 11));
+        channel.write(buffer(12));
+        channel.flush();
+
+        assertFrame(channel.readOutbound(), 1, 2, 3, 4, 5, 6);
+        assertFrame(channel.readOutbound(), 7, 8, 9, 10, 11, 12);
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void write_largerThanMaxFrameSize_ownFrame() {
+        channel.write(buffer(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12));
+        channel.flush();
+
+        assertFrame(channel.readOutbound(), 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12);
+        assertNull(channel.readOutbound());
+    }
+
+    @Test
+    void close_releasesPending() {
+        final ByteBuf byteBuf = buffer(1, 2, 3);
+        final ChannelFuture future = channel.write(byteBuf);
+        channel.close();
+
+        assertEquals(0, byteBuf.refCnt());
+        assertFalse(future.isSuccess());
+    }
+
+    private static @NotNull ByteBuf buffer(final int... bytes) {
+        final ByteBuf byteBuf = Unpooled.buffer(bytes.length);
+        for (final int b : bytes) {
+            byteBuf.writeByte(b);
+        }
+        return byteBuf;
+    }
+
+    private static void assertFrame(final @NotNull Object frame, final int... bytes) {
+        assertTrue(frame instanceof ByteBuf);
+        final ByteBuf content = (ByteBuf) frame;
+        final byte[] expected = new byte[bytes.length];
+        for (int i = 0; i < bytes.length; i++) {
+            expected[i] = (byte) bytes[i];
+        }
+        final byte[] actual = new byte[content.readableBytes()];
+        content.readBytes(actual);
+        assertArrayEquals(expected, actual);
+        content.release();
+    }
+}
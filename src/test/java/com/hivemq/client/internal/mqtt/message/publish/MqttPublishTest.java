@@ -21,6 +21,7 @@ import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
+import java.nio.ByteBuffer;
 import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,7 +37,7 @@ class MqttPublishTest {
         EqualsVerifier.forClass(MqttPublish.class)
                 .withIgnoredAnnotations(NotNull.class) // EqualsVerifier thinks @NotNull Optional is @NotNull
                 .withNonnullFields("topic", "qos", "userProperties")
-                .withIgnoredFields("confirmable")
+                .withIgnoredFields("payloadReleaseCallback", "confirmable")
                 .withRedefinedSubclass(MqttWillPublish.class)
                 .verify();
     }
@@ -55,6 +56,36 @@ class MqttPublishTest {
         assertEquals(0, publish.getPayloadAsBytes().length);
     }
 
+    @Test
+    void getPayloadAsBytes_payloadBuffers() {
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.allocateDirect(0),
+                        ByteBuffer.wrap(new byte[]{3, 4, 5}))
+                .build();
+        assertNull(publish.getRawPayload());
+        assertNotNull(publish.getRawPayloadBuffers());
+        assertEquals(5, publish.getPayloadLength());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, publish.getPayloadAsBytes());
+    }
+
+    @Test
+    void payloadBuffers_single() {
+        final ByteBuffer[] payloadBuffers = {ByteBuffer.wrap(new byte[]{1})};
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic").payload(payloadBuffers).build();
+        assertNull(publish.getRawPayloadBuffers());
+        assertEquals(ByteBuffer.wrap(new byte[]{1}), publish.getRawPayload());
+    }
+
+    @Test
+    void payloadBuffers_asWill() {
+        final MqttWillPublish willPublish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.wrap(new byte[]{3}))
+                .build()
+                .asWill();
+        assertNull(willPublish.getRawPayloadBuffers());
+        assertEquals(ByteBuffer.wrap(new byte[]{1, 2, 3}), willPublish.getRawPayload());
+    }
+
     @Test
     void getPayloadAsBytes_concurrent() {
         final byte[] payload = new byte[1_000_000];
@@ -22,6 +22,8 @@ import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -54,4 +56,55 @@ class Mqtt3PublishViewTest {
         assertEquals(0, publishView.getPayloadAsBytes().length);
         verify(spyPublish, times(2)).getPayloadAsBytes();
     }
+
+    @Test
+    void toString_payloadBuffers() {
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.wrap(new byte[]{3, 4, 5}))
+                .build();
+        final Mqtt3PublishView publishView = Mqtt3PublishView.of(publish);
+        assertEquals("MqttPublish{topic=topic, payload=5byte, qos=AT_MOST_ONCE, retain=false}",
+                publishView.toString());
+    }
+
+    @Test
+    void extend_payloadBuffers() {
+        final Runnable payloadReleaseCallback = () -> {};
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.wrap(new byte[]{3, 4, 5}))
+                .payloadReleaseCallback(payloadReleaseCallback)
+                .build();
+        final Mqtt3PublishView extended = Mqtt3PublishView.of(publish).extend().retain(true).build();
+
+        assertNull(extended.getDelegate().getRawPayload());
+        assertNotNull(extended.getDelegate().getRawPayloadBuffers());
+        assertEquals(2, extended.getDelegate().getRawPayloadBuffers().length);
+        assertSame(payloadReleaseCallback, extended.getDelegate().getPayloadReleaseCallback());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, extended.getPayloadAsBytes());
+        assertTrue(extended.isRetain());
+    }
+
+    @Test
+    void extend_payloadBuffers_overwrittenBySinglePayload() {
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.wrap(new byte[]{3, 4, 5}))
+                .build();
+        final Mqtt3PublishView extended = Mqtt3PublishView.of(publish).extend().payload(new byte[]{6}).build();
+
+        assertNull(extended.getDelegate().getRawPayloadBuffers());
+        assertArrayEquals(new byte[]{6}, extended.getPayloadAsBytes());
+    }
+
+    @Test
+    void willExtend_payloadBuffers_copied() {
+        final MqttPublish publish = new MqttPublishBuilder.Default().topic("topic")
+                .payload(ByteBuffer.wrap(new byte[]{1, 2}), ByteBuffer.wrap(new byte[]{3, 4, 5}))
+                .payloadReleaseCallback(() -> {})
+                .build();
+        final Mqtt3PublishView will = new Mqtt3PublishViewBuilder.WillDefault(Mqtt3PublishView.of(publish)).build();
+
+        assertNull(will.getDelegate().getRawPayloadBuffers());
+        assertNull(will.getDelegate().getPayloadReleaseCallback());
+        assertArrayEquals(new byte[]{1, 2, 3, 4, 5}, will.getPayloadAsBytes());
+    }
 }
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.mqtt.pool;
+
+import com.hivemq.client.internal.mqtt.MqttRxClient;
+import com.hivemq.client.internal.mqtt.MqttRxClientBuilder;
+import com.hivemq.client.internal.mqtt.datatypes.MqttTopicFilterImpl;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribe;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscribeBuilder;
+import com.hivemq.client.internal.mqtt.message.connect.MqttConnect;
+import com.hivemq.client.internal.mqtt.message.connect.MqttConnectBuilder;
+import com.hivemq.client.internal.mqtt.message.subscribe.MqttSubscription;
+import com.hivemq.client.internal.mqtt.message.unsubscribe.MqttUnsubscribe;
+import com.hivemq.client.internal.mqtt.message.unsubscribe.MqttUnsubscribeBuilder;
+import com.hivemq.client.internal.util.collections.ImmutableList;
+import com.hivemq.client.mqtt.MqttGlobalPublishFilter;
+import com.hivemq.client.mqtt.datatypes.MqttClientIdentifier;
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import com.hivemq.client.mqtt.mqtt5.message.connect.connack.Mqtt5ConnAck;
+import com.hivemq.client.mqtt.mqtt5.message.publish.Mqtt5Publish;
+import com.hivemq.client.mqtt.mqtt5.message.subscribe.suback.Mqtt5SubAck;
+import com.hivemq.client.mqtt.mqtt5.message.unsubscribe.unsuback.Mqtt5UnsubAck;
+import io.reactivex.Single;
+import io.reactivex.processors.PublishProcessor;
+import io.reactivex.subscribers.TestSubscriber;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class MqttRxClientPoolTest {
+
+    @Test
+    void buildRx_derivesClientIdentifiers() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().identifier("test").pool().size(3).buildRx();
+
+        assertEquals(3, pool.getClients().size());
+        assertEquals(3, pool.getStatistics().size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Optional.of(MqttClientIdentifier.of("test-" + i)),
+                    pool.getClients().get(i).getConfig().getClientIdentifier());
+            assertSame(pool.getClients().get(i), pool.getStatistics().get(i).getClient());
+        }
+    }
+
+    @Test
+    void buildRx_requestClientIdentifierFromServer() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().pool().size(2).buildRx();
+
+        assertFalse(pool.getClients().get(0).getConfig().getClientIdentifier().isPresent());
+        assertFalse(pool.getClients().get(1).getConfig().getClientIdentifier().isPresent());
+    }
+
+    @Test
+    void buildRx_willPublishOnlyOnFirstClient() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().willPublish()
+                .topic("will")
+                .applyWillPublish()
+                .pool()
+                .size(3)
+                .buildRx();
+
+        assertTrue(pool.getClients().get(0).getConfig().getWillPublish().isPresent());
+        assertFalse(pool.getClients().get(1).getConfig().getWillPublish().isPresent());
+        assertFalse(pool.getClients().get(2).getConfig().getWillPublish().isPresent());
+    }
+
+    @Test
+    void connect_willPublishOnlySentByFirstClient() {
+        final ImmutableList.Builder<MqttRxClient> clientsBuilder = ImmutableList.builder(3);
+        for (int i = 0; i < 3; i++) {
+            final MqttRxClient client = mock(MqttRxClient.class);
+            when(client.connect(any())).thenReturn(Single.just(mock(Mqtt5ConnAck.class)));
+            clientsBuilder.add(client);
+        }
+        final ImmutableList<MqttRxClient> clients = clientsBuilder.build();
+        final MqttRxClientPool pool = new MqttRxClientPool(clients, null);
+        final MqttConnect connect =
+                new MqttConnectBuilder.Default().keepAlive(10).willPublish().topic("will").applyWillPublish().build();
+
+        assertEquals(3, pool.connect(connect).blockingGet().size());
+
+        for (int i = 0; i < 3; i++) {
+            final ArgumentCaptor<MqttConnect> connectCaptor = ArgumentCaptor.forClass(MqttConnect.class);
+            verify(clients.get(i)).connect(connectCaptor.capture());
+            final MqttConnect sentConnect = connectCaptor.getValue();
+            assertEquals(10, sentConnect.getKeepAlive());
+            assertEquals(i == 0, sentConnect.getWillPublish().isPresent());
+        }
+    }
+
+    @Test
+    void size_mustBePositive() {
+        assertThrows(IllegalArgumentException.class, () -> new MqttRxClientBuilder().pool().size(0));
+    }
+
+    @Test
+    void shardIndex_roundRobin() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().pool().size(3).buildRx();
+        final Mqtt5Publish publish = Mqtt5Publish.builder().topic("test").build();
+
+        for (int i = 0; i < 9; i++) {
+            assertEquals(i % 3, pool.shardIndex(publish));
+        }
+    }
+
+    @Test
+    void shardIndex_sameKey_sameIndex() {
+        final MqttRxClientPool pool =
+                new MqttRxClientBuilder().pool().size(4).shardKey(Mqtt5Publish::getTopic).buildRx();
+
+        for (int i = 0; i < 100; i++) {
+            final Mqtt5Publish publish = Mqtt5Publish.builder().topic("topic/" + i).build();
+            final int index = pool.shardIndex(publish);
+            assertTrue((index >= 0) && (index < 4));
+            assertEquals(index,
+                    pool.shardIndex(Mqtt5Publish.builder().topic("topic/" + i).qos(MqttQos.EXACTLY_ONCE).build()));
+        }
+    }
+
+    @Test
+    void shardSubscribe_nonShared_sentByOneClient() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().pool().size(4).buildRx();
+        final MqttSubscribe subscribe = new MqttSubscribeBuilder.Default().addSubscription()
+                .topicFilter("a/#")
+                .applySubscription()
+                .addSubscription()
+                .topicFilter("b/+")
+                .applySubscription()
+                .addSubscription()
+                .topicFilter("c")
+                .applySubscription()
+                .build();
+
+        final MqttSubscribe[] shards = pool.shardSubscribe(subscribe);
+
+        assertEquals(4, shards.length);
+        for (final MqttSubscription subscription : subscribe.getSubscriptions()) {
+            int count = 0;
+            for (int i = 0; i < shards.length; i++) {
+                if ((shards[i] != null) && shards[i].getSubscriptions().contains(subscription)) {
+                    assertEquals(i, pool.subscriptionIndex(subscription.getTopicFilter()));
+                    count++;
+                }
+            }
+            assertEquals(1, count);
+        }
+    }
+
+    @Test
+    void shardSubscribe_shared_sentByAllClients() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().pool().size(3).buildRx();
+        final MqttSubscribe subscribe =
+                new MqttSubscribeBuilder.Default().topicFilter("$share/group/a/#").build();
+
+        final MqttSubscribe[] shards = pool.shardSubscribe(subscribe);
+
+        for (final MqttSubscribe shard : shards) {
+            assertNotNull(shard);
+            assertEquals(subscribe.getSubscriptions(), shard.getSubscriptions());
+        }
+    }
+
+    @Test
+    void shardUnsubscribe_sameClientsAsShardSubscribe() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().pool().size(4).buildRx();
+        final String[] topicFilters = {"a/#", "b/+", "c", "$share/group/d/#"};
+        final MqttSubscribeBuilder.Default subscribeBuilder = new MqttSubscribeBuilder.Default();
+        final MqttUnsubscribeBuilder.Default unsubscribeBuilder = new MqttUnsubscribeBuilder.Default();
+        for (final String topicFilter : topicFilters) {
+            subscribeBuilder.addSubscription().topicFilter(topicFilter).applySubscription();
+            unsubscribeBuilder.addTopicFilter(topicFilter);
+        }
+
+        final MqttSubscribe[] subscribeShards = pool.shardSubscribe(subscribeBuilder.build());
+        final MqttUnsubscribe[] unsubscribeShards = pool.shardUnsubscribe(unsubscribeBuilder.build());
+
+        assertEquals(4, unsubscribeShards.length);
+        for (int i = 0; i < unsubscribeShards.length; i++) {
+            if (subscribeShards[i] == null) {
+                assertNull(unsubscribeShards[i]);
+            } else {
+                assertNotNull(unsubscribeShards[i]);
+                final List<MqttTopicFilterImpl> subscribedTopicFilters = new ArrayList<>();
+                for (final MqttSubscription subscription : subscribeShards[i].getSubscriptions()) {
+                    subscribedTopicFilters.add(subscription.getTopicFilter());
+                }
+                assertEquals(subscribedTopicFilters, unsubscribeShards[i].getTopicFilters());
+            }
+        }
+    }
+
+    @Test
+    void subscriptionIndex_sameTopicFilter_sameIndex() {
+        final MqttRxClientPool pool = new MqttRxClientBuilder().pool().size(5).buildRx();
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(pool.subscriptionIndex(MqttTopicFilterImpl.of("topic/" + i)),
+                    pool.subscriptionIndex(MqttTopicFilterImpl.of("topic/" + i)));
+        }
+    }
+
+    @Test
+    void subscribe_publishes_deliveredOnce() {
+        final FakeServer server = new FakeServer(3);
+        final MqttRxClientPool pool = new MqttRxClientPool(server.clients, null);
+        final TestSubscriber<Mqtt5Publish> received = pool.publishes(MqttGlobalPublishFilter.ALL).test();
+
+        final List<Mqtt5SubAck> subAcks = pool.subscribe(new MqttSubscribeBuilder.Default().addSubscription()
+                .topicFilter("a/#")
+                .applySubscription()
+                .addSubscription()
+                .topicFilter("$share/group/b/#")
+                .applySubscription()
+                .build()).blockingGet();
+        assertEquals(3, subAcks.size()); // the shared subscription is sent by every client
+
+        server.publish(Mqtt5Publish.builder().topic("a/1").build());
+        server.publish(Mqtt5Publish.builder().topic("b/1").build());
+        server.publish(Mqtt5Publish.builder().topic("c/1").build());
+
+        received.assertValueCount(2);
+        assertEquals("a/1", received.values().get(0).getTopic().toString());
+        assertEquals("b/1", received.values().get(1).getTopic().toString());
+        long receivedSum = 0;
+        for (final MqttClientPoolStatistics statistics : pool.getStatistics()) {
+            receivedSum += statistics.getReceivedCount();
+        }
+        assertEquals(2, receivedSum);
+    }
+
+    @Test
+    void unsubscribe_publishes_notDelivered() {
+        final FakeServer server = new FakeServer(3);
+        final MqttRxClientPool pool = new MqttRxClientPool(server.clients, null);
+        final TestSubscriber<Mqtt5Publish> received = pool.publishes(MqttGlobalPublishFilter.ALL).test();
+
+        pool.subscribe(new MqttSubscribeBuilder.Default().addSubscription()
+                .topicFilter("a/#")
+                .applySubscription()
+                .addSubscription()
+                .topicFilter("$share/group/b/#")
+                .applySubscription()
+                .build()).blockingGet();
+        final List<Mqtt5UnsubAck> unsubAcks = pool.unsubscribe(
+                new MqttUnsubscribeBuilder.Default().addTopicFilter("a/#").addTopicFilter("$share/group/b/#").build())
+                .blockingGet();
+        assertEquals(3, unsubAcks.size()); // the shared topic filter is sent by every client
+
+        server.publish(Mqtt5Publish.builder().topic("a/1").build());
+        server.publish(Mqtt5Publish.builder().topic("b/1").build());
+
+        received.assertNoValues();
+    }
+
+    /**
+     * Simulates a server that delivers a message once to each connection with a matching subscription, and only once
+     * per share group for shared subscriptions.
+     */
+    private static class FakeServer {
+
+        final @NotNull ImmutableList<MqttRxClient> clients;
+        private final @NotNull List<Set<MqttTopicFilterImpl>> subscriptions = new ArrayList<>();
+        private final @NotNull List<PublishProcessor<Mqtt5Publish>> connections = new ArrayList<>();
+
+        FakeServer(final int size) {
+            final ImmutableList.Builder<MqttRxClient> clientsBuilder = ImmutableList.builder(size);
+            for (int i = 0; i < size; i++) {
+                final Set<MqttTopicFilterImpl> clientSubscriptions = new HashSet<>();
+                final PublishProcessor<Mqtt5Publish> connection = PublishProcessor.create();
+                final MqttRxClient client = mock(MqttRxClient.class);
+                when(client.subscribe(any())).thenAnswer(invocation -> {
+                    final MqttSubscribe subscribe = invocation.getArgument(0);
+                    for (final MqttSubscription subscription : subscribe.getSubscriptions()) {
+                        clientSubscriptions.add(subscription.getTopicFilter());
+                    }
+                    return Single.just(mock(Mqtt5SubAck.class));
+                });
+                when(client.unsubscribe(any())).thenAnswer(invocation -> {
+                    final MqttUnsubscribe unsubscribe = invocation.getArgument(0);
+                    clientSubscriptions.removeAll(unsubscribe.getTopicFilters());
+                    return Single.just(mock(Mqtt5UnsubAck.class));
+                });
+                when(client.publishes(eq(MqttGlobalPublishFilter.ALL))).thenReturn(connection);
+                subscriptions.add(clientSubscriptions);
+                connections.add(connection);
+                clientsBuilder.add(client);
+            }
+            clients = clientsBuilder.build();
+        }
+
+        void publish(final @NotNull Mqtt5Publish publish) {
+            final Set<String> deliveredShareGroups = new HashSet<>();
+            for (int i = 0; i < connections.size(); i++) {
+                boolean deliver = false;
+                for (final MqttTopicFilterImpl topicFilter : subscriptions.get(i)) {
+                    if (topicFilter.matches(publish.getTopic())) {
+                        deliver |= !topicFilter.isShared() || deliveredShareGroups.add(topicFilter.toString());
+                    }
+                }
+                if (deliver) {
+                    connections.get(i).onNext(publish);
+                }
+            }
+        }
+    }
+}
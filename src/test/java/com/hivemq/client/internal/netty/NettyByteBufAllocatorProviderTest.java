@@ -0,0 +1,69 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.netty;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class NettyByteBufAllocatorProviderTest {
+
+    @Test
+    void getAllocator_default() {
+        assertSame(ByteBufAllocator.DEFAULT, NettyByteBufAllocatorProvider.INSTANCE.getAllocator(0, true));
+    }
+
+    @Test
+    void getAllocator_sameSettings_shared() {
+        final ByteBufAllocator allocator = NettyByteBufAllocatorProvider.INSTANCE.getAllocator(2, true);
+        assertSame(allocator, NettyByteBufAllocatorProvider.INSTANCE.getAllocator(2, true));
+        assertNotSame(allocator, NettyByteBufAllocatorProvider.INSTANCE.getAllocator(2, false));
+        assertNotSame(allocator, NettyByteBufAllocatorProvider.INSTANCE.getAllocator(3, true));
+    }
+
+    @Test
+    void getAllocator_heap() {
+        final ByteBufAllocator allocator = NettyByteBufAllocatorProvider.INSTANCE.getAllocator(0, false);
+        final ByteBuf buffer = allocator.buffer(16);
+        try {
+            assertFalse(buffer.isDirect());
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Test
+    void metrics() {
+        final ByteBufAllocator allocator = NettyByteBufAllocatorProvider.INSTANCE.getAllocator(3, false);
+        final NettyBufferMetrics metrics = new NettyBufferMetrics(allocator);
+        assertEquals(3, metrics.getHeapArenas());
+        assertEquals(3, metrics.getDirectArenas());
+
+        final ByteBuf buffer = allocator.heapBuffer(16);
+        try {
+            assertEquals(1, metrics.getActiveHeapAllocations());
+            assertTrue(metrics.getUsedHeapMemory() > 0);
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.netty;
+
+import com.hivemq.client.internal.mqtt.MqttClientTransportConfigImpl;
+import com.hivemq.client.internal.util.ClassUtil;
+import com.hivemq.client.mqtt.MqttClientEventLoopMetrics;
+import com.hivemq.client.mqtt.MqttClientTransportConfig;
+import com.hivemq.client.mqtt.MqttEventLoopAssignment;
+import io.netty.channel.EventLoop;
+import io.netty.channel.nio.NioEventLoopGroup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+
+/**
+ * @author Silvio Giebl
+ */
+class NettyEventLoopProviderTest {
+
+    @Test
+    void acquireEventLoop_leastClients_balanced() {
+        final NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(2);
+        try {
+            final NettyEventLoopProvider provider = NettyEventLoopProvider.INSTANCE;
+            final EventLoop eventLoop1 =
+                    provider.acquireEventLoop(eventLoopGroup, 0, MqttEventLoopAssignment.LEAST_CLIENTS);
+            final EventLoop eventLoop2 =
+                    provider.acquireEventLoop(eventLoopGroup, 0, MqttEventLoopAssignment.LEAST_CLIENTS);
+            assertNotSame(eventLoop1, eventLoop2);
+
+            provider.releaseEventLoop(eventLoopGroup, eventLoop1);
+            assertSame(eventLoop1, provider.acquireEventLoop(eventLoopGroup, 0, MqttEventLoopAssignment.LEAST_CLIENTS));
+
+            final List<MqttClientEventLoopMetrics> metrics = provider.getEventLoopMetrics(eventLoopGroup);
+            assertEquals(2, metrics.size());
+            assertEquals(1, metrics.get(0).getClients());
+            assertEquals(1, metrics.get(1).getClients());
+
+            provider.releaseEventLoop(eventLoopGroup, eventLoop1);
+            provider.releaseEventLoop(eventLoopGroup, eventLoop2);
+            assertTrue(provider.getEventLoopMetrics(eventLoopGroup).isEmpty());
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+
+    @Test
+    void of_withoutIoUring_returnsInstance() {
+        assumeFalse(ClassUtil.isAvailable("io.netty.incubator.channel.uring.IOUring"));
+
+        final MqttClientTransportConfigImpl defaultConfig = MqttClientTransportConfigImpl.DEFAULT;
+        final MqttClientTransportConfigImpl domainSocketConfig = (MqttClientTransportConfigImpl)
+                MqttClientTransportConfig.builder().unixDomainSocketPath("/tmp/mqtt.sock").build();
+
+        assertSame(NettyEventLoopProvider.INSTANCE, NettyEventLoopProvider.of(defaultConfig));
+        assertSame(NettyEventLoopProvider.INSTANCE, NettyEventLoopProvider.of(domainSocketConfig));
+    }
+
+    @Test
+    void getEventLoopMetrics_countsMessages() {
+        final NioEventLoopGroup eventLoopGroup = new NioEventLoopGroup(1);
+        try {
+            final NettyEventLoopProvider provider = NettyEventLoopProvider.INSTANCE;
+            final EventLoop eventLoop =
+                    provider.acquireEventLoop(eventLoopGroup, 0, MqttEventLoopAssignment.ROUND_ROBIN);
+            final NettyEventLoopMetrics metrics = provider.getEventLoopMetrics(eventLoop);
+            assertNotNull(metrics);
+            metrics.onMessage();
+            metrics.onMessage();
+            assertEquals(2, metrics.getMessages());
+            assertEquals(1, metrics.getClients());
+            provider.releaseEventLoop(eventLoopGroup, eventLoop);
+            assertNull(provider.getEventLoopMetrics(eventLoop));
+        } finally {
+            eventLoopGroup.shutdownGracefully();
+        }
+    }
+}
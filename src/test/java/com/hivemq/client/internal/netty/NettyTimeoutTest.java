@@ -0,0 +1,117 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.netty;
+
+import io.netty.channel.DefaultEventLoop;
+import io.netty.channel.EventLoop;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class NettyTimeoutTest {
+
+    private final EventLoop eventLoop = new DefaultEventLoop();
+
+    @AfterEach
+    void tearDown() {
+        eventLoop.shutdownGracefully(0, 0, TimeUnit.SECONDS);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void schedule_fires(final boolean timingWheel) throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final NettyTimeout timeout = new NettyTimeout(latch::countDown, timingWheel);
+        final long start = System.nanoTime();
+        eventLoop.submit(() -> timeout.schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(200))).get();
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void cancel_doesNotFire(final boolean timingWheel) throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final NettyTimeout timeout = new NettyTimeout(count::incrementAndGet, timingWheel);
+        eventLoop.submit(() -> {
+            timeout.schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(100));
+            timeout.cancel();
+        }).get();
+
+        Thread.sleep(400);
+        assertEquals(0, count.get());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    void schedule_again_replacesPrevious(final boolean timingWheel) throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final NettyTimeout timeout = new NettyTimeout(count::incrementAndGet, timingWheel);
+        eventLoop.submit(() -> {
+            timeout.schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(100));
+            timeout.schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(150));
+        }).get();
+
+        Thread.sleep(600);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void timingWheel_taskCancelsOtherExpiredTimeout() throws Exception {
+        final AtomicInteger count = new AtomicInteger();
+        final NettyTimeout[] timeouts = new NettyTimeout[2];
+        timeouts[0] = new NettyTimeout(() -> {
+            count.incrementAndGet();
+            timeouts[1].cancel();
+        }, true);
+        timeouts[1] = new NettyTimeout(() -> {
+            count.incrementAndGet();
+            timeouts[0].cancel();
+        }, true);
+        eventLoop.submit(() -> {
+            timeouts[0].schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(100));
+            timeouts[1].schedule(eventLoop, TimeUnit.MILLISECONDS.toNanos(100));
+        }).get();
+
+        Thread.sleep(400);
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void timingWheel_longDelay_doesNotFireInFirstRotation() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final NettyTimeout timeout = new NettyTimeout(latch::countDown, true);
+        // the slot of the timeout is already reached after one tick, but the timeout is due one rotation later
+        final long rotationNanos = NettyTimingWheel.TICK_NANOS * 512;
+        eventLoop.submit(() -> timeout.schedule(eventLoop, rotationNanos + NettyTimingWheel.TICK_NANOS)).get();
+
+        assertFalse(latch.await(2, TimeUnit.SECONDS));
+        eventLoop.submit(timeout::cancel).get();
+    }
+}
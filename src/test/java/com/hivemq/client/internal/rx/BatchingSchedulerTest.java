@@ -0,0 +1,139 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.internal.rx;
+
+import io.reactivex.Scheduler;
+import io.reactivex.schedulers.Schedulers;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class BatchingSchedulerTest {
+
+    private final @NotNull ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final @NotNull AtomicInteger executions = new AtomicInteger();
+    private final @NotNull BatchingScheduler scheduler = new BatchingScheduler(Schedulers.from(command -> {
+        executions.incrementAndGet();
+        executor.execute(command);
+    }));
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void schedule_availableTasks_executedInBatchesInOrder() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (final InterruptedException ignored) {
+            }
+        });
+
+        final List<Integer> executed = new CopyOnWriteArrayList<>();
+        final CountDownLatch done = new CountDownLatch(100);
+        final List<Scheduler.Worker> workers = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            final int index = i;
+            final Scheduler.Worker worker = scheduler.createWorker();
+            workers.add(worker);
+            worker.schedule(() -> {
+                executed.add(index);
+                done.countDown();
+            });
+        }
+        // queued on the underlying executor after the first batch
+        executor.execute(() -> executed.add(-1));
+        blocked.countDown();
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        assertEquals(2, executions.get());
+        assertEquals(101, executed.size());
+        for (int i = 0; i < 64; i++) {
+            assertEquals(i, executed.get(i));
+        }
+        // the first batch hands the thread back to the underlying executor before the next batch
+        assertEquals(-1, executed.get(64));
+        for (int i = 64; i < 100; i++) {
+            assertEquals(i, executed.get(i + 1));
+        }
+        workers.forEach(Scheduler.Worker::dispose);
+    }
+
+    @Test
+    void schedule_duringBatch_executedInSameBatch() throws Exception {
+        final CountDownLatch done = new CountDownLatch(2);
+        final Scheduler.Worker worker = scheduler.createWorker();
+        worker.schedule(() -> {
+            done.countDown();
+            worker.schedule(done::countDown);
+        });
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, executions.get());
+        worker.dispose();
+    }
+
+    @Test
+    void schedule_disposedWorker_notExecuted() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        executor.execute(() -> {
+            try {
+                blocked.await();
+            } catch (final InterruptedException ignored) {
+            }
+        });
+
+        final AtomicInteger executed = new AtomicInteger();
+        final Scheduler.Worker worker = scheduler.createWorker();
+        worker.schedule(executed::incrementAndGet);
+        worker.dispose();
+        worker.schedule(executed::incrementAndGet);
+        scheduler.scheduleDirect(executed::incrementAndGet).dispose();
+        blocked.countDown();
+        executor.submit(() -> {}).get(10, TimeUnit.SECONDS);
+
+        assertEquals(0, executed.get());
+    }
+
+    @Test
+    void schedule_delayed() throws Exception {
+        final CountDownLatch done = new CountDownLatch(1);
+        final long start = System.nanoTime();
+        scheduler.scheduleDirect(done::countDown, 50, TimeUnit.MILLISECONDS);
+
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50));
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hivemq.client.internal.util.collections;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Silvio Giebl
+ */
+class DenseIntIndexTest {
+
+    @Test
+    void put_not_present() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1));
+        assertNull(map.put(new Entry(2, "test2")));
+        assertNull(map.put(new Entry(3, "test3")));
+        assertEquals(new Entry(2, "test2"), map.get(2));
+        assertEquals(new Entry(3, "test3"), map.get(3));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void put_present() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1));
+        assertNull(map.put(new Entry(10, "test1")));
+        assertEquals(new Entry(10, "test1"), map.put(new Entry(10, "test2")));
+        assertEquals(new Entry(10, "test2"), map.get(10));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void putIfAbsent_present() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1));
+        assertNull(map.putIfAbsent(new Entry(10, "test1")));
+        assertEquals(new Entry(10, "test1"), map.putIfAbsent(new Entry(10, "test2")));
+        assertEquals(new Entry(10, "test1"), map.get(10));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void put_grows() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1, 4));
+        assertNull(map.put(new Entry(1, "test1")));
+        assertNull(map.put(new Entry(100, "test100")));
+        assertNull(map.put(new Entry(65535, "test65535")));
+        assertEquals(new Entry(1, "test1"), map.get(1));
+        assertEquals(new Entry(100, "test100"), map.get(100));
+        assertEquals(new Entry(65535, "test65535"), map.get(65535));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void get_out_of_range() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 10, 4));
+        assertNull(map.put(new Entry(10, "test10")));
+        assertNull(map.get(0));
+        assertNull(map.get(9));
+        assertNull(map.get(14));
+        assertNull(map.get(-1));
+        assertNull(map.remove(9));
+        assertNull(map.remove(65535));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void min_key() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 65526, 10));
+        for (int i = 65526; i <= 65535; i++) {
+            assertNull(map.put(new Entry(i, "test" + i)));
+        }
+        assertEquals(10, map.size());
+        for (int i = 65526; i <= 65535; i++) {
+            assertEquals(new Entry(i, "test" + i), map.remove(i));
+        }
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void remove_not_present() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1));
+        assertNull(map.put(new Entry(2, "test2")));
+        assertNull(map.remove(3));
+        assertEquals(new Entry(2, "test2"), map.remove(2));
+        assertNull(map.remove(2));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void clear() {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1, 4));
+        for (int i = 1; i <= 100; i++) {
+            map.put(new Entry(i, "test" + i));
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        for (int i = 1; i <= 100; i++) {
+            assertNull(map.get(i));
+        }
+        assertNull(map.put(new Entry(2, "test2")));
+        assertEquals(new Entry(2, "test2"), map.get(2));
+        assertEquals(1, map.size());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"16, 4", "65535, 32", "65535, 64"})
+    void put_remove_sequential(final int size, final int chunk) {
+        final DenseIntIndex<Entry> map = new DenseIntIndex<>(new DenseIntIndex.Spec<>(e -> e.id, 1));
+        for (int i = 1; i <= size; i++) {
+            assertNull(map.put(new Entry(i, "test" + i)));
+            if (i > chunk) {
+                assertEquals(new Entry(i - chunk, "test" + (i - chunk)), map.remove(i - chunk));
+            }
+            assertEquals(Math.min(i, chunk), map.size());
+        }
+        for (int i = size - chunk + 1; i <= size; i++) {
+            assertEquals(new Entry(i, "test" + i), map.get(i));
+            assertEquals(new Entry(i, "test" + i), map.remove(i));
+        }
+        assertEquals(0, map.size());
+    }
+
+    private static class Entry {
+
+        final int id;
+        final @NotNull String value;
+
+        private Entry(final int id, final @NotNull String value) {
+            this.id = id;
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final @Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            final Entry entry = (Entry) o;
+            return (id == entry.id) && value.equals(entry.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * id + value.hashCode();
+        }
+
+        @Override
+        public @NotNull String toString() {
+            return "Entry{" + "id=" + id + ", value='" + value + '\'' + '}';
+        }
+    }
+}
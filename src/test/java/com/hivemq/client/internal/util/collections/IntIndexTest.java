@@ -230,6 +230,28 @@ class IntIndexTest {
         }
     }
 
+    @Test
+    void clear() {
+        final IntIndex<Entry> map = new IntIndex<>(new IntIndex.Spec<>(e -> e.id));
+        for (int i = 1; i <= 100; i++) {
+            map.put(new Entry(i, "test" + i));
+        }
+        map.clear();
+        assertEquals(0, map.size());
+        for (int i = 1; i <= 100; i++) {
+            assertNull(map.get(i));
+            assertNull(map.remove(i));
+        }
+        map.forEach(entry -> fail());
+        for (int i = 1; i <= 100; i++) {
+            assertNull(map.put(new Entry(i, "test" + i)));
+        }
+        for (int i = 1; i <= 100; i++) {
+            assertEquals(new Entry(i, "test" + i), map.get(i));
+        }
+        assertEquals(100, map.size());
+    }
+
     @Test
     void forEach() {
         final IntIndex<Entry> map = new IntIndex<>(new IntIndex.Spec<>(e -> e.id));
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2018-present HiveMQ and the HiveMQ Community
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hivemq.client.mqtt.mqtt5.advanced.metrics;
+
+import com.hivemq.client.mqtt.datatypes.MqttQos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Metrics recorder for tests that records every call, so the recorded values can be read from any thread.
+ * <p>
+ * Calls with multiple arguments are recorded as strings, for example <code>"1/2"</code> for 1 queued and 2 in-flight
+ * outgoing Publish messages or <code>"AT_MOST_ONCE:1"</code> for 1 queued incoming QoS 0 Publish message.
+ *
+ * @author Silvio Giebl
+ */
+public class RecordingMetricsRecorder implements Mqtt5ClientMetricsRecorder {
+
+    private final @NotNull List<String> outgoingPublishQueue = new CopyOnWriteArrayList<>();
+    private final @NotNull List<MqttQos> acknowledgedQos = new CopyOnWriteArrayList<>();
+    private final @NotNull List<Long> ackLatenciesNanos = new CopyOnWriteArrayList<>();
+    private final @NotNull List<String> incomingPublishQueue = new CopyOnWriteArrayList<>();
+    private final @NotNull List<MqttQos> droppedQos = new CopyOnWriteArrayList<>();
+    private final @NotNull List<Integer> packetsSent = new CopyOnWriteArrayList<>();
+    private final @NotNull List<Integer> packetsReceived = new CopyOnWriteArrayList<>();
+    private final @NotNull List<Integer> reconnectAttempts = new CopyOnWriteArrayList<>();
+    private final @NotNull List<Long> reconnectDurationsNanos = new CopyOnWriteArrayList<>();
+    private final @NotNull List<Long> writeStallsNanos = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void onOutgoingPublishQueue(final int queued, final int inFlight) {
+        outgoingPublishQueue.add(queued + "/" + inFlight);
+    }
+
+    @Override
+    public void onPublishAcknowledged(final @NotNull MqttQos qos, final long latencyNanos) {
+        acknowledgedQos.add(qos);
+        ackLatenciesNanos.add(latencyNanos);
+    }
+
+    @Override
+    public void onIncomingPublishQueue(final @NotNull MqttQos qos, final int queued) {
+        incomingPublishQueue.add(qos + ":" + queued);
+    }
+
+    @Override
+    public void onIncomingPublishDropped(final @NotNull MqttQos qos) {
+        droppedQos.add(qos);
+    }
+
+    @Override
+    public void onPacketSent(final int bytes) {
+        packetsSent.add(bytes);
+    }
+
+    @Override
+    public void onPacketReceived(final int bytes) {
+        packetsReceived.add(bytes);
+    }
+
+    @Override
+    public void onReconnected(final int attempts, final long durationNanos) {
+        reconnectAttempts.add(attempts);
+        reconnectDurationsNanos.add(durationNanos);
+    }
+
+    @Override
+    public void onWriteStall(final long durationNanos) {
+        writeStallsNanos.add(durationNanos);
+    }
+
+    public @NotNull List<String> getOutgoingPublishQueue() {
+        return outgoingPublishQueue;
+    }
+
+    public @NotNull List<MqttQos> getAcknowledgedQos() {
+        return acknowledgedQos;
+    }
+
+    public @NotNull List<Long> getAckLatenciesNanos() {
+        return ackLatenciesNanos;
+    }
+
+    public @NotNull List<String> getIncomingPublishQueue() {
+        return incomingPublishQueue;
+    }
+
+    public @NotNull List<MqttQos> getDroppedQos() {
+        return droppedQos;
+    }
+
+    public @NotNull List<Integer> getPacketsSent() {
+        return packetsSent;
+    }
+
+    public @NotNull List<Integer> getPacketsReceived() {
+        return packetsReceived;
+    }
+
+    public @NotNull List<Integer> getReconnectAttempts() {
+        return reconnectAttempts;
+    }
+
+    public @NotNull List<Long> getReconnectDurationsNanos() {
+        return reconnectDurationsNanos;
+    }
+
+    public @NotNull List<Long> getWriteStallsNanos() {
+        return writeStallsNanos;
+    }
+}